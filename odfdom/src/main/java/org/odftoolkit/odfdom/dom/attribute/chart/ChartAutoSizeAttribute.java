@@ -66,11 +66,18 @@ public class ChartAutoSizeAttribute extends OdfAttribute {
 		return ATTRIBUTE_NAME.getLocalName();
 	}
 
+	// the typed value is cached together with the string it has been parsed from
+	private String mParsedValue;
+	private boolean mBooleanValue;
+
 	/**
 	 * @param value The <code>boolean</code> value of the attribute.
 	 */
 	public void setBooleanValue(boolean value) {
-		super.setValue(String.valueOf(value));
+		String val = String.valueOf(value);
+		super.setValue(val);
+		mParsedValue = val;
+		mBooleanValue = value;
 	}
 
 	/**
@@ -78,12 +85,17 @@ public class ChartAutoSizeAttribute extends OdfAttribute {
 	 */
 	public boolean booleanValue() {
 		String val = super.getValue();
-		try {
-			return Boolean.parseBoolean(val);
-		} catch (NumberFormatException e) {
-			// TODO: validation handling/logging
-			throw (e);
+		// the value is only parsed again, if the string of the attribute has been replaced
+		if (val != mParsedValue) {
+			try {
+				mBooleanValue = Boolean.parseBoolean(val);
+			} catch (NumberFormatException e) {
+				// TODO: validation handling/logging
+				throw (e);
+			}
+			mParsedValue = val;
 		}
+		return mBooleanValue;
 	}
 
 	/**
@@ -107,11 +107,18 @@ public class ChartAxisPositionAttribute extends OdfAttribute {
 		return Value.enumValueOf(this.getValue());
 	}
 
+	// the typed value is cached together with the string it has been parsed from
+	private String mParsedValue;
+	private double mDoubleValue;
+
 	/**
 	 * @param value The <code>double</code> value of the attribute.
 	 */
 	public void setDoubleValue(double value) {
-		super.setValue(String.valueOf(value));
+		String val = String.valueOf(value);
+		super.setValue(val);
+		mParsedValue = val;
+		mDoubleValue = value;
 	}
 
 	/**
@@ -119,12 +126,17 @@ public class ChartAxisPositionAttribute extends OdfAttribute {
 	 */
 	public double doubleValue() {
 		String val = super.getValue();
-		try {
-			return Double.parseDouble(val);
-		} catch (NumberFormatException e) {
-			// TODO: validation handling/logging
-			throw (e);
+		// the value is only parsed again, if the string of the attribute has been replaced
+		if (val != mParsedValue) {
+			try {
+				mDoubleValue = Double.parseDouble(val);
+			} catch (NumberFormatException e) {
+				// TODO: validation handling/logging
+				throw (e);
+			}
+			mParsedValue = val;
 		}
+		return mDoubleValue;
 	}
 
 	/**
@@ -66,11 +66,18 @@ public class ChartErrorLowerLimitAttribute extends OdfAttribute {
 		return ATTRIBUTE_NAME.getLocalName();
 	}
 
+	// the typed value is cached together with the string it has been parsed from
+	private String mParsedValue;
+	private double mDoubleValue;
+
 	/**
 	 * @param value The <code>double</code> value of the attribute.
 	 */
 	public void setDoubleValue(double value) {
-		super.setValue(String.valueOf(value));
+		String val = String.valueOf(value);
+		super.setValue(val);
+		mParsedValue = val;
+		mDoubleValue = value;
 	}
 
 	/**
@@ -78,12 +85,17 @@ public class ChartErrorLowerLimitAttribute extends OdfAttribute {
 	 */
 	public double doubleValue() {
 		String val = super.getValue();
-		try {
-			return Double.parseDouble(val);
-		} catch (NumberFormatException e) {
-			// TODO: validation handling/logging
-			throw (e);
+		// the value is only parsed again, if the string of the attribute has been replaced
+		if (val != mParsedValue) {
+			try {
+				mDoubleValue = Double.parseDouble(val);
+			} catch (NumberFormatException e) {
+				// TODO: validation handling/logging
+				throw (e);
+			}
+			mParsedValue = val;
 		}
+		return mDoubleValue;
 	}
 
 	/**
@@ -66,11 +66,18 @@ public class ChartIntervalMinorDivisorAttribute extends OdfAttribute {
 		return ATTRIBUTE_NAME.getLocalName();
 	}
 
+	// the typed value is cached together with the string it has been parsed from
+	private String mParsedValue;
+	private int mIntValue;
+
 	/**
 	 * @param value The <code>int</code> value of the attribute.
 	 */
 	public void setIntValue(int value) {
-		super.setValue(String.valueOf(value));
+		String val = String.valueOf(value);
+		super.setValue(val);
+		mParsedValue = val;
+		mIntValue = value;
 	}
 
 	/**
@@ -78,12 +85,17 @@ public class ChartIntervalMinorDivisorAttribute extends OdfAttribute {
 	 */
 	public int intValue() {
 		String val = super.getValue();
-		try {
-			return Integer.parseInt(val);
-		} catch (NumberFormatException e) {
-			// TODO: validation handling/logging
-			throw (e);
+		// the value is only parsed again, if the string of the attribute has been replaced
+		if (val != mParsedValue) {
+			try {
+				mIntValue = Integer.parseInt(val);
+			} catch (NumberFormatException e) {
+				// TODO: validation handling/logging
+				throw (e);
+			}
+			mParsedValue = val;
 		}
+		return mIntValue;
 	}
 
 	/**
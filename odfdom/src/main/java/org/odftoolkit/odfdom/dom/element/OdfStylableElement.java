@@ -396,6 +396,37 @@ abstract public class OdfStylableElement extends OdfElement implements
 		getOrCreateUnqiueAutomaticStyle().setProperty(property, value);
 	}
 
+	/**
+	 * Share an equal automatic style instead of the automatic style of this
+	 * element, if there is one.
+	 * <p>
+	 * The automatic style is replaced by its interned instance, see
+	 * {@link OdfOfficeAutomaticStyles#internStyle(OdfStyle)}. If the former
+	 * automatic style is no longer used, it is removed. Elements which are
+	 * formatted the same way will so use the same automatic style.
+	 * <p>
+	 * As the automatic style might be shared afterwards, it should be changed
+	 * through {@link #getOrCreateUnqiueAutomaticStyle()} only.
+	 * 
+	 * @return the automatic style of this element, or null if there is none
+	 */
+	public OdfStyle internAutomaticStyle() {
+		OdfStyle style = mAutomaticStyle;
+		if (style != null) {
+			OdfOfficeAutomaticStyles automatic_styles = getAutomaticStyles();
+			if (automatic_styles != null) {
+				OdfStyle interned = automatic_styles.internStyle(style);
+				if (interned != style) {
+					setStyleName(interned.getStyleNameAttribute());
+					if (style.getStyleUserCount() < 1) {
+						automatic_styles.removeChild(style);
+					}
+				}
+			}
+		}
+		return mAutomaticStyle;
+	}
+
 	@Override
 	protected void onInsertNode() {
 		super.onInsertNode();
@@ -29,6 +29,7 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.odftoolkit.odfdom.pkg.OdfAttribute;
 import org.odftoolkit.odfdom.pkg.OdfContainerElementBase;
@@ -36,6 +37,7 @@ import org.odftoolkit.odfdom.pkg.OdfElement;
 import org.odftoolkit.odfdom.pkg.OdfFileDom;
 import org.odftoolkit.odfdom.pkg.OdfName;
 import org.odftoolkit.odfdom.dom.OdfDocumentNamespace;
+import org.odftoolkit.odfdom.dom.OdfSchemaDocument;
 import org.odftoolkit.odfdom.dom.element.style.StyleChartPropertiesElement;
 import org.odftoolkit.odfdom.dom.element.style.StyleDrawingPagePropertiesElement;
 import org.odftoolkit.odfdom.dom.element.style.StyleGraphicPropertiesElement;
@@ -72,6 +74,9 @@ abstract public class OdfStyleBase extends OdfContainerElementBase implements Od
     private HashMap<OdfStylePropertiesSet, OdfStylePropertiesBase> mPropertySetElementMap;
     private ArrayList<OdfStylableElement> mStyleUser;
     static HashMap<OdfName, OdfStylePropertiesSet> mStylePropertiesElementToSetMap;
+    // stands for a property without value in the resolved properties
+    private static final String NO_VALUE = new String();
+    private volatile ResolvedProperties mResolvedProperties;
 
 
     static {
@@ -135,21 +140,54 @@ abstract public class OdfStyleBase extends OdfContainerElementBase implements Od
      * @return  a map of all the properties.
      */
     public Map<OdfStyleProperty, String> getStylePropertiesDeep() {
-        TreeMap<OdfStyleProperty, String> result = new TreeMap<OdfStyleProperty, String>();
-        OdfStyleBase style = this;
-        while (style != null) {
-            OdfStyleFamily family = style.getFamily();
-            if (family != null) {
-                for (OdfStyleProperty property : family.getProperties()) {
-                    if (!result.containsKey(property) && style.hasProperty(property)) {
-                        result.put(property, style.getProperty(property));
+        ResolvedProperties resolved = getResolvedProperties();
+        TreeMap<OdfStyleProperty, String> deep = resolved.mDeep;
+        if (deep == null) {
+            TreeMap<OdfStyleProperty, String> result = new TreeMap<OdfStyleProperty, String>();
+            OdfStyleBase style = this;
+            while (style != null) {
+                OdfStyleFamily family = style.getFamily();
+                if (family != null) {
+                    for (OdfStyleProperty property : family.getProperties()) {
+                        if (!result.containsKey(property) && style.hasProperty(property)) {
+                            result.put(property, style.getProperty(property));
+                        }
                     }
                 }
+
+                style = style.getParentStyle();
             }
+            resolved.mDeep = result;
+            deep = result;
+        }
+        return new TreeMap<OdfStyleProperty, String>(deep);
+    }
 
-            style = style.getParentStyle();
+    // returns the resolved properties, which are replaced when the document
+    // of this style or the document of the common styles has been changed
+    // since they were resolved.
+    private ResolvedProperties getResolvedProperties() {
+        long stamp = getModificationStamp();
+        ResolvedProperties resolved = mResolvedProperties;
+        if (resolved == null || resolved.mStamp != stamp) {
+            resolved = new ResolvedProperties(stamp);
+            mResolvedProperties = resolved;
         }
-        return result;
+        return resolved;
+    }
+
+    // the modification counts of the document of this style, and of the
+    // styles document, where the parent styles and the default styles are.
+    private long getModificationStamp() {
+        long stamp = ((OdfFileDom) getOwnerDocument()).getModificationCount();
+        if (mPackageDocument instanceof OdfSchemaDocument) {
+            OdfElement styles = ((OdfSchemaDocument) mPackageDocument).getDocumentStyles();
+            if (styles != null && styles.getOwnerDocument() != getOwnerDocument()) {
+                int count = ((OdfFileDom) styles.getOwnerDocument()).getModificationCount();
+                stamp = (stamp << 32) | (count & 0xFFFFFFFFL);
+            }
+        }
+        return stamp;
     }
 
     public void removeStyleUser(OdfStylableElement user) {
@@ -251,10 +289,27 @@ abstract public class OdfStyleBase extends OdfContainerElementBase implements Od
     }
 
     /**
+     * Returns the value of a property of this style, or of its nearest parent
+     * style which has the property.
+     * <p>
+     * The value is cached until the document of the style or the document of
+     * the common styles is changed, so repeated calls don't walk the chain of
+     * parent styles again.
      * 
      * @return a property value.
      */
     public String getProperty(OdfStyleProperty prop) {
+        ResolvedProperties resolved = getResolvedProperties();
+        String value = resolved.mValues.get(prop);
+        if (value == null) {
+            value = resolveProperty(prop);
+            resolved.mValues.put(prop, value != null ? value : NO_VALUE);
+            return value;
+        }
+        return value != NO_VALUE ? value : null;
+    }
+
+    private String resolveProperty(OdfStyleProperty prop) {
         String value = null;
 
         OdfStylePropertiesBase properties = getPropertiesElement(prop.getPropertySet());
@@ -524,4 +579,16 @@ abstract public class OdfStyleBase extends OdfContainerElementBase implements Od
     public OdfStyleBase getParentStyle() {
         throw new UnsupportedOperationException("Not supported yet.");
     }
+
+    // the properties of a style which are resolved from the style and its
+    // parents, which may be read by concurrent threads.
+    private static class ResolvedProperties {
+        final long mStamp;
+        final ConcurrentHashMap<OdfStyleProperty, String> mValues = new ConcurrentHashMap<OdfStyleProperty, String>();
+        volatile TreeMap<OdfStyleProperty, String> mDeep;
+
+        ResolvedProperties(long stamp) {
+            mStamp = stamp;
+        }
+    }
 }
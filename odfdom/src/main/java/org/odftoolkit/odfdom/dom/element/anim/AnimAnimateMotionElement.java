@@ -245,6 +245,19 @@ public class AnimAnimateMotionElement extends OdfElement {
 		return Boolean.valueOf(SmilAutoReverseAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>SmilAutoReverseAttribute</code> , See {@odf.attribute smil:autoReverse}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getSmilAutoReverseAttributeBooleanValue() {
+		SmilAutoReverseAttribute attr = (SmilAutoReverseAttribute) getOdfAttribute(OdfDocumentNamespace.SMIL, "autoReverse");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>SmilAutoReverseAttribute</code> , See {@odf.attribute smil:autoReverse}
 	 *
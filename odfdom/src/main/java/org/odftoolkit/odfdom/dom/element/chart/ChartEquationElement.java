@@ -79,6 +79,19 @@ public class ChartEquationElement extends OdfElement {
 		return Boolean.valueOf(ChartAutomaticContentAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>ChartAutomaticContentAttribute</code> , See {@odf.attribute chart:automatic-content}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getChartAutomaticContentAttributeBooleanValue() {
+		ChartAutomaticContentAttribute attr = (ChartAutomaticContentAttribute) getOdfAttribute(OdfDocumentNamespace.CHART, "automatic-content");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>ChartAutomaticContentAttribute</code> , See {@odf.attribute chart:automatic-content}
 	 *
@@ -103,6 +116,19 @@ public class ChartEquationElement extends OdfElement {
 		return Boolean.valueOf(ChartDisplayEquationAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>ChartDisplayEquationAttribute</code> , See {@odf.attribute chart:display-equation}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getChartDisplayEquationAttributeBooleanValue() {
+		ChartDisplayEquationAttribute attr = (ChartDisplayEquationAttribute) getOdfAttribute(OdfDocumentNamespace.CHART, "display-equation");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>ChartDisplayEquationAttribute</code> , See {@odf.attribute chart:display-equation}
 	 *
@@ -127,6 +153,19 @@ public class ChartEquationElement extends OdfElement {
 		return Boolean.valueOf(ChartDisplayRSquareAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>ChartDisplayRSquareAttribute</code> , See {@odf.attribute chart:display-r-square}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getChartDisplayRSquareAttributeBooleanValue() {
+		ChartDisplayRSquareAttribute attr = (ChartDisplayRSquareAttribute) getOdfAttribute(OdfDocumentNamespace.CHART, "display-r-square");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>ChartDisplayRSquareAttribute</code> , See {@odf.attribute chart:display-r-square}
 	 *
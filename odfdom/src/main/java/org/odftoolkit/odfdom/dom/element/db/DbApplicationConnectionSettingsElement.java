@@ -80,6 +80,19 @@ public class DbApplicationConnectionSettingsElement extends OdfElement {
 		return Boolean.valueOf(DbAppendTableAliasNameAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DbAppendTableAliasNameAttribute</code> , See {@odf.attribute db:append-table-alias-name}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getDbAppendTableAliasNameAttributeBooleanValue() {
+		DbAppendTableAliasNameAttribute attr = (DbAppendTableAliasNameAttribute) getOdfAttribute(OdfDocumentNamespace.DB, "append-table-alias-name");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DbAppendTableAliasNameAttribute</code> , See {@odf.attribute db:append-table-alias-name}
 	 *
@@ -128,6 +141,19 @@ public class DbApplicationConnectionSettingsElement extends OdfElement {
 		return Boolean.valueOf(DbEnableSql92CheckAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DbEnableSql92CheckAttribute</code> , See {@odf.attribute db:enable-sql92-check}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getDbEnableSql92CheckAttributeBooleanValue() {
+		DbEnableSql92CheckAttribute attr = (DbEnableSql92CheckAttribute) getOdfAttribute(OdfDocumentNamespace.DB, "enable-sql92-check");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DbEnableSql92CheckAttribute</code> , See {@odf.attribute db:enable-sql92-check}
 	 *
@@ -152,6 +178,19 @@ public class DbApplicationConnectionSettingsElement extends OdfElement {
 		return Boolean.valueOf(DbIgnoreDriverPrivilegesAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DbIgnoreDriverPrivilegesAttribute</code> , See {@odf.attribute db:ignore-driver-privileges}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getDbIgnoreDriverPrivilegesAttributeBooleanValue() {
+		DbIgnoreDriverPrivilegesAttribute attr = (DbIgnoreDriverPrivilegesAttribute) getOdfAttribute(OdfDocumentNamespace.DB, "ignore-driver-privileges");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DbIgnoreDriverPrivilegesAttribute</code> , See {@odf.attribute db:ignore-driver-privileges}
 	 *
@@ -176,6 +215,19 @@ public class DbApplicationConnectionSettingsElement extends OdfElement {
 		return Boolean.valueOf(DbIsTableNameLengthLimitedAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DbIsTableNameLengthLimitedAttribute</code> , See {@odf.attribute db:is-table-name-length-limited}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getDbIsTableNameLengthLimitedAttributeBooleanValue() {
+		DbIsTableNameLengthLimitedAttribute attr = (DbIsTableNameLengthLimitedAttribute) getOdfAttribute(OdfDocumentNamespace.DB, "is-table-name-length-limited");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DbIsTableNameLengthLimitedAttribute</code> , See {@odf.attribute db:is-table-name-length-limited}
 	 *
@@ -224,6 +276,19 @@ public class DbApplicationConnectionSettingsElement extends OdfElement {
 		return Boolean.valueOf(DbSuppressVersionColumnsAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DbSuppressVersionColumnsAttribute</code> , See {@odf.attribute db:suppress-version-columns}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getDbSuppressVersionColumnsAttributeBooleanValue() {
+		DbSuppressVersionColumnsAttribute attr = (DbSuppressVersionColumnsAttribute) getOdfAttribute(OdfDocumentNamespace.DB, "suppress-version-columns");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DbSuppressVersionColumnsAttribute</code> , See {@odf.attribute db:suppress-version-columns}
 	 *
@@ -248,6 +313,19 @@ public class DbApplicationConnectionSettingsElement extends OdfElement {
 		return Boolean.valueOf(DbUseCatalogAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DbUseCatalogAttribute</code> , See {@odf.attribute db:use-catalog}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getDbUseCatalogAttributeBooleanValue() {
+		DbUseCatalogAttribute attr = (DbUseCatalogAttribute) getOdfAttribute(OdfDocumentNamespace.DB, "use-catalog");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DbUseCatalogAttribute</code> , See {@odf.attribute db:use-catalog}
 	 *
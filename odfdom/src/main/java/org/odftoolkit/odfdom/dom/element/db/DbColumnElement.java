@@ -207,6 +207,19 @@ public class DbColumnElement extends OdfElement {
 		return Boolean.valueOf(DbVisibleAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DbVisibleAttribute</code> , See {@odf.attribute db:visible}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getDbVisibleAttributeBooleanValue() {
+		DbVisibleAttribute attr = (DbVisibleAttribute) getOdfAttribute(OdfDocumentNamespace.DB, "visible");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DbVisibleAttribute</code> , See {@odf.attribute db:visible}
 	 *
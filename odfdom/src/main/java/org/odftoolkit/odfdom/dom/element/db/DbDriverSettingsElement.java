@@ -101,6 +101,19 @@ public class DbDriverSettingsElement extends OdfElement {
 		return Boolean.valueOf(DbIsFirstRowHeaderLineAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DbIsFirstRowHeaderLineAttribute</code> , See {@odf.attribute db:is-first-row-header-line}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getDbIsFirstRowHeaderLineAttributeBooleanValue() {
+		DbIsFirstRowHeaderLineAttribute attr = (DbIsFirstRowHeaderLineAttribute) getOdfAttribute(OdfDocumentNamespace.DB, "is-first-row-header-line");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DbIsFirstRowHeaderLineAttribute</code> , See {@odf.attribute db:is-first-row-header-line}
 	 *
@@ -125,6 +138,19 @@ public class DbDriverSettingsElement extends OdfElement {
 		return Boolean.valueOf(DbParameterNameSubstitutionAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DbParameterNameSubstitutionAttribute</code> , See {@odf.attribute db:parameter-name-substitution}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getDbParameterNameSubstitutionAttributeBooleanValue() {
+		DbParameterNameSubstitutionAttribute attr = (DbParameterNameSubstitutionAttribute) getOdfAttribute(OdfDocumentNamespace.DB, "parameter-name-substitution");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DbParameterNameSubstitutionAttribute</code> , See {@odf.attribute db:parameter-name-substitution}
 	 *
@@ -149,6 +175,19 @@ public class DbDriverSettingsElement extends OdfElement {
 		return Boolean.valueOf(DbShowDeletedAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DbShowDeletedAttribute</code> , See {@odf.attribute db:show-deleted}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getDbShowDeletedAttributeBooleanValue() {
+		DbShowDeletedAttribute attr = (DbShowDeletedAttribute) getOdfAttribute(OdfDocumentNamespace.DB, "show-deleted");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DbShowDeletedAttribute</code> , See {@odf.attribute db:show-deleted}
 	 *
@@ -153,6 +153,19 @@ public class DbQueryElement extends OdfElement {
 		return Boolean.valueOf(DbEscapeProcessingAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DbEscapeProcessingAttribute</code> , See {@odf.attribute db:escape-processing}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getDbEscapeProcessingAttributeBooleanValue() {
+		DbEscapeProcessingAttribute attr = (DbEscapeProcessingAttribute) getOdfAttribute(OdfDocumentNamespace.DB, "escape-processing");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DbEscapeProcessingAttribute</code> , See {@odf.attribute db:escape-processing}
 	 *
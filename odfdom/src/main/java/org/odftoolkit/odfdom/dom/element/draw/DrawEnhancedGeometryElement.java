@@ -163,6 +163,19 @@ public class DrawEnhancedGeometryElement extends OdfElement {
 		return Boolean.valueOf(DrawConcentricGradientFillAllowedAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DrawConcentricGradientFillAllowedAttribute</code> , See {@odf.attribute draw:concentric-gradient-fill-allowed}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getDrawConcentricGradientFillAllowedAttributeBooleanValue() {
+		DrawConcentricGradientFillAllowedAttribute attr = (DrawConcentricGradientFillAllowedAttribute) getOdfAttribute(OdfDocumentNamespace.DRAW, "concentric-gradient-fill-allowed");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DrawConcentricGradientFillAllowedAttribute</code> , See {@odf.attribute draw:concentric-gradient-fill-allowed}
 	 *
@@ -211,6 +224,19 @@ public class DrawEnhancedGeometryElement extends OdfElement {
 		return Boolean.valueOf(DrawExtrusionAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DrawExtrusionAttribute</code> , See {@odf.attribute draw:extrusion}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getDrawExtrusionAttributeBooleanValue() {
+		DrawExtrusionAttribute attr = (DrawExtrusionAttribute) getOdfAttribute(OdfDocumentNamespace.DRAW, "extrusion");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DrawExtrusionAttribute</code> , See {@odf.attribute draw:extrusion}
 	 *
@@ -235,6 +261,19 @@ public class DrawEnhancedGeometryElement extends OdfElement {
 		return Boolean.valueOf(DrawExtrusionAllowedAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DrawExtrusionAllowedAttribute</code> , See {@odf.attribute draw:extrusion-allowed}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getDrawExtrusionAllowedAttributeBooleanValue() {
+		DrawExtrusionAllowedAttribute attr = (DrawExtrusionAllowedAttribute) getOdfAttribute(OdfDocumentNamespace.DRAW, "extrusion-allowed");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DrawExtrusionAllowedAttribute</code> , See {@odf.attribute draw:extrusion-allowed}
 	 *
@@ -283,6 +322,19 @@ public class DrawEnhancedGeometryElement extends OdfElement {
 		return Boolean.valueOf(DrawExtrusionColorAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DrawExtrusionColorAttribute</code> , See {@odf.attribute draw:extrusion-color}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getDrawExtrusionColorAttributeBooleanValue() {
+		DrawExtrusionColorAttribute attr = (DrawExtrusionColorAttribute) getOdfAttribute(OdfDocumentNamespace.DRAW, "extrusion-color");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DrawExtrusionColorAttribute</code> , See {@odf.attribute draw:extrusion-color}
 	 *
@@ -379,6 +431,19 @@ public class DrawEnhancedGeometryElement extends OdfElement {
 		return Boolean.valueOf(DrawExtrusionFirstLightHarshAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DrawExtrusionFirstLightHarshAttribute</code> , See {@odf.attribute draw:extrusion-first-light-harsh}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getDrawExtrusionFirstLightHarshAttributeBooleanValue() {
+		DrawExtrusionFirstLightHarshAttribute attr = (DrawExtrusionFirstLightHarshAttribute) getOdfAttribute(OdfDocumentNamespace.DRAW, "extrusion-first-light-harsh");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DrawExtrusionFirstLightHarshAttribute</code> , See {@odf.attribute draw:extrusion-first-light-harsh}
 	 *
@@ -427,6 +492,19 @@ public class DrawEnhancedGeometryElement extends OdfElement {
 		return Boolean.valueOf(DrawExtrusionLightFaceAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DrawExtrusionLightFaceAttribute</code> , See {@odf.attribute draw:extrusion-light-face}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getDrawExtrusionLightFaceAttributeBooleanValue() {
+		DrawExtrusionLightFaceAttribute attr = (DrawExtrusionLightFaceAttribute) getOdfAttribute(OdfDocumentNamespace.DRAW, "extrusion-light-face");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DrawExtrusionLightFaceAttribute</code> , See {@odf.attribute draw:extrusion-light-face}
 	 *
@@ -451,6 +529,19 @@ public class DrawEnhancedGeometryElement extends OdfElement {
 		return Boolean.valueOf(DrawExtrusionMetalAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DrawExtrusionMetalAttribute</code> , See {@odf.attribute draw:extrusion-metal}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getDrawExtrusionMetalAttributeBooleanValue() {
+		DrawExtrusionMetalAttribute attr = (DrawExtrusionMetalAttribute) getOdfAttribute(OdfDocumentNamespace.DRAW, "extrusion-metal");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DrawExtrusionMetalAttribute</code> , See {@odf.attribute draw:extrusion-metal}
 	 *
@@ -475,6 +566,19 @@ public class DrawEnhancedGeometryElement extends OdfElement {
 		return Integer.valueOf(DrawExtrusionNumberOfLineSegmentsAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>int</code> value of the ODFDOM attribute representation <code>DrawExtrusionNumberOfLineSegmentsAttribute</code> , See {@odf.attribute draw:extrusion-number-of-line-segments}
+	 *
+	 * @return - the <code>int</code> value of the attribute, or the default value <code>30</code>, if the attribute is not set.
+	 */
+	public int getDrawExtrusionNumberOfLineSegmentsAttributeIntValue() {
+		DrawExtrusionNumberOfLineSegmentsAttribute attr = (DrawExtrusionNumberOfLineSegmentsAttribute) getOdfAttribute(OdfDocumentNamespace.DRAW, "extrusion-number-of-line-segments");
+		if (attr != null) {
+			return attr.intValue();
+		}
+		return 30;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DrawExtrusionNumberOfLineSegmentsAttribute</code> , See {@odf.attribute draw:extrusion-number-of-line-segments}
 	 *
@@ -595,6 +699,19 @@ public class DrawEnhancedGeometryElement extends OdfElement {
 		return Boolean.valueOf(DrawExtrusionSecondLightHarshAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DrawExtrusionSecondLightHarshAttribute</code> , See {@odf.attribute draw:extrusion-second-light-harsh}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getDrawExtrusionSecondLightHarshAttributeBooleanValue() {
+		DrawExtrusionSecondLightHarshAttribute attr = (DrawExtrusionSecondLightHarshAttribute) getOdfAttribute(OdfDocumentNamespace.DRAW, "extrusion-second-light-harsh");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DrawExtrusionSecondLightHarshAttribute</code> , See {@odf.attribute draw:extrusion-second-light-harsh}
 	 *
@@ -811,6 +928,19 @@ public class DrawEnhancedGeometryElement extends OdfElement {
 		return Boolean.valueOf(DrawMirrorHorizontalAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DrawMirrorHorizontalAttribute</code> , See {@odf.attribute draw:mirror-horizontal}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getDrawMirrorHorizontalAttributeBooleanValue() {
+		DrawMirrorHorizontalAttribute attr = (DrawMirrorHorizontalAttribute) getOdfAttribute(OdfDocumentNamespace.DRAW, "mirror-horizontal");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DrawMirrorHorizontalAttribute</code> , See {@odf.attribute draw:mirror-horizontal}
 	 *
@@ -835,6 +965,19 @@ public class DrawEnhancedGeometryElement extends OdfElement {
 		return Boolean.valueOf(DrawMirrorVerticalAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DrawMirrorVerticalAttribute</code> , See {@odf.attribute draw:mirror-vertical}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getDrawMirrorVerticalAttributeBooleanValue() {
+		DrawMirrorVerticalAttribute attr = (DrawMirrorVerticalAttribute) getOdfAttribute(OdfDocumentNamespace.DRAW, "mirror-vertical");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DrawMirrorVerticalAttribute</code> , See {@odf.attribute draw:mirror-vertical}
 	 *
@@ -955,6 +1098,19 @@ public class DrawEnhancedGeometryElement extends OdfElement {
 		return Boolean.valueOf(DrawTextPathAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DrawTextPathAttribute</code> , See {@odf.attribute draw:text-path}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getDrawTextPathAttributeBooleanValue() {
+		DrawTextPathAttribute attr = (DrawTextPathAttribute) getOdfAttribute(OdfDocumentNamespace.DRAW, "text-path");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DrawTextPathAttribute</code> , See {@odf.attribute draw:text-path}
 	 *
@@ -979,6 +1135,19 @@ public class DrawEnhancedGeometryElement extends OdfElement {
 		return Boolean.valueOf(DrawTextPathAllowedAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DrawTextPathAllowedAttribute</code> , See {@odf.attribute draw:text-path-allowed}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getDrawTextPathAllowedAttributeBooleanValue() {
+		DrawTextPathAllowedAttribute attr = (DrawTextPathAllowedAttribute) getOdfAttribute(OdfDocumentNamespace.DRAW, "text-path-allowed");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DrawTextPathAllowedAttribute</code> , See {@odf.attribute draw:text-path-allowed}
 	 *
@@ -1027,6 +1196,19 @@ public class DrawEnhancedGeometryElement extends OdfElement {
 		return Boolean.valueOf(DrawTextPathSameLetterHeightsAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>DrawTextPathSameLetterHeightsAttribute</code> , See {@odf.attribute draw:text-path-same-letter-heights}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getDrawTextPathSameLetterHeightsAttributeBooleanValue() {
+		DrawTextPathSameLetterHeightsAttribute attr = (DrawTextPathSameLetterHeightsAttribute) getOdfAttribute(OdfDocumentNamespace.DRAW, "text-path-same-letter-heights");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>DrawTextPathSameLetterHeightsAttribute</code> , See {@odf.attribute draw:text-path-same-letter-heights}
 	 *
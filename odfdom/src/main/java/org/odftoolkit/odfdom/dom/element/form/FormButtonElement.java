@@ -145,6 +145,19 @@ public class FormButtonElement extends OdfElement {
 		return Boolean.valueOf(FormDefaultButtonAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>FormDefaultButtonAttribute</code> , See {@odf.attribute form:default-button}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getFormDefaultButtonAttributeBooleanValue() {
+		FormDefaultButtonAttribute attr = (FormDefaultButtonAttribute) getOdfAttribute(OdfDocumentNamespace.FORM, "default-button");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>FormDefaultButtonAttribute</code> , See {@odf.attribute form:default-button}
 	 *
@@ -193,6 +206,19 @@ public class FormButtonElement extends OdfElement {
 		return Boolean.valueOf(FormDisabledAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>FormDisabledAttribute</code> , See {@odf.attribute form:disabled}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getFormDisabledAttributeBooleanValue() {
+		FormDisabledAttribute attr = (FormDisabledAttribute) getOdfAttribute(OdfDocumentNamespace.FORM, "disabled");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>FormDisabledAttribute</code> , See {@odf.attribute form:disabled}
 	 *
@@ -387,6 +413,19 @@ public class FormButtonElement extends OdfElement {
 		return Boolean.valueOf(FormPrintableAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>FormPrintableAttribute</code> , See {@odf.attribute form:printable}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getFormPrintableAttributeBooleanValue() {
+		FormPrintableAttribute attr = (FormPrintableAttribute) getOdfAttribute(OdfDocumentNamespace.FORM, "printable");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>FormPrintableAttribute</code> , See {@odf.attribute form:printable}
 	 *
@@ -435,6 +474,19 @@ public class FormButtonElement extends OdfElement {
 		return Integer.valueOf(FormTabIndexAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>int</code> value of the ODFDOM attribute representation <code>FormTabIndexAttribute</code> , See {@odf.attribute form:tab-index}
+	 *
+	 * @return - the <code>int</code> value of the attribute, or the default value <code>0</code>, if the attribute is not set.
+	 */
+	public int getFormTabIndexAttributeIntValue() {
+		FormTabIndexAttribute attr = (FormTabIndexAttribute) getOdfAttribute(OdfDocumentNamespace.FORM, "tab-index");
+		if (attr != null) {
+			return attr.intValue();
+		}
+		return 0;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>FormTabIndexAttribute</code> , See {@odf.attribute form:tab-index}
 	 *
@@ -459,6 +511,19 @@ public class FormButtonElement extends OdfElement {
 		return Boolean.valueOf(FormTabStopAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>FormTabStopAttribute</code> , See {@odf.attribute form:tab-stop}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getFormTabStopAttributeBooleanValue() {
+		FormTabStopAttribute attr = (FormTabStopAttribute) getOdfAttribute(OdfDocumentNamespace.FORM, "tab-stop");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>FormTabStopAttribute</code> , See {@odf.attribute form:tab-stop}
 	 *
@@ -507,6 +572,19 @@ public class FormButtonElement extends OdfElement {
 		return Boolean.valueOf(FormToggleAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>FormToggleAttribute</code> , See {@odf.attribute form:toggle}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getFormToggleAttributeBooleanValue() {
+		FormToggleAttribute attr = (FormToggleAttribute) getOdfAttribute(OdfDocumentNamespace.FORM, "toggle");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>FormToggleAttribute</code> , See {@odf.attribute form:toggle}
 	 *
@@ -165,6 +165,19 @@ public class FormCheckboxElement extends OdfElement {
 		return Boolean.valueOf(FormDisabledAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>FormDisabledAttribute</code> , See {@odf.attribute form:disabled}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getFormDisabledAttributeBooleanValue() {
+		FormDisabledAttribute attr = (FormDisabledAttribute) getOdfAttribute(OdfDocumentNamespace.FORM, "disabled");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>FormDisabledAttribute</code> , See {@odf.attribute form:disabled}
 	 *
@@ -263,6 +276,19 @@ public class FormCheckboxElement extends OdfElement {
 		return Boolean.valueOf(FormIsTristateAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>FormIsTristateAttribute</code> , See {@odf.attribute form:is-tristate}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getFormIsTristateAttributeBooleanValue() {
+		FormIsTristateAttribute attr = (FormIsTristateAttribute) getOdfAttribute(OdfDocumentNamespace.FORM, "is-tristate");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>FormIsTristateAttribute</code> , See {@odf.attribute form:is-tristate}
 	 *
@@ -359,6 +385,19 @@ public class FormCheckboxElement extends OdfElement {
 		return Boolean.valueOf(FormPrintableAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>FormPrintableAttribute</code> , See {@odf.attribute form:printable}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getFormPrintableAttributeBooleanValue() {
+		FormPrintableAttribute attr = (FormPrintableAttribute) getOdfAttribute(OdfDocumentNamespace.FORM, "printable");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>FormPrintableAttribute</code> , See {@odf.attribute form:printable}
 	 *
@@ -407,6 +446,19 @@ public class FormCheckboxElement extends OdfElement {
 		return Integer.valueOf(FormTabIndexAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>int</code> value of the ODFDOM attribute representation <code>FormTabIndexAttribute</code> , See {@odf.attribute form:tab-index}
+	 *
+	 * @return - the <code>int</code> value of the attribute, or the default value <code>0</code>, if the attribute is not set.
+	 */
+	public int getFormTabIndexAttributeIntValue() {
+		FormTabIndexAttribute attr = (FormTabIndexAttribute) getOdfAttribute(OdfDocumentNamespace.FORM, "tab-index");
+		if (attr != null) {
+			return attr.intValue();
+		}
+		return 0;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>FormTabIndexAttribute</code> , See {@odf.attribute form:tab-index}
 	 *
@@ -431,6 +483,19 @@ public class FormCheckboxElement extends OdfElement {
 		return Boolean.valueOf(FormTabStopAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>FormTabStopAttribute</code> , See {@odf.attribute form:tab-stop}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getFormTabStopAttributeBooleanValue() {
+		FormTabStopAttribute attr = (FormTabStopAttribute) getOdfAttribute(OdfDocumentNamespace.FORM, "tab-stop");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>FormTabStopAttribute</code> , See {@odf.attribute form:tab-stop}
 	 *
@@ -148,6 +148,19 @@ public class NumberMonthElement extends OdfElement {
 		return Boolean.valueOf(NumberTextualAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>NumberTextualAttribute</code> , See {@odf.attribute number:textual}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getNumberTextualAttributeBooleanValue() {
+		NumberTextualAttribute attr = (NumberTextualAttribute) getOdfAttribute(OdfDocumentNamespace.NUMBER, "textual");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>NumberTextualAttribute</code> , See {@odf.attribute number:textual}
 	 *
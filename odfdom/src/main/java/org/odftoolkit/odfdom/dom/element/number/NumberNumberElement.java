@@ -125,6 +125,19 @@ public class NumberNumberElement extends OdfElement {
 		return Double.valueOf(NumberDisplayFactorAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>double</code> value of the ODFDOM attribute representation <code>NumberDisplayFactorAttribute</code> , See {@odf.attribute number:display-factor}
+	 *
+	 * @return - the <code>double</code> value of the attribute, or the default value <code>1</code>, if the attribute is not set.
+	 */
+	public double getNumberDisplayFactorAttributeDoubleValue() {
+		NumberDisplayFactorAttribute attr = (NumberDisplayFactorAttribute) getOdfAttribute(OdfDocumentNamespace.NUMBER, "display-factor");
+		if (attr != null) {
+			return attr.doubleValue();
+		}
+		return 1;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>NumberDisplayFactorAttribute</code> , See {@odf.attribute number:display-factor}
 	 *
@@ -149,6 +162,19 @@ public class NumberNumberElement extends OdfElement {
 		return Boolean.valueOf(NumberGroupingAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>NumberGroupingAttribute</code> , See {@odf.attribute number:grouping}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getNumberGroupingAttributeBooleanValue() {
+		NumberGroupingAttribute attr = (NumberGroupingAttribute) getOdfAttribute(OdfDocumentNamespace.NUMBER, "grouping");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>NumberGroupingAttribute</code> , See {@odf.attribute number:grouping}
 	 *
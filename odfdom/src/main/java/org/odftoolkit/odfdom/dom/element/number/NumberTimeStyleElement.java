@@ -328,6 +328,19 @@ public class NumberTimeStyleElement extends OdfElement {
 		return Boolean.valueOf(NumberTruncateOnOverflowAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>NumberTruncateOnOverflowAttribute</code> , See {@odf.attribute number:truncate-on-overflow}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getNumberTruncateOnOverflowAttributeBooleanValue() {
+		NumberTruncateOnOverflowAttribute attr = (NumberTruncateOnOverflowAttribute) getOdfAttribute(OdfDocumentNamespace.NUMBER, "truncate-on-overflow");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>NumberTruncateOnOverflowAttribute</code> , See {@odf.attribute number:truncate-on-overflow}
 	 *
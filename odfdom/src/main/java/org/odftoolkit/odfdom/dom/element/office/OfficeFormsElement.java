@@ -76,6 +76,19 @@ public class OfficeFormsElement extends OdfElement {
 		return Boolean.valueOf(FormApplyDesignModeAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>FormApplyDesignModeAttribute</code> , See {@odf.attribute form:apply-design-mode}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getFormApplyDesignModeAttributeBooleanValue() {
+		FormApplyDesignModeAttribute attr = (FormApplyDesignModeAttribute) getOdfAttribute(OdfDocumentNamespace.FORM, "apply-design-mode");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>FormApplyDesignModeAttribute</code> , See {@odf.attribute form:apply-design-mode}
 	 *
@@ -100,6 +113,19 @@ public class OfficeFormsElement extends OdfElement {
 		return Boolean.valueOf(FormAutomaticFocusAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>FormAutomaticFocusAttribute</code> , See {@odf.attribute form:automatic-focus}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getFormAutomaticFocusAttributeBooleanValue() {
+		FormAutomaticFocusAttribute attr = (FormAutomaticFocusAttribute) getOdfAttribute(OdfDocumentNamespace.FORM, "automatic-focus");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>FormAutomaticFocusAttribute</code> , See {@odf.attribute form:automatic-focus}
 	 *
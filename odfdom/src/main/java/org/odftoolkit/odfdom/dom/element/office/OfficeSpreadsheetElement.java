@@ -138,6 +138,19 @@ public class OfficeSpreadsheetElement extends OdfElement {
 		return Boolean.valueOf(TableStructureProtectedAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TableStructureProtectedAttribute</code> , See {@odf.attribute table:structure-protected}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTableStructureProtectedAttributeBooleanValue() {
+		TableStructureProtectedAttribute attr = (TableStructureProtectedAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "structure-protected");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableStructureProtectedAttribute</code> , See {@odf.attribute table:structure-protected}
 	 *
@@ -124,6 +124,19 @@ public class OfficeTextElement extends OdfElement {
 		return Boolean.valueOf(TextGlobalAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextGlobalAttribute</code> , See {@odf.attribute text:global}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextGlobalAttributeBooleanValue() {
+		TextGlobalAttribute attr = (TextGlobalAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "global");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextGlobalAttribute</code> , See {@odf.attribute text:global}
 	 *
@@ -148,6 +161,19 @@ public class OfficeTextElement extends OdfElement {
 		return Boolean.valueOf(TextUseSoftPageBreaksAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextUseSoftPageBreaksAttribute</code> , See {@odf.attribute text:use-soft-page-breaks}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextUseSoftPageBreaksAttributeBooleanValue() {
+		TextUseSoftPageBreaksAttribute attr = (TextUseSoftPageBreaksAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "use-soft-page-breaks");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextUseSoftPageBreaksAttribute</code> , See {@odf.attribute text:use-soft-page-breaks}
 	 *
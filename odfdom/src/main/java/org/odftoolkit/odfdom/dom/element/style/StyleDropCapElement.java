@@ -102,6 +102,19 @@ public class StyleDropCapElement extends OdfStylableElement {
 		return Integer.valueOf(StyleLengthAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>int</code> value of the ODFDOM attribute representation <code>StyleLengthAttribute</code> , See {@odf.attribute style:length}
+	 *
+	 * @return - the <code>int</code> value of the attribute, or the default value <code>1</code>, if the attribute is not set.
+	 */
+	public int getStyleLengthAttributeIntValue() {
+		StyleLengthAttribute attr = (StyleLengthAttribute) getOdfAttribute(OdfDocumentNamespace.STYLE, "length");
+		if (attr != null) {
+			return attr.intValue();
+		}
+		return 1;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>StyleLengthAttribute</code> , See {@odf.attribute style:length}
 	 *
@@ -126,6 +139,19 @@ public class StyleDropCapElement extends OdfStylableElement {
 		return Integer.valueOf(StyleLinesAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>int</code> value of the ODFDOM attribute representation <code>StyleLinesAttribute</code> , See {@odf.attribute style:lines}
+	 *
+	 * @return - the <code>int</code> value of the attribute, or the default value <code>1</code>, if the attribute is not set.
+	 */
+	public int getStyleLinesAttributeIntValue() {
+		StyleLinesAttribute attr = (StyleLinesAttribute) getOdfAttribute(OdfDocumentNamespace.STYLE, "lines");
+		if (attr != null) {
+			return attr.intValue();
+		}
+		return 1;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>StyleLinesAttribute</code> , See {@odf.attribute style:lines}
 	 *
@@ -78,6 +78,19 @@ public class TableContentValidationElement extends OdfElement {
 		return Boolean.valueOf(TableAllowEmptyCellAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TableAllowEmptyCellAttribute</code> , See {@odf.attribute table:allow-empty-cell}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getTableAllowEmptyCellAttributeBooleanValue() {
+		TableAllowEmptyCellAttribute attr = (TableAllowEmptyCellAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "allow-empty-cell");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableAllowEmptyCellAttribute</code> , See {@odf.attribute table:allow-empty-cell}
 	 *
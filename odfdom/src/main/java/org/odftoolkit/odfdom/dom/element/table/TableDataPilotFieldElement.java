@@ -202,6 +202,19 @@ public class TableDataPilotFieldElement extends OdfElement {
 		return Integer.valueOf(TableUsedHierarchyAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>int</code> value of the ODFDOM attribute representation <code>TableUsedHierarchyAttribute</code> , See {@odf.attribute table:used-hierarchy}
+	 *
+	 * @return - the <code>int</code> value of the attribute, or the default value <code>-1</code>, if the attribute is not set.
+	 */
+	public int getTableUsedHierarchyAttributeIntValue() {
+		TableUsedHierarchyAttribute attr = (TableUsedHierarchyAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "used-hierarchy");
+		if (attr != null) {
+			return attr.intValue();
+		}
+		return -1;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableUsedHierarchyAttribute</code> , See {@odf.attribute table:used-hierarchy}
 	 *
@@ -129,6 +129,19 @@ public class TableDataPilotTableElement extends OdfElement {
 		return Boolean.valueOf(TableDrillDownOnDoubleClickAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TableDrillDownOnDoubleClickAttribute</code> , See {@odf.attribute table:drill-down-on-double-click}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getTableDrillDownOnDoubleClickAttributeBooleanValue() {
+		TableDrillDownOnDoubleClickAttribute attr = (TableDrillDownOnDoubleClickAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "drill-down-on-double-click");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableDrillDownOnDoubleClickAttribute</code> , See {@odf.attribute table:drill-down-on-double-click}
 	 *
@@ -177,6 +190,19 @@ public class TableDataPilotTableElement extends OdfElement {
 		return Boolean.valueOf(TableIdentifyCategoriesAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TableIdentifyCategoriesAttribute</code> , See {@odf.attribute table:identify-categories}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTableIdentifyCategoriesAttributeBooleanValue() {
+		TableIdentifyCategoriesAttribute attr = (TableIdentifyCategoriesAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "identify-categories");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableIdentifyCategoriesAttribute</code> , See {@odf.attribute table:identify-categories}
 	 *
@@ -201,6 +227,19 @@ public class TableDataPilotTableElement extends OdfElement {
 		return Boolean.valueOf(TableIgnoreEmptyRowsAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TableIgnoreEmptyRowsAttribute</code> , See {@odf.attribute table:ignore-empty-rows}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTableIgnoreEmptyRowsAttributeBooleanValue() {
+		TableIgnoreEmptyRowsAttribute attr = (TableIgnoreEmptyRowsAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "ignore-empty-rows");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableIgnoreEmptyRowsAttribute</code> , See {@odf.attribute table:ignore-empty-rows}
 	 *
@@ -251,6 +290,19 @@ public class TableDataPilotTableElement extends OdfElement {
 		return Boolean.valueOf(TableShowFilterButtonAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TableShowFilterButtonAttribute</code> , See {@odf.attribute table:show-filter-button}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getTableShowFilterButtonAttributeBooleanValue() {
+		TableShowFilterButtonAttribute attr = (TableShowFilterButtonAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "show-filter-button");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableShowFilterButtonAttribute</code> , See {@odf.attribute table:show-filter-button}
 	 *
@@ -101,6 +101,19 @@ public class TableDatabaseSourceSqlElement extends OdfElement {
 		return Boolean.valueOf(TableParseSqlStatementAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TableParseSqlStatementAttribute</code> , See {@odf.attribute table:parse-sql-statement}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTableParseSqlStatementAttributeBooleanValue() {
+		TableParseSqlStatementAttribute attr = (TableParseSqlStatementAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "parse-sql-statement");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableParseSqlStatementAttribute</code> , See {@odf.attribute table:parse-sql-statement}
 	 *
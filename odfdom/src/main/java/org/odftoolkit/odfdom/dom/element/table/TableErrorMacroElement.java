@@ -73,6 +73,19 @@ public class TableErrorMacroElement extends OdfElement {
 		return Boolean.valueOf(TableExecuteAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TableExecuteAttribute</code> , See {@odf.attribute table:execute}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getTableExecuteAttributeBooleanValue() {
+		TableExecuteAttribute attr = (TableExecuteAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "execute");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableExecuteAttribute</code> , See {@odf.attribute table:execute}
 	 *
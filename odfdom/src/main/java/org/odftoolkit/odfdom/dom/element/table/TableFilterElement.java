@@ -124,6 +124,19 @@ public class TableFilterElement extends OdfElement {
 		return Boolean.valueOf(TableDisplayDuplicatesAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TableDisplayDuplicatesAttribute</code> , See {@odf.attribute table:display-duplicates}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getTableDisplayDuplicatesAttributeBooleanValue() {
+		TableDisplayDuplicatesAttribute attr = (TableDisplayDuplicatesAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "display-duplicates");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableDisplayDuplicatesAttribute</code> , See {@odf.attribute table:display-duplicates}
 	 *
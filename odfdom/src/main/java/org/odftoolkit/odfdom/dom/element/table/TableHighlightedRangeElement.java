@@ -100,6 +100,19 @@ public class TableHighlightedRangeElement extends OdfElement {
 		return Boolean.valueOf(TableContainsErrorAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TableContainsErrorAttribute</code> , See {@odf.attribute table:contains-error}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTableContainsErrorAttributeBooleanValue() {
+		TableContainsErrorAttribute attr = (TableContainsErrorAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "contains-error");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableContainsErrorAttribute</code> , See {@odf.attribute table:contains-error}
 	 *
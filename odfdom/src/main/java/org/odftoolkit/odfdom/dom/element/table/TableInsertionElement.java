@@ -104,6 +104,19 @@ public class TableInsertionElement extends OdfElement {
 		return Integer.valueOf(TableCountAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>int</code> value of the ODFDOM attribute representation <code>TableCountAttribute</code> , See {@odf.attribute table:count}
+	 *
+	 * @return - the <code>int</code> value of the attribute, or the default value <code>1</code>, if the attribute is not set.
+	 */
+	public int getTableCountAttributeIntValue() {
+		TableCountAttribute attr = (TableCountAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "count");
+		if (attr != null) {
+			return attr.intValue();
+		}
+		return 1;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableCountAttribute</code> , See {@odf.attribute table:count}
 	 *
@@ -75,6 +75,19 @@ public class TableIterationElement extends OdfElement {
 		return Double.valueOf(TableMaximumDifferenceAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>double</code> value of the ODFDOM attribute representation <code>TableMaximumDifferenceAttribute</code> , See {@odf.attribute table:maximum-difference}
+	 *
+	 * @return - the <code>double</code> value of the attribute, or the default value <code>0.001</code>, if the attribute is not set.
+	 */
+	public double getTableMaximumDifferenceAttributeDoubleValue() {
+		TableMaximumDifferenceAttribute attr = (TableMaximumDifferenceAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "maximum-difference");
+		if (attr != null) {
+			return attr.doubleValue();
+		}
+		return 0.001;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableMaximumDifferenceAttribute</code> , See {@odf.attribute table:maximum-difference}
 	 *
@@ -123,6 +136,19 @@ public class TableIterationElement extends OdfElement {
 		return Integer.valueOf(TableStepsAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>int</code> value of the ODFDOM attribute representation <code>TableStepsAttribute</code> , See {@odf.attribute table:steps}
+	 *
+	 * @return - the <code>int</code> value of the attribute, or the default value <code>100</code>, if the attribute is not set.
+	 */
+	public int getTableStepsAttributeIntValue() {
+		TableStepsAttribute attr = (TableStepsAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "steps");
+		if (attr != null) {
+			return attr.intValue();
+		}
+		return 100;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableStepsAttribute</code> , See {@odf.attribute table:steps}
 	 *
@@ -113,6 +113,19 @@ public class TableTableCellElement extends TableTableCellElementBase {
 		return Integer.valueOf(TableNumberColumnsSpannedAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>int</code> value of the ODFDOM attribute representation <code>TableNumberColumnsSpannedAttribute</code> , See {@odf.attribute table:number-columns-spanned}
+	 *
+	 * @return - the <code>int</code> value of the attribute, or the default value <code>1</code>, if the attribute is not set.
+	 */
+	public int getTableNumberColumnsSpannedAttributeIntValue() {
+		TableNumberColumnsSpannedAttribute attr = (TableNumberColumnsSpannedAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "number-columns-spanned");
+		if (attr != null) {
+			return attr.intValue();
+		}
+		return 1;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableNumberColumnsSpannedAttribute</code> , See {@odf.attribute table:number-columns-spanned}
 	 *
@@ -185,6 +198,19 @@ public class TableTableCellElement extends TableTableCellElementBase {
 		return Integer.valueOf(TableNumberRowsSpannedAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>int</code> value of the ODFDOM attribute representation <code>TableNumberRowsSpannedAttribute</code> , See {@odf.attribute table:number-rows-spanned}
+	 *
+	 * @return - the <code>int</code> value of the attribute, or the default value <code>1</code>, if the attribute is not set.
+	 */
+	public int getTableNumberRowsSpannedAttributeIntValue() {
+		TableNumberRowsSpannedAttribute attr = (TableNumberRowsSpannedAttribute) getOdfAttribute(OdfDocumentNamespace.TABLE, "number-rows-spanned");
+		if (attr != null) {
+			return attr.intValue();
+		}
+		return 1;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TableNumberRowsSpannedAttribute</code> , See {@odf.attribute table:number-rows-spanned}
 	 *
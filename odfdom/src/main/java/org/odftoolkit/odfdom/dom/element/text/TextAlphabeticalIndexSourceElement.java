@@ -184,6 +184,19 @@ public class TextAlphabeticalIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextAlphabeticalSeparatorsAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextAlphabeticalSeparatorsAttribute</code> , See {@odf.attribute text:alphabetical-separators}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextAlphabeticalSeparatorsAttributeBooleanValue() {
+		TextAlphabeticalSeparatorsAttribute attr = (TextAlphabeticalSeparatorsAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "alphabetical-separators");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextAlphabeticalSeparatorsAttribute</code> , See {@odf.attribute text:alphabetical-separators}
 	 *
@@ -208,6 +221,19 @@ public class TextAlphabeticalIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextCapitalizeEntriesAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextCapitalizeEntriesAttribute</code> , See {@odf.attribute text:capitalize-entries}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextCapitalizeEntriesAttributeBooleanValue() {
+		TextCapitalizeEntriesAttribute attr = (TextCapitalizeEntriesAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "capitalize-entries");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextCapitalizeEntriesAttribute</code> , See {@odf.attribute text:capitalize-entries}
 	 *
@@ -232,6 +258,19 @@ public class TextAlphabeticalIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextCombineEntriesAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextCombineEntriesAttribute</code> , See {@odf.attribute text:combine-entries}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getTextCombineEntriesAttributeBooleanValue() {
+		TextCombineEntriesAttribute attr = (TextCombineEntriesAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "combine-entries");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextCombineEntriesAttribute</code> , See {@odf.attribute text:combine-entries}
 	 *
@@ -256,6 +295,19 @@ public class TextAlphabeticalIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextCombineEntriesWithDashAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextCombineEntriesWithDashAttribute</code> , See {@odf.attribute text:combine-entries-with-dash}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextCombineEntriesWithDashAttributeBooleanValue() {
+		TextCombineEntriesWithDashAttribute attr = (TextCombineEntriesWithDashAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "combine-entries-with-dash");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextCombineEntriesWithDashAttribute</code> , See {@odf.attribute text:combine-entries-with-dash}
 	 *
@@ -280,6 +332,19 @@ public class TextAlphabeticalIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextCombineEntriesWithPpAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextCombineEntriesWithPpAttribute</code> , See {@odf.attribute text:combine-entries-with-pp}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getTextCombineEntriesWithPpAttributeBooleanValue() {
+		TextCombineEntriesWithPpAttribute attr = (TextCombineEntriesWithPpAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "combine-entries-with-pp");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextCombineEntriesWithPpAttribute</code> , See {@odf.attribute text:combine-entries-with-pp}
 	 *
@@ -304,6 +369,19 @@ public class TextAlphabeticalIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextCommaSeparatedAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextCommaSeparatedAttribute</code> , See {@odf.attribute text:comma-separated}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextCommaSeparatedAttributeBooleanValue() {
+		TextCommaSeparatedAttribute attr = (TextCommaSeparatedAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "comma-separated");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextCommaSeparatedAttribute</code> , See {@odf.attribute text:comma-separated}
 	 *
@@ -328,6 +406,19 @@ public class TextAlphabeticalIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextIgnoreCaseAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextIgnoreCaseAttribute</code> , See {@odf.attribute text:ignore-case}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextIgnoreCaseAttributeBooleanValue() {
+		TextIgnoreCaseAttribute attr = (TextIgnoreCaseAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "ignore-case");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextIgnoreCaseAttribute</code> , See {@odf.attribute text:ignore-case}
 	 *
@@ -400,6 +491,19 @@ public class TextAlphabeticalIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextRelativeTabStopPositionAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextRelativeTabStopPositionAttribute</code> , See {@odf.attribute text:relative-tab-stop-position}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getTextRelativeTabStopPositionAttributeBooleanValue() {
+		TextRelativeTabStopPositionAttribute attr = (TextRelativeTabStopPositionAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "relative-tab-stop-position");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextRelativeTabStopPositionAttribute</code> , See {@odf.attribute text:relative-tab-stop-position}
 	 *
@@ -448,6 +552,19 @@ public class TextAlphabeticalIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextUseKeysAsEntriesAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextUseKeysAsEntriesAttribute</code> , See {@odf.attribute text:use-keys-as-entries}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextUseKeysAsEntriesAttributeBooleanValue() {
+		TextUseKeysAsEntriesAttribute attr = (TextUseKeysAsEntriesAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "use-keys-as-entries");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextUseKeysAsEntriesAttribute</code> , See {@odf.attribute text:use-keys-as-entries}
 	 *
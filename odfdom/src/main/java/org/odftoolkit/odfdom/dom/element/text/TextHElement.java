@@ -101,6 +101,19 @@ public class TextHElement extends TextParagraphElementBase {
 		return Boolean.valueOf(TextIsListHeaderAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextIsListHeaderAttribute</code> , See {@odf.attribute text:is-list-header}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextIsListHeaderAttributeBooleanValue() {
+		TextIsListHeaderAttribute attr = (TextIsListHeaderAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "is-list-header");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextIsListHeaderAttribute</code> , See {@odf.attribute text:is-list-header}
 	 *
@@ -151,6 +164,19 @@ public class TextHElement extends TextParagraphElementBase {
 		return Boolean.valueOf(TextRestartNumberingAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextRestartNumberingAttribute</code> , See {@odf.attribute text:restart-numbering}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextRestartNumberingAttributeBooleanValue() {
+		TextRestartNumberingAttribute attr = (TextRestartNumberingAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "restart-numbering");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextRestartNumberingAttribute</code> , See {@odf.attribute text:restart-numbering}
 	 *
@@ -100,6 +100,19 @@ public class TextSortKeyElement extends OdfElement {
 		return Boolean.valueOf(TextSortAscendingAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextSortAscendingAttribute</code> , See {@odf.attribute text:sort-ascending}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getTextSortAscendingAttributeBooleanValue() {
+		TextSortAscendingAttribute attr = (TextSortAscendingAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "sort-ascending");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextSortAscendingAttribute</code> , See {@odf.attribute text:sort-ascending}
 	 *
@@ -73,6 +73,19 @@ public class TextTrackedChangesElement extends OdfElement {
 		return Boolean.valueOf(TextTrackChangesAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextTrackChangesAttribute</code> , See {@odf.attribute text:track-changes}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getTextTrackChangesAttributeBooleanValue() {
+		TextTrackChangesAttribute attr = (TextTrackChangesAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "track-changes");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextTrackChangesAttribute</code> , See {@odf.attribute text:track-changes}
 	 *
@@ -82,6 +82,19 @@ public class TextUserIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextCopyOutlineLevelsAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextCopyOutlineLevelsAttribute</code> , See {@odf.attribute text:copy-outline-levels}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextCopyOutlineLevelsAttributeBooleanValue() {
+		TextCopyOutlineLevelsAttribute attr = (TextCopyOutlineLevelsAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "copy-outline-levels");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextCopyOutlineLevelsAttribute</code> , See {@odf.attribute text:copy-outline-levels}
 	 *
@@ -156,6 +169,19 @@ public class TextUserIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextRelativeTabStopPositionAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextRelativeTabStopPositionAttribute</code> , See {@odf.attribute text:relative-tab-stop-position}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>true</code>, if the attribute is not set.
+	 */
+	public boolean getTextRelativeTabStopPositionAttributeBooleanValue() {
+		TextRelativeTabStopPositionAttribute attr = (TextRelativeTabStopPositionAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "relative-tab-stop-position");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return true;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextRelativeTabStopPositionAttribute</code> , See {@odf.attribute text:relative-tab-stop-position}
 	 *
@@ -180,6 +206,19 @@ public class TextUserIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextUseFloatingFramesAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextUseFloatingFramesAttribute</code> , See {@odf.attribute text:use-floating-frames}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextUseFloatingFramesAttributeBooleanValue() {
+		TextUseFloatingFramesAttribute attr = (TextUseFloatingFramesAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "use-floating-frames");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextUseFloatingFramesAttribute</code> , See {@odf.attribute text:use-floating-frames}
 	 *
@@ -204,6 +243,19 @@ public class TextUserIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextUseGraphicsAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextUseGraphicsAttribute</code> , See {@odf.attribute text:use-graphics}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextUseGraphicsAttributeBooleanValue() {
+		TextUseGraphicsAttribute attr = (TextUseGraphicsAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "use-graphics");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextUseGraphicsAttribute</code> , See {@odf.attribute text:use-graphics}
 	 *
@@ -228,6 +280,19 @@ public class TextUserIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextUseIndexMarksAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextUseIndexMarksAttribute</code> , See {@odf.attribute text:use-index-marks}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextUseIndexMarksAttributeBooleanValue() {
+		TextUseIndexMarksAttribute attr = (TextUseIndexMarksAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "use-index-marks");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextUseIndexMarksAttribute</code> , See {@odf.attribute text:use-index-marks}
 	 *
@@ -252,6 +317,19 @@ public class TextUserIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextUseIndexSourceStylesAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextUseIndexSourceStylesAttribute</code> , See {@odf.attribute text:use-index-source-styles}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextUseIndexSourceStylesAttributeBooleanValue() {
+		TextUseIndexSourceStylesAttribute attr = (TextUseIndexSourceStylesAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "use-index-source-styles");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextUseIndexSourceStylesAttribute</code> , See {@odf.attribute text:use-index-source-styles}
 	 *
@@ -276,6 +354,19 @@ public class TextUserIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextUseObjectsAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextUseObjectsAttribute</code> , See {@odf.attribute text:use-objects}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextUseObjectsAttributeBooleanValue() {
+		TextUseObjectsAttribute attr = (TextUseObjectsAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "use-objects");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextUseObjectsAttribute</code> , See {@odf.attribute text:use-objects}
 	 *
@@ -300,6 +391,19 @@ public class TextUserIndexSourceElement extends OdfElement {
 		return Boolean.valueOf(TextUseTablesAttribute.DEFAULT_VALUE);
 	}
 
+	/**
+	 * Receives the <code>boolean</code> value of the ODFDOM attribute representation <code>TextUseTablesAttribute</code> , See {@odf.attribute text:use-tables}
+	 *
+	 * @return - the <code>boolean</code> value of the attribute, or the default value <code>false</code>, if the attribute is not set.
+	 */
+	public boolean getTextUseTablesAttributeBooleanValue() {
+		TextUseTablesAttribute attr = (TextUseTablesAttribute) getOdfAttribute(OdfDocumentNamespace.TEXT, "use-tables");
+		if (attr != null) {
+			return attr.booleanValue();
+		}
+		return false;
+	}
+
 	/**
 	 * Sets the value of ODFDOM attribute representation <code>TextUseTablesAttribute</code> , See {@odf.attribute text:use-tables}
 	 *
@@ -22,13 +22,12 @@
 package org.odftoolkit.odfdom.incubator.doc.office;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 import org.odftoolkit.odfdom.pkg.OdfElement;
 import org.odftoolkit.odfdom.pkg.OdfFileDom;
+import org.odftoolkit.odfdom.dom.OdfDocumentNamespace;
 import org.odftoolkit.odfdom.dom.element.OdfStylableElement;
 import org.odftoolkit.odfdom.dom.element.number.NumberBooleanStyleElement;
 import org.odftoolkit.odfdom.dom.element.number.NumberTextStyleElement;
@@ -42,6 +41,8 @@ import org.odftoolkit.odfdom.incubator.doc.number.OdfNumberTimeStyle;
 import org.odftoolkit.odfdom.incubator.doc.style.OdfStyle;
 import org.odftoolkit.odfdom.incubator.doc.style.OdfStylePageLayout;
 import org.odftoolkit.odfdom.incubator.doc.text.OdfTextListStyle;
+import org.w3c.dom.Attr;
+import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
 /**
@@ -55,6 +56,11 @@ public class OdfOfficeAutomaticStyles extends OfficeAutomaticStylesElement {
 	private HashMap<String, OdfStylePageLayout> mPageLayouts;
 	// styles that are common for OdfStyles and OdfAutomaticStyles
 	private OdfStylesBase mStylesBaseImpl;
+	// interned styles by their canonical key, created on first use
+	private HashMap<String, OdfStyle> mStyleIndex;
+	// the numbers of the last generated style and list style names
+	private int mStyleNameCounter;
+	private int mListStyleNameCounter;
 
 	public OdfOfficeAutomaticStyles(OdfFileDom ownerDoc) {
 		super(ownerDoc);
@@ -301,6 +307,7 @@ public class OdfOfficeAutomaticStyles extends OfficeAutomaticStylesElement {
 			mPageLayouts.put(pageLayout.getStyleNameAttribute(), pageLayout);
 		} else {
 			mStylesBaseImpl.onOdfNodeInserted(node, refNode);
+			updateStyleNameCounter(node);
 		}
 	}
 
@@ -313,6 +320,12 @@ public class OdfOfficeAutomaticStyles extends OfficeAutomaticStylesElement {
 			}
 		} else {
 			mStylesBaseImpl.onOdfNodeRemoved(node);
+			if (mStyleIndex != null && node instanceof OdfStyle) {
+				String key = getStyleKey(node);
+				if (mStyleIndex.get(key) == node) {
+					mStyleIndex.remove(key);
+				}
+			}
 		}
 	}
 
@@ -322,38 +335,38 @@ public class OdfOfficeAutomaticStyles extends OfficeAutomaticStylesElement {
 	 * be removed.
 	 */
 	public void optimize() {
-		Iterator<OdfStyle> iter = mStylesBaseImpl.getAllOdfStyles().iterator();
-		SortedSet<OdfStyle> stylesSet = new TreeSet<OdfStyle>();
-		while (iter.hasNext()) {
-			OdfStyle cur = iter.next();
-
+		// the key of each style is computed once, so equal styles are found
+		// by hash lookup instead of by comparing styles to each other
+		HashMap<String, OdfStyle> uniqueStyles = new HashMap<String, OdfStyle>();
+		ArrayList<OdfStylableElement> styleUsers = new ArrayList<OdfStylableElement>();
+		ArrayList<OdfStyle> newStyles = new ArrayList<OdfStyle>();
+		for (OdfStyle cur : mStylesBaseImpl.getAllOdfStyles()) {
 			// skip styles which are not in use:
 			if (cur.getStyleUserCount() < 1) {
 				continue;
 			}
 
-			SortedSet<OdfStyle> tail = stylesSet.tailSet(cur);
-			OdfStyle found = tail.size() > 0 ? tail.first() : null;
-			if (found != null && found.equals(cur)) {
-				// cur already in set. Replace all usages of cur by found:
-				Iterator<OdfStylableElement> styleUsersIter = cur.getStyleUsers().iterator();
-				ArrayList<OdfStylableElement> styleUsers = new ArrayList<OdfStylableElement>();
-				while (styleUsersIter.hasNext()) {
-					styleUsers.add(styleUsersIter.next());
-				}
-				styleUsersIter = styleUsers.iterator();
-				while (styleUsersIter.hasNext()) {
-					OdfStylableElement elem = styleUsersIter.next();
-					OdfStyle autoStyle = elem.getAutomaticStyle();
-					if (autoStyle != null) {
-						elem.setStyleName(found.getStyleNameAttribute());
-					}
-				}
+			String key = getStyleKey(cur);
+			OdfStyle found = uniqueStyles.get(key);
+			if (found == null) {
+				uniqueStyles.put(key, cur);
 			} else {
-				stylesSet.add(cur);
+				// cur is a duplicate. Its usages are replaced by found below.
+				for (OdfStylableElement elem : cur.getStyleUsers()) {
+					styleUsers.add(elem);
+					newStyles.add(found);
+				}
 			}
 		}
 
+		for (int i = 0; i < styleUsers.size(); i++) {
+			OdfStylableElement elem = styleUsers.get(i);
+			if (elem.getAutomaticStyle() != null) {
+				elem.setStyleName(newStyles.get(i).getStyleNameAttribute());
+			}
+		}
+
+		mStyleIndex = null;
 		OdfStyle style = OdfElement.findFirstChildNode(OdfStyle.class, this);
 		while (style != null) {
 			OdfStyle nextStyle = OdfElement.findNextChildNode(OdfStyle.class, style);
@@ -363,6 +376,9 @@ public class OdfOfficeAutomaticStyles extends OfficeAutomaticStylesElement {
 
 			style = nextStyle;
 		}
+
+		// the remaining styles are unique, they become the interned styles
+		mStyleIndex = uniqueStyles;
 	}
 
 	/**
@@ -388,18 +404,138 @@ public class OdfOfficeAutomaticStyles extends OfficeAutomaticStylesElement {
 		return newStyle;
 	}
 
+	/**
+	 * Returns the interned instance of the given automatic style.
+	 * <p>
+	 * The interned instance is an automatic style of this element, which has
+	 * the same family, parent style and properties as the given style. It is
+	 * found by a canonical key of the style, so the cost does not depend on
+	 * the number of automatic styles. If there is no such style, the given
+	 * style becomes the interned instance and is returned.
+	 * <p>
+	 * An interned style might be shared by many styleable elements, so it
+	 * should not be modified afterwards; use <code>makeStyleUnique</code> to
+	 * get a copy that can be modified.
+	 *
+	 * @param style an <code>OdfStyle</code> element of this element
+	 * @return the interned <code>OdfStyle</code> element
+	 */
+	public OdfStyle internStyle(OdfStyle style) {
+		if (style.getParentNode() != this) {
+			return style;
+		}
+		if (mStyleIndex == null) {
+			mStyleIndex = new HashMap<String, OdfStyle>();
+			for (OdfStyle cur : mStylesBaseImpl.getAllOdfStyles()) {
+				if (cur != style) {
+					String key = getStyleKey(cur);
+					if (!mStyleIndex.containsKey(key)) {
+						mStyleIndex.put(key, cur);
+					}
+				}
+			}
+		}
+		String key = getStyleKey(style);
+		OdfStyle found = mStyleIndex.get(key);
+		if (found != null && found != style) {
+			// the interned style might have been changed or removed since
+			if (found.getParentNode() == this && key.equals(getStyleKey(found))) {
+				return found;
+			}
+		}
+		mStyleIndex.put(key, style);
+		return style;
+	}
+
+	// returns a key that is equal for two styles exactly if they are equal,
+	// i.e. their attributes except style:name and their child nodes match.
+	private static String getStyleKey(Node node) {
+		StringBuilder key = new StringBuilder(128);
+		appendStyleKey(node, key);
+		return key.toString();
+	}
+
+	private static void appendStyleKey(Node node, StringBuilder key) {
+		if (node.getNodeType() == Node.TEXT_NODE) {
+			String text = node.getNodeValue();
+			// whitespace text nodes are ignored like in OdfStyleBase.compareTo
+			if (text.trim().length() != 0) {
+				key.append('"').append(text.length()).append(':').append(text);
+			}
+			return;
+		}
+		if (node.getNodeType() != Node.ELEMENT_NODE) {
+			return;
+		}
+		key.append('<').append(node.getNamespaceURI()).append('|').append(node.getLocalName());
+		NamedNodeMap attributes = node.getAttributes();
+		int count = attributes.getLength();
+		if (count > 0) {
+			ArrayList<String> sortedAttributes = new ArrayList<String>(count);
+			for (int i = 0; i < count; i++) {
+				Attr attribute = (Attr) attributes.item(i);
+				String namespace = attribute.getNamespaceURI();
+				String local = attribute.getLocalName();
+				// styles can be still the same, even if they have different names
+				if (local.equals("name") && OdfDocumentNamespace.STYLE.getUri().equals(namespace)) {
+					continue;
+				}
+				String value = attribute.getValue();
+				sortedAttributes.add(namespace + '|' + local + '=' + value.length() + ':' + value);
+			}
+			Collections.sort(sortedAttributes);
+			for (String attribute : sortedAttributes) {
+				key.append(' ').append(attribute);
+			}
+		}
+		key.append('>');
+		for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+			appendStyleKey(child, key);
+		}
+		key.append("</>");
+	}
+
+	// Unique style names are "a" or "l" for list styles, followed by six or
+	// more hex digits of a counter. The counters start after the highest
+	// number of such a name in the document, so that the names only depend on
+	// the document and on the order in which styles are added.
 	private String newUniqueStyleName(OdfStyleFamily styleFamily) {
 		String unique_name;
 
 		if (styleFamily.equals(OdfStyleFamily.List)) {
 			do {
-				unique_name = String.format("l%06x", (int) (Math.random() * 0xffffff));
+				unique_name = String.format("l%06x", ++mListStyleNameCounter);
 			} while (getListStyle(unique_name) != null);
 		} else {
 			do {
-				unique_name = String.format("a%06x", (int) (Math.random() * 0xffffff));
+				unique_name = String.format("a%06x", ++mStyleNameCounter);
 			} while (getStyle(unique_name, styleFamily) != null);
 		}
 		return unique_name;
 	}
+
+	// keeps the name counters ahead of the inserted style
+	private void updateStyleNameCounter(OdfElement node) {
+		String name = node.getAttributeNS(OdfDocumentNamespace.STYLE.getUri(), "name");
+		if (name.length() < 7 || name.length() > 8) {
+			return;
+		}
+		char prefix = name.charAt(0);
+		if (prefix != 'a' && prefix != 'l') {
+			return;
+		}
+		int number = 0;
+		for (int i = 1; i < name.length(); i++) {
+			int digit = Character.digit(name.charAt(i), 16);
+			if (digit < 0 || Character.isUpperCase(name.charAt(i))) {
+				return;
+			}
+			number = (number << 4) | digit;
+		}
+		if (prefix == 'a') {
+			mStyleNameCounter = Math.max(mStyleNameCounter, number);
+		} else {
+			mListStyleNameCounter = Math.max(mListStyleNameCounter, number);
+		}
+	}
 }
@@ -0,0 +1,237 @@
+/************************************************************************
+*
+*  Licensed to the Apache Software Foundation (ASF) under one
+*  or more contributor license agreements.  See the NOTICE file
+*  distributed with this work for additional information
+*  regarding copyright ownership.  The ASF licenses this file
+*  to you under the Apache License, Version 2.0 (the
+*  "License"); you may not use this file except in compliance
+*  with the License.  You may obtain a copy of the License at
+*
+*   http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*
+************************************************************************/
+package org.odftoolkit.odfdom.pkg;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * Computes a hash of the content of an element, which is the same for all
+ * elements with the same content, in this document or in other documents, and
+ * in other runs of the application.
+ * <p>
+ * The hash of an element is computed from its namespace URI and local name,
+ * from its attributes, sorted by their namespace URI and local name, and from
+ * the hashes of its children. Adjacent text nodes are hashed as one text, and
+ * comments, processing instructions, namespace prefixes and namespace
+ * declarations are ignored. So two elements have the same hash, if they are
+ * serialized to the same XML, except for prefixes and the order of
+ * attributes, and elements with different content have the same hash only
+ * by chance, with a probability of about 2^-64.
+ * <p>
+ * The hashes are computed from the leaves to the root, so the hash of an
+ * element is computed from the hashes of its child elements. When the hashes
+ * of a document are cached by {@link #enable(OdfFileDom)}, the hash of an
+ * element is kept until the element or one of its descendants is changed, so
+ * an unchanged subtree is not read again. The cache uses the DOM mutation
+ * events, which make each change of the document slower, so it is enabled
+ * only when the hashes are read more often than the document is changed.
+ */
+public class OdfContentHash extends OdfNodeCache<Long> {
+
+	private static final String XMLNS_URI = "http://www.w3.org/2000/xmlns/";
+	// the prime and the offset basis of the 64 bit FNV-1a hash
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final char ELEMENT_TAG = 'E';
+	private static final char ATTRIBUTE_TAG = 'A';
+	private static final char TEXT_TAG = 'T';
+
+	private static final Comparator<Attr> ATTRIBUTE_ORDER = new Comparator<Attr>() {
+		public int compare(Attr attr1, Attr attr2) {
+			int result = getNamespace(attr1).compareTo(getNamespace(attr2));
+			return result != 0 ? result : getLocalName(attr1).compareTo(getLocalName(attr2));
+		}
+	};
+
+	private OdfContentHash() {
+	}
+
+	/**
+	 * Return the hash of the content of an element.
+	 *
+	 * @param element
+	 *            the element
+	 * @return the hash of the element
+	 */
+	public static long getHash(OdfElement element) {
+		OdfContentHash cache = getInstance(element);
+		if (cache != null) {
+			return cache.getCachedHash(element);
+		}
+		return computeHash(element, null);
+	}
+
+	/**
+	 * Enable the cache of the hashes of a document DOM.
+	 *
+	 * @param dom
+	 *            the document DOM
+	 * @return the cache of the DOM
+	 */
+	public static OdfContentHash enable(OdfFileDom dom) {
+		return dom.addNodeCache(new OdfContentHash());
+	}
+
+	/**
+	 * Disable the cache of the hashes of a document DOM, and drop the cached
+	 * hashes.
+	 *
+	 * @param dom
+	 *            the document DOM
+	 */
+	public static void disable(OdfFileDom dom) {
+		dom.removeNodeCache(OdfContentHash.class);
+	}
+
+	/**
+	 * Return the cache of the hashes of the DOM which a node belongs to.
+	 *
+	 * @param node
+	 *            a node of the DOM
+	 * @return the cache, or null if it is not enabled
+	 */
+	public static OdfContentHash getInstance(Node node) {
+		if (node == null) {
+			return null;
+		}
+		Node dom = node.getNodeType() == Node.DOCUMENT_NODE ? node : node.getOwnerDocument();
+		return dom instanceof OdfFileDom ? ((OdfFileDom) dom).getNodeCache(OdfContentHash.class) : null;
+	}
+
+	// return the hash of an element, which is cached if the element belongs to
+	// the document. Elements which are not in the document get no mutation
+	// events, so they are not cached.
+	private synchronized long getCachedHash(OdfElement element) {
+		Long hash = get(element);
+		if (hash != null) {
+			return hash.longValue();
+		}
+		return computeHash(element, isInDocument(element) ? this : null);
+	}
+
+	// compute the hash of an element from the hashes of its children, which are
+	// read from and added to the cache, if there is one.
+	private static long computeHash(Node element, OdfContentHash cache) {
+		long hash = FNV_OFFSET;
+		hash = update(hash, ELEMENT_TAG);
+		hash = update(hash, getNamespace(element));
+		hash = update(hash, getLocalName(element));
+
+		NamedNodeMap attributeMap = element.getAttributes();
+		int count = 0;
+		Attr[] attributes = new Attr[attributeMap.getLength()];
+		for (int i = 0; i < attributes.length; i++) {
+			Attr attribute = (Attr) attributeMap.item(i);
+			if (!XMLNS_URI.equals(attribute.getNamespaceURI())) {
+				attributes[count++] = attribute;
+			}
+		}
+		Arrays.sort(attributes, 0, count, ATTRIBUTE_ORDER);
+		for (int i = 0; i < count; i++) {
+			hash = update(hash, ATTRIBUTE_TAG);
+			hash = update(hash, getNamespace(attributes[i]));
+			hash = update(hash, getLocalName(attributes[i]));
+			hash = update(hash, attributes[i].getValue());
+		}
+
+		Node child = element.getFirstChild();
+		while (child != null) {
+			short type = child.getNodeType();
+			if (type == Node.ELEMENT_NODE) {
+				Long childHash = cache != null ? cache.get(child) : null;
+				hash = update(hash, childHash != null ? childHash.longValue() : computeHash(child, cache));
+				child = child.getNextSibling();
+			} else if (type == Node.TEXT_NODE || type == Node.CDATA_SECTION_NODE) {
+				// adjacent text nodes are one text
+				long textHash = FNV_OFFSET;
+				int length = 0;
+				while (child != null
+						&& (child.getNodeType() == Node.TEXT_NODE || child.getNodeType() == Node.CDATA_SECTION_NODE)) {
+					String value = child.getNodeValue();
+					for (int i = 0; i < value.length(); i++) {
+						textHash = (textHash ^ value.charAt(i)) * FNV_PRIME;
+					}
+					length += value.length();
+					child = child.getNextSibling();
+				}
+				if (length > 0) {
+					hash = update(hash, TEXT_TAG);
+					hash = update(hash, length);
+					hash = update(hash, textHash);
+				}
+			} else {
+				child = child.getNextSibling();
+			}
+		}
+		hash = mix(hash);
+		if (cache != null) {
+			cache.put(element, Long.valueOf(hash));
+		}
+		return hash;
+	}
+
+	private static long update(long hash, char c) {
+		return (hash ^ c) * FNV_PRIME;
+	}
+
+	// the length is hashed first, so that the strings of a sequence are not
+	// hashed like their concatenation.
+	private static long update(long hash, String value) {
+		hash = update(hash, (long) value.length());
+		for (int i = 0; i < value.length(); i++) {
+			hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+		}
+		return hash;
+	}
+
+	private static long update(long hash, long value) {
+		for (int i = 0; i < 64; i += 16) {
+			hash = (hash ^ ((value >>> i) & 0xffff)) * FNV_PRIME;
+		}
+		return hash;
+	}
+
+	// spread the bits of the hash, so that similar elements get very
+	// different hashes.
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	private static String getNamespace(Node node) {
+		String namespace = node.getNamespaceURI();
+		return namespace != null ? namespace : "";
+	}
+
+	private static String getLocalName(Node node) {
+		String localName = node.getLocalName();
+		return localName != null ? localName : node.getNodeName();
+	}
+}
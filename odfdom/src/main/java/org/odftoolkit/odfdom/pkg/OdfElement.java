@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import org.apache.xerces.dom.ElementNSImpl;
 import org.apache.xerces.dom.ParentNode;
 import org.odftoolkit.odfdom.dom.OdfDocumentNamespace;
+import org.w3c.dom.Attr;
 import org.w3c.dom.DOMException;
 import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
@@ -193,6 +194,43 @@ abstract public class OdfElement extends ElementNSImpl {
 				localname);
 	}
 
+	// Xerces counts the changes of attribute values, but not the attribute
+	// nodes which are added or removed, so these are counted here for
+	// OdfFileDom#getModificationCount().
+
+	@Override
+	public Attr setAttributeNode(Attr newAttr) throws DOMException {
+		Attr oldAttr = super.setAttributeNode(newAttr);
+		changed();
+		return oldAttr;
+	}
+
+	@Override
+	public Attr setAttributeNodeNS(Attr newAttr) throws DOMException {
+		Attr oldAttr = super.setAttributeNodeNS(newAttr);
+		changed();
+		return oldAttr;
+	}
+
+	@Override
+	public void removeAttribute(String name) throws DOMException {
+		super.removeAttribute(name);
+		changed();
+	}
+
+	@Override
+	public void removeAttributeNS(String namespaceURI, String localName) throws DOMException {
+		super.removeAttributeNS(namespaceURI, localName);
+		changed();
+	}
+
+	@Override
+	public Attr removeAttributeNode(Attr oldAttr) throws DOMException {
+		Attr removedAttr = super.removeAttributeNode(oldAttr);
+		changed();
+		return removedAttr;
+	}
+
 	/**
 	 * Determines if an ODF attribute exists.
 	 *
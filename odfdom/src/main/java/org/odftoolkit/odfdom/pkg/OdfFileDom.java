@@ -24,6 +24,7 @@ package org.odftoolkit.odfdom.pkg;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
@@ -39,6 +40,7 @@ import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathFactory;
 
 import org.apache.xerces.dom.DocumentImpl;
+import org.apache.xerces.dom.TextImpl;
 import org.odftoolkit.odfdom.dom.OdfContentDom;
 import org.odftoolkit.odfdom.dom.OdfMetaDom;
 import org.odftoolkit.odfdom.dom.OdfSchemaDocument;
@@ -55,6 +57,8 @@ import org.w3c.dom.DOMException;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
+import org.w3c.dom.Text;
+import org.w3c.dom.events.EventListener;
 import org.xml.sax.InputSource;
 import org.xml.sax.XMLReader;
 
@@ -83,6 +87,16 @@ public class OdfFileDom extends DocumentImpl implements NamespaceContext {
 	protected Map<Node, Model> inCententMetadataCache;
 
 	protected JenaSink sink;
+
+	private static final String[] MUTATION_EVENT_TYPES = { "DOMNodeInserted", "DOMNodeRemoved",
+			"DOMCharacterDataModified", "DOMAttrModified" };
+	// the mutation events are enabled while there are mutation listeners
+	private final Set<EventListener> mMutationListeners = new HashSet<EventListener>();
+	// the state which is set by setMutationEventsEnabled
+	private boolean mbMutationEventsEnabled;
+	// the node caches by their class. The map is replaced when a cache is
+	// added or removed, so that it is read without a lock.
+	private volatile Map<Class<?>, OdfNodeCache<?>> mNodeCaches = Collections.emptyMap();
 
 	/**
 	 * Creates the DOM representation of an XML file of an Odf document.
@@ -332,6 +346,40 @@ public class OdfFileDom extends DocumentImpl implements NamespaceContext {
 		return OdfXMLFactory.newOdfAttribute(this, name);
 	}
 
+	/**
+	 * Create a text node, whose changes are counted by
+	 * {@link #getModificationCount()}.
+	 *
+	 * @param data  the characters of the text node
+	 * @return The text node
+	 */
+	@Override
+	public Text createTextNode(String data) {
+		return new OdfTextNode(this, data);
+	}
+
+	// Xerces counts no change of the characters of a text node, so the text
+	// nodes of this document count them. All the changes of the characters,
+	// by setNodeValue, setData, appendData, insertData, deleteData, replaceData
+	// or splitText, go through setNodeValueInternal.
+	private static class OdfTextNode extends TextImpl {
+
+		private static final long serialVersionUID = 1L;
+
+		OdfTextNode(OdfFileDom dom, String data) {
+			super(dom, data);
+		}
+
+		@Override
+		protected void setNodeValueInternal(String value, boolean replace) {
+			super.setNodeValueInternal(value, replace);
+			Document dom = getOwnerDocument();
+			if (dom instanceof OdfFileDom) {
+				((OdfFileDom) dom).changed();
+			}
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	public <T extends OdfElement> T newOdfElement(Class<T> clazz) {
 		//return (T) OdfXMLFactory.getNodeFromClass(this, clazz);
@@ -672,6 +720,147 @@ public class OdfFileDom extends DocumentImpl implements NamespaceContext {
 	}
 
 
+	/**
+	 * Enable or disable the DOM mutation events of this document.
+	 * <p>
+	 * The listeners of mutation events, like <code>DOMNodeInserted</code> or
+	 * <code>DOMCharacterDataModified</code>, which are added by
+	 * <code>org.w3c.dom.events.EventTarget.addEventListener</code>, are only
+	 * called while the events are enabled. They are disabled by default, as
+	 * they make each change of the document slower.
+	 * <p>
+	 * The events stay enabled while there is a listener which is added by
+	 * {@link #addMutationListener(EventListener)}.
+	 *
+	 * @param enabled
+	 *            true to enable the mutation events
+	 */
+	public synchronized void setMutationEventsEnabled(boolean enabled) {
+		mbMutationEventsEnabled = enabled;
+		mutationEvents = enabled || !mMutationListeners.isEmpty();
+	}
+
+	/**
+	 * Return whether the DOM mutation events of this document are enabled.
+	 *
+	 * @return true if the mutation events are enabled
+	 * @see #setMutationEventsEnabled(boolean)
+	 */
+	public boolean isMutationEventsEnabled() {
+		return mutationEvents;
+	}
+
+	/**
+	 * Return the number of the changes of the tree of this document.
+	 * <p>
+	 * The number grows when a node is inserted or removed, when an attribute
+	 * is changed, or when the characters of a text node which has been created
+	 * by {@link #createTextNode(String)} are changed. So a value which is
+	 * computed from the tree may be cached together with the number, and is
+	 * still valid as long as the number is the same.
+	 *
+	 * @return the number of changes
+	 */
+	public int getModificationCount() {
+		return changes();
+	}
+
+	/**
+	 * Add a listener of the changes of this document, which is called on the
+	 * <code>DOMNodeInserted</code>, <code>DOMNodeRemoved</code>,
+	 * <code>DOMCharacterDataModified</code> and <code>DOMAttrModified</code>
+	 * mutation events of all the nodes of the document, in the capture phase.
+	 * <p>
+	 * The mutation events are enabled while there is a listener, and are
+	 * restored to the state which is set by
+	 * {@link #setMutationEventsEnabled(boolean)} when the last one is removed.
+	 * A listener which is already added is not added again.
+	 *
+	 * @param listener
+	 *            the listener of the mutation events
+	 * @see #removeMutationListener(EventListener)
+	 */
+	public synchronized void addMutationListener(EventListener listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("listener should not be null.");
+		}
+		if (mMutationListeners.add(listener)) {
+			for (String type : MUTATION_EVENT_TYPES) {
+				addEventListener(type, listener, true);
+			}
+			mutationEvents = true;
+		}
+	}
+
+	/**
+	 * Remove a listener of the changes of this document, which has been added
+	 * by {@link #addMutationListener(EventListener)}.
+	 *
+	 * @param listener
+	 *            the listener of the mutation events
+	 */
+	public synchronized void removeMutationListener(EventListener listener) {
+		if (mMutationListeners.remove(listener)) {
+			for (String type : MUTATION_EVENT_TYPES) {
+				removeEventListener(type, listener, true);
+			}
+			mutationEvents = mbMutationEventsEnabled || !mMutationListeners.isEmpty();
+		}
+	}
+
+	/**
+	 * Return the node cache of a type which is added to this document.
+	 *
+	 * @param type
+	 *            the class of the cache
+	 * @return the cache, or null if there is no cache of the type
+	 */
+	public <T extends OdfNodeCache<?>> T getNodeCache(Class<T> type) {
+		return type.cast(mNodeCaches.get(type));
+	}
+
+	/**
+	 * Add a node cache to this document, which listens to the changes of the
+	 * document until it is removed. There is one cache of each class in a
+	 * document.
+	 *
+	 * @param cache
+	 *            the cache
+	 * @return the cache of the class of the given cache, which is the given
+	 *         cache, or the cache which has been added before
+	 * @see #removeNodeCache(Class)
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized <T extends OdfNodeCache<?>> T addNodeCache(T cache) {
+		OdfNodeCache<?> existing = mNodeCaches.get(cache.getClass());
+		if (existing != null) {
+			return (T) existing;
+		}
+		Map<Class<?>, OdfNodeCache<?>> caches = new HashMap<Class<?>, OdfNodeCache<?>>(mNodeCaches);
+		caches.put(cache.getClass(), cache);
+		addMutationListener(cache.getListener());
+		mNodeCaches = caches;
+		return cache;
+	}
+
+	/**
+	 * Remove the node cache of a type from this document, and drop its
+	 * values.
+	 *
+	 * @param type
+	 *            the class of the cache
+	 */
+	public synchronized void removeNodeCache(Class<? extends OdfNodeCache<?>> type) {
+		OdfNodeCache<?> cache = mNodeCaches.get(type);
+		if (cache != null) {
+			Map<Class<?>, OdfNodeCache<?>> caches = new HashMap<Class<?>, OdfNodeCache<?>>(mNodeCaches);
+			caches.remove(type);
+			mNodeCaches = caches;
+			removeMutationListener(cache.getListener());
+			cache.clear();
+		}
+	}
+
 	/**
 	* Get in-content metadata cache model
 	*
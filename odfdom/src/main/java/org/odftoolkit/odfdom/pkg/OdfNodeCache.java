@@ -0,0 +1,132 @@
+/************************************************************************
+*
+*  Licensed to the Apache Software Foundation (ASF) under one
+*  or more contributor license agreements.  See the NOTICE file
+*  distributed with this work for additional information
+*  regarding copyright ownership.  The ASF licenses this file
+*  to you under the Apache License, Version 2.0 (the
+*  "License"); you may not use this file except in compliance
+*  with the License.  You may obtain a copy of the License at
+*
+*   http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*
+************************************************************************/
+package org.odftoolkit.odfdom.pkg;
+
+import java.util.IdentityHashMap;
+
+import org.w3c.dom.Node;
+import org.w3c.dom.events.Event;
+import org.w3c.dom.events.EventListener;
+
+/**
+ * The base class of the caches of values which are computed from the
+ * subtrees of the nodes of a document, like the text or the hash of an
+ * element.
+ * <p>
+ * A cache is added to a document by
+ * {@link OdfFileDom#addNodeCache(OdfNodeCache)}, and it is kept by the
+ * document, so it is released together with the document. While it is added,
+ * it listens to the DOM mutation events of the document, and when a node is
+ * changed, the values of the node and of its ancestors are removed. The values
+ * of the nodes which are removed from the document are removed too, as they
+ * get no more events.
+ * <p>
+ * Only the values of the nodes of the document may be put into a cache, see
+ * {@link #isInDocument(Node)}.
+ *
+ * @param <V>
+ *            the type of the values
+ */
+public abstract class OdfNodeCache<V> {
+
+	private final IdentityHashMap<Node, V> mValues = new IdentityHashMap<Node, V>();
+	private final EventListener mListener = new EventListener() {
+		public void handleEvent(Event evt) {
+			onMutation(evt);
+		}
+	};
+
+	/**
+	 * Return the value of a node.
+	 *
+	 * @param node
+	 *            the node
+	 * @return the value, or null if it is not cached
+	 */
+	protected synchronized V get(Node node) {
+		return mValues.get(node);
+	}
+
+	/**
+	 * Put the value of a node into the cache. The node has to be in the
+	 * document.
+	 *
+	 * @param node
+	 *            the node
+	 * @param value
+	 *            the value of the node
+	 */
+	protected synchronized void put(Node node, V value) {
+		mValues.put(node, value);
+	}
+
+	/**
+	 * Remove all the values from the cache.
+	 */
+	protected synchronized void clear() {
+		mValues.clear();
+	}
+
+	/**
+	 * Return whether a node is in the tree of its document, so that its
+	 * changes are reported to the cache.
+	 *
+	 * @param node
+	 *            the node
+	 * @return true if the node is in the document
+	 */
+	protected static boolean isInDocument(Node node) {
+		while (node != null) {
+			if (node.getNodeType() == Node.DOCUMENT_NODE) {
+				return true;
+			}
+			node = node.getParentNode();
+		}
+		return false;
+	}
+
+	EventListener getListener() {
+		return mListener;
+	}
+
+	private synchronized void onMutation(Event evt) {
+		if (mValues.isEmpty()) {
+			return;
+		}
+		Node target = (Node) evt.getTarget();
+		if ("DOMNodeRemoved".equals(evt.getType())) {
+			removeSubtree(target);
+			target = target.getParentNode();
+		}
+		for (Node node = target; node != null; node = node.getParentNode()) {
+			mValues.remove(node);
+		}
+	}
+
+	private void removeSubtree(Node node) {
+		mValues.remove(node);
+		for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+			if (child.getNodeType() == Node.ELEMENT_NODE) {
+				removeSubtree(child);
+			}
+		}
+	}
+}
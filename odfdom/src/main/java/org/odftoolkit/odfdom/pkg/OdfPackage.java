@@ -1218,7 +1218,17 @@ public class OdfPackage implements Closeable {
 		mPkgDoms.put(OdfFile.MANIFEST.getPath(), mManifestDom);
 	}
 
-	XMLReader getXMLReader() throws ParserConfigurationException, SAXException {
+	/**
+	 * Create a namespace aware SAX reader, which does not load external
+	 * entities, to parse the XML files of the package.
+	 *
+	 * @return a SAX XMLReader
+	 * @throws ParserConfigurationException
+	 *             if the SAX parser can't be created
+	 * @throws SAXException
+	 *             if the features of the reader can't be set
+	 */
+	public XMLReader getXMLReader() throws ParserConfigurationException, SAXException {
 		// create sax parser
 		SAXParserFactory saxFactory = new org.apache.xerces.jaxp.SAXParserFactoryImpl();
 		saxFactory.setNamespaceAware(true);
@@ -21,15 +21,12 @@
  ************************************************************************/
 package org.odftoolkit.odfdom.type;
 
-import java.util.regex.Pattern;
-
 /**
  * This class represents the in OpenDocument format used data type {@odf.datatype cellAddress}
  */
 public class CellAddress implements OdfDataType {
 
 	private String mCellAddress;
-	private static final Pattern cellAddressPattern = Pattern.compile("^(\\$?([^\\. ']+|'([^']|'')+'))?\\.\\$?[A-Z]+\\$?[0-9]+$");
 	/**
 	 * Construct CellAddress by the parsing the given string
 	 *
@@ -80,10 +77,95 @@ public class CellAddress implements OdfDataType {
 	 *         false otherwise
 	 */
 	public static boolean isValid(String stringValue) {
-		if ((stringValue == null) || (!cellAddressPattern.matcher(stringValue).matches())) {
+		if (stringValue == null) {
 			return false;
+		}
+		int pos = scanTable(stringValue, 0);
+		if (pos != -1) {
+			pos = scanColumn(stringValue, pos);
+		}
+		if (pos != -1) {
+			pos = scanRow(stringValue, pos);
+		}
+		return pos == stringValue.length();
+	}
+
+	/**
+	 * Scans the optional table name of an address and the following
+	 * <code>"."</code>, as in <code>$'Sheet 1'.A1</code>. A quoted table name
+	 * may contain the quote twice.
+	 *
+	 * @return the index after the <code>"."</code>, or -1 if there is none
+	 */
+	static int scanTable(String value, int start) {
+		int length = value.length();
+		int pos = start;
+		if (pos < length && value.charAt(pos) == '$') {
+			pos++;
+		}
+		if (pos < length && value.charAt(pos) == '\'') {
+			int nameStart = ++pos;
+			while (true) {
+				if (pos >= length) {
+					return -1;
+				}
+				if (value.charAt(pos) == '\'') {
+					if (pos + 1 < length && value.charAt(pos + 1) == '\'') {
+						pos += 2;
+						continue;
+					}
+					break;
+				}
+				pos++;
+			}
+			if (pos++ == nameStart) {
+				return -1;
+			}
 		} else {
-			return true;
+			// a "$" without a name is the name itself
+			while (pos < length) {
+				char c = value.charAt(pos);
+				if (c == '.' || c == ' ' || c == '\'') {
+					break;
+				}
+				pos++;
+			}
+		}
+		if (pos >= length || value.charAt(pos) != '.') {
+			return -1;
+		}
+		return pos + 1;
+	}
+
+	/**
+	 * Scans an optional <code>"$"</code> followed by the upper case letters of
+	 * a column.
+	 *
+	 * @return the index after the letters, or -1 if there are none
+	 */
+	static int scanColumn(String value, int start) {
+		return scan(value, start, 'A', 'Z');
+	}
+
+	/**
+	 * Scans an optional <code>"$"</code> followed by the digits of a row.
+	 *
+	 * @return the index after the digits, or -1 if there are none
+	 */
+	static int scanRow(String value, int start) {
+		return scan(value, start, '0', '9');
+	}
+
+	private static int scan(String value, int start, char first, char last) {
+		int length = value.length();
+		int pos = start;
+		if (pos < length && value.charAt(pos) == '$') {
+			pos++;
+		}
+		int begin = pos;
+		while (pos < length && value.charAt(pos) >= first && value.charAt(pos) <= last) {
+			pos++;
 		}
+		return pos == begin ? -1 : pos;
 	}
 }
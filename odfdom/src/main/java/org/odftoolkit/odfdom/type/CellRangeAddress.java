@@ -21,17 +21,16 @@
  ************************************************************************/
 package org.odftoolkit.odfdom.type;
 
-import java.util.regex.Pattern;
-
 /**
  * This class represents the in OpenDocument format used data type {@odf.datatype cellRangeAddress}
  */
 public class CellRangeAddress implements OdfDataType {
 
 	private String mCellRangeAddress;
-	private static final Pattern cellRangeAddressPattern1 = Pattern.compile("^(\\$?([^\\. ']+|'([^']|'')+'))?\\.\\$?[A-Z]+\\$?[0-9]+(:(\\$?([^\\. ']+|'([^']|'')+'))?\\.\\$?[A-Z]+\\$?[0-9]+)?$");
-	private static final Pattern cellRangeAddressPattern2 = Pattern.compile("^(\\$?([^\\. ']+|'([^']|'')+'))?\\.\\$?[0-9]+:(\\$?([^\\. ']+|'([^']|'')+'))?\\.\\$?[0-9]+$");
-	private static final Pattern cellRangeAddressPattern3 = Pattern.compile("^(\\$?([^\\. ']+|'([^']|'')+'))?\\.\\$?[A-Z]+:(\\$?([^\\. ']+|'([^']|'')+'))?\\.\\$?[A-Z]+$");
+	// the kinds of the points of a range
+	private static final int CELL = 1;
+	private static final int COLUMN = 2;
+	private static final int ROW = 3;
 	
 	/**
 	 * Construct CellRangeAddress by the parsing the given string
@@ -84,10 +83,39 @@ public class CellRangeAddress implements OdfDataType {
 	 *         type false otherwise
 	 */
 	public static boolean isValid(String stringValue) {
-		if ((stringValue == null) || (!(cellRangeAddressPattern1.matcher(stringValue).matches() || cellRangeAddressPattern2.matcher(stringValue).matches() ||cellRangeAddressPattern3.matcher(stringValue).matches()))) {
-				return false;
-		} else {
-			return true;
+		if (stringValue == null) {
+			return false;
+		}
+		// a cell, or a range of cells, rows or columns
+		int start = scanPoint(stringValue, 0);
+		if (start == -1) {
+			return false;
+		}
+		int pos = start >> 2;
+		if (pos == stringValue.length()) {
+			return (start & 3) == CELL;
+		}
+		if (stringValue.charAt(pos) != ':') {
+			return false;
+		}
+		int end = scanPoint(stringValue, pos + 1);
+		return end != -1 && (end >> 2) == stringValue.length() && (end & 3) == (start & 3);
+	}
+
+	// scans a cell, a column or a row with its optional table name, returns
+	// the index after it shifted by two bits and the kind of it in the lowest
+	// two bits, or -1
+	private static int scanPoint(String value, int start) {
+		int pos = CellAddress.scanTable(value, start);
+		if (pos == -1) {
+			return -1;
+		}
+		int column = CellAddress.scanColumn(value, pos);
+		if (column != -1) {
+			int row = CellAddress.scanRow(value, column);
+			return row != -1 ? (row << 2) | CELL : (column << 2) | COLUMN;
 		}
+		int row = CellAddress.scanRow(value, pos);
+		return row != -1 ? (row << 2) | ROW : -1;
 	}
 }
@@ -22,7 +22,6 @@ package org.odftoolkit.odfdom.type;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 /**
  * This class represents the in OpenDocument format used data type {@odf.datatype color}
@@ -30,8 +29,7 @@ import java.util.regex.Pattern;
  */
 public class Color implements OdfDataType {
 
-	private static final Pattern sixHexRGBPattern = Pattern.compile("^#[0-9a-fA-F]{6}$");
-	private static final Pattern threeHexRGBPattern = Pattern.compile("^#[0-9a-fA-F]{3}$");
+	private static final ValueCache<Color> mCache = new ValueCache<Color>();
 	private static final Map<String, String> labeledColors = new HashMap<String, String>();
 	static {
 		labeledColors.put("aqua", "#00ffff");
@@ -238,7 +236,11 @@ public class Color implements OdfDataType {
 	 * @throws IllegalArgumentException  if the given argument is not a valid Color.
 	 */
 	public static Color valueOf(String colorValue) {
-		return new Color(colorValue);
+		Color color = colorValue == null ? null : mCache.get(colorValue);
+		if (color == null) {
+			color = mCache.put(colorValue, new Color(colorValue));
+		}
+		return color;
 	}
 
 	/**
@@ -248,11 +250,7 @@ public class Color implements OdfDataType {
 	 * @return true if the value of argument is valid for{@odf.datatype color} data type false otherwise.
 	 */
 	public static boolean isValid(String colorValue) {
-		if ((colorValue == null) || !(threeHexRGBPattern.matcher(colorValue).matches() || sixHexRGBPattern.matcher(colorValue).matches())) {
-			return false;
-		} else {
-			return true;
-		}
+		return isHexRGB(colorValue, 4) || isHexRGB(colorValue, 7);
 	}
 
 	/**
@@ -275,10 +273,10 @@ public class Color implements OdfDataType {
 			throw new IllegalArgumentException("parameter should not be null.");
 		} else {
 			colorValue = colorValue.toLowerCase().trim();
-			if (sixHexRGBPattern.matcher(colorValue).matches()) {
+			if (isHexRGB(colorValue, 7)) {
 				// 6-digit notation #rrggbb - return itself.
 				return colorValue;
-			} else if (threeHexRGBPattern.matcher(colorValue).matches()) {
+			} else if (isHexRGB(colorValue, 4)) {
 				// convert 3-digit notation #rgb.
 				return mapColorFromThreeToSixHex(colorValue);
 			} else if (colorValue.startsWith("rgb")) {
@@ -322,6 +320,20 @@ public class Color implements OdfDataType {
 		}
 	}
 
+	// checks for the "#" followed by hexadecimal digits, instead of a regular expression
+	private static boolean isHexRGB(String colorValue, int length) {
+		if (colorValue == null || colorValue.length() != length || colorValue.charAt(0) != '#') {
+			return false;
+		}
+		for (int i = 1; i < length; i++) {
+			char c = colorValue.charAt(i);
+			if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Return the corresponding {@link java.awt.Color <code>java.awt.Color</code>} instance of the Color data type.
 	 * 
@@ -21,7 +21,6 @@
  ************************************************************************/
 package org.odftoolkit.odfdom.type;
 
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 /**
@@ -74,8 +73,7 @@ public class Date implements OdfFieldDataType, OdfDataType {
 	public static Date valueOf(String stringValue) throws IllegalArgumentException {
 		Date date = null;
 		try {
-			DatatypeFactory aFactory = new org.apache.xerces.jaxp.datatype.DatatypeFactoryImpl();
-			date = new Date(aFactory.newXMLGregorianCalendar(stringValue));
+			date = new Date(DateTime.DATATYPE_FACTORY.newXMLGregorianCalendar(stringValue));
 		} catch (Throwable t) {
 			throw new IllegalArgumentException(t);
 		}
@@ -23,7 +23,6 @@ package org.odftoolkit.odfdom.type;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 /**
@@ -73,8 +72,7 @@ public class DateOrDateTime implements OdfDataType {
 	public static DateOrDateTime valueOf(String stringValue)
 			throws IllegalArgumentException {
 		try {
-			DatatypeFactory aFactory = new org.apache.xerces.jaxp.datatype.DatatypeFactoryImpl();
-			return new DateOrDateTime(aFactory.newXMLGregorianCalendar(stringValue));
+			return new DateOrDateTime(DateTime.DATATYPE_FACTORY.newXMLGregorianCalendar(stringValue));
 		} catch (IllegalArgumentException ex) {
 			Logger.getLogger(DateOrDateTime.class.getName()).log(Level.SEVERE,
 					"parameter is invalid for datatype DateOrDateTime", ex);
@@ -20,6 +20,9 @@
 ************************************************************************/
 package org.odftoolkit.odfdom.type;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -31,6 +34,9 @@ import javax.xml.datatype.XMLGregorianCalendar;
  */
 public class DateTime implements OdfDataType {
 
+	// the Xerces factory holds no state, so it is shared by the date and time types
+	static final DatatypeFactory DATATYPE_FACTORY = new org.apache.xerces.jaxp.datatype.DatatypeFactoryImpl();
+
 	private XMLGregorianCalendar mDateTime;
 
 	/**
@@ -74,8 +80,7 @@ public class DateTime implements OdfDataType {
 	 */
 	public static DateTime valueOf(String stringValue) throws IllegalArgumentException {
 		try {
-			DatatypeFactory aFactory = new org.apache.xerces.jaxp.datatype.DatatypeFactoryImpl();
-			return new DateTime(aFactory.newXMLGregorianCalendar(stringValue));
+			return new DateTime(DATATYPE_FACTORY.newXMLGregorianCalendar(stringValue));
 		} catch (IllegalArgumentException ex) {
 			Logger.getLogger(DateTime.class.getName()).log(Level.SEVERE,
 					"parameter is invalid for datatype DateTime", ex);
@@ -109,4 +114,206 @@ public class DateTime implements OdfDataType {
 			return W3CSchemaType.isValid("dateTime", date.toString());
 		}
 	}
+
+	/**
+	 * Parse a {@odf.datatype date} or {@odf.datatype dateTime} value, like
+	 * the value of the <code>office:date-value</code> attribute, to a
+	 * <code>LocalDateTime</code>.
+	 * <p>
+	 * The value is parsed by hand, without a <code>SimpleDateFormat</code> or
+	 * an <code>XMLGregorianCalendar</code>. A date without time is returned
+	 * at midnight. A time zone is accepted but ignored, so the local date and
+	 * time of the value is returned.
+	 *
+	 * @param value
+	 *            the value to be parsed, for example
+	 *            <code>2007-09-28T22:01:13</code>
+	 * @return the local date and time of the value
+	 * @throws IllegalArgumentException
+	 *             if the value is not a valid date or dateTime
+	 * @since 0.9
+	 */
+	public static LocalDateTime parseLocalDateTime(CharSequence value) throws IllegalArgumentException {
+		if (value == null) {
+			throw new IllegalArgumentException("parameter can not be null for DateTime");
+		}
+		int length = value.length();
+		int pos = 0;
+		boolean negative = length > 0 && value.charAt(0) == '-';
+		if (negative) {
+			pos++;
+		}
+		int yearEnd = pos;
+		while (yearEnd < length && isDigit(value.charAt(yearEnd))) {
+			yearEnd++;
+		}
+		if (yearEnd - pos < 4 || yearEnd - pos > 9) {
+			throw invalid(value);
+		}
+		int year = parseDigits(value, pos, yearEnd);
+		if (negative) {
+			year = -year;
+		}
+		pos = yearEnd;
+		expect(value, pos++, '-');
+		int month = parseDigits(value, pos, pos += 2);
+		expect(value, pos++, '-');
+		int day = parseDigits(value, pos, pos += 2);
+		int hour = 0, minute = 0, second = 0, nano = 0;
+		if (pos < length && value.charAt(pos) == 'T') {
+			pos++;
+			hour = parseDigits(value, pos, pos += 2);
+			expect(value, pos++, ':');
+			minute = parseDigits(value, pos, pos += 2);
+			expect(value, pos++, ':');
+			second = parseDigits(value, pos, pos += 2);
+			if (pos < length && value.charAt(pos) == '.') {
+				pos++;
+				int start = pos;
+				int factor = 100000000;
+				while (pos < length && isDigit(value.charAt(pos))) {
+					nano += (value.charAt(pos) - '0') * factor;
+					factor /= 10;
+					pos++;
+				}
+				if (pos == start) {
+					throw invalid(value);
+				}
+			}
+		}
+		// the time zone
+		if (pos < length) {
+			char c = value.charAt(pos);
+			if (c == 'Z') {
+				pos++;
+			} else if (c == '+' || c == '-') {
+				pos++;
+				int zoneHour = parseDigits(value, pos, pos += 2);
+				expect(value, pos++, ':');
+				int zoneMinute = parseDigits(value, pos, pos += 2);
+				if (zoneHour > 14 || zoneMinute > 59) {
+					throw invalid(value);
+				}
+			}
+			if (pos != length) {
+				throw invalid(value);
+			}
+		}
+		try {
+			// 24:00:00 is the first moment of the next day
+			if (hour == 24 && minute == 0 && second == 0 && nano == 0) {
+				return LocalDateTime.of(year, month, day, 0, 0).plusDays(1);
+			}
+			return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+		} catch (DateTimeException e) {
+			throw new IllegalArgumentException("parameter is invalid for datatype DateTime", e);
+		}
+	}
+
+	/**
+	 * Format a date as a {@odf.datatype date} value, like
+	 * <code>2007-09-28</code>.
+	 *
+	 * @param date
+	 *            the date to be formatted
+	 * @return the value of the date
+	 * @since 0.9
+	 */
+	public static String format(LocalDate date) {
+		if (date == null) {
+			throw new IllegalArgumentException("parameter can not be null for DateTime");
+		}
+		StringBuilder buffer = new StringBuilder(10);
+		appendDate(buffer, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+		return buffer.toString();
+	}
+
+	/**
+	 * Format a local date and time as a {@odf.datatype dateTime} value
+	 * without time zone, like <code>2007-09-28T22:01:13</code>. The fraction
+	 * of the second is only written if it is not zero.
+	 *
+	 * @param dateTime
+	 *            the date and time to be formatted
+	 * @return the value of the date and time
+	 * @since 0.9
+	 */
+	public static String format(LocalDateTime dateTime) {
+		if (dateTime == null) {
+			throw new IllegalArgumentException("parameter can not be null for DateTime");
+		}
+		StringBuilder buffer = new StringBuilder(29);
+		appendDate(buffer, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+		buffer.append('T');
+		appendTwoDigits(buffer, dateTime.getHour());
+		buffer.append(':');
+		appendTwoDigits(buffer, dateTime.getMinute());
+		buffer.append(':');
+		appendTwoDigits(buffer, dateTime.getSecond());
+		appendFraction(buffer, dateTime.getNano());
+		return buffer.toString();
+	}
+
+	private static void appendDate(StringBuilder buffer, int year, int month, int day) {
+		if (year < 0) {
+			buffer.append('-');
+			year = -year;
+		}
+		if (year < 1000) {
+			buffer.append(year < 10 ? "000" : year < 100 ? "00" : "0");
+		}
+		buffer.append(year).append('-');
+		appendTwoDigits(buffer, month);
+		buffer.append('-');
+		appendTwoDigits(buffer, day);
+	}
+
+	static void appendTwoDigits(StringBuilder buffer, int value) {
+		if (value < 10) {
+			buffer.append('0');
+		}
+		buffer.append(value);
+	}
+
+	static void appendFraction(StringBuilder buffer, int nano) {
+		if (nano != 0) {
+			buffer.append('.');
+			int factor = 100000000;
+			while (nano != 0) {
+				buffer.append((char) ('0' + nano / factor));
+				nano %= factor;
+				factor /= 10;
+			}
+		}
+	}
+
+	static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	// parse the digits from start to end, or throw an exception
+	private static int parseDigits(CharSequence value, int start, int end) {
+		if (end > value.length()) {
+			throw invalid(value);
+		}
+		int result = 0;
+		for (int i = start; i < end; i++) {
+			char c = value.charAt(i);
+			if (!isDigit(c)) {
+				throw invalid(value);
+			}
+			result = result * 10 + (c - '0');
+		}
+		return result;
+	}
+
+	private static void expect(CharSequence value, int pos, char c) {
+		if (pos >= value.length() || value.charAt(pos) != c) {
+			throw invalid(value);
+		}
+	}
+
+	private static IllegalArgumentException invalid(CharSequence value) {
+		return new IllegalArgumentException("parameter is invalid for datatype DateTime: " + value);
+	}
 }
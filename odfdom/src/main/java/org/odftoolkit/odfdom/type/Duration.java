@@ -24,9 +24,6 @@ package org.odftoolkit.odfdom.type;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.datatype.DatatypeFactory;
-
 /**
  * This class represents the in OpenDocument format used data type {@odf.datatype duration}
  */
@@ -81,15 +78,10 @@ public class Duration implements OdfFieldDataType, OdfDataType {
 		}
 
 		try {
-			DatatypeFactory aFactory = DatatypeFactory.newInstance();
-			return new Duration(aFactory.newDuration(stringValue));
-		} catch (DatatypeConfigurationException ex1) {
-			Logger.getLogger(Duration.class.getName()).log(Level.SEVERE,
-					"DatatypeFactory can not be instanced", ex1);
-			return null;
-		} catch (IllegalArgumentException ex2) {
+			return new Duration(DateTime.DATATYPE_FACTORY.newDuration(stringValue));
+		} catch (IllegalArgumentException ex) {
 			Logger.getLogger(Duration.class.getName()).log(Level.SEVERE,
-					"parameter is invalid for datatype Duration", ex2);
+					"parameter is invalid for datatype Duration", ex);
 			throw new IllegalArgumentException(
 					"parameter is invalid for datatype Duration");
 		}
@@ -119,4 +111,152 @@ public class Duration implements OdfFieldDataType, OdfDataType {
 		}
 		return isDuration;
 	}
+
+	/**
+	 * Parse a {@odf.datatype duration} value, like the value of the
+	 * <code>office:time-value</code> attribute, to a
+	 * <code>java.time.Duration</code>.
+	 * <p>
+	 * The value is parsed by hand, without a <code>SimpleDateFormat</code> or
+	 * a <code>DatatypeFactory</code>. Years and months have no fixed length,
+	 * so they are only accepted if they are zero.
+	 *
+	 * @param value
+	 *            the value to be parsed, for example <code>PT12H30M00S</code>
+	 * @return the duration of the value
+	 * @throws IllegalArgumentException
+	 *             if the value is not a valid duration, or has years or
+	 *             months
+	 * @since 0.9
+	 */
+	public static java.time.Duration parseDuration(CharSequence value) throws IllegalArgumentException {
+		if (value == null) {
+			throw new IllegalArgumentException("parameter can not be null for Duration");
+		}
+		int length = value.length();
+		int pos = 0;
+		boolean negative = length > 0 && value.charAt(0) == '-';
+		if (negative) {
+			pos++;
+		}
+		if (pos >= length || value.charAt(pos++) != 'P') {
+			throw invalid(value);
+		}
+		long seconds = 0;
+		int nano = 0;
+		boolean inTime = false;
+		boolean hasField = false;
+		// the designators which are still allowed, in their order
+		String designators = "YMDTHMS";
+		int designator = 0;
+		while (pos < length) {
+			char c = value.charAt(pos);
+			if (c == 'T') {
+				if (inTime || pos + 1 == length) {
+					throw invalid(value);
+				}
+				inTime = true;
+				designator = 4;
+				pos++;
+				continue;
+			}
+			long number = 0;
+			int start = pos;
+			while (pos < length && DateTime.isDigit(value.charAt(pos))) {
+				if (number > Integer.MAX_VALUE) {
+					throw invalid(value);
+				}
+				number = number * 10 + (value.charAt(pos) - '0');
+				pos++;
+			}
+			if (pos == start || pos == length) {
+				throw invalid(value);
+			}
+			c = value.charAt(pos);
+			if (c == '.' && inTime) {
+				pos++;
+				start = pos;
+				int factor = 100000000;
+				while (pos < length && DateTime.isDigit(value.charAt(pos))) {
+					nano += (value.charAt(pos) - '0') * factor;
+					factor /= 10;
+					pos++;
+				}
+				if (pos == start || pos == length || value.charAt(pos) != 'S') {
+					throw invalid(value);
+				}
+				c = 'S';
+			}
+			int index = designators.indexOf(c, inTime ? 4 : 0);
+			if (index < designator || (!inTime && index > 2) || (inTime && index < 4)) {
+				throw invalid(value);
+			}
+			designator = index + 1;
+			hasField = true;
+			pos++;
+			switch (index) {
+			case 0:
+			case 1:
+				if (number != 0) {
+					throw new IllegalArgumentException("years and months can not be represented by a fixed duration: " + value);
+				}
+				break;
+			case 2:
+				seconds += number * 86400;
+				break;
+			case 4:
+				seconds += number * 3600;
+				break;
+			case 5:
+				seconds += number * 60;
+				break;
+			default:
+				seconds += number;
+			}
+		}
+		if (!hasField) {
+			throw invalid(value);
+		}
+		java.time.Duration duration = java.time.Duration.ofSeconds(seconds, nano);
+		return negative ? duration.negated() : duration;
+	}
+
+	/**
+	 * Format a <code>java.time.Duration</code> as a {@odf.datatype duration}
+	 * value with hours, minutes and seconds, like <code>PT12H30M00S</code>,
+	 * which is the way the <code>office:time-value</code> attribute is
+	 * written. The fraction of the second is only written if it is not zero.
+	 *
+	 * @param duration
+	 *            the duration to be formatted
+	 * @return the value of the duration
+	 * @since 0.9
+	 */
+	public static String format(java.time.Duration duration) {
+		if (duration == null) {
+			throw new IllegalArgumentException("parameter can not be null for Duration");
+		}
+		StringBuilder buffer = new StringBuilder(16);
+		if (duration.isNegative()) {
+			buffer.append('-');
+			duration = duration.negated();
+		}
+		long seconds = duration.getSeconds();
+		buffer.append("PT");
+		long hours = seconds / 3600;
+		if (hours < 10) {
+			buffer.append('0');
+		}
+		buffer.append(hours).append('H');
+		DateTime.appendTwoDigits(buffer, (int) (seconds / 60 % 60));
+		buffer.append('M');
+		DateTime.appendTwoDigits(buffer, (int) (seconds % 60));
+		DateTime.appendFraction(buffer, duration.getNano());
+		buffer.append('S');
+		return buffer.toString();
+	}
+
+	private static IllegalArgumentException invalid(CharSequence value) {
+		return new IllegalArgumentException("parameter is invalid for datatype Duration: " + value);
+	}
 }
@@ -22,7 +22,6 @@
 package org.odftoolkit.odfdom.type;
 
 import java.util.logging.Logger;
-import java.util.regex.Pattern;
 
 /**
  * This class represents the in OpenDocument format used data type {@odf.datatype length}
@@ -68,7 +67,10 @@ public class Length implements OdfDataType {
 		}
 	}
 	private String mLengthString = null;
-	private static final Pattern lengthPattern = Pattern.compile("^-?([0-9]+(\\.[0-9]*)?|\\.[0-9]+)((cm)|(mm)|(in)|(pt)|(pc)|(px))$");
+	private static final ValueCache<Length> mCache = new ValueCache<Length>();
+	// the powers of ten which are exactly represented by a double
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+			1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
 	
 	/**
 	 * Construct Length by the parsing the given string
@@ -93,11 +95,11 @@ public class Length implements OdfDataType {
 	 *         otherwise
 	 */
 	public static boolean isValid(String stringValue) {
-		if ((stringValue == null) || (!lengthPattern.matcher(stringValue).matches())) {
+		if (stringValue == null) {
 			return false;
-		} else {
-			return true;
 		}
+		int end = scanDecimal(stringValue, 0);
+		return end != -1 && unitAt(stringValue, end) != null;
 	}
 
 	/**
@@ -110,6 +112,14 @@ public class Length implements OdfDataType {
 		if (length == null) {
 			throw new NumberFormatException("The input length should not be null!");
 		} else {
+			// fast path for valid lengths
+			int end = scanDecimal(length, 0);
+			if (end != -1) {
+				lengthUnit = unitAt(length, end);
+				if (lengthUnit != null) {
+					return lengthUnit;
+				}
+			}
 			boolean identifiedInput = false;
 			for (Unit unit : Unit.values()) {
 				if (length.contains(unit.abbr())) {
@@ -183,7 +193,13 @@ public class Length implements OdfDataType {
 	 */
 	public static double parseDouble(String length, Unit destinationUnit) {
 		double newValue = 0;
-		if (length != null) {			
+		if (length != null) {
+			// fast path for valid lengths
+			int end = scanDecimal(length, 0);
+			Unit lengthUnit = end == -1 ? null : unitAt(length, end);
+			if (lengthUnit != null) {
+				return convert(parseDecimal(length, 0, end), lengthUnit, destinationUnit);
+			}
 			double roundingFactor = 10000.0;
 			boolean identifiedInput = false;
 
@@ -196,6 +212,7 @@ public class Length implements OdfDataType {
 						newValue = Math.round(roundingFactor * value / destinationUnit.unitInMillimiter() * unit.mUnitInMillimiter) / roundingFactor;
 					}else{
 						destinationUnit = unit;
+						newValue = value;
 					}
 					identifiedInput = true;
 					break;
@@ -230,6 +247,13 @@ public class Length implements OdfDataType {
 	    String newLength = null;
 		double newValue = 0;
 		if (length != null) {
+			// fast path for valid lengths
+			int end = scanDecimal(length, 0);
+			Unit lengthUnit = end == -1 ? null : unitAt(length, end);
+			if (lengthUnit != null) {
+				newValue = convert(parseDecimal(length, 0, end), lengthUnit, destinationUnit);
+				return String.valueOf(newValue) + (destinationUnit != null ? destinationUnit : lengthUnit).abbr();
+			}
 			double roundingFactor = 10000.0;
 			boolean identifiedInput = false;
 
@@ -242,6 +266,7 @@ public class Length implements OdfDataType {
 						newValue = Math.round(roundingFactor * value / destinationUnit.unitInMillimiter() * unit.mUnitInMillimiter) / roundingFactor;
 					}else{
 						destinationUnit = unit;
+						newValue = value;
 					}
 					newLength = String.valueOf(newValue) + destinationUnit.abbr();
 					identifiedInput = true;
@@ -269,7 +294,11 @@ public class Length implements OdfDataType {
 	 */
 	public static Length valueOf(String stringValue)
 			throws NumberFormatException {
-		return new Length(stringValue);
+		Length length = stringValue == null ? null : mCache.get(stringValue);
+		if (length == null) {
+			length = mCache.put(stringValue, new Length(stringValue));
+		}
+		return length;
 	}
 
 	/**
@@ -281,4 +310,96 @@ public class Length implements OdfDataType {
 	public String toString() {
 		return mLengthString;
 	}
+
+	// converts the value from the unit to the destination unit, like the loops above
+	private static double convert(double value, Unit unit, Unit destinationUnit) {
+		if (destinationUnit == null) {
+			return value;
+		}
+		// using roundfactor proved to be more precise when used with Java XSLT processor
+		return Math.round(10000.0 * value / destinationUnit.unitInMillimiter() * unit.mUnitInMillimiter) / 10000.0;
+	}
+
+	// returns the unit whose abbreviation is the rest of the string from pos, or null
+	private static Unit unitAt(String length, int pos) {
+		if (length.length() - pos != 2) {
+			return null;
+		}
+		char first = length.charAt(pos);
+		char second = length.charAt(pos + 1);
+		for (Unit unit : Unit.values()) {
+			String abbr = unit.mUnitAbbreviation;
+			if (abbr.charAt(0) == first && abbr.charAt(1) == second) {
+				return unit;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Scans a decimal number, like <code>-0.5</code>, <code>.5</code> or
+	 * <code>5.</code>, from the start index.
+	 *
+	 * @return the index after the number, or -1 if there is no number
+	 */
+	static int scanDecimal(CharSequence value, int start) {
+		int length = value.length();
+		int pos = start;
+		if (pos < length && value.charAt(pos) == '-') {
+			pos++;
+		}
+		int digits = 0;
+		while (pos < length && isDigit(value.charAt(pos))) {
+			pos++;
+			digits++;
+		}
+		if (pos < length && value.charAt(pos) == '.') {
+			pos++;
+			while (pos < length && isDigit(value.charAt(pos))) {
+				pos++;
+				digits++;
+			}
+		}
+		return digits == 0 ? -1 : pos;
+	}
+
+	/**
+	 * Parses the decimal number between start and end, which has been found
+	 * by <code>scanDecimal</code>. The result is the same as the one of
+	 * <code>Double.parseDouble</code>.
+	 */
+	static double parseDecimal(CharSequence value, int start, int end) {
+		boolean negative = value.charAt(start) == '-';
+		long mantissa = 0;
+		int digits = 0;
+		int fractionDigits = -1;
+		for (int i = negative ? start + 1 : start; i < end; i++) {
+			char c = value.charAt(i);
+			if (c == '.') {
+				fractionDigits = 0;
+				continue;
+			}
+			if (mantissa != 0 || c != '0') {
+				digits++;
+			}
+			mantissa = mantissa * 10 + (c - '0');
+			if (fractionDigits != -1) {
+				fractionDigits++;
+			}
+			if (digits > 15) {
+				// the mantissa might not be exact, let the JDK round it
+				return Double.parseDouble(value.subSequence(start, end).toString());
+			}
+		}
+		if (fractionDigits >= POWERS_OF_TEN.length) {
+			return Double.parseDouble(value.subSequence(start, end).toString());
+		}
+		// both operands are exact, so the division is correctly rounded
+		double result = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+		return negative ? -result : result;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
 }
@@ -21,15 +21,12 @@
  ************************************************************************/
 package org.odftoolkit.odfdom.type;
 
-import java.util.regex.Pattern;
-
 /**
  * This class represents the in OpenDocument format used data type {@odf.datatype nonNegativeLength}
  */
 public class NonNegativeLength extends Length {
 
 
-	private static final Pattern nonNegativeLengthPattern = Pattern.compile("^?([0-9]+(\\.[0-9]*)?|\\.[0-9]+)((cm)|(mm)|(in)|(pt)|(pc)|(px))$");
 	/**
 	 * Construct NonNegativeLength by the parsing the given string
 	 *
@@ -69,10 +66,6 @@ public class NonNegativeLength extends Length {
 	 *         type false otherwise
 	 */
 	public static boolean isValid(String stringValue) {
-		if ((stringValue == null) || (!nonNegativeLengthPattern.matcher(stringValue).matches())) {
-			return false;
-		} else {
-			return true;
-		}
+		return Length.isValid(stringValue) && stringValue.charAt(0) != '-';
 	}
 }
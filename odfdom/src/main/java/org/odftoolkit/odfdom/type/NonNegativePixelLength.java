@@ -20,15 +20,12 @@
 ************************************************************************/
 package org.odftoolkit.odfdom.type;
 
-import java.util.regex.Pattern;
-
 /**
  * This class represents the in OpenDocument format used data type {@odf.datatype nonNegativePixelLength}
  */
 public class NonNegativePixelLength extends Length {
 
 	private String mLength;
-	private static final Pattern pixelLengthPattern = Pattern.compile("^([0-9]+(\\.[0-9]*)?|\\.[0-9]+)(px)$");
 
 	/**
 	 * Construct NonNegativePixelLength by the parsing the given string
@@ -79,10 +76,6 @@ public class NonNegativePixelLength extends Length {
 	 *         data type false otherwise
 	 */
 	public static boolean isValid(String stringValue) {
-		if ((stringValue == null) || (!pixelLengthPattern.matcher(stringValue).matches())) {
-			return false;
-		} else {
-			return true;
-		}
+		return Length.isValid(stringValue) && stringValue.charAt(0) != '-' && stringValue.endsWith("px");
 	}
 }
@@ -21,15 +21,13 @@
  ************************************************************************/
 package org.odftoolkit.odfdom.type;
 
-import java.util.regex.Pattern;
-
 /**
  * This class represents the in OpenDocument format used data type {@odf.datatype percent}
  */
 public class Percent implements OdfFieldDataType, OdfDataType {
 
 	private double mN;
-	private static final Pattern percentPattern = Pattern.compile("^-?([0-9]+(\\.[0-9]*)?|\\.[0-9]+)%$");
+	private static final ValueCache<Percent> mCache = new ValueCache<Percent>();
 	
 	/**
 	 * Allocates a Percent object representing the n argument
@@ -67,6 +65,15 @@ public class Percent implements OdfFieldDataType, OdfDataType {
 			return new Percent(0.0);
 		}
 
+		Percent percent = mCache.get(stringValue);
+		if (percent != null) {
+			return percent;
+		}
+		// fast path for valid percents
+		int end = Length.scanDecimal(stringValue, 0);
+		if (end != -1 && end == stringValue.length() - 1 && stringValue.charAt(end) == '%') {
+			return mCache.put(stringValue, new Percent(Length.parseDecimal(stringValue, 0, end) / 100));
+		}
 		int n = stringValue.indexOf("%");
 		if (n != -1) {
 			return new Percent(Double.valueOf(stringValue.substring(0, n)).doubleValue() / 100);
@@ -109,10 +116,10 @@ public class Percent implements OdfFieldDataType, OdfDataType {
 	 *         false otherwise
 	 */
 	public static boolean isValid(String stringValue) {
-		if ((stringValue == null) || (!percentPattern.matcher(stringValue).matches())) {
+		if (stringValue == null) {
 			return false;
-		} else {
-			return true;
 		}
+		int end = Length.scanDecimal(stringValue, 0);
+		return end != -1 && end == stringValue.length() - 1 && stringValue.charAt(end) == '%';
 	}
 }
@@ -20,13 +20,10 @@
 ************************************************************************/
 package org.odftoolkit.odfdom.type;
 
-import java.util.regex.Pattern;
-
 /**
  * This class represents the in OpenDocument format used data type {@odf.datatype positiveLength}
  */
 public class PositiveLength extends Length {
-	private static final Pattern positiveLengthPattern = Pattern.compile("^([0-9]*[1-9][0-9]*(\\.[0-9]*)?|0+\\.[0-9]*[1-9][0-9]*|\\.[0-9]*[1-9][0-9]*)((cm)|(mm)|(in)|(pt)|(pc)|(px))$");
 	
 	/**
 	 * Construct PositiveLength by the parsing the given string
@@ -67,10 +64,16 @@ public class PositiveLength extends Length {
 	 *         type false otherwise
 	 */
 	public static boolean isValid(String stringValue) {
-		if ((stringValue == null) || (!positiveLengthPattern.matcher(stringValue).matches())) {
+		if (!Length.isValid(stringValue) || stringValue.charAt(0) == '-') {
 			return false;
-		} else {
-			return true;
 		}
+		// one of the digits is not zero
+		for (int i = stringValue.length() - 3; i >= 0; i--) {
+			char c = stringValue.charAt(i);
+			if (c >= '1' && c <= '9') {
+				return true;
+			}
+		}
+		return false;
 	}
 }
@@ -23,7 +23,6 @@ package org.odftoolkit.odfdom.type;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 /**
@@ -76,8 +75,7 @@ public class Time implements OdfDataType {
 	 */
 	public static Time valueOf(String stringValue) throws IllegalArgumentException {
 		try {
-			DatatypeFactory aFactory = new org.apache.xerces.jaxp.datatype.DatatypeFactoryImpl();
-			return new Time(aFactory.newXMLGregorianCalendar(stringValue));
+			return new Time(DateTime.DATATYPE_FACTORY.newXMLGregorianCalendar(stringValue));
 		} catch (IllegalArgumentException ex) {
 			Logger.getLogger(Time.class.getName()).log(Level.SEVERE,
 					"parameter is invalid for datatype Time", ex);
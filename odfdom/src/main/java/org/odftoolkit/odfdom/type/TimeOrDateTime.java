@@ -23,7 +23,6 @@ package org.odftoolkit.odfdom.type;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 /**
@@ -74,8 +73,7 @@ public class TimeOrDateTime implements OdfDataType {
 	public static TimeOrDateTime valueOf(String stringValue)
 			throws IllegalArgumentException {
 		try {
-			DatatypeFactory aFactory = new org.apache.xerces.jaxp.datatype.DatatypeFactoryImpl();
-			return new TimeOrDateTime(aFactory.newXMLGregorianCalendar(stringValue));
+			return new TimeOrDateTime(DateTime.DATATYPE_FACTORY.newXMLGregorianCalendar(stringValue));
 		} catch (IllegalArgumentException ex) {
 			Logger.getLogger(TimeOrDateTime.class.getName()).log(Level.SEVERE,
 					"parameter is invalid for datatype TimeOrDateTime", ex);
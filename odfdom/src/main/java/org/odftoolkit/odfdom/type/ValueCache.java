@@ -0,0 +1,52 @@
+/************************************************************************
+*
+*  Licensed to the Apache Software Foundation (ASF) under one
+*  or more contributor license agreements.  See the NOTICE file
+*  distributed with this work for additional information
+*  regarding copyright ownership.  The ASF licenses this file
+*  to you under the Apache License, Version 2.0 (the
+*  "License"); you may not use this file except in compliance
+*  with the License.  You may obtain a copy of the License at
+*
+*   http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*
+************************************************************************/
+package org.odftoolkit.odfdom.type;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the canonical instances of an immutable data type for its most
+ * common string values, like "0cm" or "#000000".
+ * <p>
+ * Only the first values are kept, so that the cache does not grow with
+ * documents which use lots of different values.
+ */
+class ValueCache<T> {
+
+	private static final int MAX_SIZE = 512;
+	private final ConcurrentHashMap<String, T> mValues = new ConcurrentHashMap<String, T>();
+
+	/** Returns the cached instance of the string value, or null. */
+	T get(String stringValue) {
+		return mValues.get(stringValue);
+	}
+
+	/** Returns the given instance, which is cached if there is still room. */
+	T put(String stringValue, T value) {
+		if (mValues.size() < MAX_SIZE) {
+			T previous = mValues.putIfAbsent(stringValue, value);
+			if (previous != null) {
+				return previous;
+			}
+		}
+		return value;
+	}
+}
@@ -21,6 +21,8 @@
  ************************************************************************/
 package org.odftoolkit.odfdom.doc;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.Iterator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -46,6 +48,7 @@ import org.odftoolkit.odfdom.incubator.doc.style.OdfDefaultStyle;
 import org.odftoolkit.odfdom.incubator.doc.style.OdfStyle;
 import org.odftoolkit.odfdom.incubator.doc.text.OdfTextParagraph;
 import org.odftoolkit.odfdom.utils.ResourceUtilities;
+import org.w3c.dom.Attr;
 import org.w3c.dom.NodeList;
 
 public class StyleTest {
@@ -205,6 +208,130 @@ public class StyleTest {
         }
     }
 
+    @Test
+    public void testAutomaticStylesOptimizeDuplicates() {
+        try {
+            OdfDocument doc = OdfTextDocument.newTextDocument();
+            OdfFileDom dom = doc.getContentDom();
+            OdfOfficeAutomaticStyles autoStyles = doc.getContentDom().getAutomaticStyles();
+            autoStyles.newStyle(OdfStyleFamily.Paragraph);
+
+            OdfTextParagraph[] paras = new OdfTextParagraph[300];
+            for (int i = 0; i < paras.length; i++) {
+                paras[i] = (OdfTextParagraph) OdfXMLFactory.newOdfElement(dom, OdfTextParagraph.ELEMENT_NAME);
+                paras[i].setProperty(StyleTextPropertiesElement.FontSize, (i % 2 == 0) ? "10pt" : "12pt");
+            }
+            Assert.assertEquals(301, countStyles(autoStyles, OdfStyleFamily.Paragraph));
+
+            autoStyles.optimize();
+            Assert.assertEquals(2, countStyles(autoStyles, OdfStyleFamily.Paragraph));
+            for (int i = 0; i < paras.length; i++) {
+                OdfStyle style = paras[i].getAutomaticStyle();
+                Assert.assertTrue(style == paras[i % 2].getAutomaticStyle());
+                Assert.assertEquals(150, style.getStyleUserCount());
+                Assert.assertEquals((i % 2 == 0) ? "10pt" : "12pt", paras[i].getProperty(StyleTextPropertiesElement.FontSize));
+            }
+
+            // the optimized styles are the interned ones
+            OdfTextParagraph para = (OdfTextParagraph) OdfXMLFactory.newOdfElement(dom, OdfTextParagraph.ELEMENT_NAME);
+            para.setProperty(StyleTextPropertiesElement.FontSize, "12pt");
+            Assert.assertTrue(para.internAutomaticStyle() == paras[1].getAutomaticStyle());
+            Assert.assertEquals(2, countStyles(autoStyles, OdfStyleFamily.Paragraph));
+        } catch (Exception e) {
+            Logger.getLogger(StyleTest.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+            Assert.fail("Failed with " + e.getClass().getName() + ": '" + e.getMessage() + "'");
+        }
+    }
+
+    @Test
+    public void testUniqueStyleNames() {
+        try {
+            OdfDocument doc1 = OdfTextDocument.newTextDocument();
+            OdfDocument doc2 = OdfTextDocument.newTextDocument();
+            OdfOfficeAutomaticStyles autoStyles1 = doc1.getContentDom().getAutomaticStyles();
+            OdfOfficeAutomaticStyles autoStyles2 = doc2.getContentDom().getAutomaticStyles();
+            String name = null;
+            for (int i = 0; i < 100; i++) {
+                OdfStyle style = autoStyles1.newStyle((i % 2 == 0) ? OdfStyleFamily.Paragraph : OdfStyleFamily.Text);
+                // identical documents get identical names
+                Assert.assertEquals(style.getStyleNameAttribute(),
+                        autoStyles2.newStyle((i % 2 == 0) ? OdfStyleFamily.Paragraph : OdfStyleFamily.Text).getStyleNameAttribute());
+                if (name != null) {
+                    Assert.assertTrue(name.compareTo(style.getStyleNameAttribute()) < 0);
+                }
+                name = style.getStyleNameAttribute();
+            }
+            String listName = autoStyles1.newListStyle().getStyleNameAttribute();
+            Assert.assertFalse(listName.equals(autoStyles1.newListStyle().getStyleNameAttribute()));
+
+            // names of a loaded document are not generated again
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            doc1.save(out);
+            OdfDocument loaded = OdfDocument.loadDocument(new ByteArrayInputStream(out.toByteArray()));
+            OdfOfficeAutomaticStyles loadedStyles = loaded.getContentDom().getAutomaticStyles();
+            OdfStyle style = loadedStyles.newStyle(OdfStyleFamily.Paragraph);
+            Assert.assertTrue(name.compareTo(style.getStyleNameAttribute()) < 0);
+            Assert.assertTrue(listName.compareTo(loadedStyles.newListStyle().getStyleNameAttribute()) < 0);
+        } catch (Exception e) {
+            Logger.getLogger(StyleTest.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+            Assert.fail("Failed with " + e.getClass().getName() + ": '" + e.getMessage() + "'");
+        }
+    }
+
+    private int countStyles(OdfOfficeAutomaticStyles autoStyles, OdfStyleFamily family) {
+        int count = 0;
+        Iterator<OdfStyle> iter = autoStyles.getStylesForFamily(family).iterator();
+        while (iter.hasNext()) {
+            iter.next();
+            ++count;
+        }
+        return count;
+    }
+
+    @Test
+    public void testAutomaticStylesIntern() {
+        try {
+            OdfDocument doc = OdfTextDocument.newTextDocument();
+            OdfFileDom dom = doc.getContentDom();
+
+            OdfTextParagraph para1 = (OdfTextParagraph) OdfXMLFactory.newOdfElement(dom, OdfTextParagraph.ELEMENT_NAME);
+            para1.setProperty(StyleTextPropertiesElement.FontSize, "17pt");
+            para1.setProperty(StyleParagraphPropertiesElement.TextAlign, "left");
+            Assert.assertTrue(para1.internAutomaticStyle() == para1.getAutomaticStyle());
+
+            OdfTextParagraph para2 = (OdfTextParagraph) OdfXMLFactory.newOdfElement(dom, OdfTextParagraph.ELEMENT_NAME);
+            para2.setProperty(StyleParagraphPropertiesElement.TextAlign, "left");
+            para2.setProperty(StyleTextPropertiesElement.FontSize, "17pt");
+            String styleName2 = para2.getStyleName();
+            OdfOfficeAutomaticStyles autoStyles = para1.getAutomaticStyles();
+
+            // para2 shares the style of para1, its own style is removed
+            OdfStyle style = para2.internAutomaticStyle();
+            Assert.assertTrue(style == para1.getAutomaticStyle());
+            Assert.assertEquals(para1.getStyleName(), para2.getStyleName());
+            Assert.assertEquals(2, style.getStyleUserCount());
+            Assert.assertNull(autoStyles.getStyle(styleName2, OdfStyleFamily.Paragraph));
+
+            // a shared style is copied before it is changed
+            para2.setProperty(StyleTextPropertiesElement.FontSize, "12pt");
+            Assert.assertFalse(para1.getStyleName().equals(para2.getStyleName()));
+            Assert.assertEquals("17pt", para1.getProperty(StyleTextPropertiesElement.FontSize));
+            Assert.assertEquals(1, style.getStyleUserCount());
+            Assert.assertTrue(para2.internAutomaticStyle() != style);
+
+            // a changed interned style is not matched by its former key
+            para1.setProperty(StyleTextPropertiesElement.FontSize, "12pt");
+            OdfTextParagraph para3 = (OdfTextParagraph) OdfXMLFactory.newOdfElement(dom, OdfTextParagraph.ELEMENT_NAME);
+            para3.setProperty(StyleTextPropertiesElement.FontSize, "17pt");
+            para3.setProperty(StyleParagraphPropertiesElement.TextAlign, "left");
+            Assert.assertTrue(para3.internAutomaticStyle() != para1.getAutomaticStyle());
+            Assert.assertTrue(para1.internAutomaticStyle() == para2.getAutomaticStyle());
+        } catch (Exception e) {
+            Logger.getLogger(StyleTest.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+            Assert.fail("Failed with " + e.getClass().getName() + ": '" + e.getMessage() + "'");
+        }
+    }
+
     @Test
     public void testPropertyInheritance() {
         try {
@@ -226,6 +353,46 @@ public class StyleTest {
             Assert.assertEquals("#FF0000", child.getProperty(StyleTextPropertiesElement.Color));
             Assert.assertEquals("#00FF00", child.getProperty(StyleTextPropertiesElement.TextUnderlineColor));
 
+            // changes of the style or its parents are visible after the values have been cached
+            parent.setProperty(StyleTextPropertiesElement.FontSize, "12pt");
+            def.setProperty(StyleTextPropertiesElement.TextUnderlineColor, "#0000FF");
+            Assert.assertEquals("12pt", child.getProperty(StyleTextPropertiesElement.FontSize));
+            Assert.assertEquals("#0000FF", child.getProperty(StyleTextPropertiesElement.TextUnderlineColor));
+            child.setProperty(StyleTextPropertiesElement.FontSize, "9pt");
+            Assert.assertEquals("9pt", child.getProperty(StyleTextPropertiesElement.FontSize));
+            Assert.assertEquals("9pt", child.getStylePropertiesDeep().get(StyleTextPropertiesElement.FontSize));
+            child.removeProperty(StyleTextPropertiesElement.FontSize);
+            Assert.assertEquals("12pt", child.getProperty(StyleTextPropertiesElement.FontSize));
+            Assert.assertEquals("12pt", child.getStylePropertiesDeep().get(StyleTextPropertiesElement.FontSize));
+
+            OdfStyle parent2 = styles.newStyle("TheOtherParent", OdfStyleFamily.Paragraph);
+            parent2.setProperty(StyleTextPropertiesElement.FontSize, "20pt");
+            child.setStyleParentStyleNameAttribute(parent2.getStyleNameAttribute());
+            Assert.assertEquals("20pt", child.getProperty(StyleTextPropertiesElement.FontSize));
+            Assert.assertEquals(def.getProperty(StyleTextPropertiesElement.Color), child.getProperty(StyleTextPropertiesElement.Color));
+
+            // the returned map is a copy
+            child.getStylePropertiesDeep().clear();
+            Assert.assertEquals("20pt", child.getStylePropertiesDeep().get(StyleTextPropertiesElement.FontSize));
+
+            // changes of attribute nodes
+            OdfStylePropertiesBase properties = parent2.getPropertiesElement(OdfStylePropertiesSet.TextProperties);
+            Attr fontSize = properties.getAttributeNodeNS(OdfDocumentNamespace.FO.getUri(), "font-size");
+            fontSize.setValue("21pt");
+            Assert.assertEquals("21pt", child.getProperty(StyleTextPropertiesElement.FontSize));
+            fontSize.setNodeValue("22pt");
+            Assert.assertEquals("22pt", child.getProperty(StyleTextPropertiesElement.FontSize));
+            properties.removeAttributeNode(fontSize);
+            Assert.assertFalse("22pt".equals(child.getProperty(StyleTextPropertiesElement.FontSize)));
+            properties.setAttributeNodeNS(fontSize);
+            Assert.assertEquals("22pt", child.getProperty(StyleTextPropertiesElement.FontSize));
+
+            // an automatic style of the content, whose parent is in the styles document
+            OdfStyle automatic = doc.getContentDom().getOrCreateAutomaticStyles().newStyle(OdfStyleFamily.Paragraph);
+            automatic.setStyleParentStyleNameAttribute(parent2.getStyleNameAttribute());
+            Assert.assertEquals("22pt", automatic.getProperty(StyleTextPropertiesElement.FontSize));
+            fontSize.setValue("23pt");
+            Assert.assertEquals("23pt", automatic.getProperty(StyleTextPropertiesElement.FontSize));
         } catch (Exception e) {
             Logger.getLogger(StyleTest.class.getName()).log(Level.SEVERE, e.getMessage(), e);
             Assert.fail("Failed with " + e.getClass().getName() + ": '" + e.getMessage() + "'");
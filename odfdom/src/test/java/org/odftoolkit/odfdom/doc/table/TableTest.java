@@ -39,6 +39,7 @@ import org.odftoolkit.odfdom.doc.OdfSpreadsheetDocument;
 import org.odftoolkit.odfdom.doc.OdfTextDocument;
 import org.odftoolkit.odfdom.dom.OdfDocumentNamespace;
 import org.odftoolkit.odfdom.dom.OdfStylesDom;
+import org.odftoolkit.odfdom.dom.attribute.table.TableNumberRowsRepeatedAttribute;
 import org.odftoolkit.odfdom.dom.element.office.OfficeMasterStylesElement;
 import org.odftoolkit.odfdom.dom.element.style.StyleFooterElement;
 import org.odftoolkit.odfdom.dom.element.style.StyleFooterStyleElement;
@@ -51,6 +52,7 @@ import org.odftoolkit.odfdom.dom.element.style.StylePageLayoutPropertiesElement;
 import org.odftoolkit.odfdom.dom.element.table.TableTableColumnElement;
 import org.odftoolkit.odfdom.dom.element.table.TableTableElement;
 import org.odftoolkit.odfdom.dom.element.table.TableTableHeaderColumnsElement;
+import org.odftoolkit.odfdom.dom.element.table.TableTableRowElement;
 import org.odftoolkit.odfdom.utils.ResourceUtilities;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
@@ -1165,6 +1167,25 @@ public class TableTest {
 		return pageLayout;
 	}
 
+	@Test
+	public void testRepeatedAttributeValue() {
+		TableTableRowElement row = mOdsDoc.getTableList().get(0).getRowByIndex(0).getOdfElement();
+		row.removeAttributeNS(OdfDocumentNamespace.TABLE.getUri(), "number-rows-repeated");
+		Assert.assertEquals(1, row.getTableNumberRowsRepeatedAttributeIntValue());
+		Assert.assertEquals(Integer.valueOf(1), row.getTableNumberRowsRepeatedAttribute());
+
+		row.setTableNumberRowsRepeatedAttribute(Integer.valueOf(3));
+		Assert.assertEquals(3, row.getTableNumberRowsRepeatedAttributeIntValue());
+		// the cached value follows changes of the string value
+		TableNumberRowsRepeatedAttribute attr = (TableNumberRowsRepeatedAttribute) row.getOdfAttribute(OdfDocumentNamespace.TABLE, "number-rows-repeated");
+		attr.setValue("7");
+		Assert.assertEquals(7, attr.intValue());
+		Assert.assertEquals(7, row.getTableNumberRowsRepeatedAttributeIntValue());
+		row.setAttributeNS(OdfDocumentNamespace.TABLE.getUri(), "table:number-rows-repeated", "12");
+		Assert.assertEquals(12, row.getTableNumberRowsRepeatedAttributeIntValue());
+		Assert.assertEquals(Integer.valueOf(12), row.getTableNumberRowsRepeatedAttribute());
+	}
+
 	private void testAppendRow(TableTableElement table) {
 		OdfTable fTable = OdfTable.getInstance(table);
 		int count = fTable.getRowCount();
@@ -0,0 +1,157 @@
+/************************************************************************
+*
+*  Licensed to the Apache Software Foundation (ASF) under one
+*  or more contributor license agreements.  See the NOTICE file
+*  distributed with this work for additional information
+*  regarding copyright ownership.  The ASF licenses this file
+*  to you under the Apache License, Version 2.0 (the
+*  "License"); you may not use this file except in compliance
+*  with the License.  You may obtain a copy of the License at
+*
+*   http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*
+************************************************************************/
+package org.odftoolkit.odfdom.pkg;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.odftoolkit.odfdom.doc.OdfDocument;
+import org.odftoolkit.odfdom.doc.OdfTextDocument;
+import org.odftoolkit.odfdom.dom.OdfContentDom;
+import org.odftoolkit.odfdom.dom.element.office.OfficeTextElement;
+import org.odftoolkit.odfdom.dom.element.text.TextPElement;
+import org.odftoolkit.odfdom.dom.element.text.TextSpanElement;
+import org.odftoolkit.odfdom.utils.ResourceUtilities;
+import org.w3c.dom.events.Event;
+import org.w3c.dom.events.EventListener;
+
+public class OdfContentHashTest {
+
+	private static final Logger LOG = Logger.getLogger(OdfContentHashTest.class.getName());
+	private static final String TEST_FILE = "table.odt";
+
+	@Test
+	public void testHash() {
+		try {
+			OdfDocument doc1 = OdfDocument.loadDocument(ResourceUtilities.getAbsolutePath(TEST_FILE));
+			OdfDocument doc2 = OdfDocument.loadDocument(ResourceUtilities.getAbsolutePath(TEST_FILE));
+			OdfElement root1 = doc1.getContentRoot();
+			OdfElement root2 = doc2.getContentRoot();
+			Assert.assertEquals(OdfContentHash.getHash(root1), OdfContentHash.getHash(root2));
+			OdfElement clone = (OdfElement) root1.cloneNode(true);
+			Assert.assertEquals(OdfContentHash.getHash(root1), OdfContentHash.getHash(clone));
+
+			// the order of the attributes and split text nodes don't count
+			OdfContentDom dom = doc1.getContentDom();
+			TextPElement p1 = new TextPElement(dom);
+			p1.setTextStyleNameAttribute("P1");
+			p1.setTextClassNamesAttribute("A");
+			p1.appendChild(dom.createTextNode("Hello "));
+			p1.appendChild(dom.createTextNode("World"));
+			TextPElement p2 = new TextPElement(dom);
+			p2.setTextClassNamesAttribute("A");
+			p2.setTextStyleNameAttribute("P1");
+			p2.appendChild(dom.createTextNode("Hello World"));
+			Assert.assertEquals(OdfContentHash.getHash(p1), OdfContentHash.getHash(p2));
+
+			p2.setTextStyleNameAttribute("P2");
+			Assert.assertFalse(OdfContentHash.getHash(p1) == OdfContentHash.getHash(p2));
+			p2.setTextStyleNameAttribute("P1");
+			p2.getFirstChild().setNodeValue("Hello world");
+			Assert.assertFalse(OdfContentHash.getHash(p1) == OdfContentHash.getHash(p2));
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	@Test
+	public void testCachedHash() {
+		try {
+			OdfTextDocument doc = OdfTextDocument.newTextDocument();
+			OdfContentDom dom = doc.getContentDom();
+			OfficeTextElement root = doc.getContentRoot();
+			TextPElement p = root.newTextPElement();
+			p.setTextContent("Hello");
+			OdfContentHash.enable(dom);
+			try {
+				long rootHash = OdfContentHash.getHash(root);
+				long pHash = OdfContentHash.getHash(p);
+				Assert.assertEquals(rootHash, OdfContentHash.getHash(root));
+
+				// change text
+				p.getFirstChild().setNodeValue("World");
+				Assert.assertFalse(pHash == OdfContentHash.getHash(p));
+				Assert.assertFalse(rootHash == OdfContentHash.getHash(root));
+				p.getFirstChild().setNodeValue("Hello");
+				Assert.assertEquals(pHash, OdfContentHash.getHash(p));
+				Assert.assertEquals(rootHash, OdfContentHash.getHash(root));
+
+				// change attribute
+				p.setTextStyleNameAttribute("P1");
+				Assert.assertFalse(rootHash == OdfContentHash.getHash(root));
+				p.removeAttributeNS(p.getAttributeNode("text:style-name").getNamespaceURI(), "style-name");
+				Assert.assertEquals(rootHash, OdfContentHash.getHash(root));
+
+				// change children, and change a removed element before it is
+				// inserted again
+				TextSpanElement span = p.newTextSpanElement();
+				long spanHash = OdfContentHash.getHash(span);
+				Assert.assertFalse(rootHash == OdfContentHash.getHash(root));
+				p.removeChild(span);
+				Assert.assertEquals(rootHash, OdfContentHash.getHash(root));
+				span.setTextContent("span");
+				p.appendChild(span);
+				Assert.assertFalse(spanHash == OdfContentHash.getHash(span));
+				p.removeChild(span);
+				Assert.assertEquals(rootHash, OdfContentHash.getHash(root));
+			} finally {
+				OdfContentHash.disable(dom);
+			}
+			Assert.assertNull(OdfContentHash.getInstance(dom));
+			Assert.assertEquals(OdfContentHash.getHash(root), OdfContentHash.getHash((OdfElement) root.cloneNode(true)));
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	@Test
+	public void testMutationListeners() {
+		try {
+			OdfContentDom dom = OdfTextDocument.newTextDocument().getContentDom();
+			Assert.assertFalse(dom.isMutationEventsEnabled());
+			OdfContentHash cache = OdfContentHash.enable(dom);
+			Assert.assertSame(cache, OdfContentHash.enable(dom));
+			Assert.assertSame(cache, dom.getNodeCache(OdfContentHash.class));
+			Assert.assertTrue(dom.isMutationEventsEnabled());
+
+			// a listener which is not added, and disabled events, don't switch
+			// the events off under the cache
+			dom.removeMutationListener(new EventListener() {
+				public void handleEvent(Event evt) {
+				}
+			});
+			Assert.assertTrue(dom.isMutationEventsEnabled());
+			dom.setMutationEventsEnabled(false);
+			Assert.assertTrue(dom.isMutationEventsEnabled());
+
+			OdfContentHash.disable(dom);
+			Assert.assertNull(dom.getNodeCache(OdfContentHash.class));
+			Assert.assertFalse(dom.isMutationEventsEnabled());
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+}
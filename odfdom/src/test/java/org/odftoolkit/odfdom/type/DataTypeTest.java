@@ -22,6 +22,8 @@ package org.odftoolkit.odfdom.type;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.GregorianCalendar;
 import java.util.List;
@@ -151,6 +153,46 @@ public class DataTypeTest {
 		Assert.assertNotNull(time3.getXMLGregorianCalendar());
 	}
 	
+	@Test
+	public void testParseDateTime() {
+		Assert.assertEquals(LocalDateTime.of(2007, 9, 28, 22, 1, 13), DateTime.parseLocalDateTime("2007-09-28T22:01:13"));
+		Assert.assertEquals(LocalDateTime.of(2007, 9, 28, 0, 0), DateTime.parseLocalDateTime("2007-09-28"));
+		Assert.assertEquals(LocalDateTime.of(2007, 9, 28, 22, 1, 13, 500000000),
+				DateTime.parseLocalDateTime("2007-09-28T22:01:13.5+01:00"));
+		Assert.assertEquals(LocalDateTime.of(2007, 9, 29, 0, 0), DateTime.parseLocalDateTime("2007-09-28T24:00:00Z"));
+		String[] invalids = { "", "07-09-28", "2007-9-28", "2007-13-01", "2007-02-30", "2007-09-28T22:01",
+				"2007-09-28T22:01:13.", "2007-09-28 22:01:13", "2007-09-28T22:01:13+1" };
+		for (String invalid : invalids) {
+			try {
+				DateTime.parseLocalDateTime(invalid);
+				Assert.fail(invalid + " should be invalid");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+		Assert.assertEquals("2007-09-28", DateTime.format(LocalDate.of(2007, 9, 28)));
+		Assert.assertEquals("0099-01-02T03:04:05", DateTime.format(LocalDateTime.of(99, 1, 2, 3, 4, 5)));
+		Assert.assertEquals("2007-09-28T22:01:13.25", DateTime.format(LocalDateTime.of(2007, 9, 28, 22, 1, 13, 250000000)));
+	}
+
+	@Test
+	public void testParseDuration() {
+		Assert.assertEquals(java.time.Duration.ofSeconds(12 * 3600 + 30 * 60), Duration.parseDuration("PT12H30M00S"));
+		Assert.assertEquals(java.time.Duration.ofSeconds(86400 + 1, 250000000), Duration.parseDuration("P0Y0M1DT1.25S"));
+		Assert.assertEquals(java.time.Duration.ofMinutes(-90), Duration.parseDuration("-PT90M"));
+		String[] invalids = { "", "P", "PT", "P1H", "PT1D", "PT1M1H", "P1Y", "PT1.5M", "12H" };
+		for (String invalid : invalids) {
+			try {
+				Duration.parseDuration(invalid);
+				Assert.fail(invalid + " should be invalid");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+		Assert.assertEquals("PT12H30M00S", Duration.format(java.time.Duration.ofMinutes(12 * 60 + 30)));
+		Assert.assertEquals("-PT36H00M01.5S", Duration.format(java.time.Duration.ofSeconds(-36 * 3600 - 1, -500000000)));
+	}
+
 	@Test
 	public void testStyle() {
 		// StyleName,StyleNameRef,StyleNameList
@@ -211,4 +253,38 @@ public class DataTypeTest {
 		Unit unit = Length.parseUnit("cm");
 		Assert.assertEquals(Unit.CENTIMETER, unit);
 	}
+
+	@Test
+	public void testValueParsing() {
+		// lengths, colors, percents and addresses are parsed without regular expressions
+		Assert.assertEquals(0.0201, Length.parseDouble("0.0201in", Unit.INCH));
+		Assert.assertEquals(2.5, Length.parseDouble("2.5cm"));
+		Assert.assertEquals(25.0, Length.parseDouble("2.5cm", Unit.MILLIMETER));
+		Assert.assertEquals("-0.5mm", Length.mapToUnit("-.05cm", Unit.MILLIMETER));
+		Assert.assertEquals(Unit.PIXEL, Length.parseUnit("12px"));
+		Assert.assertFalse(Length.isValid("1.2.3cm"));
+		Assert.assertFalse(Length.isValid("-cm"));
+		Assert.assertFalse(PositiveLength.isValid("0.000in"));
+		Assert.assertTrue(PositiveLength.isValid("0.001in"));
+		Assert.assertFalse(NonNegativePixelLength.isValid("12pt"));
+		Assert.assertSame(Length.valueOf("0cm"), Length.valueOf("0cm"));
+
+		Assert.assertSame(Color.valueOf("#000000"), Color.valueOf("#000000"));
+		Assert.assertEquals("#aabbcc", Color.valueOf("#abc").toString());
+		Assert.assertFalse(Color.isValid("#abcd"));
+		Assert.assertFalse(Color.isValid("#abcdeg"));
+		Assert.assertEquals("#ffbb00", Color.toSixDigitHexRGB("#FB0"));
+
+		Assert.assertEquals(0.125, Percent.valueOf("12.5%").doubleValue());
+		Assert.assertSame(Percent.valueOf("50%"), Percent.valueOf("50%"));
+		Assert.assertFalse(Percent.isValid("12.5"));
+
+		Assert.assertTrue(CellAddress.isValid("$'Sheet ''1'''.$A$1"));
+		Assert.assertFalse(CellAddress.isValid("'Sheet 1.A1"));
+		Assert.assertFalse(CellAddress.isValid("''.A1"));
+		Assert.assertTrue(CellRangeAddress.isValid(".A:.C"));
+		Assert.assertTrue(CellRangeAddress.isValid("Sheet1.A1"));
+		Assert.assertFalse(CellRangeAddress.isValid("Sheet1.A"));
+		Assert.assertFalse(CellRangeAddress.isValid("Sheet1.A1:Sheet1.3"));
+	}
 }
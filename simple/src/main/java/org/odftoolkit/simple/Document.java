@@ -44,6 +44,7 @@ import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -88,6 +89,7 @@ import org.odftoolkit.odfdom.pkg.OdfPackageDocument;
 import org.odftoolkit.odfdom.pkg.OdfValidationException;
 import org.odftoolkit.odfdom.pkg.manifest.OdfFileEntry;
 import org.odftoolkit.odfdom.type.Duration;
+import org.odftoolkit.simple.common.navigation.TextSearch;
 import org.odftoolkit.simple.meta.Meta;
 import org.odftoolkit.simple.table.AbstractTableContainer;
 import org.odftoolkit.simple.table.Cell;
@@ -1375,6 +1377,49 @@ public abstract class Document extends OdfSchemaDocument implements TableContain
 
     }
 
+    /**
+     * Replace all the occurrences of some texts in the header, footer and
+     * content of the document.
+     * <p>
+     * All the texts are replaced in one pass over the document. The new text
+     * keeps the format of the first character of the text it replaces.
+     *
+     * @param replacements - a map from each text to the text replacing it
+     * @return the number of occurrences which have been replaced
+     * @throws IllegalArgumentException if a text in the map is empty
+     * @see TextSearch#replaceAll(TextSearch.Replacer)
+     * @since 0.9
+     */
+    public int replaceAll(final Map<String, String> replacements) {
+        TextSearch search = new TextSearch(this);
+        for (String text : replacements.keySet()) {
+            search.addLiteral(text);
+        }
+        return search.replaceAll(new TextSearch.Replacer() {
+            public String getReplacement(String pattern, MatchResult match) {
+                return replacements.get(pattern);
+            }
+        });
+    }
+
+    /**
+     * Replace all the matches of a regular expression in the header, footer
+     * and content of the document, with the text returned by the replacer for
+     * each match.
+     *
+     * @param regex - the regular expression
+     * @param replacer - returns the new text of each match, or null to keep it
+     * @return the number of matches which have been replaced
+     * @throws IllegalArgumentException if the regular expression is invalid
+     * @see TextSearch#replaceAll(TextSearch.Replacer)
+     * @since 0.9
+     */
+    public int replaceAll(String regex, TextSearch.Replacer replacer) {
+        TextSearch search = new TextSearch(this);
+        search.addPattern(regex);
+        return search.replaceAll(replacer);
+    }
+
     /**
      * Remove an ODF element from the document. All the resources that are only
      * related with this element will be removed at the same time.
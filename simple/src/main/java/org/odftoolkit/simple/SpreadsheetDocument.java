@@ -59,6 +59,7 @@ public class SpreadsheetDocument extends Document implements ChartContainer {
     private static final String EMPTY_SPREADSHEET_DOCUMENT_PATH = "/OdfSpreadsheetDocument.ods";
     static final Resource EMPTY_SPREADSHEET_DOCUMENT_RESOURCE = new Resource(EMPTY_SPREADSHEET_DOCUMENT_PATH);
     private ChartContainerImpl chartContainerImpl;
+    private boolean mIsCompactOnSave = false;
 
     /**
      * This enum contains all possible media types of SpreadsheetDocument
@@ -500,6 +501,45 @@ public class SpreadsheetDocument extends Document implements ChartContainer {
         return count;
     }
 
+    /**
+     * Set whether the sheets of this document are compacted when the document
+     * is saved. The default setting is <code>false</code>.
+     * <p>
+     * Compacting merges adjacent rows and cells with identical content, style
+     * and attributes back into repeated runs, so that the saved document is as
+     * small as the original one after it has been edited.
+     *
+     * @param isCompactOnSave whether the sheets are compacted before saving.
+     * @see Table#compact()
+     * @since 0.9
+     */
+    public void setCompactOnSave(boolean isCompactOnSave) {
+        mIsCompactOnSave = isCompactOnSave;
+    }
+
+    /**
+     * Return whether the sheets of this document are compacted when the
+     * document is saved.
+     *
+     * @return true if the sheets are compacted before saving.
+     * @see #setCompactOnSave(boolean)
+     * @since 0.9
+     */
+    public boolean isCompactOnSave() {
+        return mIsCompactOnSave;
+    }
+
+    @Override
+    protected void flushDoms() {
+        if (mIsCompactOnSave) {
+            int sheetCount = getSheetCount();
+            for (int n = 0; n < sheetCount; n++) {
+                getSheetByIndex(n).compact();
+            }
+        }
+        super.flushDoms();
+    }
+
     public OdfElement getTableContainerElement() {
         return getTableContainerImpl().getTableContainerElement();
     }
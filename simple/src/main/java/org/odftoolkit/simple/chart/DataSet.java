@@ -630,8 +630,8 @@ public class DataSet {
 				Map<Integer, TableTableCellElement> cellIndexMap = new HashMap<Integer, TableTableCellElement>();
 				for (int index = 0, cellNum = 0; (cellNum < cellList.getLength()) && (index <= (endColumn - 'A')); cellNum++) {
 					TableTableCellElement item = (TableTableCellElement) cellList.item(cellNum);
-					int repeatedCount = item.getTableNumberColumnsRepeatedAttribute()
-							* item.getTableNumberColumnsSpannedAttribute();
+					int repeatedCount = item.getTableNumberColumnsRepeatedAttributeIntValue()
+							* item.getTableNumberColumnsSpannedAttributeIntValue();
 					int tmpIndex = index + repeatedCount;
 					if (tmpIndex >= (beginColumn - 'A')) {
 						if ((beginColumn - 'A') > index) {
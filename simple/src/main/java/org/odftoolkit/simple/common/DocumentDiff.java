@@ -0,0 +1,774 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.odftoolkit.odfdom.dom.OdfDocumentNamespace;
+import org.odftoolkit.odfdom.pkg.OdfElement;
+import org.odftoolkit.simple.Document;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * DocumentDiff compares two documents and lists the changes from the old
+ * document to the new document.
+ * <p>
+ * The children of the content roots, like the paragraphs, headings, lists and
+ * tables of a text document and the sheets of a spreadsheet, are aligned by
+ * the hashes of their contents with a patience diff. The unique elements which occur in both documents in the same
+ * order are aligned first, and the elements between them are aligned in the
+ * same way, or with a longest common subsequence if there is no unique element.
+ * So the cost of a comparison is about linear in the size of the documents,
+ * and not quadratic like a comparison of each element of the old document with
+ * each element of the new document.
+ * <p>
+ * The elements which are not aligned are reported as follows:
+ * <ul>
+ * <li>An element of the new document which is equal to a not aligned element
+ * of the old document is {@link ChangeType#MOVED MOVED}.</li>
+ * <li>The other elements between two aligned elements are paired in their
+ * order, if they have the same name. A pair of sections, lists, list items,
+ * tables or table rows is compared again by its children, so that the changed
+ * list items, paragraphs, rows and cells are reported, after the change of the
+ * pair. Rows and cells are indexed like in the table, with their repetitions.
+ * A pair of other elements is {@link ChangeType#STYLE_CHANGED STYLE_CHANGED},
+ * if they differ only by the style names and spans, and
+ * {@link ChangeType#MODIFIED MODIFIED} otherwise.</li>
+ * <li>The other elements are {@link ChangeType#DELETED DELETED} or
+ * {@link ChangeType#INSERTED INSERTED}.</li>
+ * </ul>
+ * <p>
+ * Automatic styles are compared by their definitions, in which the names of
+ * other automatic styles are resolved in the same way, and not by their names,
+ * which are only valid in their document. So the elements of a document and of
+ * a copy whose automatic styles are named differently are aligned, and a
+ * paragraph whose automatic style has the same name but other properties is
+ * {@link ChangeType#STYLE_CHANGED STYLE_CHANGED}. Common styles are compared
+ * by their names.
+ *
+ * @since 0.9
+ */
+public class DocumentDiff {
+
+	/**
+	 * The type of a change.
+	 *
+	 * @since 0.9
+	 */
+	public enum ChangeType {
+		/**
+		 * The element is in the new document only.
+		 */
+		INSERTED,
+		/**
+		 * The element is in the old document only.
+		 */
+		DELETED,
+		/**
+		 * The element is changed.
+		 */
+		MODIFIED,
+		/**
+		 * Only the style names or the spans of the element are changed.
+		 */
+		STYLE_CHANGED,
+		/**
+		 * The element is unchanged, but at another position.
+		 */
+		MOVED
+	}
+
+	/**
+	 * A change of an element.
+	 *
+	 * @since 0.9
+	 */
+	public static class Change {
+
+		private ChangeType mType;
+		private final Change mParent;
+		private final OdfElement mOldElement;
+		private final OdfElement mNewElement;
+		private final int mOldIndex;
+		private final int mNewIndex;
+
+		Change(ChangeType type, Change parent, OdfElement oldElement, int oldIndex, OdfElement newElement,
+				int newIndex) {
+			mType = type;
+			mParent = parent;
+			mOldElement = oldElement;
+			mOldIndex = oldIndex;
+			mNewElement = newElement;
+			mNewIndex = newIndex;
+		}
+
+		/**
+		 * Return the type of the change.
+		 *
+		 * @return the type of the change
+		 */
+		public ChangeType getType() {
+			return mType;
+		}
+
+		/**
+		 * Return the change of the parent element, like the change of the table
+		 * row of a changed cell.
+		 *
+		 * @return the change of the parent element, or null if the element is a
+		 *         child of the content root
+		 */
+		public Change getParent() {
+			return mParent;
+		}
+
+		/**
+		 * Return the element in the old document.
+		 *
+		 * @return the element in the old document, or null if it is inserted
+		 */
+		public OdfElement getOldElement() {
+			return mOldElement;
+		}
+
+		/**
+		 * Return the element in the new document.
+		 *
+		 * @return the element in the new document, or null if it is deleted
+		 */
+		public OdfElement getNewElement() {
+			return mNewElement;
+		}
+
+		/**
+		 * Return the index of the element in its parent in the old document.
+		 * The index of a row is the index of its first repetition in the table,
+		 * and the index of a cell is the index of its first repetition in the
+		 * row.
+		 *
+		 * @return the index in the old document, or -1 if it is inserted
+		 */
+		public int getOldIndex() {
+			return mOldIndex;
+		}
+
+		/**
+		 * Return the index of the element in its parent in the new document.
+		 * The index of a row is the index of its first repetition in the table,
+		 * and the index of a cell is the index of its first repetition in the
+		 * row.
+		 *
+		 * @return the index in the new document, or -1 if it is deleted
+		 */
+		public int getNewIndex() {
+			return mNewIndex;
+		}
+
+		@Override
+		public String toString() {
+			OdfElement element = mNewElement != null ? mNewElement : mOldElement;
+			return mType + " " + element.getNodeName() + " " + mOldIndex + " -> " + mNewIndex;
+		}
+	}
+
+	// the maximum size of the table of a longest common subsequence. Larger
+	// sequences without unique elements are not aligned.
+	private static final int LCS_LIMIT = 1 << 20;
+	private static final String OFFICE_URI = OdfDocumentNamespace.OFFICE.getUri();
+	private static final String STYLE_URI = OdfDocumentNamespace.STYLE.getUri();
+	private static final String TABLE_URI = OdfDocumentNamespace.TABLE.getUri();
+	private static final String TEXT_URI = OdfDocumentNamespace.TEXT.getUri();
+	private static final String XMLNS_URI = "http://www.w3.org/2000/xmlns/";
+	// the separators of the comparison keys, which are not allowed in XML.
+	private static final char KEY_START = '\u0001';
+	private static final char KEY_END = '\u0002';
+	private static final char KEY_SEPARATOR = '\u0003';
+	// the prime and the offset basis of the 64 bit FNV-1a hash
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+	private final List<Change> mChanges = new ArrayList<Change>();
+	private final StyleKeys mOldStyles;
+	private final StyleKeys mNewStyles;
+
+	private DocumentDiff(OdfElement oldElement, OdfElement newElement) {
+		mOldStyles = new StyleKeys(oldElement);
+		mNewStyles = new StyleKeys(newElement);
+	}
+
+	/**
+	 * Compare the contents of two documents.
+	 *
+	 * @param oldDocument
+	 *            the old document
+	 * @param newDocument
+	 *            the new document
+	 * @return the changes from the old document to the new document
+	 * @throws Exception
+	 *             if the content of a document can't be loaded
+	 */
+	public static DocumentDiff compare(Document oldDocument, Document newDocument) throws Exception {
+		if (oldDocument == null || newDocument == null) {
+			throw new IllegalArgumentException("documents should not be null.");
+		}
+		return compare(oldDocument.getContentRoot(), newDocument.getContentRoot());
+	}
+
+	/**
+	 * Compare the children of two elements, for example the content roots of
+	 * two documents.
+	 *
+	 * @param oldElement
+	 *            the old element
+	 * @param newElement
+	 *            the new element
+	 * @return the changes from the children of the old element to the children
+	 *         of the new element
+	 */
+	public static DocumentDiff compare(OdfElement oldElement, OdfElement newElement) {
+		if (oldElement == null || newElement == null) {
+			throw new IllegalArgumentException("elements should not be null.");
+		}
+		DocumentDiff diff = new DocumentDiff(oldElement, newElement);
+		diff.compareChildren(null, oldElement, newElement);
+		return diff;
+	}
+
+	/**
+	 * Return the changes in the order of the new document. The changes of the
+	 * children of an element follow the change of the element.
+	 *
+	 * @return the changes
+	 */
+	public List<Change> getChanges() {
+		return Collections.unmodifiableList(mChanges);
+	}
+
+	/**
+	 * Return whether the documents differ.
+	 *
+	 * @return true if there is any change
+	 */
+	public boolean hasChanges() {
+		return !mChanges.isEmpty();
+	}
+
+	private void compareChildren(Change parent, OdfElement oldParent, OdfElement newParent) {
+		Sequence oldSequence = new Sequence(oldParent, mOldStyles);
+		Sequence newSequence = new Sequence(newParent, mNewStyles);
+		int oldSize = oldSequence.size();
+		int newSize = newSequence.size();
+		int[] oldMatches = newIndexArray(oldSize);
+		int[] newMatches = newIndexArray(newSize);
+		align(oldSequence.mHashes, 0, oldSize, newSequence.mHashes, 0, newSize, oldMatches, newMatches);
+
+		// the not aligned old elements, which are equal to a not aligned new
+		// element, are moved.
+		Map<Long, LinkedList<Integer>> unmatched = new HashMap<Long, LinkedList<Integer>>();
+		for (int i = 0; i < oldSize; i++) {
+			if (oldMatches[i] < 0) {
+				Long hash = Long.valueOf(oldSequence.mHashes[i]);
+				LinkedList<Integer> indexes = unmatched.get(hash);
+				if (indexes == null) {
+					indexes = new LinkedList<Integer>();
+					unmatched.put(hash, indexes);
+				}
+				indexes.add(Integer.valueOf(i));
+			}
+		}
+		int[] oldMoves = newIndexArray(oldSize);
+		int[] newMoves = newIndexArray(newSize);
+		for (int j = 0; j < newSize; j++) {
+			if (newMatches[j] < 0) {
+				LinkedList<Integer> indexes = unmatched.get(Long.valueOf(newSequence.mHashes[j]));
+				if (indexes != null && !indexes.isEmpty()) {
+					int i = indexes.removeFirst().intValue();
+					oldMoves[i] = j;
+					newMoves[j] = i;
+				}
+			}
+		}
+
+		int i = 0;
+		int j = 0;
+		while (i < oldSize || j < newSize) {
+			int oldEnd = i;
+			while (oldEnd < oldSize && oldMatches[oldEnd] < 0) {
+				oldEnd++;
+			}
+			int newEnd = j;
+			while (newEnd < newSize && newMatches[newEnd] < 0) {
+				newEnd++;
+			}
+			compareGap(parent, oldSequence, i, oldEnd, oldMoves, newSequence, j, newEnd, newMoves);
+			// skip the aligned pair
+			i = oldEnd + 1;
+			j = newEnd + 1;
+		}
+	}
+
+	// report the changes of the elements between two aligned pairs.
+	private void compareGap(Change parent, Sequence oldSequence, int oldStart, int oldEnd, int[] oldMoves,
+			Sequence newSequence, int newStart, int newEnd, int[] newMoves) {
+		int i = oldStart;
+		for (int j = newStart; j < newEnd; j++) {
+			while (i < oldEnd && oldMoves[i] >= 0) {
+				i++;
+			}
+			OdfElement newElement = newSequence.mElements[j];
+			if (newMoves[j] >= 0) {
+				int moved = newMoves[j];
+				mChanges.add(new Change(ChangeType.MOVED, parent, oldSequence.mElements[moved],
+						oldSequence.mIndexes[moved], newElement, newSequence.mIndexes[j]));
+			} else if (i < oldEnd) {
+				OdfElement oldElement = oldSequence.mElements[i];
+				if (isSameName(oldElement, newElement)) {
+					compareElements(parent, oldElement, oldSequence.mIndexes[i], newElement, newSequence.mIndexes[j]);
+				} else {
+					mChanges.add(new Change(ChangeType.DELETED, parent, oldElement, oldSequence.mIndexes[i], null, -1));
+					mChanges.add(new Change(ChangeType.INSERTED, parent, null, -1, newElement, newSequence.mIndexes[j]));
+				}
+				i++;
+			} else {
+				mChanges.add(new Change(ChangeType.INSERTED, parent, null, -1, newElement, newSequence.mIndexes[j]));
+			}
+		}
+		for (; i < oldEnd; i++) {
+			if (oldMoves[i] < 0) {
+				mChanges.add(new Change(ChangeType.DELETED, parent, oldSequence.mElements[i], oldSequence.mIndexes[i],
+						null, -1));
+			}
+		}
+	}
+
+	// report the change of two different elements with the same name.
+	private void compareElements(Change parent, OdfElement oldElement, int oldIndex, OdfElement newElement,
+			int newIndex) {
+		if (isContainer(oldElement)) {
+			Change change = new Change(ChangeType.STYLE_CHANGED, parent, oldElement, oldIndex, newElement, newIndex);
+			int first = mChanges.size();
+			mChanges.add(change);
+			compareChildren(change, oldElement, newElement);
+			if (!getKey(oldElement, false, null).equals(getKey(newElement, false, null))) {
+				change.mType = ChangeType.MODIFIED;
+			} else {
+				for (int i = first + 1; i < mChanges.size(); i++) {
+					Change child = mChanges.get(i);
+					if (child.mParent == change && child.mType != ChangeType.STYLE_CHANGED) {
+						change.mType = ChangeType.MODIFIED;
+						break;
+					}
+				}
+			}
+		} else {
+			ChangeType type = getKey(oldElement, true, null).equals(getKey(newElement, true, null))
+					? ChangeType.STYLE_CHANGED : ChangeType.MODIFIED;
+			mChanges.add(new Change(type, parent, oldElement, oldIndex, newElement, newIndex));
+		}
+	}
+
+	/**
+	 * The child elements of an element, which are compared, with the hashes of
+	 * their keys and their indexes.
+	 */
+	private static class Sequence {
+
+		private final OdfElement[] mElements;
+		private final long[] mHashes;
+		private final int[] mIndexes;
+
+		Sequence(OdfElement parent, StyleKeys styles) {
+			List<OdfElement> elements = new ArrayList<OdfElement>();
+			if (isElement(parent, TABLE_URI, "table")) {
+				addRows(parent, elements);
+			} else {
+				for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+					if (child instanceof OdfElement) {
+						elements.add((OdfElement) child);
+					}
+				}
+			}
+			int size = elements.size();
+			mElements = elements.toArray(new OdfElement[size]);
+			mHashes = new long[size];
+			mIndexes = new int[size];
+			int index = 0;
+			for (int i = 0; i < size; i++) {
+				OdfElement element = mElements[i];
+				mHashes[i] = hash(getKey(element, true, styles));
+				mIndexes[i] = index;
+				if (isElement(element, TABLE_URI, "table-row")) {
+					index += getRepeated(element, "number-rows-repeated");
+				} else if (isElement(element, TABLE_URI, "table-cell")
+						|| isElement(element, TABLE_URI, "covered-table-cell")) {
+					index += getRepeated(element, "number-columns-repeated");
+				} else {
+					index++;
+				}
+			}
+		}
+
+		int size() {
+			return mElements.length;
+		}
+
+		// the rows of a table, which may be in header rows, row groups and rows.
+		private static void addRows(Node parent, List<OdfElement> rows) {
+			for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+				if (isElement(child, TABLE_URI, "table-row")) {
+					rows.add((OdfElement) child);
+				} else if (isElement(child, TABLE_URI, "table-header-rows") || isElement(child, TABLE_URI, "table-rows")
+						|| isElement(child, TABLE_URI, "table-row-group")) {
+					addRows(child, rows);
+				}
+			}
+		}
+
+		private static int getRepeated(OdfElement element, String name) {
+			String value = element.getAttributeNS(TABLE_URI, name);
+			if (value.length() > 0) {
+				try {
+					int repeated = Integer.parseInt(value);
+					if (repeated > 0) {
+						return repeated;
+					}
+				} catch (NumberFormatException e) {
+					// not repeated
+				}
+			}
+			return 1;
+		}
+	}
+
+	// align two sequences of hashes by a patience diff. The aligned indexes are
+	// stored in the match arrays.
+	private static void align(long[] oldHashes, int oldStart, int oldEnd, long[] newHashes, int newStart, int newEnd,
+			int[] oldMatches, int[] newMatches) {
+		// the common prefix and suffix
+		while (oldStart < oldEnd && newStart < newEnd && oldHashes[oldStart] == newHashes[newStart]) {
+			match(oldStart++, newStart++, oldMatches, newMatches);
+		}
+		while (oldStart < oldEnd && newStart < newEnd && oldHashes[oldEnd - 1] == newHashes[newEnd - 1]) {
+			match(--oldEnd, --newEnd, oldMatches, newMatches);
+		}
+		if (oldStart == oldEnd || newStart == newEnd) {
+			return;
+		}
+
+		// the hashes which are unique in both sequences, in the old order.
+		// Each entry holds the old count, the old index, the new count and the
+		// new index.
+		Map<Long, int[]> occurrences = new HashMap<Long, int[]>();
+		for (int i = oldStart; i < oldEnd; i++) {
+			Long hash = Long.valueOf(oldHashes[i]);
+			int[] entry = occurrences.get(hash);
+			if (entry == null) {
+				entry = new int[4];
+				occurrences.put(hash, entry);
+			}
+			entry[0]++;
+			entry[1] = i;
+		}
+		for (int j = newStart; j < newEnd; j++) {
+			int[] entry = occurrences.get(Long.valueOf(newHashes[j]));
+			if (entry != null) {
+				entry[2]++;
+				entry[3] = j;
+			}
+		}
+		int count = 0;
+		int[] oldAnchors = new int[oldEnd - oldStart];
+		int[] newAnchors = new int[oldEnd - oldStart];
+		for (int i = oldStart; i < oldEnd; i++) {
+			int[] entry = occurrences.get(Long.valueOf(oldHashes[i]));
+			if (entry[0] == 1 && entry[2] == 1) {
+				oldAnchors[count] = i;
+				newAnchors[count] = entry[3];
+				count++;
+			}
+		}
+		if (count == 0) {
+			alignCommonSubsequence(oldHashes, oldStart, oldEnd, newHashes, newStart, newEnd, oldMatches, newMatches);
+			return;
+		}
+
+		// the longest increasing sequence of the new indexes of the anchors,
+		// by patience sorting.
+		int[] tails = new int[count];
+		int[] previous = new int[count];
+		int length = 0;
+		for (int k = 0; k < count; k++) {
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (newAnchors[tails[middle]] < newAnchors[k]) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			previous[k] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = k;
+			if (low == length) {
+				length++;
+			}
+		}
+		int[] chain = new int[length];
+		for (int k = tails[length - 1], n = length - 1; k >= 0; k = previous[k], n--) {
+			chain[n] = k;
+		}
+
+		// align the elements between the anchors
+		int oldFrom = oldStart;
+		int newFrom = newStart;
+		for (int k : chain) {
+			align(oldHashes, oldFrom, oldAnchors[k], newHashes, newFrom, newAnchors[k], oldMatches, newMatches);
+			match(oldAnchors[k], newAnchors[k], oldMatches, newMatches);
+			oldFrom = oldAnchors[k] + 1;
+			newFrom = newAnchors[k] + 1;
+		}
+		align(oldHashes, oldFrom, oldEnd, newHashes, newFrom, newEnd, oldMatches, newMatches);
+	}
+
+	// align two sequences without unique hashes by their longest common
+	// subsequence, if they are not too long.
+	private static void alignCommonSubsequence(long[] oldHashes, int oldStart, int oldEnd, long[] newHashes,
+			int newStart, int newEnd, int[] oldMatches, int[] newMatches) {
+		int oldSize = oldEnd - oldStart;
+		int newSize = newEnd - newStart;
+		if ((long) oldSize * newSize > LCS_LIMIT) {
+			return;
+		}
+		// lengths[i][j] is the length of the common subsequence of the
+		// elements from i and from j.
+		int[][] lengths = new int[oldSize + 1][newSize + 1];
+		for (int i = oldSize - 1; i >= 0; i--) {
+			for (int j = newSize - 1; j >= 0; j--) {
+				if (oldHashes[oldStart + i] == newHashes[newStart + j]) {
+					lengths[i][j] = lengths[i + 1][j + 1] + 1;
+				} else {
+					lengths[i][j] = Math.max(lengths[i + 1][j], lengths[i][j + 1]);
+				}
+			}
+		}
+		int i = 0;
+		int j = 0;
+		while (i < oldSize && j < newSize) {
+			if (oldHashes[oldStart + i] == newHashes[newStart + j]) {
+				match(oldStart + i++, newStart + j++, oldMatches, newMatches);
+			} else if (lengths[i + 1][j] >= lengths[i][j + 1]) {
+				i++;
+			} else {
+				j++;
+			}
+		}
+	}
+
+	private static void match(int oldIndex, int newIndex, int[] oldMatches, int[] newMatches) {
+		oldMatches[oldIndex] = newIndex;
+		newMatches[newIndex] = oldIndex;
+	}
+
+	private static int[] newIndexArray(int size) {
+		int[] indexes = new int[size];
+		for (int i = 0; i < size; i++) {
+			indexes[i] = -1;
+		}
+		return indexes;
+	}
+
+	// the elements whose children are compared, if they are changed.
+	private static boolean isContainer(Node element) {
+		return isElement(element, TABLE_URI, "table") || isElement(element, TABLE_URI, "table-row")
+				|| isElement(element, TEXT_URI, "section") || isElement(element, TEXT_URI, "list")
+				|| isElement(element, TEXT_URI, "list-item") || isElement(element, TEXT_URI, "list-header");
+	}
+
+	private static boolean isElement(Node node, String uri, String localName) {
+		return node.getNodeType() == Node.ELEMENT_NODE && localName.equals(node.getLocalName())
+				&& uri.equals(node.getNamespaceURI());
+	}
+
+	private static boolean isSameName(Node node1, Node node2) {
+		String uri = node1.getNamespaceURI();
+		return node1.getLocalName().equals(node2.getLocalName())
+				&& (uri == null ? node2.getNamespaceURI() == null : uri.equals(node2.getNamespaceURI()));
+	}
+
+	// the comparison key of an element. Without the keys of the styles, the
+	// style names and the spans are left out.
+	private static String getKey(Node element, boolean deep, StyleKeys styles) {
+		StringBuilder key = new StringBuilder();
+		appendKey(element, deep, styles, key);
+		return key.toString();
+	}
+
+	private static void appendKey(Node element, boolean deep, StyleKeys styles, StringBuilder key) {
+		key.append(KEY_START).append(element.getNamespaceURI()).append(KEY_SEPARATOR).append(element.getLocalName());
+		NamedNodeMap attributeMap = element.getAttributes();
+		List<String> attributes = new ArrayList<String>();
+		for (int i = 0; i < attributeMap.getLength(); i++) {
+			Attr attribute = (Attr) attributeMap.item(i);
+			String name = attribute.getLocalName();
+			if (name == null) {
+				name = attribute.getName();
+			}
+			if (XMLNS_URI.equals(attribute.getNamespaceURI())) {
+				continue;
+			}
+			String value = attribute.getValue();
+			if (name.endsWith("style-name")) {
+				if (styles == null) {
+					continue;
+				}
+				value = styles.getKey(value);
+			} else if (name.equals("class-names")) {
+				if (styles == null) {
+					continue;
+				}
+				StringBuilder classes = new StringBuilder();
+				for (String className : value.trim().split("\\s+")) {
+					classes.append(styles.getKey(className)).append(KEY_SEPARATOR);
+				}
+				value = classes.toString();
+			} else if (styles != null && styles.isStyle(element) && name.equals("name")
+					&& STYLE_URI.equals(attribute.getNamespaceURI())) {
+				// the name of an automatic style is replaced by its key
+				continue;
+			}
+			attributes.add(attribute.getNamespaceURI() + KEY_SEPARATOR + name + KEY_SEPARATOR + value);
+		}
+		Collections.sort(attributes);
+		for (String attribute : attributes) {
+			key.append(KEY_SEPARATOR).append(attribute);
+		}
+		if (deep) {
+			appendChildKeys(element, styles, key);
+		}
+		key.append(KEY_END);
+	}
+
+	private static void appendChildKeys(Node element, StyleKeys styles, StringBuilder key) {
+		for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+			short type = child.getNodeType();
+			if (type == Node.TEXT_NODE || type == Node.CDATA_SECTION_NODE) {
+				key.append(child.getNodeValue());
+			} else if (type == Node.ELEMENT_NODE) {
+				if (styles == null && isElement(child, TEXT_URI, "span")) {
+					appendChildKeys(child, styles, key);
+				} else {
+					appendKey(child, true, styles, key);
+				}
+			}
+		}
+	}
+
+	private static long hash(String key) {
+		long hash = FNV_OFFSET;
+		for (int i = 0; i < key.length(); i++) {
+			hash = (hash ^ key.charAt(i)) * FNV_PRIME;
+		}
+		return hash;
+	}
+
+	/**
+	 * The keys of the automatic styles of a document, which replace the names
+	 * of the automatic styles in the keys of the elements. The key of an
+	 * automatic style is the key of its definition, without its name, so the
+	 * keys of two automatic styles in two documents are the same if they have
+	 * the same family, parent style and properties. The names of the other
+	 * styles are their keys.
+	 */
+	private static class StyleKeys {
+
+		private final Node mAutomaticStyles;
+		private final Map<String, List<Element>> mStyles = new HashMap<String, List<Element>>();
+		private final Map<String, String> mKeys = new HashMap<String, String>();
+
+		StyleKeys(Node node) {
+			Node automaticStyles = null;
+			Node dom = node.getNodeType() == Node.DOCUMENT_NODE ? node : node.getOwnerDocument();
+			Node root = dom != null ? dom.getFirstChild() : null;
+			while (root != null && root.getNodeType() != Node.ELEMENT_NODE) {
+				root = root.getNextSibling();
+			}
+			if (root != null) {
+				for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+					if (isElement(child, OFFICE_URI, "automatic-styles")) {
+						automaticStyles = child;
+						break;
+					}
+				}
+			}
+			mAutomaticStyles = automaticStyles;
+			if (automaticStyles != null) {
+				for (Node child = automaticStyles.getFirstChild(); child != null; child = child.getNextSibling()) {
+					if (child.getNodeType() == Node.ELEMENT_NODE) {
+						Element style = (Element) child;
+						String name = style.getAttributeNS(STYLE_URI, "name");
+						if (name.length() > 0) {
+							// styles of different families may have the same name
+							List<Element> styles = mStyles.get(name);
+							if (styles == null) {
+								styles = new ArrayList<Element>(1);
+								mStyles.put(name, styles);
+							}
+							styles.add(style);
+						}
+					}
+				}
+			}
+		}
+
+		boolean isStyle(Node element) {
+			return mAutomaticStyles != null && element.getParentNode() == mAutomaticStyles;
+		}
+
+		String getKey(String name) {
+			String key = mKeys.get(name);
+			if (key == null) {
+				List<Element> styles = mStyles.get(name);
+				if (styles == null) {
+					key = name;
+				} else {
+					// a style which refers to itself is resolved to its name
+					// there
+					mKeys.put(name, name);
+					StringBuilder builder = new StringBuilder();
+					for (Element style : styles) {
+						appendKey(style, true, this, builder);
+					}
+					key = builder.toString();
+				}
+				mKeys.put(name, key);
+			}
+			return key;
+		}
+	}
+}
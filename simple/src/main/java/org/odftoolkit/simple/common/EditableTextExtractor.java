@@ -87,7 +87,7 @@ public class EditableTextExtractor extends TextExtractor {
 	 *            the ODF element
 	 * @return the text content of the element
 	 */
-	public static synchronized String getText(OdfElement ele) {
+	public static String getText(OdfElement ele) {
 		EditableTextExtractor extractor = newOdfEditableTextExtractor(ele);
 		return extractor.getText();
 	}
@@ -99,7 +99,7 @@ public class EditableTextExtractor extends TextExtractor {
 	 *            the document
 	 * @return the text content of the document
 	 */
-	public static synchronized String getText(Document doc) {
+	public static String getText(Document doc) {
 		EditableTextExtractor extractor = newOdfEditableTextExtractor(doc);
 		return extractor.getText();
 	}
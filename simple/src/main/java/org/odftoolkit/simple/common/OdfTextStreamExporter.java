@@ -0,0 +1,1272 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.odftoolkit.odfdom.dom.OdfDocumentNamespace;
+import org.odftoolkit.odfdom.dom.OdfSchemaDocument.OdfXMLFile;
+import org.odftoolkit.odfdom.pkg.OdfPackage;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * OdfTextStreamExporter writes the headings, paragraphs, spans, lists, tables,
+ * links and images of a text document as HTML or as Markdown, while the XML
+ * files of its package are parsed with a SAX parser, without loading the DOM
+ * of the document.
+ * <p>
+ * The styles of styles.xml and the automatic styles of content.xml are
+ * collected into a table first, where the bold, italic, underline and line
+ * through properties of each paragraph and text style are resolved once with
+ * the properties of its parent styles. The table is used by the following
+ * pass over the body of content.xml, which writes the output.
+ * <p>
+ * The HTML output is the content of an HTML body: headings are written as
+ * <code>h1</code> to <code>h6</code>, the text properties as
+ * <code>strong</code>, <code>em</code>, <code>u</code> and <code>s</code>. The
+ * Markdown output uses pipe tables and has no underline. The links and the
+ * image sources are written as they are in the document, so the pictures of
+ * the package are referenced by their path in the package, like
+ * <code>Pictures/image.png</code>. Only relative URLs and URLs with the
+ * schemes http, https and mailto are written; a link with another URL, like a
+ * <code>javascript:</code> URL, is written as its text, and an image with
+ * another URL is left out.
+ * <p>
+ * Repeated table rows and cells are written as often as they are repeated, up
+ * to 1000 times. The empty rows and cells at the end of a table or a row,
+ * which spreadsheets repeat up to the size of the sheet, are not written.
+ * <p>
+ * Annotations, notes, tracked changes, the templates of indexes, text boxes
+ * and other objects in frames are not exported.
+ * <p>
+ * This is a SAX handler, so it can also be passed to a SAX parser of a flat
+ * XML document, where the styles precede the body. The parser has to be
+ * namespace aware.
+ *
+ * @since 0.9
+ */
+public class OdfTextStreamExporter extends DefaultHandler {
+
+	/**
+	 * The output formats of the exporter.
+	 *
+	 * @since 0.9
+	 */
+	public static enum Format {
+		/**
+		 * The content of an HTML body.
+		 */
+		HTML,
+		/**
+		 * Markdown, with the pipe tables of GitHub flavored Markdown.
+		 */
+		MARKDOWN
+	}
+
+	// the text properties of a style
+	private static final int BOLD = 1;
+	private static final int ITALIC = 2;
+	private static final int UNDERLINE = 4;
+	private static final int LINE_THROUGH = 8;
+
+	// the actions at the end of an element
+	private static final int END_NONE = 0;
+	private static final int END_BLOCK = 1;
+	private static final int END_FORMAT = 2;
+	private static final int END_LINK = 3;
+	private static final int END_LIST = 4;
+	private static final int END_ITEM = 5;
+	private static final int END_TABLE = 6;
+	private static final int END_HEADER_ROWS = 7;
+	private static final int END_ROW = 8;
+	private static final int END_CELL = 9;
+	private static final int END_FRAME = 10;
+	private static final int END_STYLE = 11;
+	private static final int END_LIST_STYLE = 12;
+	private static final int END_BODY = 13;
+
+	private static final String TEXT = OdfDocumentNamespace.TEXT.getUri();
+	private static final String STYLE = OdfDocumentNamespace.STYLE.getUri();
+	private static final String TABLE = OdfDocumentNamespace.TABLE.getUri();
+	private static final String DRAW = OdfDocumentNamespace.DRAW.getUri();
+	private static final String OFFICE = OdfDocumentNamespace.OFFICE.getUri();
+	private static final String FO = OdfDocumentNamespace.FO.getUri();
+	private static final String XLINK = OdfDocumentNamespace.XLINK.getUri();
+	// the URL schemes which are written, other URLs might run scripts
+	private static final String[] URL_SCHEMES = { "http", "https", "mailto" };
+	// the maximum number of the repetitions of a row or a cell which are
+	// written
+	private static final int MAX_REPEATED = 1000;
+
+	private final Renderer mRenderer;
+	private final StyleTable mStyles = new StyleTable();
+
+	private int mDepth;
+	private int[] mEndActions = new int[32];
+	private int[] mEndData = new int[32];
+	// the depth of the element whose content is skipped, or 0
+	private int mSkippedDepth;
+	private boolean mbInBody;
+
+	// the state of the body
+	private int mBlockDepth;
+	private int mFormat;
+	private boolean mbLastSpace;
+	private final StringBuilder mText = new StringBuilder();
+	private final ArrayList<String> mLinks = new ArrayList<String>();
+	private final ArrayList<String> mListStyles = new ArrayList<String>();
+	private int mHeaderRowsDepth;
+	private int mFrameDepth;
+	private boolean mbFrameImageWritten;
+	private boolean mbFrameBlock;
+	private String mFrameName;
+	// the repeated row or cell whose events are recorded, and the empty
+	// repeated rows or cells which are only written if a sibling follows
+	private RepeatedElement mRepeated;
+	private RepeatedElement mPendingEmpty;
+
+	// the style which is collected
+	private StyleEntry mStyle;
+	private String mListStyle;
+
+	/**
+	 * Create an exporter which writes a document to an <code>Appendable</code>.
+	 *
+	 * @param target
+	 *            the <code>Appendable</code> the document is written to
+	 * @param format
+	 *            the output format
+	 */
+	public OdfTextStreamExporter(Appendable target, Format format) {
+		if (target == null) {
+			throw new IllegalArgumentException("target should not be null.");
+		}
+		if (format == null) {
+			throw new IllegalArgumentException("format should not be null.");
+		}
+		mRenderer = format == Format.HTML ? new HtmlRenderer(target) : new MarkdownRenderer(target);
+	}
+
+	/**
+	 * Return a document package as HTML or Markdown.
+	 *
+	 * @param pkg
+	 *            the package of the document
+	 * @param format
+	 *            the output format
+	 * @return the exported document
+	 * @throws IOException
+	 *             if the package can't be read
+	 * @throws SAXException
+	 *             if the XML files of the package can't be parsed
+	 */
+	public static String export(OdfPackage pkg, Format format) throws IOException, SAXException {
+		StringBuilder builder = new StringBuilder();
+		new OdfTextStreamExporter(builder, format).export(pkg);
+		return builder.toString();
+	}
+
+	/**
+	 * Export a document package. The styles are read from styles.xml, then
+	 * the automatic styles and the body are read from content.xml.
+	 *
+	 * @param pkg
+	 *            the package of the document
+	 * @throws IOException
+	 *             if the package can't be read, or if the output can't be
+	 *             written
+	 * @throws SAXException
+	 *             if the XML files of the package can't be parsed
+	 */
+	public void export(OdfPackage pkg) throws IOException, SAXException {
+		XMLReader reader;
+		try {
+			reader = pkg.getXMLReader();
+		} catch (ParserConfigurationException e) {
+			throw new SAXException(e);
+		}
+		reader.setContentHandler(this);
+		try {
+			parse(reader, pkg, OdfXMLFile.STYLES.getFileName());
+			parse(reader, pkg, OdfXMLFile.CONTENT.getFileName());
+		} catch (SAXException e) {
+			// the output can't be written
+			if (e.getException() instanceof IOException) {
+				throw (IOException) e.getException();
+			}
+			throw e;
+		}
+	}
+
+	private void parse(XMLReader reader, OdfPackage pkg, String path) throws IOException, SAXException {
+		InputStream stream = pkg.getInputStream(path);
+		if (stream == null) {
+			return;
+		}
+		try {
+			InputSource source = new InputSource(stream);
+			source.setSystemId(pkg.getBaseURI() + path);
+			reader.parse(source);
+		} finally {
+			stream.close();
+		}
+	}
+
+	@Override
+	public void startDocument() throws SAXException {
+		mDepth = 0;
+		mSkippedDepth = 0;
+		mbInBody = false;
+		mStyle = null;
+		mListStyle = null;
+		mRepeated = null;
+		mPendingEmpty = null;
+	}
+
+	@Override
+	public void startElement(String uri, String localName, String qName, Attributes attributes)
+			throws SAXException {
+		if (mRepeated != null) {
+			mRepeated.startElement(uri, localName, qName, attributes);
+			return;
+		}
+		if (mPendingEmpty != null) {
+			// the empty rows or cells are followed by a sibling
+			RepeatedElement empty = mPendingEmpty;
+			mPendingEmpty = null;
+			empty.replay(this);
+		}
+		if (mbInBody && mSkippedDepth == 0 && mFrameDepth == 0 && TABLE.equals(uri)) {
+			String repeatedName = "table-row".equals(localName) ? "number-rows-repeated" : "table-cell".equals(
+					localName) ? "number-columns-repeated" : null;
+			int repeated = repeatedName != null ? getInteger(attributes.getValue(TABLE, repeatedName), 1) : 1;
+			if (repeated > 1) {
+				mRepeated = new RepeatedElement(uri, localName, qName, attributes, repeatedName, repeated);
+				return;
+			}
+		}
+		mDepth++;
+		if (mDepth == mEndActions.length) {
+			int[] actions = new int[mDepth * 2];
+			System.arraycopy(mEndActions, 0, actions, 0, mDepth);
+			mEndActions = actions;
+			int[] data = new int[mDepth * 2];
+			System.arraycopy(mEndData, 0, data, 0, mDepth);
+			mEndData = data;
+		}
+		mEndActions[mDepth] = END_NONE;
+		if (mSkippedDepth > 0) {
+			return;
+		}
+		try {
+			if (mbInBody) {
+				startBodyElement(uri, localName, attributes);
+			} else {
+				startStyleElement(uri, localName, attributes);
+			}
+		} catch (IOException e) {
+			throw new SAXException(e);
+		}
+	}
+
+	@Override
+	public void endElement(String uri, String localName, String qName) throws SAXException {
+		if (mRepeated != null) {
+			if (mRepeated.endElement(uri, localName, qName)) {
+				RepeatedElement repeated = mRepeated;
+				mRepeated = null;
+				if (repeated.mbEmpty) {
+					mPendingEmpty = repeated;
+				} else {
+					repeated.replay(this);
+				}
+			}
+			return;
+		}
+		// the empty rows or cells at the end of their parent are not written
+		mPendingEmpty = null;
+		int action = mEndActions[mDepth];
+		int data = mEndData[mDepth];
+		if (mSkippedDepth == mDepth) {
+			mSkippedDepth = 0;
+		}
+		mDepth--;
+		try {
+			flushText();
+			switch (action) {
+			case END_BLOCK:
+				mRenderer.endFormat(data & 0xff);
+				mRenderer.endBlock(data >> 8);
+				mFormat = 0;
+				mBlockDepth--;
+				break;
+			case END_FORMAT:
+				mRenderer.endFormat(data);
+				mFormat &= ~data;
+				break;
+			case END_LINK:
+				mRenderer.endLink(mLinks.remove(mLinks.size() - 1));
+				break;
+			case END_LIST:
+				mListStyles.remove(mListStyles.size() - 1);
+				mRenderer.endList();
+				break;
+			case END_ITEM:
+				mRenderer.endItem();
+				break;
+			case END_TABLE:
+				mRenderer.endTable();
+				break;
+			case END_HEADER_ROWS:
+				mHeaderRowsDepth--;
+				break;
+			case END_ROW:
+				mRenderer.endRow();
+				break;
+			case END_CELL:
+				mRenderer.endCell();
+				break;
+			case END_FRAME:
+				mFrameDepth = 0;
+				break;
+			case END_STYLE:
+				mStyle = null;
+				break;
+			case END_LIST_STYLE:
+				mListStyle = null;
+				break;
+			case END_BODY:
+				mbInBody = false;
+				break;
+			}
+		} catch (IOException e) {
+			throw new SAXException(e);
+		}
+	}
+
+	@Override
+	public void characters(char[] ch, int start, int length) throws SAXException {
+		if (mRepeated != null) {
+			mRepeated.characters(ch, start, length);
+			return;
+		}
+		if (mSkippedDepth > 0 || mFrameDepth > 0 || mBlockDepth == 0) {
+			return;
+		}
+		// white space is collapsed like in the text of a paragraph
+		int end = start + length;
+		for (int i = start; i < end; i++) {
+			char c = ch[i];
+			if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+				if (!mbLastSpace) {
+					mText.append(' ');
+					mbLastSpace = true;
+				}
+			} else {
+				mText.append(c);
+				mbLastSpace = false;
+			}
+		}
+	}
+
+	private void flushText() throws IOException {
+		if (mText.length() > 0) {
+			mRenderer.text(mText);
+			mText.setLength(0);
+		}
+	}
+
+	private void startStyleElement(String uri, String localName, Attributes attributes) {
+		if (STYLE.equals(uri)) {
+			if ("style".equals(localName) || "default-style".equals(localName)) {
+				String family = attributes.getValue(STYLE, "family");
+				String name = attributes.getValue(STYLE, "name");
+				mStyle = new StyleEntry(attributes.getValue(STYLE, "parent-style-name"));
+				if ("default-style".equals(localName)) {
+					mStyles.mDefaults.put(family, mStyle);
+				} else if (name != null) {
+					mStyles.mStyles.put(family + ':' + name, mStyle);
+				}
+				mEndActions[mDepth] = END_STYLE;
+			} else if ("text-properties".equals(localName) && mStyle != null) {
+				mStyle.setTextProperties(attributes);
+			}
+		} else if (TEXT.equals(uri)) {
+			if ("list-style".equals(localName)) {
+				mListStyle = attributes.getValue(STYLE, "name");
+				mEndActions[mDepth] = END_LIST_STYLE;
+			} else if ("list-level-style-number".equals(localName) && mListStyle != null) {
+				int level = getInteger(attributes.getValue(TEXT, "level"), 1);
+				BitSet levels = mStyles.mOrderedLevels.get(mListStyle);
+				if (levels == null) {
+					levels = new BitSet();
+					mStyles.mOrderedLevels.put(mListStyle, levels);
+				}
+				levels.set(level);
+			}
+		} else if (OFFICE.equals(uri) && "body".equals(localName)) {
+			mbInBody = true;
+			mEndActions[mDepth] = END_BODY;
+		}
+	}
+
+	private void startBodyElement(String uri, String localName, Attributes attributes) throws IOException {
+		if (mFrameDepth > 0) {
+			// only the first image of a frame is exported, the others are
+			// replacements of it.
+			String src = DRAW.equals(uri) && "image".equals(localName) && !mbFrameImageWritten ? getSafeUrl(attributes
+					.getValue(XLINK, "href")) : null;
+			if (src != null) {
+				// a frame which is anchored to the page is a block of its own
+				if (mbFrameBlock) {
+					mRenderer.startBlock(0);
+				}
+				mRenderer.image(src, mFrameName);
+				if (mbFrameBlock) {
+					mRenderer.endBlock(0);
+				}
+				mbFrameImageWritten = true;
+			}
+			return;
+		}
+		flushText();
+		if (TEXT.equals(uri)) {
+			if ("p".equals(localName)) {
+				startBlock(0, attributes);
+			} else if ("h".equals(localName)) {
+				int level = getInteger(attributes.getValue(TEXT, "outline-level"), 1);
+				startBlock(Math.min(Math.max(level, 1), 6), attributes);
+			} else if ("span".equals(localName)) {
+				int format = mStyles.getFormat("text", attributes.getValue(TEXT, "style-name")) & ~mFormat;
+				if (format != 0) {
+					mRenderer.startFormat(format);
+					mFormat |= format;
+				}
+				mEndActions[mDepth] = END_FORMAT;
+				mEndData[mDepth] = format;
+			} else if ("a".equals(localName)) {
+				startLink(attributes);
+			} else if ("s".equals(localName)) {
+				mRenderer.spaces(getInteger(attributes.getValue(TEXT, "c"), 1));
+				mbLastSpace = false;
+				mSkippedDepth = mDepth;
+			} else if ("tab".equals(localName)) {
+				mRenderer.tab();
+				mbLastSpace = false;
+				mSkippedDepth = mDepth;
+			} else if ("line-break".equals(localName)) {
+				mRenderer.lineBreak();
+				mbLastSpace = true;
+				mSkippedDepth = mDepth;
+			} else if ("list".equals(localName)) {
+				String style = attributes.getValue(TEXT, "style-name");
+				if (style == null && mListStyles.size() > 0) {
+					style = mListStyles.get(mListStyles.size() - 1);
+				}
+				mListStyles.add(style);
+				mRenderer.startList(mStyles.isOrdered(style, mListStyles.size()));
+				mEndActions[mDepth] = END_LIST;
+			} else if ("list-item".equals(localName) || "list-header".equals(localName)) {
+				mRenderer.startItem();
+				mEndActions[mDepth] = END_ITEM;
+			} else if ("note".equals(localName) || "tracked-changes".equals(localName)
+					|| localName.endsWith("-source")) {
+				mSkippedDepth = mDepth;
+			}
+		} else if (TABLE.equals(uri)) {
+			if ("table".equals(localName)) {
+				mRenderer.startTable();
+				mEndActions[mDepth] = END_TABLE;
+			} else if ("table-header-rows".equals(localName)) {
+				mHeaderRowsDepth++;
+				mEndActions[mDepth] = END_HEADER_ROWS;
+			} else if ("table-row".equals(localName)) {
+				mRenderer.startRow(mHeaderRowsDepth > 0);
+				mEndActions[mDepth] = END_ROW;
+			} else if ("table-cell".equals(localName)) {
+				mRenderer.startCell(getInteger(attributes.getValue(TABLE, "number-columns-spanned"), 1),
+						mHeaderRowsDepth > 0);
+				mEndActions[mDepth] = END_CELL;
+			} else if ("covered-table-cell".equals(localName)) {
+				mSkippedDepth = mDepth;
+			}
+		} else if (DRAW.equals(uri)) {
+			if ("frame".equals(localName)) {
+				mFrameDepth = mDepth;
+				mbFrameImageWritten = false;
+				mbFrameBlock = mBlockDepth == 0;
+				mFrameName = attributes.getValue(DRAW, "name");
+				mEndActions[mDepth] = END_FRAME;
+			} else if ("a".equals(localName)) {
+				startLink(attributes);
+			}
+		} else if (OFFICE.equals(uri)) {
+			if ("annotation".equals(localName) || "annotation-end".equals(localName)) {
+				mSkippedDepth = mDepth;
+			}
+		}
+	}
+
+	private void startBlock(int headingLevel, Attributes attributes) throws IOException {
+		mRenderer.startBlock(headingLevel);
+		// the headings are not formatted as a whole
+		int format = headingLevel > 0 ? 0 : mStyles.getFormat("paragraph", attributes.getValue(TEXT,
+				"style-name"));
+		mRenderer.startFormat(format);
+		mFormat = format;
+		mbLastSpace = true;
+		mBlockDepth++;
+		mEndActions[mDepth] = END_BLOCK;
+		mEndData[mDepth] = headingLevel << 8 | format;
+	}
+
+	private void startLink(Attributes attributes) throws IOException {
+		String href = getSafeUrl(attributes.getValue(XLINK, "href"));
+		if (href != null) {
+			mLinks.add(href);
+			mRenderer.startLink(href);
+			mEndActions[mDepth] = END_LINK;
+		}
+	}
+
+	// returns the URL, if it is relative or if it has one of the allowed
+	// schemes, or null. Browsers ignore the white space and the control
+	// characters in the scheme, so these are ignored here too.
+	private static String getSafeUrl(String url) {
+		if (url == null) {
+			return null;
+		}
+		StringBuilder scheme = new StringBuilder();
+		for (int i = 0; i < url.length(); i++) {
+			char c = url.charAt(i);
+			if (c == ':') {
+				String name = scheme.toString();
+				for (String allowed : URL_SCHEMES) {
+					if (allowed.equalsIgnoreCase(name)) {
+						return url;
+					}
+				}
+				return null;
+			} else if (c == '/' || c == '?' || c == '#') {
+				// a relative URL
+				return url;
+			} else if (c > ' ') {
+				scheme.append(c);
+			}
+		}
+		return url;
+	}
+
+	private static int getInteger(String value, int defaultValue) {
+		if (value != null) {
+			try {
+				int result = Integer.parseInt(value.trim());
+				if (result > 0) {
+					return result;
+				}
+			} catch (NumberFormatException e) {
+				// the default value
+			}
+		}
+		return defaultValue;
+	}
+
+	/**
+	 * The SAX events of a repeated table row or cell, which are replayed for
+	 * each repetition. The repetition attribute is removed from the element,
+	 * so a replayed element is not repeated again.
+	 */
+	private static class RepeatedElement {
+		private static final int START = 0;
+		private static final int END = 1;
+		private static final int CHARACTERS = 2;
+
+		private final int mRepeated;
+		private final ArrayList<Integer> mTypes = new ArrayList<Integer>();
+		private final ArrayList<Object[]> mEvents = new ArrayList<Object[]>();
+		private int mDepth;
+		// the element has no text and no elements but cells
+		boolean mbEmpty = true;
+
+		RepeatedElement(String uri, String localName, String qName, Attributes attributes, String repeatedName,
+				int repeated) {
+			mRepeated = repeated;
+			AttributesImpl copy = new AttributesImpl(attributes);
+			int index = copy.getIndex(TABLE, repeatedName);
+			if (index >= 0) {
+				copy.removeAttribute(index);
+			}
+			add(START, new Object[] { uri, localName, qName, copy });
+			mDepth = 1;
+		}
+
+		void startElement(String uri, String localName, String qName, Attributes attributes) {
+			if (!TABLE.equals(uri) || !("table-cell".equals(localName) || "covered-table-cell".equals(localName))) {
+				mbEmpty = false;
+			}
+			add(START, new Object[] { uri, localName, qName, new AttributesImpl(attributes) });
+			mDepth++;
+		}
+
+		// returns true at the end of the repeated element
+		boolean endElement(String uri, String localName, String qName) {
+			add(END, new Object[] { uri, localName, qName });
+			return --mDepth == 0;
+		}
+
+		void characters(char[] ch, int start, int length) {
+			for (int i = start; i < start + length && mbEmpty; i++) {
+				mbEmpty = Character.isWhitespace(ch[i]);
+			}
+			add(CHARACTERS, new Object[] { new String(ch, start, length) });
+		}
+
+		void replay(OdfTextStreamExporter handler) throws SAXException {
+			int repeated = Math.min(mRepeated, MAX_REPEATED);
+			for (int i = 0; i < repeated; i++) {
+				for (int j = 0; j < mEvents.size(); j++) {
+					Object[] event = mEvents.get(j);
+					switch (mTypes.get(j).intValue()) {
+					case START:
+						handler.startElement((String) event[0], (String) event[1], (String) event[2],
+								(Attributes) event[3]);
+						break;
+					case END:
+						handler.endElement((String) event[0], (String) event[1], (String) event[2]);
+						break;
+					default:
+						char[] text = ((String) event[0]).toCharArray();
+						handler.characters(text, 0, text.length);
+					}
+				}
+			}
+		}
+
+		private void add(int type, Object[] event) {
+			mTypes.add(Integer.valueOf(type));
+			mEvents.add(event);
+		}
+	}
+
+	/**
+	 * The text properties of a style, which are set by the style itself.
+	 */
+	private static class StyleEntry {
+		final String mParent;
+		int mSet;
+		int mValue;
+
+		StyleEntry(String parent) {
+			mParent = parent;
+		}
+
+		void setTextProperties(Attributes attributes) {
+			String weight = attributes.getValue(FO, "font-weight");
+			if (weight != null) {
+				set(BOLD, "bold".equals(weight) || (Character.isDigit(weight.charAt(0))
+						&& getInteger(weight, 400) >= 600));
+			}
+			String style = attributes.getValue(FO, "font-style");
+			if (style != null) {
+				set(ITALIC, "italic".equals(style) || "oblique".equals(style));
+			}
+			String underline = attributes.getValue(STYLE, "text-underline-style");
+			if (underline != null) {
+				set(UNDERLINE, !"none".equals(underline));
+			}
+			String lineThrough = attributes.getValue(STYLE, "text-line-through-style");
+			if (lineThrough != null) {
+				set(LINE_THROUGH, !"none".equals(lineThrough));
+			}
+		}
+
+		private void set(int property, boolean value) {
+			mSet |= property;
+			if (value) {
+				mValue |= property;
+			} else {
+				mValue &= ~property;
+			}
+		}
+	}
+
+	/**
+	 * The styles of a document, whose text properties are resolved with the
+	 * properties of their parent styles when they are first used.
+	 */
+	private static class StyleTable {
+		private static final int MAX_PARENTS = 32;
+
+		final Map<String, StyleEntry> mStyles = new HashMap<String, StyleEntry>();
+		final Map<String, StyleEntry> mDefaults = new HashMap<String, StyleEntry>();
+		final Map<String, BitSet> mOrderedLevels = new HashMap<String, BitSet>();
+		private final Map<String, Integer> mFormats = new HashMap<String, Integer>();
+
+		int getFormat(String family, String name) {
+			if (name == null) {
+				StyleEntry defaultStyle = mDefaults.get(family);
+				return defaultStyle != null ? defaultStyle.mValue & defaultStyle.mSet : 0;
+			}
+			String key = family + ':' + name;
+			Integer format = mFormats.get(key);
+			if (format == null) {
+				format = Integer.valueOf(resolve(family, name, 0));
+				mFormats.put(key, format);
+			}
+			return format.intValue();
+		}
+
+		private int resolve(String family, String name, int depth) {
+			StyleEntry style = mStyles.get(family + ':' + name);
+			if (style == null || depth == MAX_PARENTS) {
+				return getFormat(family, null);
+			}
+			int parentFormat = style.mParent != null ? resolve(family, style.mParent, depth + 1) : getFormat(
+					family, null);
+			return (parentFormat & ~style.mSet) | (style.mValue & style.mSet);
+		}
+
+		boolean isOrdered(String listStyle, int level) {
+			BitSet levels = listStyle != null ? mOrderedLevels.get(listStyle) : null;
+			return levels != null && levels.get(level);
+		}
+	}
+
+	/**
+	 * Writes the parts of a document in an output format.
+	 */
+	private static abstract class Renderer {
+		private final Appendable mTarget;
+
+		Renderer(Appendable target) {
+			mTarget = target;
+		}
+
+		void write(CharSequence text) throws IOException {
+			mTarget.append(text);
+		}
+
+		void write(CharSequence text, int start, int end) throws IOException {
+			mTarget.append(text, start, end);
+		}
+
+		void write(char c) throws IOException {
+			mTarget.append(c);
+		}
+
+		abstract void startBlock(int headingLevel) throws IOException;
+
+		abstract void endBlock(int headingLevel) throws IOException;
+
+		abstract void text(CharSequence text) throws IOException;
+
+		abstract void spaces(int count) throws IOException;
+
+		abstract void tab() throws IOException;
+
+		abstract void lineBreak() throws IOException;
+
+		abstract void startFormat(int format) throws IOException;
+
+		abstract void endFormat(int format) throws IOException;
+
+		abstract void startLink(String href) throws IOException;
+
+		abstract void endLink(String href) throws IOException;
+
+		abstract void image(String src, String alt) throws IOException;
+
+		abstract void startList(boolean ordered) throws IOException;
+
+		abstract void endList() throws IOException;
+
+		abstract void startItem() throws IOException;
+
+		abstract void endItem() throws IOException;
+
+		abstract void startTable() throws IOException;
+
+		abstract void endTable() throws IOException;
+
+		abstract void startRow(boolean header) throws IOException;
+
+		abstract void endRow() throws IOException;
+
+		abstract void startCell(int columnSpan, boolean header) throws IOException;
+
+		abstract void endCell() throws IOException;
+	}
+
+	private static class HtmlRenderer extends Renderer {
+		private static final String[] FORMAT_TAGS = { "strong", "em", "u", "s" };
+
+		private final ArrayList<Boolean> mOrderedLists = new ArrayList<Boolean>();
+		private final ArrayList<Boolean> mHeaderCells = new ArrayList<Boolean>();
+		// the number of open list items and cells, whose blocks are not
+		// followed by a new line
+		private int mContainerDepth;
+
+		HtmlRenderer(Appendable target) {
+			super(target);
+		}
+
+		void startBlock(int headingLevel) throws IOException {
+			write(headingLevel > 0 ? "<h" + headingLevel + ">" : "<p>");
+		}
+
+		void endBlock(int headingLevel) throws IOException {
+			write(headingLevel > 0 ? "</h" + headingLevel + ">" : "</p>");
+			if (mContainerDepth == 0) {
+				write('\n');
+			}
+		}
+
+		void text(CharSequence text) throws IOException {
+			escape(text, false);
+		}
+
+		void spaces(int count) throws IOException {
+			// the spaces are not collapsed by the browser
+			for (int i = 0; i < count; i++) {
+				write(i == 0 ? " " : "&#160;");
+			}
+		}
+
+		void tab() throws IOException {
+			write('\t');
+		}
+
+		void lineBreak() throws IOException {
+			write("<br/>");
+		}
+
+		void startFormat(int format) throws IOException {
+			for (int i = 0; i < FORMAT_TAGS.length; i++) {
+				if ((format & (1 << i)) != 0) {
+					write("<" + FORMAT_TAGS[i] + ">");
+				}
+			}
+		}
+
+		void endFormat(int format) throws IOException {
+			for (int i = FORMAT_TAGS.length - 1; i >= 0; i--) {
+				if ((format & (1 << i)) != 0) {
+					write("</" + FORMAT_TAGS[i] + ">");
+				}
+			}
+		}
+
+		void startLink(String href) throws IOException {
+			write("<a href=\"");
+			escape(href != null ? href : "", true);
+			write("\">");
+		}
+
+		void endLink(String href) throws IOException {
+			write("</a>");
+		}
+
+		void image(String src, String alt) throws IOException {
+			write("<img src=\"");
+			escape(src != null ? src : "", true);
+			write("\" alt=\"");
+			escape(alt != null ? alt : "", true);
+			write("\"/>");
+		}
+
+		void startList(boolean ordered) throws IOException {
+			mOrderedLists.add(Boolean.valueOf(ordered));
+			write(ordered ? "<ol>\n" : "<ul>\n");
+		}
+
+		void endList() throws IOException {
+			boolean ordered = mOrderedLists.remove(mOrderedLists.size() - 1).booleanValue();
+			write(ordered ? "</ol>\n" : "</ul>\n");
+		}
+
+		void startItem() throws IOException {
+			write("<li>");
+			mContainerDepth++;
+		}
+
+		void endItem() throws IOException {
+			mContainerDepth--;
+			write("</li>\n");
+		}
+
+		void startTable() throws IOException {
+			write("<table>\n");
+		}
+
+		void endTable() throws IOException {
+			write("</table>\n");
+		}
+
+		void startRow(boolean header) throws IOException {
+			write("<tr>");
+		}
+
+		void endRow() throws IOException {
+			write("</tr>\n");
+		}
+
+		void startCell(int columnSpan, boolean header) throws IOException {
+			mHeaderCells.add(Boolean.valueOf(header));
+			write(header ? "<th" : "<td");
+			if (columnSpan > 1) {
+				write(" colspan=\"" + columnSpan + "\"");
+			}
+			write('>');
+			mContainerDepth++;
+		}
+
+		void endCell() throws IOException {
+			mContainerDepth--;
+			boolean header = mHeaderCells.remove(mHeaderCells.size() - 1).booleanValue();
+			write(header ? "</th>" : "</td>");
+		}
+
+		private void escape(CharSequence text, boolean attribute) throws IOException {
+			int start = 0;
+			for (int i = 0; i < text.length(); i++) {
+				String replacement;
+				switch (text.charAt(i)) {
+				case '&':
+					replacement = "&amp;";
+					break;
+				case '<':
+					replacement = "&lt;";
+					break;
+				case '>':
+					replacement = "&gt;";
+					break;
+				case '"':
+					replacement = attribute ? "&quot;" : null;
+					break;
+				default:
+					replacement = null;
+				}
+				if (replacement != null) {
+					write(text, start, i);
+					write(replacement);
+					start = i + 1;
+				}
+			}
+			write(text, start, text.length());
+		}
+	}
+
+	private static class MarkdownRenderer extends Renderer {
+		private static final String[] FORMAT_MARKS = { "**", "*", "", "~~" };
+		private static final String SPECIAL_CHARACTERS = "\\`*_[]<>#|";
+
+		private boolean mbWritten;
+		// the numbers of the items of the open lists, or -1 for bullets
+		private final ArrayList<Integer> mListNumbers = new ArrayList<Integer>();
+		// the list item has no block yet
+		private boolean mbItemStart;
+		// the list has no item yet
+		private boolean mbListStart;
+		private boolean mbBlockStart;
+		private int mTableDepth;
+		private int mRowCount;
+		private int mColumnCount;
+		private boolean mbCellStart;
+		// the spans of the open cells of the table
+		private final ArrayList<Integer> mColumnSpans = new ArrayList<Integer>();
+		// the start of a block, which is written before its content, so that
+		// an empty block is not written.
+		private final StringBuilder mBlockPrefix = new StringBuilder();
+		private boolean mbBlockPending;
+
+		MarkdownRenderer(Appendable target) {
+			super(target);
+		}
+
+		@Override
+		void write(CharSequence text) throws IOException {
+			writeBlockPrefix();
+			super.write(text);
+		}
+
+		@Override
+		void write(CharSequence text, int start, int end) throws IOException {
+			writeBlockPrefix();
+			super.write(text, start, end);
+		}
+
+		@Override
+		void write(char c) throws IOException {
+			writeBlockPrefix();
+			super.write(c);
+		}
+
+		private void writeBlockPrefix() throws IOException {
+			if (mbBlockPending) {
+				mbBlockPending = false;
+				super.write(mBlockPrefix);
+				mbWritten = true;
+				mbItemStart = false;
+				mbCellStart = false;
+			}
+		}
+
+		void startBlock(int headingLevel) throws IOException {
+			mBlockPrefix.setLength(0);
+			if (mTableDepth > 0) {
+				// the blocks of a cell are on one line
+				if (!mbCellStart) {
+					mBlockPrefix.append("<br>");
+				}
+			} else if (!mbItemStart) {
+				if (mbWritten) {
+					mBlockPrefix.append("\n\n");
+				}
+				for (int i = 0; i < mListNumbers.size(); i++) {
+					mBlockPrefix.append("    ");
+				}
+			}
+			if (headingLevel > 0 && mTableDepth == 0) {
+				for (int i = 0; i < headingLevel; i++) {
+					mBlockPrefix.append('#');
+				}
+				mBlockPrefix.append(' ');
+			}
+			mbBlockPending = true;
+			mbBlockStart = true;
+		}
+
+		void endBlock(int headingLevel) throws IOException {
+			mbBlockPending = false;
+			mbBlockStart = false;
+		}
+
+		void text(CharSequence text) throws IOException {
+			int start = 0;
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				// a block which starts with - or + would be a list item
+				if (SPECIAL_CHARACTERS.indexOf(c) >= 0 || (mbBlockStart && i == 0 && (c == '-' || c == '+'))) {
+					write(text, start, i);
+					write('\\');
+					start = i;
+				}
+			}
+			write(text, start, text.length());
+			mbBlockStart = false;
+		}
+
+		void spaces(int count) throws IOException {
+			for (int i = 0; i < count; i++) {
+				write(' ');
+			}
+		}
+
+		void tab() throws IOException {
+			write('\t');
+		}
+
+		void lineBreak() throws IOException {
+			if (mTableDepth > 0) {
+				write("<br>");
+			} else {
+				write("\\\n");
+				for (int i = 0; i < mListNumbers.size(); i++) {
+					write("    ");
+				}
+			}
+		}
+
+		void startFormat(int format) throws IOException {
+			for (int i = 0; i < FORMAT_MARKS.length; i++) {
+				if ((format & (1 << i)) != 0) {
+					if (mbBlockPending) {
+						mBlockPrefix.append(FORMAT_MARKS[i]);
+					} else {
+						write(FORMAT_MARKS[i]);
+					}
+				}
+			}
+		}
+
+		void endFormat(int format) throws IOException {
+			for (int i = FORMAT_MARKS.length - 1; i >= 0; i--) {
+				if ((format & (1 << i)) != 0) {
+					if (mbBlockPending) {
+						// nothing is formatted
+						mBlockPrefix.setLength(mBlockPrefix.length() - FORMAT_MARKS[i].length());
+					} else {
+						write(FORMAT_MARKS[i]);
+					}
+				}
+			}
+		}
+
+		void startLink(String href) throws IOException {
+			write('[');
+		}
+
+		void endLink(String href) throws IOException {
+			write("](");
+			writeUrl(href);
+			write(')');
+		}
+
+		void image(String src, String alt) throws IOException {
+			write("![");
+			if (alt != null) {
+				text(alt);
+			}
+			write("](");
+			writeUrl(src);
+			write(')');
+		}
+
+		void startList(boolean ordered) throws IOException {
+			mListNumbers.add(Integer.valueOf(ordered ? 0 : -1));
+			mbListStart = true;
+		}
+
+		void endList() throws IOException {
+			mListNumbers.remove(mListNumbers.size() - 1);
+		}
+
+		void startItem() throws IOException {
+			if (mTableDepth > 0) {
+				return;
+			}
+			int level = mListNumbers.size();
+			if (mbWritten) {
+				// a list is separated from the block before it
+				write(level == 1 && mbListStart ? "\n\n" : "\n");
+			}
+			mbListStart = false;
+			for (int i = 1; i < level; i++) {
+				write("    ");
+			}
+			int number = mListNumbers.get(level - 1).intValue();
+			if (number < 0) {
+				write("- ");
+			} else {
+				number++;
+				mListNumbers.set(level - 1, Integer.valueOf(number));
+				write(number + ". ");
+			}
+			mbWritten = true;
+			mbItemStart = true;
+		}
+
+		void endItem() throws IOException {
+			mbItemStart = false;
+		}
+
+		void startTable() throws IOException {
+			mTableDepth++;
+			if (mTableDepth == 1) {
+				if (mbWritten) {
+					write("\n\n");
+				}
+				mbWritten = true;
+				mRowCount = 0;
+				mColumnCount = 0;
+			}
+		}
+
+		void endTable() throws IOException {
+			mTableDepth--;
+		}
+
+		void startRow(boolean header) throws IOException {
+			if (mTableDepth == 1) {
+				if (mRowCount > 0) {
+					write('\n');
+				}
+				write('|');
+			}
+		}
+
+		void endRow() throws IOException {
+			if (mTableDepth == 1) {
+				if (mRowCount == 0) {
+					// the first row is the header of the table
+					write("\n|");
+					for (int i = 0; i < mColumnCount; i++) {
+						write(" --- |");
+					}
+				}
+				mRowCount++;
+			}
+		}
+
+		void startCell(int columnSpan, boolean header) throws IOException {
+			if (mTableDepth == 1) {
+				write(' ');
+				mbCellStart = true;
+				if (mRowCount == 0) {
+					mColumnCount += columnSpan;
+				}
+				// the spanned columns are empty
+				mColumnSpans.add(Integer.valueOf(columnSpan));
+			} else {
+				write(' ');
+			}
+		}
+
+		void endCell() throws IOException {
+			if (mTableDepth == 1) {
+				int columnSpan = mColumnSpans.remove(mColumnSpans.size() - 1).intValue();
+				write(" |");
+				for (int i = 1; i < columnSpan; i++) {
+					write("  |");
+				}
+			}
+		}
+
+		private void writeUrl(String url) throws IOException {
+			if (url == null) {
+				return;
+			}
+			for (int i = 0; i < url.length(); i++) {
+				char c = url.charAt(i);
+				if (c == ' ') {
+					write("%20");
+				} else if (c == '(') {
+					write("%28");
+				} else if (c == ')') {
+					write("%29");
+				} else {
+					write(c);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,276 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.BitSet;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.odftoolkit.odfdom.dom.OdfDocumentNamespace;
+import org.odftoolkit.odfdom.dom.OdfSchemaDocument.OdfXMLFile;
+import org.odftoolkit.odfdom.pkg.OdfPackage;
+import org.odftoolkit.simple.common.TextExtractor.ExtractorStringBuilder;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * OdfTextStreamExtractor extracts the display text of a document from the
+ * XML files of its package with a SAX parser, without loading the DOM of the
+ * document.
+ * <p>
+ * The text is the same as the text which is returned by
+ * {@link TextExtractor#getText(org.odftoolkit.odfdom.pkg.OdfElement)
+ * TextExtractor.getText()} for the content root of the document: text:s,
+ * text:tab and text:line-break are replaced by their white space characters,
+ * and a new line character is appended after each paragraph and heading,
+ * except after the last one. It is written to an <code>Appendable</code>, for
+ * example a <code>Writer</code>, while the XML is parsed.
+ * <p>
+ * The text of the headers and footers of the master pages in styles.xml is
+ * appended after the text of the content, if it is included by
+ * {@link #setHeaderFooterIncluded(boolean)}. Each of them is separated from
+ * the text before it by a new line character.
+ * <p>
+ * This is a SAX handler, so it can also be passed to a SAX parser of a flat
+ * XML document. The parser has to be namespace aware.
+ *
+ * @since 0.9
+ */
+public class OdfTextStreamExtractor extends DefaultHandler {
+
+	private static final String[] HEADER_FOOTER_NAMES = { "header", "header-left", "header-first", "footer",
+			"footer-left", "footer-first" };
+
+	private final ExtractorStringBuilder mTextBuilder;
+	private boolean mbHeaderFooterIncluded;
+	// the depth of the current element in the extracted element, which is 0
+	// outside of it.
+	private int mDepth;
+	// the depth of a text:s, text:tab or text:line-break element, whose
+	// content is skipped, or 0.
+	private int mSkippedDepth;
+	// the depths of the open elements which end with a new line.
+	private final BitSet mLineEnds = new BitSet();
+	// the parent element of the extracted elements is open.
+	private boolean mbInBody;
+
+	/**
+	 * Create an extractor which writes the text to an <code>Appendable</code>.
+	 *
+	 * @param target
+	 *            the <code>Appendable</code> the text is written to
+	 */
+	public OdfTextStreamExtractor(Appendable target) {
+		if (target == null) {
+			throw new IllegalArgumentException("target should not be null.");
+		}
+		mTextBuilder = new ExtractorStringBuilder(target);
+	}
+
+	/**
+	 * Return the text of a document package as a string.
+	 *
+	 * @param pkg
+	 *            the package of the document
+	 * @return the text of the document
+	 * @throws IOException
+	 *             if the package can't be read
+	 * @throws SAXException
+	 *             if the XML files of the package can't be parsed
+	 */
+	public static String getText(OdfPackage pkg) throws IOException, SAXException {
+		StringBuilder builder = new StringBuilder();
+		new OdfTextStreamExtractor(builder).extract(pkg);
+		return builder.toString();
+	}
+
+	/**
+	 * Set whether the text of the headers and footers of the master pages is
+	 * extracted. It is not extracted by default.
+	 *
+	 * @param included
+	 *            whether the text of headers and footers is extracted
+	 */
+	public void setHeaderFooterIncluded(boolean included) {
+		mbHeaderFooterIncluded = included;
+	}
+
+	/**
+	 * Return whether the text of the headers and footers of the master pages is
+	 * extracted.
+	 *
+	 * @return whether the text of headers and footers is extracted
+	 */
+	public boolean isHeaderFooterIncluded() {
+		return mbHeaderFooterIncluded;
+	}
+
+	/**
+	 * Extract the text of a document package, which is parsed from the
+	 * content.xml and, if headers and footers are included, from the
+	 * styles.xml of the package.
+	 *
+	 * @param pkg
+	 *            the package of the document
+	 * @throws IOException
+	 *             if the package can't be read, or if the text can't be
+	 *             written
+	 * @throws SAXException
+	 *             if the XML files of the package can't be parsed
+	 */
+	public void extract(OdfPackage pkg) throws IOException, SAXException {
+		XMLReader reader;
+		try {
+			reader = pkg.getXMLReader();
+		} catch (ParserConfigurationException e) {
+			throw new SAXException(e);
+		}
+		reader.setContentHandler(this);
+		parse(reader, pkg, OdfXMLFile.CONTENT.getFileName());
+		if (mbHeaderFooterIncluded) {
+			parse(reader, pkg, OdfXMLFile.STYLES.getFileName());
+		}
+		mTextBuilder.checkException();
+	}
+
+	private void parse(XMLReader reader, OdfPackage pkg, String path) throws IOException, SAXException {
+		InputStream stream = pkg.getInputStream(path);
+		if (stream == null) {
+			return;
+		}
+		try {
+			InputSource source = new InputSource(stream);
+			source.setSystemId(pkg.getBaseURI() + path);
+			reader.parse(source);
+		} finally {
+			stream.close();
+		}
+	}
+
+	@Override
+	public void startDocument() throws SAXException {
+		mDepth = 0;
+		mSkippedDepth = 0;
+		mbInBody = false;
+	}
+
+	@Override
+	public void startElement(String uri, String localName, String qName, Attributes attributes)
+			throws SAXException {
+		if (mDepth == 0) {
+			if (mbInBody || isHeaderFooter(uri, localName)) {
+				// the extracted element, which does not end with a new line.
+				separate();
+				mDepth = 1;
+				mLineEnds.clear(mDepth);
+			} else if (OdfDocumentNamespace.OFFICE.getUri().equals(uri) && "body".equals(localName)) {
+				mbInBody = true;
+			}
+			return;
+		}
+		mDepth++;
+		mLineEnds.clear(mDepth);
+		if (mSkippedDepth > 0) {
+			return;
+		}
+		if (OdfDocumentNamespace.TEXT.getUri().equals(uri)) {
+			if ("p".equals(localName) || "h".equals(localName)) {
+				mLineEnds.set(mDepth);
+			} else if ("s".equals(localName)) {
+				int count = getCount(attributes.getValue(uri, "c"));
+				for (int i = 0; i < count; i++) {
+					mTextBuilder.append(' ');
+				}
+				mSkippedDepth = mDepth;
+			} else if ("tab".equals(localName)) {
+				mTextBuilder.append(TextExtractor.TabChar);
+				mSkippedDepth = mDepth;
+			} else if ("line-break".equals(localName)) {
+				mTextBuilder.append(TextExtractor.NewLineChar);
+				mSkippedDepth = mDepth;
+			}
+		} else if (OdfDocumentNamespace.META.getUri().equals(uri) || OdfDocumentNamespace.DC.getUri().equals(uri)) {
+			mLineEnds.set(mDepth);
+		}
+	}
+
+	@Override
+	public void endElement(String uri, String localName, String qName) throws SAXException {
+		if (mDepth == 0) {
+			if (mbInBody && OdfDocumentNamespace.OFFICE.getUri().equals(uri) && "body".equals(localName)) {
+				mbInBody = false;
+			}
+			return;
+		}
+		if (mSkippedDepth == mDepth) {
+			mSkippedDepth = 0;
+		}
+		if (mLineEnds.get(mDepth)) {
+			mTextBuilder.appendLine();
+		}
+		mDepth--;
+	}
+
+	@Override
+	public void characters(char[] ch, int start, int length) throws SAXException {
+		if (mDepth > 0 && mSkippedDepth == 0) {
+			mTextBuilder.append(ch, start, length);
+		}
+	}
+
+	private boolean isHeaderFooter(String uri, String localName) {
+		if (mbHeaderFooterIncluded && OdfDocumentNamespace.STYLE.getUri().equals(uri)) {
+			for (String name : HEADER_FOOTER_NAMES) {
+				if (name.equals(localName)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	// separate the text of an extracted element from the text before it.
+	private void separate() {
+		if (mTextBuilder.length() > 0 && !mTextBuilder.isLinePending()) {
+			mTextBuilder.appendLine();
+		}
+	}
+
+	// the number of spaces of text:s. An invalid value is dropped when the
+	// document is loaded, so it stands for one space like a missing value.
+	private static int getCount(String value) {
+		if (value != null) {
+			try {
+				int count = Integer.parseInt(value.trim());
+				if (count > 0) {
+					return count;
+				}
+			} catch (NumberFormatException e) {
+				// one space
+			}
+		}
+		return 1;
+	}
+}
@@ -0,0 +1,116 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.common;
+
+import org.odftoolkit.odfdom.dom.element.text.TextLineBreakElement;
+import org.odftoolkit.odfdom.dom.element.text.TextSElement;
+import org.odftoolkit.odfdom.dom.element.text.TextTabElement;
+import org.odftoolkit.odfdom.pkg.OdfElement;
+import org.w3c.dom.Node;
+
+/**
+ * PositionTextExtractor extracts the text of an element like
+ * <code>TextExtractor</code>, and reports where the text of each node is in
+ * the extracted text.
+ * <p>
+ * The nodes are the text nodes, and the <code>text:s</code>,
+ * <code>text:tab</code> and <code>text:line-break</code> elements, which stand
+ * for one or more characters. The new lines of the paragraphs and headings
+ * belong to no node.
+ *
+ * @since 0.9
+ */
+public abstract class PositionTextExtractor extends TextExtractor {
+
+	private final boolean mbPositionReported;
+
+	/**
+	 * Create an extractor of the text of an element.
+	 *
+	 * @param element
+	 *            the element whose text is extracted
+	 * @param positionReported
+	 *            whether the positions of the nodes are reported. If not, the
+	 *            text is extracted like by <code>TextExtractor</code>.
+	 */
+	protected PositionTextExtractor(OdfElement element, boolean positionReported) {
+		super(element);
+		mbPositionReported = positionReported;
+	}
+
+	/**
+	 * Report the position of the text of a node, which is called in document
+	 * order, before the text of the node is appended.
+	 *
+	 * @param node
+	 *            the node
+	 * @param start
+	 *            the index of the first character of the node in the text
+	 * @param length
+	 *            the number of the characters of the node, which is more than
+	 *            0
+	 */
+	protected abstract void addPosition(Node node, int start, int length);
+
+	@Override
+	public void visit(TextSElement ele) {
+		Integer count = ele.getTextCAttribute();
+		reportPosition(ele, count == null ? 1 : count.intValue());
+		super.visit(ele);
+	}
+
+	@Override
+	public void visit(TextTabElement ele) {
+		reportPosition(ele, 1);
+		super.visit(ele);
+	}
+
+	@Override
+	public void visit(TextLineBreakElement ele) {
+		reportPosition(ele, 1);
+		super.visit(ele);
+	}
+
+	@Override
+	protected void appendElementText(OdfElement ele) {
+		if (!mbPositionReported) {
+			super.appendElementText(ele);
+			return;
+		}
+		Node node = ele.getFirstChild();
+		while (node != null) {
+			if (node.getNodeType() == Node.TEXT_NODE) {
+				String value = node.getNodeValue();
+				reportPosition(node, value.length());
+				mTextBuilder.append(value);
+			} else if (node.getNodeType() == Node.ELEMENT_NODE) {
+				((OdfElement) node).accept(this);
+			}
+			node = node.getNextSibling();
+		}
+	}
+
+	private void reportPosition(Node node, int length) {
+		if (mbPositionReported && length > 0) {
+			// a pending new line is written before the text of the node.
+			addPosition(node, mTextBuilder.length(), length);
+		}
+	}
+}
@@ -19,6 +19,10 @@ under the License.
 
 package org.odftoolkit.simple.common;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
 import org.odftoolkit.odfdom.dom.DefaultElementVisitor;
 import org.odftoolkit.odfdom.dom.OdfDocumentNamespace;
 import org.odftoolkit.odfdom.dom.element.text.TextHElement;
@@ -58,19 +62,38 @@ public class TextExtractor extends DefaultElementVisitor {
 	protected static final char TabChar = '\t';
 	protected final ExtractorStringBuilder mTextBuilder;
 	OdfElement mElement;
-	
+
+	// the builders of getText(OdfElement) are reused by their thread, unless
+	// they have grown too large.
+	private static final int MAX_REUSED_CAPACITY = 64 * 1024;
+	private static final ThreadLocal<StringBuilder> mReusedBuilder = new ThreadLocal<StringBuilder>();
+
 	/**
 	 * This class is used to provide the string builder functions to extractor.
 	 * It will automatically process the last NewLineChar.
+	 * <p>
+	 * The text is either collected in a string builder, or written to an
+	 * <code>Appendable</code> as it is extracted.
 	 * 
 	 * @since 0.3.5
 	 */
 	protected static class ExtractorStringBuilder {
 		private StringBuilder mBuilder;
+		private Appendable mTarget;
 		private boolean lastAppendNewLine;
+		private IOException mException;
+		private int mLength;
 
 		ExtractorStringBuilder() {
-			mBuilder = new StringBuilder();
+			this(new StringBuilder());
+		}
+
+		ExtractorStringBuilder(Appendable target) {
+			if (target instanceof StringBuilder) {
+				mBuilder = (StringBuilder) target;
+			} else {
+				mTarget = target;
+			}
 			lastAppendNewLine = false;
 		}
 
@@ -81,7 +104,20 @@ public class TextExtractor extends DefaultElementVisitor {
 		 *            - the string
 		 */
 		public void append(String str) {
-			mBuilder.append(str);
+			if (str != null && str.length() == 0) {
+				return;
+			}
+			appendPendingLine();
+			mLength += str == null ? 4 : str.length();
+			if (mBuilder != null) {
+				mBuilder.append(str);
+			} else if (mException == null) {
+				try {
+					mTarget.append(str);
+				} catch (IOException e) {
+					mException = e;
+				}
+			}
 		}
 
 		/**
@@ -91,17 +127,76 @@ public class TextExtractor extends DefaultElementVisitor {
 		 *            - the character
 		 */
 		public void append(char ch) {
-			mBuilder.append(ch);
+			appendPendingLine();
+			mLength++;
+			if (mBuilder != null) {
+				mBuilder.append(ch);
+			} else if (mException == null) {
+				try {
+					mTarget.append(ch);
+				} catch (IOException e) {
+					mException = e;
+				}
+			}
+		}
+
+		// append characters of an array, which are written to a Writer
+		// without a copy.
+		void append(char[] ch, int start, int length) {
+			if (length == 0) {
+				return;
+			}
+			appendPendingLine();
+			mLength += length;
+			if (mBuilder != null) {
+				mBuilder.append(ch, start, length);
+			} else if (mException == null) {
+				try {
+					if (mTarget instanceof Writer) {
+						((Writer) mTarget).write(ch, start, length);
+					} else {
+						mTarget.append(CharBuffer.wrap(ch, start, length));
+					}
+				} catch (IOException e) {
+					mException = e;
+				}
+			}
 		}
 
 		/**
 		 * Append a new line character at the end
 		 */
 		public void appendLine() {
-			mBuilder.append(NewLineChar);
+			// the new line is written with the next text, so that it can be
+			// omitted at the end.
+			appendPendingLine();
 			lastAppendNewLine = true;
 		}
 
+		private void appendPendingLine() {
+			if (lastAppendNewLine) {
+				lastAppendNewLine = false;
+				append(NewLineChar);
+			}
+		}
+
+		// whether a new line has been appended last, which is not written yet.
+		boolean isLinePending() {
+			return lastAppendNewLine;
+		}
+
+		/**
+		 * Return the length of the text, including a new line character which
+		 * has been appended with appendLine() last. It is the index of the next
+		 * character which will be appended.
+		 * 
+		 * @return the length of the text
+		 * @since 0.9
+		 */
+		public int length() {
+			return lastAppendNewLine ? mLength + 1 : mLength;
+		}
+
 		/**
 		 * Return the string value.
 		 * <p>
@@ -109,23 +204,76 @@ public class TextExtractor extends DefaultElementVisitor {
 		 * appendLine(), the last new line character will be removed.
 		 */
 		public String toString() {
-			if (lastAppendNewLine) {
-				mBuilder.deleteCharAt(mBuilder.length() - 1);
+			if (mBuilder != null) {
+				return mBuilder.toString();
+			}
+			return mTarget.toString();
+		}
+
+		// throw the exception of the target, if writing to it has failed.
+		void checkException() throws IOException {
+			if (mException != null) {
+				throw mException;
 			}
-			return mBuilder.toString();
 		}
 	}
 
 	/**
 	 * Return the text content of a element as String
+	 * <p>
+	 * This method can be invoked by several threads at the same time, as long
+	 * as they do not modify the element.
+	 * <p>
+	 * If the {@link TextIndex} of the document is enabled, the text is
+	 * returned from the index.
 	 * 
 	 * @param ele
 	 *            the ODF element
 	 * @return the text content of the element
 	 */
-	public static synchronized String getText(OdfElement ele) {
-		TextExtractor extractor = newOdfTextExtractor(ele);
-		return extractor.getText();
+	public static String getText(OdfElement ele) {
+		TextIndex index = TextIndex.getInstance(ele);
+		if (index != null) {
+			return index.getText(ele);
+		}
+		return extractText(ele);
+	}
+
+	// extract the text content of a element, with a reused builder.
+	static String extractText(OdfElement ele) {
+		StringBuilder builder = mReusedBuilder.get();
+		if (builder == null) {
+			builder = new StringBuilder();
+		} else {
+			// a nested invocation does not get the same builder.
+			mReusedBuilder.set(null);
+		}
+		try {
+			TextExtractor extractor = new TextExtractor(ele, builder);
+			return extractor.getText();
+		} finally {
+			if (builder.capacity() <= MAX_REUSED_CAPACITY) {
+				builder.setLength(0);
+				mReusedBuilder.set(builder);
+			}
+		}
+	}
+
+	/**
+	 * Write the text content of a element to an <code>Appendable</code>, for
+	 * example a <code>Writer</code>, without creating a string of the whole
+	 * text.
+	 * 
+	 * @param ele
+	 *            the ODF element
+	 * @param target
+	 *            the <code>Appendable</code> the text content is written to
+	 * @throws IOException
+	 *             if the text content cannot be written to the target
+	 * @since 0.9
+	 */
+	public static void writeText(OdfElement ele, Appendable target) throws IOException {
+		new TextExtractor(ele, target).writeText();
 	}
 
 	/**
@@ -150,6 +298,12 @@ public class TextExtractor extends DefaultElementVisitor {
 		return mTextBuilder.toString();
 	}
 
+	// extract the text to the target of the text builder.
+	private void writeText() throws IOException {
+		visit(mElement);
+		mTextBuilder.checkException();
+	}
+
 	/**
 	 * Default constructor
 	 */
@@ -168,6 +322,12 @@ public class TextExtractor extends DefaultElementVisitor {
 		mElement = element;
 	}
 
+	// extract the text of the element to the given target.
+	private TextExtractor(OdfElement element, Appendable target) {
+		mTextBuilder = new ExtractorStringBuilder(target);
+		mElement = element;
+	}
+
 	/**
 	 * The end users needn't to care of this method, if you don't want to
 	 * override the text content handling strategy of <code>OdfElement</code>.
@@ -0,0 +1,267 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.odftoolkit.odfdom.pkg.OdfElement;
+import org.odftoolkit.odfdom.pkg.OdfFileDom;
+import org.odftoolkit.odfdom.pkg.OdfNodeCache;
+import org.odftoolkit.simple.Document;
+import org.w3c.dom.Node;
+
+/**
+ * TextIndex caches the text of the elements of a document, which is extracted
+ * by {@link TextExtractor#getText(OdfElement)}, and the position of each
+ * character of the text in the nodes of the elements.
+ * <p>
+ * The index is enabled for a document by {@link #enable(OdfFileDom)}. From
+ * then on, <code>TextExtractor.getText(OdfElement)</code> returns the cached
+ * text of an element, so the navigation and the other users of the text
+ * extractor do not walk the tree of an element again, until it is changed.
+ * <p>
+ * The index uses the DOM mutation events of the document to find the
+ * changes: when a node is changed, the text of the node and of its ancestors
+ * is removed from the index. A change costs a walk from the node to the root
+ * of the document, and while the index is enabled, all the changes of the
+ * document are slower, so it is enabled only when the text is read more
+ * often than it is changed. The index is kept by the document DOM, so it is
+ * released together with the DOM.
+ *
+ * @since 0.9
+ */
+public class TextIndex extends OdfNodeCache<TextIndex.IndexEntry> {
+
+	/**
+	 * The position of a character of the text of an element, which is a node
+	 * of the element and the offset of the character in the node.
+	 * <p>
+	 * The node is a text node, or a <code>text:s</code>, <code>text:tab</code>
+	 * or <code>text:line-break</code> element, which stand for one or more
+	 * characters.
+	 *
+	 * @since 0.9
+	 */
+	public static class Position {
+		private final Node mNode;
+		private final int mOffset;
+
+		Position(Node node, int offset) {
+			mNode = node;
+			mOffset = offset;
+		}
+
+		/**
+		 * Return the node which contains the character.
+		 *
+		 * @return the node.
+		 */
+		public Node getNode() {
+			return mNode;
+		}
+
+		/**
+		 * Return the offset of the character in the node.
+		 *
+		 * @return the offset, starting from 0.
+		 */
+		public int getOffset() {
+			return mOffset;
+		}
+	}
+
+	private TextIndex() {
+	}
+
+	/**
+	 * Enable the text index of a document DOM, for example the content DOM of a
+	 * document.
+	 *
+	 * @param dom
+	 *            the document DOM.
+	 * @return the text index of the DOM.
+	 */
+	public static TextIndex enable(OdfFileDom dom) {
+		return dom.addNodeCache(new TextIndex());
+	}
+
+	/**
+	 * Enable the text index of the content DOM and of the styles DOM of a
+	 * document, where the text of the headers and footers is.
+	 *
+	 * @param doc
+	 *            the document.
+	 * @throws Exception
+	 *             if the DOMs can't be loaded.
+	 */
+	public static void enable(Document doc) throws Exception {
+		enable(doc.getContentDom());
+		enable(doc.getStylesDom());
+	}
+
+	/**
+	 * Disable the text index of a document DOM, and drop the cached text.
+	 *
+	 * @param dom
+	 *            the document DOM.
+	 */
+	public static void disable(OdfFileDom dom) {
+		dom.removeNodeCache(TextIndex.class);
+	}
+
+	/**
+	 * Disable the text index of the content DOM and of the styles DOM of a
+	 * document.
+	 *
+	 * @param doc
+	 *            the document.
+	 * @throws Exception
+	 *             if the DOMs can't be loaded.
+	 */
+	public static void disable(Document doc) throws Exception {
+		disable(doc.getContentDom());
+		disable(doc.getStylesDom());
+	}
+
+	/**
+	 * Return the text index of the DOM which a node belongs to.
+	 *
+	 * @param node
+	 *            a node of the DOM.
+	 * @return the text index, or null if it is not enabled.
+	 */
+	public static TextIndex getInstance(Node node) {
+		if (node == null) {
+			return null;
+		}
+		Node dom = node.getNodeType() == Node.DOCUMENT_NODE ? node : node.getOwnerDocument();
+		return dom instanceof OdfFileDom ? ((OdfFileDom) dom).getNodeCache(TextIndex.class) : null;
+	}
+
+	/**
+	 * Return the text of an element, as it is returned by
+	 * {@link TextExtractor#getText(OdfElement)}.
+	 *
+	 * @param element
+	 *            an element of the document.
+	 * @return the text of the element.
+	 */
+	public synchronized String getText(OdfElement element) {
+		IndexEntry entry = getEntry(element, false);
+		return entry != null ? entry.mText : TextExtractor.extractText(element);
+	}
+
+	/**
+	 * Return the position of a character of the text of an element.
+	 * <p>
+	 * The new line of a paragraph or heading inside of the element has no
+	 * position.
+	 *
+	 * @param element
+	 *            an element of the document.
+	 * @param index
+	 *            the index of the character in the text of the element.
+	 * @return the position of the character, or null if the index is out of
+	 *         the text, or if the character is a new line of a paragraph.
+	 */
+	public synchronized Position getPosition(OdfElement element, int index) {
+		IndexEntry entry = getEntry(element, true);
+		if (entry == null) {
+			entry = new IndexEntry();
+			entry.extract(element, true);
+		}
+		// find the last node which starts at the index or before it
+		int low = 0;
+		int high = entry.mStarts.length - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (entry.mStarts[middle] <= index) {
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		if (high < 0 || index >= entry.mStarts[high] + entry.mLengths[high]) {
+			return null;
+		}
+		return new Position(entry.mNodes[high], index - entry.mStarts[high]);
+	}
+
+	// return the entry of an element, which is created if the element belongs
+	// to the document. Elements which are not in the document get no mutation
+	// events, so they are not cached.
+	private IndexEntry getEntry(OdfElement element, boolean withPositions) {
+		IndexEntry entry = get(element);
+		if (entry == null || (withPositions && entry.mNodes == null)) {
+			if (!isInDocument(element)) {
+				return null;
+			}
+			entry = new IndexEntry();
+			entry.extract(element, withPositions);
+			put(element, entry);
+		}
+		return entry;
+	}
+
+	// the text of an element, and the nodes which its characters are in.
+	static class IndexEntry {
+		String mText;
+		Node[] mNodes;
+		int[] mStarts;
+		int[] mLengths;
+
+		void extract(OdfElement element, boolean withPositions) {
+			if (!withPositions) {
+				mText = TextExtractor.extractText(element);
+				return;
+			}
+			NodeTextExtractor extractor = new NodeTextExtractor(element);
+			mText = extractor.getText();
+			int count = extractor.mNodes.size();
+			mNodes = extractor.mNodes.toArray(new Node[count]);
+			mStarts = new int[count];
+			mLengths = new int[count];
+			for (int i = 0; i < count; i++) {
+				mStarts[i] = extractor.mStarts.get(i);
+				mLengths[i] = extractor.mLengths.get(i);
+			}
+		}
+	}
+
+	// extracts the text of an element, and records where the text of each
+	// node is.
+	private static class NodeTextExtractor extends PositionTextExtractor {
+		final List<Node> mNodes = new ArrayList<Node>();
+		final List<Integer> mStarts = new ArrayList<Integer>();
+		final List<Integer> mLengths = new ArrayList<Integer>();
+
+		NodeTextExtractor(OdfElement element) {
+			super(element, true);
+		}
+
+		@Override
+		protected void addPosition(Node node, int start, int length) {
+			mNodes.add(node);
+			mStarts.add(start);
+			mLengths.add(length);
+		}
+	}
+}
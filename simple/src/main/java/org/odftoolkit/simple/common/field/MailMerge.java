@@ -0,0 +1,713 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+package org.odftoolkit.simple.common.field;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.odftoolkit.odfdom.dom.OdfDocumentNamespace;
+import org.odftoolkit.odfdom.pkg.OdfFileDom;
+import org.odftoolkit.simple.Document;
+import org.odftoolkit.simple.common.navigation.TextSearch;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * MailMerge creates one document for each data record from a template
+ * document, for example a <code>TextDocument</code> or a
+ * <code>SpreadsheetDocument</code>.
+ * <p>
+ * The merge fields of the template are located once, when the
+ * <code>MailMerge</code> is created. They are the user variable fields and
+ * simple variable fields, the placeholders, and the text matching a field
+ * pattern, like <code>&lt;&lt;NAME&gt;&gt;</code>. The template is then kept
+ * as a saved package, in which the XML files are split at the positions of
+ * the fields. A document is created by writing the package again with the
+ * values of the record at these positions, without loading, searching or
+ * serializing a DOM, so documents can be created in parallel from one
+ * <code>MailMerge</code>. The files of the package are compressed once, only
+ * the XML files with fields are compressed again for each document.
+ * <p>
+ * The value of a field is the value of the record for the name of the field.
+ * A field whose name is not in the record keeps its text of the template.
+ * The values are inserted as text: new lines, tabs and repeated spaces are
+ * kept, but fields which have a number, date or boolean value in the
+ * template become string fields. The variable fields can only contain plain
+ * text, so the new lines and tabs in their values become spaces.
+ *
+ * @since 0.9
+ */
+public class MailMerge {
+
+	/**
+	 * An <code>OutputProvider</code> returns the stream to which the document
+	 * of a data record is written by
+	 * {@link MailMerge#mergeAll(Iterable, OutputProvider, int)}.
+	 * <p>
+	 * When the documents are created in parallel, it is called by several
+	 * threads at the same time.
+	 *
+	 * @since 0.9
+	 */
+	public interface OutputProvider {
+
+		/**
+		 * Return the stream to which the document of a data record is
+		 * written. The stream is closed after the document has been written.
+		 *
+		 * @param index
+		 *            the index of the record, starting from 0.
+		 * @param record
+		 *            the data record.
+		 * @return the output stream.
+		 * @throws IOException
+		 *             if the stream can't be opened.
+		 */
+		OutputStream getOutputStream(int index, Map<String, String> record) throws IOException;
+	}
+
+	// the characters which delimit the index of a field in the saved template.
+	private static final char MARKER_START = '\uE000';
+	private static final char MARKER_END = '\uE001';
+	private static final String[] TEMPLATE_PATHS = { "content.xml", "styles.xml" };
+	// the places of the fields
+	private static final int ATTRIBUTE_VALUE = 0;
+	private static final int FIELD_CONTENT = 1;
+	private static final int TEXT_CONTENT = 2;
+	// the signatures of the ZIP records
+	private static final int LOCAL_HEADER = 0x04034b50;
+	private static final int CENTRAL_HEADER = 0x02014b50;
+	private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+	// the ZIP version 2.0, and the flag of UTF-8 names
+	private static final int ZIP_VERSION = 20;
+	private static final int UTF8_FLAG = 0x800;
+
+	// the fields of the template, the index in this list is the one of the
+	// marker.
+	private final List<FieldSlot> mSlots = new ArrayList<FieldSlot>();
+	private final List<PackageEntry> mEntries = new ArrayList<PackageEntry>();
+	private final Set<String> mFieldNames = new LinkedHashSet<String>();
+	private final int mDosTime = getDosTime(System.currentTimeMillis());
+
+	/**
+	 * Create a <code>MailMerge</code>, whose fields are the variable fields
+	 * and placeholders of the template.
+	 *
+	 * @param template
+	 *            the template document, which is not changed.
+	 * @throws Exception
+	 *             if the template can't be saved and loaded again.
+	 */
+	public MailMerge(Document template) throws Exception {
+		this(template, null);
+	}
+
+	/**
+	 * Create a <code>MailMerge</code>, whose fields are the variable fields
+	 * and placeholders of the template, and the text matching a pattern.
+	 *
+	 * @param template
+	 *            the template document, which is not changed.
+	 * @param fieldPattern
+	 *            the regular expression of the text fields. The first group of
+	 *            the expression is the name of the field, if there is none
+	 *            the whole text is. For example <code>&lt;&lt;(\w+)&gt;&gt;</code>.
+	 *            It can be null.
+	 * @throws Exception
+	 *             if the template can't be saved and loaded again.
+	 */
+	public MailMerge(Document template, String fieldPattern) throws Exception {
+		if (template == null) {
+			throw new IllegalArgumentException("template shouldn't be null.");
+		}
+		if (fieldPattern != null) {
+			// check the pattern before the template is copied
+			Pattern.compile(fieldPattern);
+		}
+		ByteArrayOutputStream templateBytes = new ByteArrayOutputStream();
+		template.save(templateBytes);
+		// the fields are marked in a copy of the template
+		Document copy = Document.loadDocument(new ByteArrayInputStream(templateBytes.toByteArray()));
+		try {
+			if (fieldPattern != null) {
+				TextSearch search = new TextSearch(copy);
+				search.addPattern(fieldPattern);
+				search.replaceAll(new TextSearch.Replacer() {
+					public String getReplacement(String pattern, MatchResult match) {
+						String name = match.groupCount() > 0 && match.group(1) != null ? match.group(1) : match.group();
+						return addSlot(name, match.group(), TEXT_CONTENT);
+					}
+				});
+			}
+			markFields(copy.getContentDom());
+			markFields(copy.getStylesDom());
+			ByteArrayOutputStream markedBytes = new ByteArrayOutputStream();
+			copy.save(markedBytes);
+			readEntries(markedBytes.toByteArray(), copy);
+		} finally {
+			copy.close();
+		}
+	}
+
+	/**
+	 * Return the names of the fields which have been found in the template.
+	 *
+	 * @return the field names, in the order they have been found.
+	 */
+	public Set<String> getFieldNames() {
+		return Collections.unmodifiableSet(mFieldNames);
+	}
+
+	/**
+	 * Write the document of a data record. It can be called by several threads
+	 * at the same time.
+	 *
+	 * @param record
+	 *            the values of the fields, by field name.
+	 * @param out
+	 *            the stream to which the document is written. It is not closed.
+	 * @throws IOException
+	 *             if the document can't be written.
+	 */
+	public void merge(Map<String, String> record, OutputStream out) throws IOException {
+		// the package is written as a ZIP file here, because a
+		// ZipOutputStream can't write data which is already compressed.
+		ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+		StringBuilder buffer = new StringBuilder();
+		long offset = 0;
+		for (PackageEntry entry : mEntries) {
+			byte[] data = entry.mData;
+			long crc = entry.mCrc;
+			long size = entry.mSize;
+			if (entry.mChunks != null) {
+				ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+				Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+				CheckedOutputStream checked = new CheckedOutputStream(new DeflaterOutputStream(compressed, deflater),
+						new CRC32());
+				size = 0;
+				try {
+					for (int i = 0; i < entry.mSlots.length; i++) {
+						checked.write(entry.mChunks[i]);
+						size += entry.mChunks[i].length;
+						FieldSlot slot = mSlots.get(entry.mSlots[i]);
+						String value = record.get(slot.mName);
+						if (value == null) {
+							value = slot.mDefaultValue;
+						}
+						buffer.setLength(0);
+						if (slot.mType == TEXT_CONTENT) {
+							appendText(buffer, value, entry.mTextPrefix);
+						} else if (slot.mType == FIELD_CONTENT) {
+							appendFieldText(buffer, value);
+						} else {
+							appendAttributeValue(buffer, value);
+						}
+						byte[] bytes = buffer.toString().getBytes("UTF-8");
+						checked.write(bytes);
+						size += bytes.length;
+					}
+					checked.write(entry.mChunks[entry.mSlots.length]);
+					size += entry.mChunks[entry.mSlots.length].length;
+					checked.close();
+				} finally {
+					deflater.end();
+				}
+				data = compressed.toByteArray();
+				crc = checked.getChecksum().getValue();
+			}
+			if (offset > 0xFFFFFFFFL || size > 0xFFFFFFFFL) {
+				throw new IOException("the document is too large for a ZIP file without ZIP64 extensions.");
+			}
+			byte[] name = entry.mName.getBytes("UTF-8");
+			byte[] header = getEntryHeader(entry.mMethod, crc, data.length, size, name.length);
+			writeInt(centralDirectory, CENTRAL_HEADER);
+			writeShort(centralDirectory, ZIP_VERSION);
+			centralDirectory.write(header);
+			// no comment, disk number 0, no attributes
+			writeShort(centralDirectory, 0);
+			writeShort(centralDirectory, 0);
+			writeShort(centralDirectory, 0);
+			writeInt(centralDirectory, 0);
+			writeInt(centralDirectory, (int) offset);
+			centralDirectory.write(name);
+
+			ByteArrayOutputStream localHeader = new ByteArrayOutputStream(30 + name.length);
+			writeInt(localHeader, LOCAL_HEADER);
+			localHeader.write(header);
+			localHeader.write(name);
+			localHeader.writeTo(out);
+			out.write(data);
+			offset += localHeader.size() + data.length;
+		}
+		if (offset > 0xFFFFFFFFL || mEntries.size() > 0xFFFF) {
+			throw new IOException("the document is too large for a ZIP file without ZIP64 extensions.");
+		}
+		centralDirectory.writeTo(out);
+		ByteArrayOutputStream end = new ByteArrayOutputStream(22);
+		writeInt(end, END_OF_CENTRAL_DIRECTORY);
+		// the disk numbers
+		writeShort(end, 0);
+		writeShort(end, 0);
+		writeShort(end, mEntries.size());
+		writeShort(end, mEntries.size());
+		writeInt(end, centralDirectory.size());
+		writeInt(end, (int) offset);
+		// no comment
+		writeShort(end, 0);
+		end.writeTo(out);
+		out.flush();
+	}
+
+	/**
+	 * Write the documents of the data records.
+	 * <p>
+	 * The records are read one after another, and at most twice as many
+	 * records as threads are merged at the same time, so the records can be
+	 * streamed from a database or a file.
+	 *
+	 * @param records
+	 *            the data records.
+	 * @param provider
+	 *            returns the output stream of each document.
+	 * @param threads
+	 *            the number of threads which create the documents.
+	 * @return the number of documents which have been written.
+	 * @throws IOException
+	 *             if a document can't be written. The documents which have
+	 *             been started are completed before it is thrown.
+	 */
+	public int mergeAll(Iterable<Map<String, String>> records, final OutputProvider provider, int threads)
+			throws IOException {
+		if (records == null || provider == null) {
+			throw new IllegalArgumentException("records and provider shouldn't be null.");
+		}
+		if (threads <= 1) {
+			int index = 0;
+			for (Map<String, String> record : records) {
+				write(index++, record, provider);
+			}
+			return index;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		final Semaphore pending = new Semaphore(threads * 2);
+		final AtomicReference<Exception> failure = new AtomicReference<Exception>();
+		int index = 0;
+		try {
+			Iterator<Map<String, String>> iterator = records.iterator();
+			while (failure.get() == null && iterator.hasNext()) {
+				final Map<String, String> record = iterator.next();
+				final int recordIndex = index++;
+				pending.acquire();
+				executor.execute(new Runnable() {
+					public void run() {
+						try {
+							write(recordIndex, record, provider);
+						} catch (Exception e) {
+							failure.compareAndSet(null, e);
+						} finally {
+							pending.release();
+						}
+					}
+				});
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} finally {
+			executor.shutdown();
+			try {
+				executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		Exception e = failure.get();
+		if (e != null) {
+			Logger.getLogger(MailMerge.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+			throw e instanceof IOException ? (IOException) e : new IOException(e);
+		}
+		return index;
+	}
+
+	private void write(int index, Map<String, String> record, OutputProvider provider) throws IOException {
+		OutputStream out = provider.getOutputStream(index, record);
+		try {
+			merge(record, out);
+		} finally {
+			out.close();
+		}
+	}
+
+	// a field of the template
+	private static class FieldSlot {
+		String mName;
+		String mDefaultValue;
+		// whether the value is an attribute value, the content of a field
+		// element, or the content of a paragraph
+		int mType;
+	}
+
+	// a file of the template package
+	private static class PackageEntry {
+		String mName;
+		int mMethod;
+		// the data as it is written to the ZIP file, compressed or stored
+		byte[] mData;
+		long mCrc;
+		long mSize;
+		// the parts of an XML file between the fields, and the fields
+		byte[][] mChunks;
+		int[] mSlots;
+		String mTextPrefix;
+	}
+
+	// add a field, and return the marker of its position.
+	private String addSlot(String name, String defaultValue, int type) {
+		FieldSlot slot = new FieldSlot();
+		slot.mName = name;
+		slot.mDefaultValue = defaultValue;
+		slot.mType = type;
+		mSlots.add(slot);
+		mFieldNames.add(name);
+		return MARKER_START + Integer.toString(mSlots.size() - 1) + MARKER_END;
+	}
+
+	// replace the values of the variable fields and the placeholders by
+	// markers.
+	private void markFields(OdfFileDom dom) {
+		if (dom == null) {
+			return;
+		}
+		String textNS = OdfDocumentNamespace.TEXT.getUri();
+		String officeNS = OdfDocumentNamespace.OFFICE.getUri();
+		for (Element element : getElements(dom, "user-field-decl")) {
+			String name = element.getAttributeNS(textNS, "name");
+			setStringValue(element, addSlot(name, getValue(element), ATTRIBUTE_VALUE));
+		}
+		for (Element element : getElements(dom, "variable-set")) {
+			String name = element.getAttributeNS(textNS, "name");
+			String value = element.getTextContent();
+			setStringValue(element, addSlot(name, value, ATTRIBUTE_VALUE));
+			element.setTextContent(addSlot(name, value, FIELD_CONTENT));
+		}
+		for (Element element : getElements(dom, "user-field-get")) {
+			element.setTextContent(addSlot(element.getAttributeNS(textNS, "name"), element.getTextContent(),
+					FIELD_CONTENT));
+		}
+		for (Element element : getElements(dom, "variable-get")) {
+			element.setTextContent(addSlot(element.getAttributeNS(textNS, "name"), element.getTextContent(),
+					FIELD_CONTENT));
+		}
+		for (Element element : getElements(dom, "placeholder")) {
+			String text = element.getTextContent();
+			String name = text;
+			if (name.length() > 1 && name.charAt(0) == '<' && name.charAt(name.length() - 1) == '>') {
+				name = name.substring(1, name.length() - 1);
+			}
+			element.getParentNode().replaceChild(dom.createTextNode(addSlot(name, text, TEXT_CONTENT)), element);
+		}
+		// the value type of the variables is string now
+		for (Element element : getElements(dom, "variable-decl")) {
+			element.setAttributeNS(officeNS, "office:value-type", "string");
+		}
+	}
+
+	private static List<Element> getElements(OdfFileDom dom, String localName) {
+		NodeList list = dom.getElementsByTagNameNS(OdfDocumentNamespace.TEXT.getUri(), localName);
+		List<Element> elements = new ArrayList<Element>(list.getLength());
+		for (int i = 0; i < list.getLength(); i++) {
+			elements.add((Element) list.item(i));
+		}
+		return elements;
+	}
+
+	// the value of a user field declaration, as it is displayed.
+	private static String getValue(Element element) {
+		String officeNS = OdfDocumentNamespace.OFFICE.getUri();
+		String[] valueAttributes = { "string-value", "value", "date-value", "time-value", "boolean-value" };
+		for (String valueAttribute : valueAttributes) {
+			if (element.hasAttributeNS(officeNS, valueAttribute)) {
+				return element.getAttributeNS(officeNS, valueAttribute);
+			}
+		}
+		return "";
+	}
+
+	private static void setStringValue(Element element, String value) {
+		String officeNS = OdfDocumentNamespace.OFFICE.getUri();
+		element.removeAttributeNS(officeNS, "value");
+		element.removeAttributeNS(officeNS, "date-value");
+		element.removeAttributeNS(officeNS, "time-value");
+		element.removeAttributeNS(officeNS, "boolean-value");
+		element.setAttributeNS(officeNS, "office:value-type", "string");
+		element.setAttributeNS(officeNS, "office:string-value", value);
+	}
+
+	// keep the files of the saved template, compressed as they are written,
+	// and split the XML files which contain fields.
+	private void readEntries(byte[] packageBytes, Document copy) throws Exception {
+		ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(packageBytes));
+		try {
+			ZipEntry zipEntry;
+			byte[] buffer = new byte[8192];
+			while ((zipEntry = zis.getNextEntry()) != null) {
+				ByteArrayOutputStream data = new ByteArrayOutputStream();
+				int count;
+				while ((count = zis.read(buffer)) > 0) {
+					data.write(buffer, 0, count);
+				}
+				PackageEntry entry = new PackageEntry();
+				entry.mName = zipEntry.getName();
+				entry.mMethod = zipEntry.getMethod();
+				entry.mData = data.toByteArray();
+				entry.mSize = entry.mData.length;
+				CRC32 crc = new CRC32();
+				crc.update(entry.mData);
+				entry.mCrc = crc.getValue();
+				for (String path : TEMPLATE_PATHS) {
+					if (path.equals(entry.mName)) {
+						OdfFileDom dom = path.equals("content.xml") ? copy.getContentDom() : copy.getStylesDom();
+						String prefix = dom.getDocumentElement().lookupPrefix(OdfDocumentNamespace.TEXT.getUri());
+						entry.mTextPrefix = prefix != null ? prefix : OdfDocumentNamespace.TEXT.getPrefix();
+						splitEntry(entry);
+					}
+				}
+				// the XML files with fields are compressed for each document
+				if (entry.mChunks != null || entry.mMethod != ZipEntry.STORED) {
+					entry.mMethod = ZipEntry.DEFLATED;
+					if (entry.mChunks == null) {
+						entry.mData = deflate(entry.mData);
+					}
+				}
+				mEntries.add(entry);
+			}
+		} finally {
+			zis.close();
+		}
+	}
+
+	private void splitEntry(PackageEntry entry) throws IOException {
+		String xml = new String(entry.mData, "UTF-8");
+		List<byte[]> chunks = new ArrayList<byte[]>();
+		List<Integer> slots = new ArrayList<Integer>();
+		int chunkStart = 0;
+		int markerStart = xml.indexOf(MARKER_START);
+		while (markerStart >= 0) {
+			int markerEnd = xml.indexOf(MARKER_END, markerStart);
+			int slot = -1;
+			if (markerEnd > markerStart + 1) {
+				try {
+					slot = Integer.parseInt(xml.substring(markerStart + 1, markerEnd));
+				} catch (NumberFormatException e) {
+					slot = -1;
+				}
+			}
+			if (slot >= 0 && slot < mSlots.size()) {
+				chunks.add(xml.substring(chunkStart, markerStart).getBytes("UTF-8"));
+				slots.add(slot);
+				chunkStart = markerEnd + 1;
+				markerStart = xml.indexOf(MARKER_START, chunkStart);
+			} else {
+				markerStart = xml.indexOf(MARKER_START, markerStart + 1);
+			}
+		}
+		if (slots.isEmpty()) {
+			return;
+		}
+		chunks.add(xml.substring(chunkStart).getBytes("UTF-8"));
+		entry.mChunks = chunks.toArray(new byte[chunks.size()][]);
+		entry.mSlots = new int[slots.size()];
+		for (int i = 0; i < entry.mSlots.length; i++) {
+			entry.mSlots[i] = slots.get(i);
+		}
+		entry.mData = null;
+	}
+
+	private static byte[] deflate(byte[] data) {
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		try {
+			deflater.setInput(data);
+			deflater.finish();
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream(data.length / 2 + 64);
+			byte[] buffer = new byte[8192];
+			while (!deflater.finished()) {
+				compressed.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return compressed.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	// the fields of a local header from the version needed to extract to the
+	// length of the extra field, which are also in the central directory.
+	private byte[] getEntryHeader(int method, long crc, long compressedSize, long size, int nameLength) {
+		ByteArrayOutputStream header = new ByteArrayOutputStream(26);
+		writeShort(header, ZIP_VERSION);
+		writeShort(header, UTF8_FLAG);
+		writeShort(header, method);
+		writeInt(header, mDosTime);
+		writeInt(header, (int) crc);
+		writeInt(header, (int) compressedSize);
+		writeInt(header, (int) size);
+		writeShort(header, nameLength);
+		// no extra field
+		writeShort(header, 0);
+		return header.toByteArray();
+	}
+
+	private static void writeShort(ByteArrayOutputStream out, int value) {
+		out.write(value & 0xff);
+		out.write((value >>> 8) & 0xff);
+	}
+
+	private static void writeInt(ByteArrayOutputStream out, int value) {
+		writeShort(out, value & 0xffff);
+		writeShort(out, value >>> 16);
+	}
+
+	// the time in the MS-DOS format of ZIP files, in the local time zone.
+	private static int getDosTime(long time) {
+		Calendar calendar = Calendar.getInstance();
+		calendar.setTimeInMillis(time);
+		int year = calendar.get(Calendar.YEAR);
+		if (year < 1980) {
+			return (1 << 21) | (1 << 16);
+		}
+		return (year - 1980) << 25 | (calendar.get(Calendar.MONTH) + 1) << 21
+				| calendar.get(Calendar.DAY_OF_MONTH) << 16 | calendar.get(Calendar.HOUR_OF_DAY) << 11
+				| calendar.get(Calendar.MINUTE) << 5 | calendar.get(Calendar.SECOND) >> 1;
+	}
+
+	// append the value as the content of a field element, which can only
+	// contain text.
+	private static void appendFieldText(StringBuilder buffer, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			appendCharacter(buffer, ch == '\n' || ch == '\t' || ch == '\r' ? ' ' : ch);
+		}
+	}
+
+	// append the value as the content of a text element, with text:s,
+	// text:tab and text:line-break elements for the white spaces.
+	private static void appendText(StringBuilder buffer, String value, String prefix) {
+		int spaces = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			if (ch == ' ') {
+				spaces++;
+				continue;
+			}
+			spaces = appendSpaces(buffer, spaces, prefix);
+			switch (ch) {
+			case '\n':
+				buffer.append('<').append(prefix).append(":line-break/>");
+				break;
+			case '\t':
+				buffer.append('<').append(prefix).append(":tab/>");
+				break;
+			case '\r':
+				break;
+			default:
+				appendCharacter(buffer, ch);
+			}
+		}
+		appendSpaces(buffer, spaces, prefix);
+	}
+
+	private static int appendSpaces(StringBuilder buffer, int spaces, String prefix) {
+		if (spaces > 0) {
+			buffer.append(' ');
+		}
+		if (spaces > 1) {
+			buffer.append('<').append(prefix).append(":s ").append(prefix).append(":c=\"").append(spaces - 1)
+					.append("\"/>");
+		}
+		return 0;
+	}
+
+	private static void appendAttributeValue(StringBuilder buffer, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			switch (ch) {
+			case '"':
+				buffer.append("&quot;");
+				break;
+			case '\'':
+				buffer.append("&apos;");
+				break;
+			case '\n':
+				buffer.append("&#10;");
+				break;
+			case '\t':
+				buffer.append("&#9;");
+				break;
+			case '\r':
+				buffer.append("&#13;");
+				break;
+			default:
+				appendCharacter(buffer, ch);
+			}
+		}
+	}
+
+	private static void appendCharacter(StringBuilder buffer, char ch) {
+		switch (ch) {
+		case '&':
+			buffer.append("&amp;");
+			break;
+		case '<':
+			buffer.append("&lt;");
+			break;
+		case '>':
+			buffer.append("&gt;");
+			break;
+		default:
+			// the other control characters are not allowed in XML
+			if (ch >= 0x20 || ch == '\t' || ch == '\n' || ch == '\r') {
+				buffer.append(ch);
+			}
+		}
+	}
+}
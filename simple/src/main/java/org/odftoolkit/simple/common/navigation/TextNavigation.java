@@ -314,13 +314,20 @@ public class TextNavigation extends Navigation {
 	 * and chart document should use <code>CellSelection</code>.
 	 */
 	private TextSelection createSelection(OdfElement containerElement, int nextIndex) {
+		return createSelection(containerElement, nextIndex, mNextText);
+	}
+
+	/*
+	 * Create the selection of the text at the index of the container element.
+	 */
+	TextSelection createSelection(OdfElement containerElement, int nextIndex, String text) {
 		TextSelection item = null;
 		Node parent = containerElement.getParentNode();
 		while (parent != null) {
 			if (TableTableCellElementBase.class.isInstance(parent)) {
 				TableTableCellElementBase cellElement = (TableTableCellElementBase) parent;
 				Cell cell = Cell.getInstance(cellElement);
-				item = new CellSelection(this, mNextText, containerElement,
+				item = new CellSelection(this, text, containerElement,
 						nextIndex, cell);
 				break;
 			} else {
@@ -334,7 +341,7 @@ public class TextNavigation extends Navigation {
 			}
 		}
 		if (item == null) {
-			item = new TextSelection(this, mNextText, containerElement,
+			item = new TextSelection(this, text, containerElement,
 					nextIndex);
 		}
 		return item;
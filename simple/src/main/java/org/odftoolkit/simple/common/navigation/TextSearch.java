@@ -0,0 +1,801 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.common.navigation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.odftoolkit.odfdom.dom.element.office.OfficeAnnotationElement;
+import org.odftoolkit.odfdom.dom.element.text.TextHElement;
+import org.odftoolkit.odfdom.dom.element.text.TextPElement;
+import org.odftoolkit.odfdom.dom.element.text.TextSElement;
+import org.odftoolkit.odfdom.dom.element.text.TextSpanElement;
+import org.odftoolkit.odfdom.pkg.OdfElement;
+import org.odftoolkit.odfdom.pkg.OdfFileDom;
+import org.odftoolkit.simple.Document;
+import org.odftoolkit.simple.common.PositionTextExtractor;
+import org.odftoolkit.simple.common.WhitespaceProcessor;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * <code>TextSearch</code> finds the matches of many patterns in one pass over
+ * the document.
+ * <p>
+ * Searching for each pattern with a <code>TextNavigation</code> traverses the
+ * document once per pattern, and extracts the text of each paragraph again
+ * for every match. <code>TextSearch</code> extracts the text of each paragraph
+ * and heading once, finds the literal patterns in it at the same time with an
+ * Aho-Corasick automaton, and runs the regular expressions on the same text.
+ * <p>
+ * The matches are found the way <code>TextNavigation</code> finds them: like
+ * there, the header and footer of the document are searched before the
+ * content. A match is reported for the innermost paragraph or heading that
+ * contains it, and the matches of a pattern do not overlap. Matches of
+ * different patterns may overlap.
+ * <p>
+ * <code>TextSearch</code> also replaces all the matches in one pass, without
+ * extracting the text of a paragraph again after each replacement.
+ *
+ * @since 0.9
+ */
+public class TextSearch {
+
+	/**
+	 * A <code>Replacer</code> returns the new text of each match which is
+	 * replaced by {@link TextSearch#replaceAll(Replacer)}.
+	 *
+	 * @since 0.9
+	 */
+	public interface Replacer {
+
+		/**
+		 * Return the text which replaces a match.
+		 *
+		 * @param pattern
+		 *            the pattern which has been matched, as it has been added.
+		 * @param match
+		 *            the match, including the groups of a regular expression.
+		 * @return the new text, or null if the match should not be replaced.
+		 */
+		String getReplacement(String pattern, MatchResult match);
+	}
+
+	private final Document mDocument;
+	private final OdfElement mElement;
+	// the patterns in the order they have been added, and whether they are
+	// literals or regular expressions.
+	private final List<String> mPatterns = new ArrayList<String>();
+	private final List<Pattern> mRegexes = new ArrayList<Pattern>();
+
+	/**
+	 * Construct a <code>TextSearch</code>, which searches the header, footer
+	 * and content of a document.
+	 *
+	 * @param doc
+	 *            the search scope
+	 */
+	public TextSearch(Document doc) {
+		mDocument = doc;
+		mElement = null;
+	}
+
+	/**
+	 * Construct a <code>TextSearch</code>, which searches the content of an
+	 * ODF element.
+	 *
+	 * @param element
+	 *            the ODF element whose content will be searched.
+	 */
+	public TextSearch(OdfElement element) {
+		mDocument = null;
+		mElement = element;
+	}
+
+	/**
+	 * Add a literal pattern, which matches exactly the given text.
+	 *
+	 * @param literal
+	 *            the text to search for
+	 * @throws IllegalArgumentException
+	 *             if the literal is empty, or has already been added
+	 */
+	public void addLiteral(String literal) {
+		if (literal == null || literal.length() == 0) {
+			throw new IllegalArgumentException("literal shouldn't be empty.");
+		}
+		addPattern(literal, null);
+	}
+
+	/**
+	 * Add a regular expression pattern.
+	 *
+	 * @param regex
+	 *            the regular expression to search for
+	 * @throws IllegalArgumentException
+	 *             if the regular expression is invalid, or has already been
+	 *             added
+	 */
+	public void addPattern(String regex) {
+		addPattern(regex, Pattern.compile(regex));
+	}
+
+	private void addPattern(String pattern, Pattern regex) {
+		if (mPatterns.contains(pattern)) {
+			throw new IllegalArgumentException("the pattern " + pattern + " has already been added.");
+		}
+		mPatterns.add(pattern);
+		mRegexes.add(regex);
+	}
+
+	/**
+	 * Find all the matches of the patterns.
+	 * <p>
+	 * The selections are registered like the selections of
+	 * <code>TextNavigation</code>, so replacing the text of a selection
+	 * updates the index of the other selections in the same paragraph.
+	 *
+	 * @return a map from each pattern, in the order they have been added, to
+	 *         the list of its matches in document order. Patterns which are
+	 *         not found are mapped to an empty list.
+	 */
+	public Map<String, List<TextSelection>> findAll() {
+		SearchPass pass = search(null);
+		Map<String, List<TextSelection>> result = new LinkedHashMap<String, List<TextSelection>>();
+		for (int i = 0; i < mPatterns.size(); i++) {
+			List<Match> matches = pass.mMatches.get(i);
+			Collections.sort(matches, MATCH_ORDER);
+			// the selections of a pattern belong to a navigation of the pattern,
+			// which keeps track of their replacements.
+			TextNavigation navigation = mElement != null ? new TextNavigation(getRegex(i), mElement)
+					: new TextNavigation(getRegex(i), mDocument);
+			List<TextSelection> selections = new ArrayList<TextSelection>(matches.size());
+			for (Match match : matches) {
+				TextSelection selection = navigation.createSelection(match.mContainer, match.mIndex, match.mText);
+				Selection.SelectionManager.registerItem(selection);
+				selections.add(selection);
+			}
+			result.put(mPatterns.get(i), selections);
+		}
+		return result;
+	}
+
+	/**
+	 * Replace all the matches of the patterns in one pass.
+	 * <p>
+	 * The new text takes the place of the matched text inside of the text
+	 * nodes and spans, so it keeps the format of the first character which
+	 * has been matched. Where the matches of different patterns overlap, only
+	 * the one which starts first, or the longer one, is replaced. A match
+	 * which spans several paragraphs, for example a paragraph and the text of
+	 * a frame inside of it, is not replaced.
+	 * <p>
+	 * The index of the registered selections after a replacement is updated,
+	 * like <code>TextSelection.replaceWith(String)</code> does.
+	 *
+	 * @param replacer
+	 *            returns the new text of each match.
+	 * @return the number of matches which have been replaced.
+	 * @throws IllegalArgumentException
+	 *             if the replacer is null
+	 */
+	public int replaceAll(Replacer replacer) {
+		if (replacer == null) {
+			throw new IllegalArgumentException("replacer shouldn't be null.");
+		}
+		return search(replacer).mReplacedCount;
+	}
+
+	// search the patterns in all the paragraphs and headings, and replace
+	// the matches if there is a replacer.
+	private SearchPass search(Replacer replacer) {
+		LiteralMatcher literals = new LiteralMatcher();
+		for (int i = 0; i < mPatterns.size(); i++) {
+			if (mRegexes.get(i) == null) {
+				literals.add(mPatterns.get(i), i);
+			}
+		}
+		literals.build();
+		SearchPass pass = new SearchPass(literals, replacer);
+		if (mPatterns.isEmpty()) {
+			return pass;
+		}
+		try {
+			if (mElement != null) {
+				pass.search(mElement);
+			} else {
+				// search in header and footer before the content, like
+				// TextNavigation
+				OdfFileDom styledom = mDocument.getStylesDom();
+				if (styledom != null) {
+					NodeList list = styledom.getElementsByTagName("office:master-styles");
+					if (list.getLength() > 0) {
+						pass.search((OdfElement) list.item(0));
+					}
+				}
+				pass.search(mDocument.getContentRoot());
+			}
+		} catch (Exception e) {
+			Logger.getLogger(TextSearch.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+		}
+		return pass;
+	}
+
+	private String getRegex(int patternIndex) {
+		Pattern regex = mRegexes.get(patternIndex);
+		return regex != null ? regex.pattern() : Pattern.quote(mPatterns.get(patternIndex));
+	}
+
+	// a match of a pattern in a paragraph or heading.
+	private static class Match {
+		OdfElement mContainer;
+		int mSequence;
+		int mIndex;
+		String mText;
+		int mPattern;
+		// the position in the text of the outermost paragraph or heading
+		int mStart;
+		int mEnd;
+		MatchResult mResult;
+	}
+
+	private static final Comparator<Match> MATCH_ORDER = new Comparator<Match>() {
+		public int compare(Match match1, Match match2) {
+			if (match1.mSequence != match2.mSequence) {
+				return match1.mSequence < match2.mSequence ? -1 : 1;
+			}
+			return match1.mIndex < match2.mIndex ? -1 : (match1.mIndex == match2.mIndex ? 0 : 1);
+		}
+	};
+
+	// the order in which overlapping matches are chosen for a replacement.
+	private static final Comparator<Match> REPLACEMENT_ORDER = new Comparator<Match>() {
+		public int compare(Match match1, Match match2) {
+			if (match1.mStart != match2.mStart) {
+				return match1.mStart < match2.mStart ? -1 : 1;
+			}
+			if (match1.mEnd != match2.mEnd) {
+				return match1.mEnd > match2.mEnd ? -1 : 1;
+			}
+			return match1.mPattern < match2.mPattern ? -1 : (match1.mPattern == match2.mPattern ? 0 : 1);
+		}
+	};
+
+	// the state of one call of findAll() or replaceAll().
+	private class SearchPass {
+		final LiteralMatcher mLiterals;
+		final Replacer mReplacer;
+		final List<List<Match>> mMatches = new ArrayList<List<Match>>();
+		// the matches of all the patterns in the current text, when they are
+		// replaced
+		final List<Match> mTextMatches = new ArrayList<Match>();
+		// the end of the last match of each pattern in the current text
+		final int[] mLastEnds;
+		int mSequence;
+		int mReplacedCount;
+
+		SearchPass(LiteralMatcher literals, Replacer replacer) {
+			mLiterals = literals;
+			mReplacer = replacer;
+			for (int i = 0; i < mPatterns.size(); i++) {
+				mMatches.add(new ArrayList<Match>());
+			}
+			mLastEnds = new int[mPatterns.size()];
+		}
+
+		// search the paragraphs and headings in the tree of the node, which
+		// are not inside another one.
+		void search(Node node) {
+			if (node instanceof TextPElement || node instanceof TextHElement) {
+				searchContainer((OdfElement) node);
+				return;
+			}
+			for (Node n = node.getFirstChild(); n != null; n = n.getNextSibling()) {
+				if (n.getNodeType() == Node.ELEMENT_NODE && !(n instanceof OfficeAnnotationElement)) {
+					search(n);
+				}
+			}
+		}
+
+		// search the text of a paragraph or heading, including the paragraphs
+		// and headings inside of it.
+		void searchContainer(OdfElement container) {
+			ContainerTextExtractor extractor = new ContainerTextExtractor(container, mSequence, mReplacer != null);
+			String text = extractor.getText();
+			mSequence += extractor.mRanges.size();
+			Arrays.fill(mLastEnds, 0);
+			if (mLiterals.isEmpty() == false) {
+				mLiterals.find(text, this, extractor.mRanges);
+			}
+			for (int i = 0; i < mRegexes.size(); i++) {
+				Pattern regex = mRegexes.get(i);
+				if (regex != null) {
+					Matcher matcher = regex.matcher(text);
+					while (matcher.find()) {
+						if (matcher.end() > matcher.start()) {
+							addMatch(i, text, matcher.start(), matcher.end(), extractor.mRanges,
+									mReplacer != null ? matcher.toMatchResult() : null);
+						}
+					}
+				}
+			}
+			if (mTextMatches.size() > 0) {
+				replaceMatches(text, extractor);
+				mTextMatches.clear();
+			}
+		}
+
+		void addMatch(int patternIndex, String text, int start, int end, List<TextRange> ranges, MatchResult result) {
+			if (start < mLastEnds[patternIndex]) {
+				return;
+			}
+			// the innermost paragraph or heading which contains the match;
+			// the ranges are in document order, so the inner ones come later.
+			TextRange range = null;
+			for (TextRange cur : ranges) {
+				if (cur.mStart <= start && end <= cur.mEnd) {
+					if (cur.mContainer == null) {
+						// matches inside of annotations are ignored.
+						return;
+					}
+					range = cur;
+				}
+			}
+			if (range == null) {
+				return;
+			}
+			mLastEnds[patternIndex] = end;
+			Match match = new Match();
+			match.mContainer = range.mContainer;
+			match.mSequence = range.mSequence;
+			match.mIndex = start - range.mStart;
+			match.mText = text.substring(start, end);
+			match.mPattern = patternIndex;
+			match.mStart = start;
+			match.mEnd = end;
+			match.mResult = result;
+			if (mReplacer != null) {
+				mTextMatches.add(match);
+			} else {
+				mMatches.get(patternIndex).add(match);
+			}
+		}
+
+		// replace the matches in the text of a paragraph or heading, from the
+		// last one to the first one, so that the position of the text nodes
+		// before a replacement stays the same.
+		void replaceMatches(String text, ContainerTextExtractor extractor) {
+			Collections.sort(mTextMatches, REPLACEMENT_ORDER);
+			List<Match> matches = new ArrayList<Match>(mTextMatches.size());
+			int end = 0;
+			for (Match match : mTextMatches) {
+				if (match.mStart >= end) {
+					matches.add(match);
+					end = match.mEnd;
+				}
+			}
+			String[] newTexts = new String[matches.size()];
+			for (int i = 0; i < newTexts.length; i++) {
+				Match match = matches.get(i);
+				MatchResult result = match.mResult;
+				if (result == null) {
+					result = new LiteralMatchResult(text, match.mStart, match.mEnd);
+				}
+				newTexts[i] = mReplacer.getReplacement(mPatterns.get(match.mPattern), result);
+			}
+			for (int i = newTexts.length - 1; i >= 0; i--) {
+				Match match = matches.get(i);
+				if (newTexts[i] != null && extractor.replace(match.mStart, match.mEnd, newTexts[i])) {
+					mReplacedCount++;
+					int length = match.mEnd - match.mStart;
+					Selection.SelectionManager.refresh(match.mContainer, newTexts[i].length() - length, match.mIndex
+							+ length);
+				}
+			}
+		}
+	}
+
+	// the result of a match of a literal.
+	private static class LiteralMatchResult implements MatchResult {
+		private final String mText;
+		private final int mStart;
+		private final int mEnd;
+
+		LiteralMatchResult(String text, int start, int end) {
+			mText = text;
+			mStart = start;
+			mEnd = end;
+		}
+
+		public int start() {
+			return mStart;
+		}
+
+		public int start(int group) {
+			checkGroup(group);
+			return mStart;
+		}
+
+		public int end() {
+			return mEnd;
+		}
+
+		public int end(int group) {
+			checkGroup(group);
+			return mEnd;
+		}
+
+		public String group() {
+			return mText.substring(mStart, mEnd);
+		}
+
+		public String group(int group) {
+			checkGroup(group);
+			return group();
+		}
+
+		public int groupCount() {
+			return 0;
+		}
+
+		private void checkGroup(int group) {
+			if (group != 0) {
+				throw new IndexOutOfBoundsException("No group " + group);
+			}
+		}
+	}
+
+	// a text node, text:s, text:tab or text:line-break in the text of a
+	// container.
+	private static class TextSegment {
+		Node mNode;
+		int mStart;
+		int mLength;
+		// whether the segment is inside of an annotation
+		boolean mIgnored;
+	}
+
+	// the part of the text of a container, which is the text of a paragraph
+	// or heading inside of it, or of an annotation.
+	private static class TextRange {
+		OdfElement mContainer;
+		int mSequence;
+		int mStart;
+		int mEnd;
+	}
+
+	/**
+	 * Extracts the text of a paragraph or heading like
+	 * <code>TextExtractor</code>, and records where the text of the
+	 * paragraphs, headings and annotations inside of it is. If the text is
+	 * going to be replaced, it also records where the text of each node is.
+	 */
+	private static class ContainerTextExtractor extends PositionTextExtractor {
+		private final int mFirstSequence;
+		final List<TextRange> mRanges = new ArrayList<TextRange>();
+		private final List<TextSegment> mSegments;
+		private int mAnnotationDepth;
+
+		ContainerTextExtractor(OdfElement container, int firstSequence, boolean recordSegments) {
+			super(container, recordSegments);
+			mFirstSequence = firstSequence;
+			mSegments = recordSegments ? new ArrayList<TextSegment>() : null;
+			startRange(container);
+		}
+
+		@Override
+		public String getText() {
+			String text = super.getText();
+			// the container itself is visited as an OdfElement, without a new
+			// line.
+			mRanges.get(0).mEnd = text.length();
+			return text;
+		}
+
+		@Override
+		public void visit(TextPElement ele) {
+			TextRange range = startRange(ele);
+			super.visit(ele);
+			// the new line of the paragraph does not belong to its text.
+			range.mEnd = mTextBuilder.length() - 1;
+		}
+
+		@Override
+		public void visit(TextHElement ele) {
+			TextRange range = startRange(ele);
+			super.visit(ele);
+			range.mEnd = mTextBuilder.length() - 1;
+		}
+
+		@Override
+		public void visit(OfficeAnnotationElement ele) {
+			TextRange range = startRange(null);
+			mAnnotationDepth++;
+			super.visit(ele);
+			mAnnotationDepth--;
+			range.mEnd = mTextBuilder.length();
+		}
+
+		@Override
+		protected void addPosition(Node node, int start, int length) {
+			TextSegment segment = new TextSegment();
+			segment.mNode = node;
+			segment.mStart = start;
+			segment.mLength = length;
+			segment.mIgnored = mAnnotationDepth > 0;
+			mSegments.add(segment);
+		}
+
+		/**
+		 * Replace the text from start to end with the new text. The new text
+		 * is inserted where the old text starts, the rest of the old text is
+		 * deleted. The nodes before the start are not changed.
+		 *
+		 * @return false if the text is not replaced, because it is not made of
+		 *         adjacent text nodes, spaces, tabs and line breaks.
+		 */
+		boolean replace(int start, int end, String newText) {
+			// find the first segment which ends after the start
+			int low = 0;
+			int high = mSegments.size();
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				TextSegment segment = mSegments.get(middle);
+				if (segment.mStart + segment.mLength <= start) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			int first = low;
+			if (first == mSegments.size() || mSegments.get(first).mStart > start) {
+				return false;
+			}
+			int last = first;
+			int position = mSegments.get(first).mStart + mSegments.get(first).mLength;
+			while (position < end) {
+				last++;
+				if (last == mSegments.size() || mSegments.get(last).mStart != position) {
+					return false;
+				}
+				position += mSegments.get(last).mLength;
+			}
+			for (int i = first; i <= last; i++) {
+				if (mSegments.get(i).mIgnored) {
+					return false;
+				}
+			}
+
+			boolean inserted = newText.length() == 0;
+			for (int i = first; i <= last; i++) {
+				TextSegment segment = mSegments.get(i);
+				int from = Math.max(start, segment.mStart) - segment.mStart;
+				int to = Math.min(end, segment.mStart + segment.mLength) - segment.mStart;
+				Node node = segment.mNode;
+				Node parent = node.getParentNode();
+				Node next = node.getNextSibling();
+				if (node.getNodeType() == Node.TEXT_NODE) {
+					String value = node.getNodeValue();
+					if (inserted) {
+						node.setNodeValue(value.substring(0, from) + value.substring(to));
+					} else if (needsWhitespaceElements(newText) == false) {
+						node.setNodeValue(value.substring(0, from) + newText + value.substring(to));
+					} else {
+						node.setNodeValue(value.substring(0, from));
+						insertText(parent, next, newText);
+						if (to < value.length()) {
+							parent.insertBefore(node.getOwnerDocument().createTextNode(value.substring(to)), next);
+						}
+					}
+				} else if (node instanceof TextSElement) {
+					if (!inserted) {
+						insertText(parent, next, newText);
+					}
+					int right = segment.mLength - to;
+					if (right > 0) {
+						TextSElement space = new TextSElement((OdfFileDom) node.getOwnerDocument());
+						space.setTextCAttribute(right);
+						parent.insertBefore(space, next);
+					}
+					if (from > 0) {
+						((TextSElement) node).setTextCAttribute(from);
+					} else {
+						parent.removeChild(node);
+					}
+				} else {
+					// text:tab or text:line-break
+					if (!inserted) {
+						insertText(parent, node, newText);
+					}
+					parent.removeChild(node);
+				}
+				inserted = true;
+			}
+			return true;
+		}
+
+		// whether the text has to be written with text:s, text:tab or
+		// text:line-break elements.
+		private static boolean needsWhitespaceElements(String text) {
+			return text.indexOf('\n') >= 0 || text.indexOf('\t') >= 0 || text.indexOf('\r') >= 0
+					|| text.indexOf("  ") >= 0;
+		}
+
+		private static void insertText(Node parent, Node refChild, String text) {
+			OdfFileDom dom = (OdfFileDom) parent.getOwnerDocument();
+			if (needsWhitespaceElements(text) == false) {
+				parent.insertBefore(dom.createTextNode(text), refChild);
+				return;
+			}
+			TextSpanElement span = new TextSpanElement(dom);
+			WhitespaceProcessor.appendText(span, text);
+			while (span.getFirstChild() != null) {
+				parent.insertBefore(span.getFirstChild(), refChild);
+			}
+		}
+
+		private TextRange startRange(OdfElement element) {
+			TextRange range = new TextRange();
+			range.mContainer = element;
+			range.mSequence = mFirstSequence + mRanges.size();
+			range.mStart = mTextBuilder.length();
+			mRanges.add(range);
+			return range;
+		}
+	}
+
+	/**
+	 * An Aho-Corasick automaton, which finds all the occurrences of a set of
+	 * literals in one pass over a text.
+	 */
+	private static class LiteralMatcher {
+		// the transitions of each state, as sorted characters and the states
+		// they lead to
+		private char[][] mChars = new char[16][];
+		private int[][] mNext = new int[16][];
+		private int[] mFail = new int[16];
+		// the pattern of the literal which ends in the state, or -1
+		private int[] mOutput = new int[16];
+		// the next state on the fail path which has an output, or -1
+		private int[] mOutputLink = new int[16];
+		private int[] mLengths = new int[0];
+		private int mStateCount;
+
+		LiteralMatcher() {
+			newState();
+		}
+
+		boolean isEmpty() {
+			return mStateCount == 1;
+		}
+
+		void add(String literal, int patternIndex) {
+			int state = 0;
+			for (int i = 0; i < literal.length(); i++) {
+				char ch = literal.charAt(i);
+				int next = getNext(state, ch);
+				if (next < 0) {
+					next = newState();
+					addNext(state, ch, next);
+				}
+				state = next;
+			}
+			mOutput[state] = patternIndex;
+			if (patternIndex >= mLengths.length) {
+				mLengths = Arrays.copyOf(mLengths, Math.max(patternIndex + 1, mLengths.length * 2));
+			}
+			mLengths[patternIndex] = literal.length();
+		}
+
+		// compute the fail and output links, breadth first.
+		void build() {
+			int[] queue = new int[mStateCount];
+			int head = 0;
+			int tail = 0;
+			for (int next : mNext[0]) {
+				mFail[next] = 0;
+				mOutputLink[next] = -1;
+				queue[tail++] = next;
+			}
+			while (head < tail) {
+				int state = queue[head++];
+				for (int i = 0; i < mChars[state].length; i++) {
+					char ch = mChars[state][i];
+					int next = mNext[state][i];
+					int fail = mFail[state];
+					while (fail != 0 && getNext(fail, ch) < 0) {
+						fail = mFail[fail];
+					}
+					int target = getNext(fail, ch);
+					mFail[next] = target >= 0 ? target : 0;
+					mOutputLink[next] = mOutput[mFail[next]] >= 0 ? mFail[next] : mOutputLink[mFail[next]];
+					queue[tail++] = next;
+				}
+			}
+		}
+
+		void find(String text, SearchPass pass, List<TextRange> ranges) {
+			int state = 0;
+			for (int i = 0; i < text.length(); i++) {
+				char ch = text.charAt(i);
+				int next = getNext(state, ch);
+				while (next < 0 && state != 0) {
+					state = mFail[state];
+					next = getNext(state, ch);
+				}
+				state = next >= 0 ? next : 0;
+				int output = mOutput[state] >= 0 ? state : mOutputLink[state];
+				while (output > 0) {
+					int patternIndex = mOutput[output];
+					pass.addMatch(patternIndex, text, i + 1 - mLengths[patternIndex], i + 1, ranges, null);
+					output = mOutputLink[output];
+				}
+			}
+		}
+
+		private int getNext(int state, char ch) {
+			int i = Arrays.binarySearch(mChars[state], ch);
+			return i >= 0 ? mNext[state][i] : -1;
+		}
+
+		private void addNext(int state, char ch, int next) {
+			char[] chars = mChars[state];
+			int[] nexts = mNext[state];
+			int i = -Arrays.binarySearch(chars, ch) - 1;
+			char[] newChars = new char[chars.length + 1];
+			int[] newNexts = new int[nexts.length + 1];
+			System.arraycopy(chars, 0, newChars, 0, i);
+			System.arraycopy(nexts, 0, newNexts, 0, i);
+			newChars[i] = ch;
+			newNexts[i] = next;
+			System.arraycopy(chars, i, newChars, i + 1, chars.length - i);
+			System.arraycopy(nexts, i, newNexts, i + 1, nexts.length - i);
+			mChars[state] = newChars;
+			mNext[state] = newNexts;
+		}
+
+		private int newState() {
+			if (mStateCount == mChars.length) {
+				int capacity = mStateCount * 2;
+				mChars = Arrays.copyOf(mChars, capacity);
+				mNext = Arrays.copyOf(mNext, capacity);
+				mFail = Arrays.copyOf(mFail, capacity);
+				mOutput = Arrays.copyOf(mOutput, capacity);
+				mOutputLink = Arrays.copyOf(mOutputLink, capacity);
+			}
+			int state = mStateCount++;
+			mChars[state] = new char[0];
+			mNext[state] = new int[0];
+			mOutput[state] = -1;
+			mOutputLink[state] = -1;
+			return state;
+		}
+	}
+}
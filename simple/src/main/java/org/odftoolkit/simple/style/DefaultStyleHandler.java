@@ -679,6 +679,38 @@ public class DefaultStyleHandler {
 		return mWritableStyleElement;
 	}
 
+	/**
+	 * Share an automatic style which is equal to the writable style element,
+	 * if there is one.
+	 * <p>
+	 * This method is invoked after the writable style element has been
+	 * modified. So components which are formatted the same way use one
+	 * automatic style instead of a copy each. As the style might be shared
+	 * afterwards, the style elements and the properties elements held by this
+	 * handler are released, and the next write function gets a writable style
+	 * element again.
+	 * 
+	 * @see OdfStylableElement#internAutomaticStyle()
+	 * @since 0.9
+	 */
+	public void internStyleElement() {
+		if (mWritableStyleElement != null && mWritableStyleElement == mOdfElement.getAutomaticStyle()) {
+			mOdfElement.internAutomaticStyle();
+			mStyleElement = null;
+			mWritableStyleElement = null;
+			mTextProperties = null;
+			mWritableTextProperties = null;
+			mTableCellProperties = null;
+			mWritableTableCellProperties = null;
+			mParagraphProperties = null;
+			mWritableParagraphProperties = null;
+			mGraphicProperties = null;
+			mWritableGraphicProperties = null;
+			mTableProperties = null;
+			mWritableTableProperties = null;
+		}
+	}
+
 	private OdfStyleBase getCurrentUsedStyle() {
 		if (mWritableStyleElement != null)
 			return mWritableStyleElement;
@@ -20,15 +20,20 @@ under the License.
 package org.odftoolkit.simple.table;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.odftoolkit.odfdom.dom.OdfDocumentNamespace;
 import org.odftoolkit.odfdom.dom.element.table.TableTableElement;
 import org.odftoolkit.odfdom.pkg.OdfElement;
+import org.odftoolkit.odfdom.pkg.OdfFileDom;
 import org.odftoolkit.odfdom.pkg.OdfName;
 import org.odftoolkit.simple.table.Table.TableBuilder;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 /**
@@ -41,8 +46,18 @@ import org.w3c.dom.NodeList;
  */
 public abstract class AbstractTableContainer implements TableContainer {
 
+	private static final OdfName TABLE_NAME = OdfName.newName(OdfDocumentNamespace.TABLE, "name");
+
 	private final TableBuilder tableBuilder;
 
+	// the name to table element index used by getTableByName(). While the
+	// tree of the document is not changed, the index is exact, so its misses
+	// are returned without a scan. After a change, a table which is found is
+	// checked, and the index is rebuilt when a lookup misses, so it never
+	// needs to be maintained by the code which inserts, removes or renames
+	// tables.
+	private volatile TableIndex mTableIndex;
+
 	protected AbstractTableContainer() {
 		tableBuilder = new Table.TableBuilder(this);
 	}
@@ -82,21 +97,79 @@ public abstract class AbstractTableContainer implements TableContainer {
 	 * @return an instance of table feature with the specific table name.
 	 */
 	public Table getTableByName(String name) {
+		if (name == null) {
+			return null;
+		}
 		try {
 			OdfElement containerEle = getTableContainerElement();
-			NodeList nodeList = containerEle.getElementsByTagName(TableTableElement.ELEMENT_NAME.getQName());
-			for (int i = 0; i < nodeList.getLength(); i++) {
-				TableTableElement table = (TableTableElement) nodeList.item(i);
-				if (table.getOdfAttributeValue(OdfName.newName(OdfDocumentNamespace.TABLE, "name")).equals(name)) {
-					return getTableBuilder().getTableInstance(table);
+			TableIndex index = mTableIndex;
+			TableTableElement table;
+			if (index != null && index.mContainer == containerEle
+					&& index.mModificationCount == getModificationCount(containerEle)) {
+				table = index.mTables.get(name);
+			} else {
+				table = lookupTableIndex(index, containerEle, name);
+				if (table == null) {
+					index = new TableIndex(containerEle);
+					mTableIndex = index;
+					table = index.mTables.get(name);
 				}
 			}
+			if (table != null) {
+				return getTableBuilder().getTableInstance(table);
+			}
 		} catch (Exception e) {
 			Logger.getLogger(AbstractTableContainer.class.getName()).log(Level.SEVERE, null, e);
 		}
 		return null;
 	}
 
+	// return the indexed table of the name, if it still has this name and is
+	// still in this container.
+	private static TableTableElement lookupTableIndex(TableIndex index, OdfElement containerEle, String name) {
+		if (index == null) {
+			return null;
+		}
+		TableTableElement table = index.mTables.get(name);
+		if (table == null || !name.equals(table.getOdfAttributeValue(TABLE_NAME))) {
+			return null;
+		}
+		for (Node n = table.getParentNode(); n != null; n = n.getParentNode()) {
+			if (n == containerEle) {
+				return table;
+			}
+		}
+		return null;
+	}
+
+	// the changes of a DOM which is not an OdfFileDom can't be counted, so its
+	// index is never exact after it is built.
+	private static int getModificationCount(OdfElement containerEle) {
+		Document dom = containerEle.getOwnerDocument();
+		return dom instanceof OdfFileDom ? ((OdfFileDom) dom).getModificationCount() : -1;
+	}
+
+	private static class TableIndex {
+
+		private final OdfElement mContainer;
+		private final int mModificationCount;
+		private final Map<String, TableTableElement> mTables = new HashMap<String, TableTableElement>();
+
+		private TableIndex(OdfElement containerEle) {
+			mContainer = containerEle;
+			mModificationCount = getModificationCount(containerEle);
+			NodeList nodeList = containerEle.getElementsByTagName(TableTableElement.ELEMENT_NAME.getQName());
+			for (int i = 0; i < nodeList.getLength(); i++) {
+				TableTableElement table = (TableTableElement) nodeList.item(i);
+				String name = table.getOdfAttributeValue(TABLE_NAME);
+				// the first table of a name wins, like a scan in document order.
+				if (!mTables.containsKey(name)) {
+					mTables.put(name, table);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Return a list of table features in this container.
 	 * 
@@ -23,15 +23,15 @@ import java.awt.FontMetrics;
 import java.awt.image.BufferedImage;
 import java.io.InputStream;
 import java.net.URI;
-import java.text.DecimalFormat;
-import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Vector;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.imageio.ImageIO;
@@ -84,6 +84,8 @@ import org.odftoolkit.odfdom.pkg.OdfName;
 import org.odftoolkit.odfdom.pkg.OdfPackage;
 import org.odftoolkit.odfdom.pkg.OdfXMLFactory;
 import org.odftoolkit.odfdom.type.Color;
+import org.odftoolkit.odfdom.type.DateTime;
+import org.odftoolkit.odfdom.type.Duration;
 import org.odftoolkit.odfdom.type.Length;
 import org.odftoolkit.odfdom.type.Length.Unit;
 import org.odftoolkit.simple.Component;
@@ -127,16 +129,6 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 	String msFormatString;
 	CellStyleHandler mStyleHandler;
 
-	/**
-	 * The default date format of table cell.
-	 */
-	private static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd";
-	/**
-	 * The default time format of table cell.
-	 */
-	private static final String DEFAULT_TIME_FORMAT = "'PT'HH'H'mm'M'ss'S'";
-	// example format: 2002-05-30T09:30:10
-	private static final String DEFAULT_DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
 	/**
 	 * The default cell back color of table cell.
 	 */
@@ -413,7 +405,7 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 				return tr;
 			}
 			if (m instanceof TableTableRowElement) {
-				result += ((TableTableRowElement) m).getTableNumberRowsRepeatedAttribute().intValue();
+				result += ((TableTableRowElement) m).getTableNumberRowsRepeatedAttributeIntValue();
 			}
 		}
 		indexs[0] = result;
@@ -428,7 +420,7 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 				return tr;
 			}
 			if (m instanceof TableTableRowElement) {
-				result += ((TableTableRowElement) m).getTableNumberRowsRepeatedAttribute().intValue();
+				result += ((TableTableRowElement) m).getTableNumberRowsRepeatedAttributeIntValue();
 			}
 		}
 		indexs[0] = result;
@@ -474,7 +466,7 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 					indexs[0] = result;
 					return tr;
 				}
-				result += ((TableTableRowElement) m).getTableNumberRowsRepeatedAttribute().intValue();
+				result += ((TableTableRowElement) m).getTableNumberRowsRepeatedAttributeIntValue();
 			}
 		}
 		indexs[0] = result;
@@ -525,7 +517,7 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 				return result + mnRepeatedColIndex;
 			}
 			if (n instanceof TableTableCellElementBase) {
-				result += ((TableTableCellElementBase) n).getTableNumberColumnsRepeatedAttribute().intValue();
+				result += ((TableTableCellElementBase) n).getTableNumberColumnsRepeatedAttributeIntValue();
 			}
 		}
 		return result;
@@ -1018,7 +1010,7 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 	 *             is not "date".
 	 */
 	public Calendar getDateValue() {
-		return getOfficeDateValue(DEFAULT_DATE_FORMAT);
+		return getOfficeDateValue(false);
 	}
 
 	/**
@@ -1032,19 +1024,51 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 	 *             is not "date".
 	 */
 	public Calendar getDateTimeValue() {
-		return getOfficeDateValue(DEFAULT_DATE_TIME_FORMAT);
+		return getOfficeDateValue(true);
+	}
+
+	private Calendar getOfficeDateValue(boolean withTime) {
+		LocalDateTime dateTime = getLocalDateTimeValue();
+		if (dateTime == null) {
+			return null;
+		}
+		Calendar calender = Calendar.getInstance();
+		calender.clear();
+		if (withTime) {
+			calender.set(dateTime.getYear(), dateTime.getMonthValue() - 1, dateTime.getDayOfMonth(), dateTime
+					.getHour(), dateTime.getMinute(), dateTime.getSecond());
+		} else {
+			calender.set(dateTime.getYear(), dateTime.getMonthValue() - 1, dateTime.getDayOfMonth());
+		}
+		return calender;
 	}
 
-	private Calendar getOfficeDateValue(String pattern) {
+	/**
+	 * Get the cell date value as <code>java.time.LocalDateTime</code>. A date
+	 * without time is returned at midnight, a time zone of the value is
+	 * ignored.
+	 * <p>
+	 * Throw IllegalArgumentException if the cell type is not "date".
+	 *
+	 * @return the local date and time of the cell, or null if the cell has
+	 *         no valid date value
+	 * @throws IllegalArgumentException
+	 *             an IllegalArgumentException will be thrown, if the cell type
+	 *             is not "date".
+	 * @since 0.9
+	 */
+	public LocalDateTime getLocalDateTimeValue() {
 		if (getTypeAttr() == OfficeValueTypeAttribute.Value.DATE) {
 			String dateStr = mCellElement.getOfficeDateValueAttribute();
 			if (dateStr == null) {
 				return null;
 			}
-			Date date = parseString(dateStr, pattern);
-			Calendar calender = Calendar.getInstance();
-			calender.setTime(date);
-			return calender;
+			try {
+				return DateTime.parseLocalDateTime(dateStr);
+			} catch (IllegalArgumentException e) {
+				Logger.getLogger(Cell.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+				return null;
+			}
 		} else {
 			throw new IllegalArgumentException();
 		}
@@ -1058,7 +1082,7 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 	 *            type.
 	 */
 	public void setDateValue(Calendar date) {
-		setOfficeDateValue(date, DEFAULT_DATE_FORMAT);
+		setOfficeDateValue(date, false);
 	}
 
 	/**
@@ -1066,21 +1090,51 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 	 * @param date
 	 */
 	public void setDateTimeValue(Calendar date) {
-		setOfficeDateValue(date, DEFAULT_DATE_TIME_FORMAT);
+		setOfficeDateValue(date, true);
+	}
+
+	/**
+	 * Set the cell value as a date with time, and set the value type to be
+	 * "date".
+	 *
+	 * @param dateTime
+	 *            the local date and time, the fraction of the second is kept.
+	 * @throws IllegalArgumentException
+	 *             If input dateTime is null, an IllegalArgumentException
+	 *             exception will be thrown.
+	 * @since 0.9
+	 */
+	public void setLocalDateTimeValue(LocalDateTime dateTime) {
+		if (dateTime == null) {
+			throw new IllegalArgumentException("date shouldn't be null.");
+		}
+		setOfficeDateValue(DateTime.format(dateTime));
 	}
 
-	private void setOfficeDateValue(Calendar date, String pattern) {
+	private void setOfficeDateValue(Calendar date, boolean withTime) {
 		if (date == null) {
 			throw new IllegalArgumentException("date shouldn't be null.");
 		}
+		LocalDateTime dateTime = toLocalDateTime(date);
+		if (withTime) {
+			setOfficeDateValue(DateTime.format(dateTime.withNano(0)));
+		} else {
+			setOfficeDateValue(DateTime.format(dateTime.toLocalDate()));
+		}
+	}
+
+	private void setOfficeDateValue(String svalue) {
 		splitRepeatedCells();
 		setTypeAttr(OfficeValueTypeAttribute.Value.DATE);
-		SimpleDateFormat simpleFormat = new SimpleDateFormat(pattern);
-		String svalue = simpleFormat.format(date.getTime());
 		mCellElement.setOfficeDateValueAttribute(svalue);
 		setDisplayTextContent(svalue, null);
 	}
 
+	// the date and time of the calendar in the default time zone
+	private static LocalDateTime toLocalDateTime(Calendar calendar) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(calendar.getTimeInMillis()), ZoneId.systemDefault());
+	}
+
 	/**
 	 * Set the cell style name. When lots of cells have the same style features,
 	 * the user can configuration the first one and set the other's style name
@@ -1145,9 +1199,9 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 		if (repeateNum > 1) {
 			// change this repeated cell to three parts: repeated cell before,
 			// new single cell and repeated cell after.
-			Map<TableTableCellElementBase, Vector<Cell>> cellRepository = table.mCellRepository;
+			Map<TableTableCellElementBase, WeakInstanceList<Cell>> cellRepository = table.mCellRepository;
 			String tableNamespaceURI = OdfDocumentNamespace.TABLE.getUri();
-			Vector<Cell> oldList = null;
+			WeakInstanceList<Cell> oldList = null;
 			if (cellRepository.containsKey(mCellElement)) {
 				oldList = cellRepository.remove(mCellElement);
 			}
@@ -1166,12 +1220,11 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 				ownerRowElement.insertBefore(newBeforeCellElement, currentCellElement);
 				// update cell cache
 				if (oldList != null) {
-					Vector<Cell> newBeforeList = new Vector<Cell>(mnRepeatedColIndex);
-					for (int i = 0; i < mnRepeatedColIndex && i < oldList.size(); i++) {
-						Cell beforeCell = oldList.get(i);
-						if (beforeCell != null) {
+					WeakInstanceList<Cell> newBeforeList = new WeakInstanceList<Cell>(mnRepeatedColIndex);
+					for (Cell beforeCell : oldList) {
+						if (beforeCell != null && beforeCell.mnRepeatedColIndex < mnRepeatedColIndex) {
 							beforeCell.mCellElement = newBeforeCellElement;
-							newBeforeList.add(i, beforeCell);
+							newBeforeList.add(beforeCell);
 						}
 					}
 					cellRepository.put(newBeforeCellElement, newBeforeList);
@@ -1188,13 +1241,12 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 				}
 				// update cell cache
 				if (oldList != null) {
-					Vector<Cell> newAfterList = new Vector<Cell>(offetAfterCurrentCell);
-					for (int i = mnRepeatedColIndex + 1; i < repeateNum && i < oldList.size(); i++) {
-						Cell afterCell = oldList.get(i);
-						if (afterCell != null) {
+					WeakInstanceList<Cell> newAfterList = new WeakInstanceList<Cell>(offetAfterCurrentCell);
+					for (Cell afterCell : oldList) {
+						if (afterCell != null && afterCell.mnRepeatedColIndex > mnRepeatedColIndex) {
 							afterCell.mCellElement = newAfterCellElement;
-							afterCell.mnRepeatedColIndex = i - mnRepeatedColIndex - 1;
-							newAfterList.add(afterCell.mnRepeatedColIndex, afterCell);
+							afterCell.mnRepeatedColIndex = afterCell.mnRepeatedColIndex - mnRepeatedColIndex - 1;
+							newAfterList.add(afterCell);
 						}
 					}
 					cellRepository.put(newAfterCellElement, newAfterList);
@@ -1203,8 +1255,8 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 			mnRepeatedColIndex = 0;
 			mCellElement = currentCellElement;
 			// update cell cache
-			Vector<Cell> currentList = new Vector<Cell>(1);
-			currentList.add(0, this);
+			WeakInstanceList<Cell> currentList = new WeakInstanceList<Cell>(1);
+			currentList.add(this);
 			cellRepository.put(currentCellElement, currentList);
 		}
 	}
@@ -1236,9 +1288,19 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
                         if (timeStr == null) {
                             return null;
                         }
-			Date date = parseString(timeStr, DEFAULT_TIME_FORMAT);
+			java.time.Duration time;
+			try {
+				time = Duration.parseDuration(timeStr);
+			} catch (IllegalArgumentException e) {
+				Logger.getLogger(Cell.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+				return null;
+			}
+			int seconds = (int) Math.floorMod(time.getSeconds(), 86400L);
 			Calendar calender = Calendar.getInstance();
-			calender.setTime(date);
+			calender.clear();
+			calender.set(Calendar.HOUR_OF_DAY, seconds / 3600);
+			calender.set(Calendar.MINUTE, seconds / 60 % 60);
+			calender.set(Calendar.SECOND, seconds % 60);
 			calender.clear(Calendar.YEAR);
 			calender.clear(Calendar.MONTH);
 			calender.clear(Calendar.DAY_OF_MONTH);
@@ -1264,24 +1326,13 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 		}
 		splitRepeatedCells();
 		setTypeAttr(OfficeValueTypeAttribute.Value.TIME);
-		SimpleDateFormat simpleFormat = new SimpleDateFormat(DEFAULT_TIME_FORMAT);
-		String svalue = simpleFormat.format(time.getTime());
+		LocalDateTime dateTime = toLocalDateTime(time);
+		String svalue = Duration.format(java.time.Duration.ofSeconds(dateTime.getHour() * 3600
+				+ dateTime.getMinute() * 60 + dateTime.getSecond()));
 		mCellElement.setOfficeTimeValueAttribute(svalue);
 		setDisplayTextContent(svalue, null);
 	}
 
-	private Date parseString(String value, String format) {
-		SimpleDateFormat simpleFormat = new SimpleDateFormat(format);
-		Date simpleDate = null;
-		try {
-			simpleDate = simpleFormat.parse(value);
-		} catch (ParseException e) {
-			Logger.getLogger(Cell.class.getName()).log(Level.SEVERE, e.getMessage(), e);
-			return null;
-		}
-		return simpleDate;
-	}
-
 	/**
 	 * Get the background color of this cell.
 	 * <p>
@@ -1371,11 +1422,7 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 		if (mCellElement instanceof TableCoveredTableCellElement) {
 			return 1;
 		}
-		Integer value = ((TableTableCellElement) mCellElement).getTableNumberColumnsSpannedAttribute();
-		if (value != null) {
-			return value.intValue();
-		}
-		return DEFAULT_COLUMN_SPANNED_NUMBER;
+		return ((TableTableCellElement) mCellElement).getTableNumberColumnsSpannedAttributeIntValue();
 	}
 
 	/**
@@ -1384,11 +1431,7 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 	 * @return the column repeated number
 	 */
 	int getColumnsRepeatedNumber() {
-		Integer value = mCellElement.getTableNumberColumnsRepeatedAttribute();
-		if (value != null) {
-			return value.intValue();
-		}
-		return DEFAULT_COLUMNS_REPEATED_NUMBER;
+		return mCellElement.getTableNumberColumnsRepeatedAttributeIntValue();
 	}
 
 	/**
@@ -1400,11 +1443,7 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 		if (mCellElement instanceof TableCoveredTableCellElement) {
 			return 1;
 		}
-		Integer value = ((TableTableCellElement) mCellElement).getTableNumberRowsSpannedAttribute();
-		if (value != null) {
-			return value.intValue();
-		}
-		return DEFAULT_ROW_SPANNED_NUMBER;
+		return ((TableTableCellElement) mCellElement).getTableNumberRowsSpannedAttributeIntValue();
 	}
 
 	/**
@@ -1493,7 +1532,8 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 	 * <p>
 	 * Please note, the parameter <code>formula</code> will not be checked and
 	 * interpreted; the cell value will not be calculated. It's just simply set
-	 * as a formula attribute.
+	 * as a formula attribute. Use {@link FormulaEngine} to calculate the cell
+	 * values.
 	 *
 	 * @param formula
 	 *            the formula that need to be set.
@@ -1570,27 +1610,35 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 			throw new IllegalArgumentException();
 		}
 
-		OdfNumberCurrencyStyle currencyStyle = new OdfNumberCurrencyStyle((OdfFileDom) mCellElement.getOwnerDocument(),
-				currencySymbol, format, getUniqueCurrencyStyleName());
-		mCellElement.getAutomaticStyles().appendChild(currencyStyle);
+		OdfOfficeAutomaticStyles styles = mCellElement.getAutomaticStyles();
+		CellFormatCache formatCache = CellFormatCache.getInstance(styles);
+		String currencyType = typeValue.toString() + currencySymbol.length() + ":" + currencySymbol;
+		String styleName = formatCache.getStyleName(currencyType, format);
+		OdfNumberCurrencyStyle currencyStyle = styleName == null ? null : styles.getCurrencyStyle(styleName);
+		if (currencyStyle == null) {
+			currencyStyle = new OdfNumberCurrencyStyle((OdfFileDom) mCellElement.getOwnerDocument(), currencySymbol,
+					format, getUniqueCurrencyStyleName());
+			styles.appendChild(currencyStyle);
+			formatCache.putStyleName(currencyType, format, currencyStyle.getStyleNameAttribute());
+		}
 		setDataDisplayStyleName(currencyStyle.getStyleNameAttribute());
 		Double value = getCurrencyValue();
 
 		// set display text
 		if (value != null) {
-			setDisplayTextContent(formatCurrency(currencyStyle, value.doubleValue()), null);
+			setDisplayTextContent(formatCurrency(formatCache, currencyStyle, value.doubleValue()), null);
 		}
 	}
 
 	// This method doesn't handle style:map element.
-	private String formatCurrency(OdfNumberCurrencyStyle currencyStyle, double value) {
+	private String formatCurrency(CellFormatCache formatCache, OdfNumberCurrencyStyle currencyStyle, double value) {
 		String valuestr = "";
 		for (Node m : new DomNodeList(currencyStyle.getChildNodes())) {
 			if (m instanceof NumberCurrencySymbolElement) {
 				valuestr += m.getTextContent();
 			} else if (m instanceof NumberNumberElement) {
 				String numberformat = currencyStyle.getNumberFormat();
-				valuestr += (new DecimalFormat(numberformat)).format(value);
+				valuestr += formatCache.formatNumber(numberformat, value);
 			} else if (m instanceof NumberTextElement) {
 				String textcontent = m.getTextContent();
 				if (textcontent == null || textcontent.length() == 0) {
@@ -1683,43 +1731,63 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 		msFormatString = formatStr;
 		splitRepeatedCells();
 		typeValue = OfficeValueTypeAttribute.Value.enumValueOf(type);
+		// the cells with the same format share one data style.
+		OdfOfficeAutomaticStyles styles = mCellElement.getAutomaticStyles();
+		CellFormatCache formatCache = CellFormatCache.getInstance(styles);
+		String styleName = formatCache.getStyleName(type, formatStr);
 		if (typeValue == OfficeValueTypeAttribute.Value.FLOAT) {
-			OdfNumberStyle numberStyle = new OdfNumberStyle((OdfFileDom) mCellElement.getOwnerDocument(), formatStr,
-					getUniqueNumberStyleName());
-			mCellElement.getAutomaticStyles().appendChild(numberStyle);
-			setDataDisplayStyleName(numberStyle.getStyleNameAttribute());
+			if (styleName == null || styles.getNumberStyle(styleName) == null) {
+				OdfNumberStyle numberStyle = new OdfNumberStyle((OdfFileDom) mCellElement.getOwnerDocument(),
+						formatStr, getUniqueNumberStyleName());
+				styles.appendChild(numberStyle);
+				styleName = numberStyle.getStyleNameAttribute();
+				formatCache.putStyleName(type, formatStr, styleName);
+			}
+			setDataDisplayStyleName(styleName);
 			Double value = getDoubleValue();
 			if (value != null) {
-				setDisplayTextContent((new DecimalFormat(formatStr)).format(value.doubleValue()), null);
+				setDisplayTextContent(formatCache.formatNumber(formatStr, value.doubleValue()), null);
 			}
 		} else if (typeValue == OfficeValueTypeAttribute.Value.DATE) {
-			OdfNumberDateStyle dateStyle = new OdfNumberDateStyle((OdfFileDom) mCellElement.getOwnerDocument(),
-					formatStr, getUniqueDateStyleName(), null);
-			mCellElement.getAutomaticStyles().appendChild(dateStyle);
-			setDataDisplayStyleName(dateStyle.getStyleNameAttribute());
+			if (styleName == null || styles.getDateStyle(styleName) == null) {
+				OdfNumberDateStyle dateStyle = new OdfNumberDateStyle((OdfFileDom) mCellElement.getOwnerDocument(),
+						formatStr, getUniqueDateStyleName(), null);
+				styles.appendChild(dateStyle);
+				styleName = dateStyle.getStyleNameAttribute();
+				formatCache.putStyleName(type, formatStr, styleName);
+			}
+			setDataDisplayStyleName(styleName);
 			String dateStr = mCellElement.getOfficeDateValueAttribute();
 			if (dateStr != null) {
 				Calendar date = getDateValue();
-				setDisplayTextContent((new SimpleDateFormat(formatStr)).format(date.getTime()), null);
+				setDisplayTextContent(formatCache.formatDate(formatStr, date.getTime()), null);
 			}
 		} else if (typeValue == OfficeValueTypeAttribute.Value.TIME) {
-			OdfNumberTimeStyle timeStyle = new OdfNumberTimeStyle((OdfFileDom) mCellElement.getOwnerDocument(),
-					formatStr, getUniqueDateStyleName());
-			mCellElement.getAutomaticStyles().appendChild(timeStyle);
-			setDataDisplayStyleName(timeStyle.getStyleNameAttribute());
+			if (styleName == null || styles.getTimeStyle(styleName) == null) {
+				OdfNumberTimeStyle timeStyle = new OdfNumberTimeStyle((OdfFileDom) mCellElement.getOwnerDocument(),
+						formatStr, getUniqueDateStyleName());
+				styles.appendChild(timeStyle);
+				styleName = timeStyle.getStyleNameAttribute();
+				formatCache.putStyleName(type, formatStr, styleName);
+			}
+			setDataDisplayStyleName(styleName);
 			String timeStr = mCellElement.getOfficeTimeValueAttribute();
 			if (timeStr != null) {
 				Calendar time = getTimeValue();
-				setDisplayTextContent((new SimpleDateFormat(formatStr)).format(time.getTime()), null);
+				setDisplayTextContent(formatCache.formatDate(formatStr, time.getTime()), null);
 			}
 		} else if (typeValue == OfficeValueTypeAttribute.Value.PERCENTAGE) {
-			OdfNumberPercentageStyle dateStyle = new OdfNumberPercentageStyle((OdfFileDom) mCellElement
-					.getOwnerDocument(), formatStr, getUniquePercentageStyleName());
-			mCellElement.getAutomaticStyles().appendChild(dateStyle);
-			setDataDisplayStyleName(dateStyle.getStyleNameAttribute());
+			if (styleName == null || styles.getPercentageStyle(styleName) == null) {
+				OdfNumberPercentageStyle percentageStyle = new OdfNumberPercentageStyle((OdfFileDom) mCellElement
+						.getOwnerDocument(), formatStr, getUniquePercentageStyleName());
+				styles.appendChild(percentageStyle);
+				styleName = percentageStyle.getStyleNameAttribute();
+				formatCache.putStyleName(type, formatStr, styleName);
+			}
+			setDataDisplayStyleName(styleName);
 			Double value = getPercentageValue();
 			if (value != null) {
-				setDisplayTextContent((new DecimalFormat(formatStr)).format(value.doubleValue()), null);
+				setDisplayTextContent(formatCache.formatNumber(formatStr, value.doubleValue()), null);
 			}
 		} else {
 			throw new IllegalArgumentException("This function doesn't support " + typeValue + " cell.");
@@ -1730,6 +1798,7 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 		OdfStyleBase styleElement = getStyleHandler().getStyleElementForWrite();
 		if (styleElement != null) {
 			styleElement.setOdfAttributeValue(OdfName.newName(OdfDocumentNamespace.STYLE, "data-style-name"), name);
+			getStyleHandler().internStyleElement();
 		}
 	}
 
@@ -1936,8 +2005,8 @@ public class Cell extends Component implements ListContainer, ParagraphContainer
 				Cell cell = aRow.getCellByIndex(j);
 				if (cell.getOdfElement() instanceof TableTableCellElement) {
 					TableTableCellElement cellEle = (TableTableCellElement) cell.getOdfElement();
-					if ((cellEle.getTableNumberColumnsSpannedAttribute() + j > startColumni)
-							&& (cellEle.getTableNumberRowsSpannedAttribute() + i > startRowi)) {
+					if ((cellEle.getTableNumberColumnsSpannedAttributeIntValue() + j > startColumni)
+							&& (cellEle.getTableNumberRowsSpannedAttributeIntValue() + i > startRowi)) {
 						return mOwnerTable.getCellInstance(cellEle, 0, 0);
 					}
 				}
@@ -0,0 +1,116 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.table;
+
+import java.text.DecimalFormat;
+import java.text.Format;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.odftoolkit.odfdom.incubator.doc.office.OdfOfficeAutomaticStyles;
+
+/**
+ * CellFormatCache keeps, for the automatic styles of one document, the names
+ * of the data styles which have been created by <code>Cell</code> for a
+ * format string, so that the cells with the same format share one
+ * <code>number:*-style</code> element.
+ * <p>
+ * It also keeps the compiled <code>DecimalFormat</code> and
+ * <code>SimpleDateFormat</code> instances for the format strings, so that
+ * the display text of a cell is generated without creating a new formatter.
+ * A formatter is not thread safe, so it is locked while it is used.
+ */
+class CellFormatCache {
+
+	private static final Map<OdfOfficeAutomaticStyles, CellFormatCache> mCaches = new WeakHashMap<OdfOfficeAutomaticStyles, CellFormatCache>();
+
+	private final HashMap<String, String> mStyleNames = new HashMap<String, String>();
+	private final HashMap<String, Format> mFormats = new HashMap<String, Format>();
+
+	private CellFormatCache() {
+	}
+
+	/**
+	 * Return the cache of the given automatic styles.
+	 */
+	static synchronized CellFormatCache getInstance(OdfOfficeAutomaticStyles styles) {
+		CellFormatCache cache = mCaches.get(styles);
+		if (cache == null) {
+			cache = new CellFormatCache();
+			mCaches.put(styles, cache);
+		}
+		return cache;
+	}
+
+	/**
+	 * Return the name of the data style which has been created for the value
+	 * type and the format string, or null if there is none.
+	 */
+	synchronized String getStyleName(String type, String format) {
+		return mStyleNames.get(type + ':' + format);
+	}
+
+	/**
+	 * Remember the name of the data style which has been created for the
+	 * value type and the format string.
+	 */
+	synchronized void putStyleName(String type, String format, String styleName) {
+		mStyleNames.put(type + ':' + format, styleName);
+	}
+
+	/**
+	 * Format a number with a pattern of <code>java.text.DecimalFormat</code>.
+	 */
+	String formatNumber(String pattern, double value) {
+		Format format = getFormat('n', pattern);
+		synchronized (format) {
+			return format.format(value);
+		}
+	}
+
+	/**
+	 * Format a date with a pattern of <code>java.text.SimpleDateFormat</code>.
+	 */
+	String formatDate(String pattern, Date value) {
+		Format format = getFormat('d', pattern);
+		synchronized (format) {
+			return format.format(value);
+		}
+	}
+
+	private Format getFormat(char kind, String pattern) {
+		String key = kind + pattern;
+		synchronized (mFormats) {
+			Format format = mFormats.get(key);
+			if (format == null) {
+				if (kind == 'n') {
+					format = new DecimalFormat(pattern);
+				} else {
+					format = new SimpleDateFormat(pattern);
+				}
+				mFormats.put(key, format);
+			}
+			return format;
+		}
+	}
+}
@@ -19,25 +19,52 @@ under the License.
 
 package org.odftoolkit.simple.table;
 
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.odftoolkit.odfdom.dom.OdfDocumentNamespace;
 import org.odftoolkit.odfdom.dom.attribute.office.OfficeValueTypeAttribute;
+import org.odftoolkit.odfdom.dom.element.OdfStyleBase;
 import org.odftoolkit.odfdom.dom.element.table.TableCoveredTableCellElement;
 import org.odftoolkit.odfdom.dom.element.table.TableNamedExpressionsElement;
 import org.odftoolkit.odfdom.dom.element.table.TableNamedRangeElement;
 import org.odftoolkit.odfdom.dom.element.table.TableTableCellElement;
+import org.odftoolkit.odfdom.dom.element.table.TableTableCellElementBase;
+import org.odftoolkit.odfdom.dom.element.table.TableTableColumnElement;
+import org.odftoolkit.odfdom.dom.element.table.TableTableHeaderColumnsElement;
+import org.odftoolkit.odfdom.dom.element.table.TableTableHeaderRowsElement;
 import org.odftoolkit.odfdom.dom.element.table.TableTableRowElement;
+import org.odftoolkit.odfdom.dom.element.table.TableTableRowsElement;
+import org.odftoolkit.odfdom.dom.style.OdfStyleFamily;
+import org.odftoolkit.odfdom.incubator.doc.office.OdfOfficeAutomaticStyles;
+import org.odftoolkit.odfdom.incubator.doc.style.OdfStyle;
 import org.odftoolkit.odfdom.pkg.OdfElement;
 import org.odftoolkit.odfdom.pkg.OdfFileDom;
 import org.odftoolkit.odfdom.pkg.OdfName;
 import org.odftoolkit.odfdom.pkg.OdfXMLFactory;
+import org.odftoolkit.odfdom.type.Color;
 import org.odftoolkit.simple.Document;
 import org.odftoolkit.simple.SpreadsheetDocument;
+import org.odftoolkit.simple.style.Border;
+import org.odftoolkit.simple.style.Font;
+import org.odftoolkit.simple.style.ParagraphProperties;
+import org.odftoolkit.simple.style.StyleTypeDefinitions.CellBordersType;
+import org.odftoolkit.simple.style.StyleTypeDefinitions.HorizontalAlignmentType;
+import org.odftoolkit.simple.style.TableCellProperties;
+import org.odftoolkit.simple.style.TextProperties;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
 
 /**
  * CellRange represent a rang of cells that are adjacent with each other
@@ -277,7 +304,7 @@ public class CellRange {
 							firstCell.appendContentFrom(cellBase);
 							cellBase.removeContent();
 							//set the table column repeated attribute
-							int repeatedNum = cell.getTableNumberColumnsRepeatedAttribute();
+							int repeatedNum = cell.getTableNumberColumnsRepeatedAttributeIntValue();
 							int num = (mnEndColumn - j + 1) - repeatedNum;
 							if (num >= 0) {
 								if(repeatedNum > 1){
@@ -472,4 +499,610 @@ public class CellRange {
 		//what should do? get the table then getcellByPosition?
 		return getCellByPosition(maOwnerTable.getColIndexFromCellAddress(address), maOwnerTable.getRowIndexFromCellAddress(address));
 	}
+
+	/**
+	 * Read the numeric values of this cell range in a single pass, without
+	 * creating <code>Cell</code> instances or boxed values.
+	 * <p>
+	 * <code>dest[i][j]</code> receives the <code>office:value</code> of the
+	 * cell at row <code>i</code> and column <code>j</code>, relative to the
+	 * start position of the cell range. Cells which have no numeric value (e.g.
+	 * string cells, empty cells or covered cells) are set to
+	 * <code>Double.NaN</code>.
+	 * 
+	 * @param dest
+	 *            the array that receives the values. It must have at least
+	 *            {@link #getRowNumber()} rows of at least
+	 *            {@link #getColumnNumber()} columns.
+	 * @throws IllegalArgumentException
+	 *             if <code>dest</code> is too small for this cell range.
+	 * @since 0.9
+	 */
+	public void readDoubles(final double[][] dest) {
+		checkDestination(dest == null ? -1 : dest.length);
+		for (int i = 0; i < getRowNumber(); i++) {
+			if (dest[i] == null || dest[i].length < getColumnNumber()) {
+				throw new IllegalArgumentException("dest is smaller than the cell range.");
+			}
+			Arrays.fill(dest[i], 0, getColumnNumber(), Double.NaN);
+		}
+		maOwnerTable.visitCellElements(mnStartColumn, mnStartRow, mnEndColumn, mnEndRow,
+				new Table.CellElementVisitor() {
+					public void visit(TableTableCellElementBase cellEle, int colIndex, int colCount, int rowIndex,
+							int rowCount) {
+						double value = Table.getOfficeValue(cellEle);
+						if (!Double.isNaN(value)) {
+							for (int i = rowIndex - mnStartRow; i < rowIndex - mnStartRow + rowCount; i++) {
+								Arrays.fill(dest[i], colIndex - mnStartColumn, colIndex - mnStartColumn + colCount, value);
+							}
+						}
+					}
+				});
+	}
+
+	/**
+	 * Read the string values of this cell range in a single pass, without
+	 * creating <code>Cell</code> instances.
+	 * <p>
+	 * <code>dest[i][j]</code> receives the same value as
+	 * {@link Cell#getStringValue()} of the cell at row <code>i</code> and
+	 * column <code>j</code>, relative to the start position of the cell range.
+	 * Positions which have no cell element are set to an empty string.
+	 * 
+	 * @param dest
+	 *            the array that receives the values. It must have at least
+	 *            {@link #getRowNumber()} rows of at least
+	 *            {@link #getColumnNumber()} columns.
+	 * @throws IllegalArgumentException
+	 *             if <code>dest</code> is too small for this cell range.
+	 * @since 0.9
+	 */
+	public void readStrings(final String[][] dest) {
+		checkDestination(dest == null ? -1 : dest.length);
+		for (int i = 0; i < getRowNumber(); i++) {
+			if (dest[i] == null || dest[i].length < getColumnNumber()) {
+				throw new IllegalArgumentException("dest is smaller than the cell range.");
+			}
+			Arrays.fill(dest[i], 0, getColumnNumber(), "");
+		}
+		maOwnerTable.visitCellElements(mnStartColumn, mnStartRow, mnEndColumn, mnEndRow,
+				new Table.CellElementVisitor() {
+					public void visit(TableTableCellElementBase cellEle, int colIndex, int colCount, int rowIndex,
+							int rowCount) {
+						String value = Table.getOfficeStringValue(cellEle);
+						for (int i = rowIndex - mnStartRow; i < rowIndex - mnStartRow + rowCount; i++) {
+							Arrays.fill(dest[i], colIndex - mnStartColumn, colIndex - mnStartColumn + colCount, value);
+						}
+					}
+				});
+	}
+
+	private void checkDestination(int rowLength) {
+		if (rowLength < getRowNumber()) {
+			throw new IllegalArgumentException("dest is smaller than the cell range.");
+		}
+	}
+
+	/**
+	 * Set the style name of all the cells in this cell range.
+	 * <p>
+	 * The style name is set once for each repeated cell, so this is much
+	 * faster than setting the style name of each cell.
+	 * 
+	 * @param styleName
+	 *            an existing cell style name.
+	 * @see Cell#setCellStyleName(String)
+	 * @since 0.9
+	 */
+	public void setCellStyleName(final String styleName) {
+		splitBoundaryCells();
+		maOwnerTable.visitCellElements(mnStartColumn, mnStartRow, mnEndColumn, mnEndRow,
+				new Table.CellElementVisitor() {
+					public void visit(TableTableCellElementBase cellEle, int colIndex, int colCount, int rowIndex,
+							int rowCount) {
+						cellEle.setStyleName(styleName);
+					}
+				});
+	}
+
+	/**
+	 * Set the font of all the cells in this cell range.
+	 * 
+	 * @param font
+	 *            the font.
+	 * @see Cell#setFont(Font)
+	 * @since 0.9
+	 */
+	public void setFont(final Font font) {
+		applyCellStyleChange(new CellStyleChange() {
+			void apply(OdfStyle style) {
+				TextProperties.getOrCreateTextProperties(style).setFont(font);
+			}
+		});
+	}
+
+	/**
+	 * Set the borders of all the cells in this cell range.
+	 * 
+	 * @param bordersType
+	 *            the predefined border type.
+	 * @param border
+	 *            the border style description.
+	 * @see Cell#setBorders(CellBordersType, Border)
+	 * @since 0.9
+	 */
+	public void setBorders(final CellBordersType bordersType, final Border border) {
+		applyCellStyleChange(new CellStyleChange() {
+			void apply(OdfStyle style) {
+				TableCellProperties.getOrCreateTableCellProperties(style).setBorders(bordersType, border);
+			}
+		});
+	}
+
+	/**
+	 * Set the horizontal alignment of all the cells in this cell range. If the
+	 * alignment is set as Default, the explicit horizontal alignment setting is
+	 * removed.
+	 * 
+	 * @param alignType
+	 *            the horizontal alignment setting.
+	 * @see Cell#setHorizontalAlignment(HorizontalAlignmentType)
+	 * @since 0.9
+	 */
+	public void setHorizontalAlignment(final HorizontalAlignmentType alignType) {
+		applyCellStyleChange(new CellStyleChange() {
+			void apply(OdfStyle style) {
+				ParagraphProperties.getOrCreateParagraphProperties(style).setHorizontalAlignment(alignType);
+			}
+		});
+	}
+
+	/**
+	 * Set the background color of all the cells in this cell range.
+	 * 
+	 * @param cellBackgroundColor
+	 *            the background color. If it is null, the background color
+	 *            setting is removed.
+	 * @see Cell#setCellBackgroundColor(Color)
+	 * @since 0.9
+	 */
+	public void setCellBackgroundColor(final Color cellBackgroundColor) {
+		applyCellStyleChange(new CellStyleChange() {
+			void apply(OdfStyle style) {
+				TableCellProperties.getOrCreateTableCellProperties(style).setBackgroundColor(cellBackgroundColor);
+			}
+		});
+	}
+
+	// a change of the style of the cells, which is applied to a copy of the
+	// style the cells use.
+	private static abstract class CellStyleChange {
+		abstract void apply(OdfStyle style);
+	}
+
+	/**
+	 * Apply a style change to all the cells of this cell range.
+	 * <p>
+	 * The cells of the range are formatted the same way as by the setters of
+	 * <code>Cell</code>, but the changed style is computed only once for each
+	 * style used in the range, instead of once per cell, and repeated cells
+	 * are not split. The style of a cell without a style name is the default
+	 * cell style of its row or column, like in <code>CellStyleHandler</code>.
+	 * Automatic styles that are no longer used afterwards are removed.
+	 */
+	private void applyCellStyleChange(final CellStyleChange change) {
+		splitBoundaryCells();
+		final OdfOfficeAutomaticStyles styles = maOwnerTable.getOdfElement().getAutomaticStyles();
+		final Document doc = (Document) ((OdfFileDom) maOwnerTable.getOdfElement().getOwnerDocument()).getDocument();
+		final String[] columnStyleNames = getColumnDefaultCellStyleNames();
+		final Map<String, String> changedStyleNames = new HashMap<String, String>();
+		final Set<OdfStyle> formerStyles = new HashSet<OdfStyle>();
+		final List<int[]> mixedCells = new ArrayList<int[]>();
+		maOwnerTable.visitCellElements(mnStartColumn, mnStartRow, mnEndColumn, mnEndRow,
+				new Table.CellElementVisitor() {
+					public void visit(TableTableCellElementBase cellEle, int colIndex, int colCount, int rowIndex,
+							int rowCount) {
+						String styleName = cellEle.getStyleName();
+						if (styleName.length() == 0) {
+							styleName = ((TableTableRowElement) cellEle.getParentNode())
+									.getTableDefaultCellStyleNameAttribute();
+						}
+						if (styleName == null || styleName.length() == 0) {
+							styleName = columnStyleNames[colIndex - mnStartColumn];
+							for (int i = 1; i < colCount; i++) {
+								if (!styleName.equals(columnStyleNames[colIndex - mnStartColumn + i])) {
+									// the columns of the repeated cell have different default styles.
+									mixedCells.add(new int[] { colIndex, colCount, rowIndex, rowCount });
+									return;
+								}
+							}
+						}
+						if (cellEle.getAutomaticStyle() != null) {
+							formerStyles.add(cellEle.getAutomaticStyle());
+						}
+						cellEle.setStyleName(getChangedStyleName(styleName, change, changedStyleNames, styles, doc));
+					}
+				});
+		for (int[] mixedCell : mixedCells) {
+			for (int i = mixedCell[0]; i < mixedCell[0] + mixedCell[1]; i++) {
+				for (int j = mixedCell[2]; j < mixedCell[2] + mixedCell[3]; j++) {
+					Cell cell = maOwnerTable.getCellByPosition(i, j);
+					cell.splitRepeatedCells();
+					cell.setCellStyleName(getChangedStyleName(columnStyleNames[i - mnStartColumn], change,
+							changedStyleNames, styles, doc));
+				}
+			}
+		}
+		for (OdfStyle style : formerStyles) {
+			if (style.getStyleUserCount() < 1 && style.getParentNode() == styles) {
+				styles.removeChild(style);
+			}
+		}
+	}
+
+	// return the name of the automatic style, which is the style of the given
+	// name with the change applied.
+	private String getChangedStyleName(String styleName, CellStyleChange change, Map<String, String> changedStyleNames,
+			OdfOfficeAutomaticStyles styles, Document doc) {
+		String changedStyleName = changedStyleNames.get(styleName);
+		if (changedStyleName == null) {
+			OdfStyleBase styleElement = null;
+			if (styleName.length() != 0) {
+				styleElement = styles.getStyle(styleName, OdfStyleFamily.TableCell);
+				if (styleElement == null) {
+					styleElement = doc.getDocumentStyles().getStyle(styleName, OdfStyleFamily.TableCell);
+				}
+			}
+			if (styleElement == null) {
+				styleElement = doc.getDocumentStyles().getDefaultStyle(OdfStyleFamily.TableCell);
+			}
+			OdfStyle newStyle = styles.newStyle(OdfStyleFamily.TableCell);
+			if (styleElement != null) {
+				newStyle.setProperties(styleElement.getStylePropertiesDeep());
+				// copy attributes
+				NamedNodeMap attributes = styleElement.getAttributes();
+				for (int i = 0; i < attributes.getLength(); i++) {
+					Node attr = attributes.item(i);
+					if (!attr.getNodeName().equals("style:name")) {
+						newStyle.setAttributeNS(attr.getNamespaceURI(), attr.getNodeName(), attr.getNodeValue());
+					}
+				}
+			}
+			change.apply(newStyle);
+			OdfStyle interned = styles.internStyle(newStyle);
+			if (interned != newStyle) {
+				styles.removeChild(newStyle);
+			}
+			changedStyleName = interned.getStyleNameAttribute();
+			changedStyleNames.put(styleName, changedStyleName);
+		}
+		return changedStyleName;
+	}
+
+	// the default cell style names of the columns of this cell range, an empty
+	// string for the columns without one.
+	private String[] getColumnDefaultCellStyleNames() {
+		String[] names = new String[getColumnNumber()];
+		Arrays.fill(names, "");
+		int colIndex = 0;
+		for (Node n = maOwnerTable.getOdfElement().getFirstChild(); n != null && colIndex <= mnEndColumn; n = n
+				.getNextSibling()) {
+			if (n instanceof TableTableHeaderColumnsElement) {
+				for (Node m = n.getFirstChild(); m != null && colIndex <= mnEndColumn; m = m.getNextSibling()) {
+					if (m instanceof TableTableColumnElement) {
+						colIndex = addColumnDefaultCellStyleName((TableTableColumnElement) m, colIndex, names);
+					}
+				}
+			}
+			if (n instanceof TableTableColumnElement) {
+				colIndex = addColumnDefaultCellStyleName((TableTableColumnElement) n, colIndex, names);
+			}
+		}
+		return names;
+	}
+
+	private int addColumnDefaultCellStyleName(TableTableColumnElement column, int colIndex, String[] names) {
+		int repeated = column.getTableNumberColumnsRepeatedAttributeIntValue();
+		String styleName = column.getTableDefaultCellStyleNameAttribute();
+		if (styleName != null && styleName.length() != 0) {
+			for (int i = Math.max(colIndex, mnStartColumn); i < colIndex + repeated && i <= mnEndColumn; i++) {
+				names[i - mnStartColumn] = styleName;
+			}
+		}
+		return colIndex + repeated;
+	}
+
+	// split the repeated rows and cells which are partly inside this cell
+	// range, so that every cell element of the range is inside of it.
+	private void splitBoundaryCells() {
+		splitRepeatedRow(mnStartRow);
+		splitRepeatedRow(mnEndRow);
+		for (TableTableRowElement row : getRowElements()) {
+			if (isCellSplitNeeded(row)) {
+				while (row.getTableNumberRowsRepeatedAttributeIntValue() > 1) {
+					Row rowInstance = maOwnerTable.getRowInstance(row, 0);
+					rowInstance.splitRepeatedRows();
+					splitRepeatedCell(rowInstance.getOdfElement(), mnStartColumn);
+					splitRepeatedCell(rowInstance.getOdfElement(), mnEndColumn);
+					row = (TableTableRowElement) rowInstance.getOdfElement().getNextSibling();
+				}
+				splitRepeatedCell(row, mnStartColumn);
+				splitRepeatedCell(row, mnEndColumn);
+			}
+		}
+	}
+
+	// whether a repeated cell of the row starts before or ends after this cell
+	// range, while it is partly inside of it.
+	private boolean isCellSplitNeeded(TableTableRowElement row) {
+		int colIndex = 0;
+		for (Node n = row.getFirstChild(); n != null && colIndex <= mnEndColumn; n = n.getNextSibling()) {
+			if (n instanceof TableTableCellElementBase) {
+				int repeated = ((TableTableCellElementBase) n).getTableNumberColumnsRepeatedAttributeIntValue();
+				int lastCol = colIndex + repeated - 1;
+				if ((colIndex < mnStartColumn && lastCol >= mnStartColumn)
+						|| (colIndex <= mnEndColumn && lastCol > mnEndColumn)) {
+					return true;
+				}
+				colIndex += repeated;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Sort the rows of this cell range by one or more keys.
+	 * <p>
+	 * The sort is stable: the rows whose keys are equal keep their order.
+	 * Blank cells are sorted after the other cells, in both orders.
+	 * <p>
+	 * The cell elements are moved rather than copied, so their styles,
+	 * formulas and column spans move along with their values; the references
+	 * of the formulas are not adjusted. If the cell range covers entire rows,
+	 * the row elements themselves are reordered and repeated rows stay
+	 * repeated. Otherwise the repeated rows of the cell range are split, and
+	 * the cells of the range are moved between the rows. The
+	 * <code>Cell</code> and <code>Row</code> instances follow the cells and
+	 * rows they represent.
+	 * 
+	 * @param keys
+	 *            the sort keys, the first one is the primary key.
+	 * @throws IllegalArgumentException
+	 *             if no key is given, or if the column of a key is not in this
+	 *             cell range.
+	 * @throws IllegalStateException
+	 *             if this cell range contains cells spanning several rows.
+	 * @since 0.9
+	 */
+	public void sort(SortKey... keys) {
+		if (keys == null || keys.length == 0) {
+			throw new IllegalArgumentException("at least one sort key should be given.");
+		}
+		for (SortKey key : keys) {
+			if (key == null || key.getColumnIndex() >= getColumnNumber()) {
+				throw new IllegalArgumentException("the column of the sort key is not in the cell range.");
+			}
+		}
+		maOwnerTable.visitCellElements(mnStartColumn, mnStartRow, mnEndColumn, mnEndRow,
+				new Table.CellElementVisitor() {
+					public void visit(TableTableCellElementBase cellEle, int colIndex, int colCount, int rowIndex,
+							int rowCount) {
+						if (cellEle instanceof TableTableCellElement
+								&& ((TableTableCellElement) cellEle).getTableNumberRowsSpannedAttributeIntValue() > 1) {
+							throw new IllegalStateException("the cell range contains cells spanning several rows.");
+						}
+					}
+				});
+		if (mnStartRow == mnEndRow) {
+			return;
+		}
+		splitRepeatedRow(mnStartRow);
+		splitRepeatedRow(mnEndRow);
+		List<TableTableRowElement> rows = getRowElements();
+		boolean isWholeRows = mnStartColumn == 0 && mnEndColumn >= maOwnerTable.getColumnCount() - 1;
+		if (!isWholeRows) {
+			for (TableTableRowElement row : rows) {
+				while (row.getTableNumberRowsRepeatedAttributeIntValue() > 1) {
+					Row rowInstance = maOwnerTable.getRowInstance(row, 0);
+					rowInstance.splitRepeatedRows();
+					row = (TableTableRowElement) rowInstance.getOdfElement().getNextSibling();
+				}
+			}
+			rows = getRowElements();
+			for (TableTableRowElement row : rows) {
+				splitRepeatedCell(row, mnStartColumn);
+				splitRepeatedCell(row, mnEndColumn);
+			}
+		}
+		Collator[] collators = new Collator[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			collators[i] = Collator.getInstance(keys[i].getLocale());
+		}
+		// collect the rows, or the cells of the rows, to move, and mark their
+		// positions with empty text nodes.
+		List<SortUnit> units = new ArrayList<SortUnit>(rows.size());
+		List<Node> placeholders = new ArrayList<Node>(rows.size());
+		for (TableTableRowElement row : rows) {
+			SortUnit unit = new SortUnit();
+			Node placeholder = row.getOwnerDocument().createTextNode("");
+			int colIndex = 0;
+			Node next = null;
+			for (Node n = row.getFirstChild(); n != null; n = n.getNextSibling()) {
+				if (n instanceof TableTableCellElementBase) {
+					if (isWholeRows || (colIndex >= mnStartColumn && colIndex <= mnEndColumn)) {
+						unit.mCells.add((TableTableCellElementBase) n);
+					} else if (colIndex > mnEndColumn && next == null) {
+						next = n;
+					}
+					colIndex += ((TableTableCellElementBase) n).getTableNumberColumnsRepeatedAttributeIntValue();
+				}
+			}
+			if (isWholeRows) {
+				unit.mNodes.add(row);
+				row.getParentNode().insertBefore(placeholder, row);
+			} else {
+				unit.mNodes.addAll(unit.mCells);
+				row.insertBefore(placeholder, unit.mCells.isEmpty() ? next : unit.mCells.get(0));
+			}
+			unit.mKeys = new Object[keys.length];
+			for (int i = 0; i < keys.length; i++) {
+				int column = keys[i].getColumnIndex() + (isWholeRows ? mnStartColumn : 0);
+				unit.mKeys[i] = getSortValue(unit.getCellElement(column), keys[i], collators[i]);
+			}
+			units.add(unit);
+			placeholders.add(placeholder);
+		}
+		for (SortUnit unit : units) {
+			for (Node n : unit.mNodes) {
+				n.getParentNode().removeChild(n);
+			}
+		}
+		Collections.sort(units, new SortUnitComparator(keys));
+		for (int i = 0; i < units.size(); i++) {
+			Node placeholder = placeholders.get(i);
+			Node parent = placeholder.getParentNode();
+			for (Node n : units.get(i).mNodes) {
+				parent.insertBefore(n, placeholder);
+			}
+			parent.removeChild(placeholder);
+		}
+	}
+
+	// the rows, or the cells of a row, which are moved by sort().
+	private static class SortUnit {
+		final List<Node> mNodes = new ArrayList<Node>();
+		final List<TableTableCellElementBase> mCells = new ArrayList<TableTableCellElementBase>();
+		Object[] mKeys;
+
+		// the cell element at the given column, relative to the first cell.
+		TableTableCellElementBase getCellElement(int column) {
+			int colIndex = 0;
+			for (TableTableCellElementBase cell : mCells) {
+				colIndex += cell.getTableNumberColumnsRepeatedAttributeIntValue();
+				if (column < colIndex) {
+					return cell;
+				}
+			}
+			return null;
+		}
+	}
+
+	private static class SortUnitComparator implements Comparator<SortUnit> {
+		private final SortKey[] mKeys;
+
+		SortUnitComparator(SortKey[] keys) {
+			mKeys = keys;
+		}
+
+		public int compare(SortUnit unit1, SortUnit unit2) {
+			for (int i = 0; i < mKeys.length; i++) {
+				Object value1 = unit1.mKeys[i];
+				Object value2 = unit2.mKeys[i];
+				// blank cells are always the last ones.
+				if (value1 == null || value2 == null) {
+					if (value1 != value2) {
+						return value1 == null ? 1 : -1;
+					}
+					continue;
+				}
+				int result;
+				if (value1 instanceof Double) {
+					result = value2 instanceof Double ? ((Double) value1).compareTo((Double) value2) : -1;
+				} else {
+					result = value2 instanceof Double ? 1 : ((CollationKey) value1)
+							.compareTo((CollationKey) value2);
+				}
+				if (result != 0) {
+					return mKeys[i].isAscending() ? result : -result;
+				}
+			}
+			return 0;
+		}
+	}
+
+	// the value a cell is sorted by: a Double, a CollationKey or null for a
+	// blank cell.
+	private Object getSortValue(TableTableCellElementBase cellEle, SortKey key, Collator collator) {
+		if (cellEle == null || cellEle instanceof TableCoveredTableCellElement) {
+			return null;
+		}
+		Object value;
+		if (key.getType() == SortKey.Type.TEXT) {
+			value = Table.getOfficeStringValue(cellEle);
+		} else {
+			value = FormulaEngine.readValue(cellEle);
+			if (value instanceof Boolean) {
+				value = ((Boolean) value) ? 1.0 : 0.0;
+			} else if (value instanceof String && key.getType() == SortKey.Type.NUMBER) {
+				try {
+					value = Double.valueOf(((String) value).trim());
+				} catch (NumberFormatException e) {
+					// compared as text
+				}
+			} else if (value instanceof String && key.getType() == SortKey.Type.DATE) {
+				Double date = FormulaEngine.parseDate(((String) value).trim());
+				if (date != null) {
+					value = date;
+				}
+			}
+		}
+		if (value instanceof String) {
+			return ((String) value).length() == 0 ? null : collator.getCollationKey((String) value);
+		}
+		return value;
+	}
+
+	// split the repeated row at the row index, so that it starts a row element.
+	private void splitRepeatedRow(int rowIndex) {
+		Row row = maOwnerTable.getRowByIndex(rowIndex);
+		if (row.getRowsRepeatedNumber() > 1) {
+			row.splitRepeatedRows();
+		}
+	}
+
+	// split the repeated cell at the column index of the row, so that the
+	// column is covered by a cell element of its own.
+	private void splitRepeatedCell(TableTableRowElement row, int columnIndex) {
+		int colIndex = 0;
+		for (Node n = row.getFirstChild(); n != null; n = n.getNextSibling()) {
+			if (n instanceof TableTableCellElementBase) {
+				TableTableCellElementBase cellEle = (TableTableCellElementBase) n;
+				int repeated = cellEle.getTableNumberColumnsRepeatedAttributeIntValue();
+				if (columnIndex < colIndex + repeated) {
+					if (repeated > 1) {
+						maOwnerTable.getCellInstance(cellEle, columnIndex - colIndex, 0).splitRepeatedCells();
+					}
+					return;
+				}
+				colIndex += repeated;
+			}
+		}
+	}
+
+	// the row elements of this cell range, which all start and end inside it.
+	private List<TableTableRowElement> getRowElements() {
+		List<TableTableRowElement> rows = new ArrayList<TableTableRowElement>();
+		int rowIndex = 0;
+		for (Node n = maOwnerTable.getOdfElement().getFirstChild(); n != null && rowIndex <= mnEndRow; n = n
+				.getNextSibling()) {
+			if (n instanceof TableTableHeaderRowsElement || n instanceof TableTableRowsElement) {
+				for (Node m = n.getFirstChild(); m != null && rowIndex <= mnEndRow; m = m.getNextSibling()) {
+					if (m instanceof TableTableRowElement) {
+						rowIndex = addRowElement((TableTableRowElement) m, rowIndex, rows);
+					}
+				}
+			}
+			if (n instanceof TableTableRowElement) {
+				rowIndex = addRowElement((TableTableRowElement) n, rowIndex, rows);
+			}
+		}
+		return rows;
+	}
+
+	private int addRowElement(TableTableRowElement row, int rowIndex, List<TableTableRowElement> rows) {
+		if (rowIndex >= mnStartRow && rowIndex <= mnEndRow) {
+			rows.add(row);
+		}
+		return rowIndex + row.getTableNumberRowsRepeatedAttributeIntValue();
+	}
 }
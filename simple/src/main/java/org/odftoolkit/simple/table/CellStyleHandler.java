@@ -81,6 +81,7 @@ public class CellStyleHandler extends DefaultStyleHandler {
 	 */
 	@Override
 	public String getUsedStyleName() {
+		isShared = false;
 		String styleName = mCellElement.getStyleName();
 		if (styleName == null || (styleName.equals(""))) { // search in row
 			Row aRow = mCell.getTableRow();
@@ -343,6 +344,7 @@ public class CellStyleHandler extends DefaultStyleHandler {
 	 */
 	public void setCountry(String country, ScriptType type) {
 		getTextPropertiesForWrite().setCountry(country, type);
+		internStyleElement();
 	}
 
 	/**
@@ -356,6 +358,7 @@ public class CellStyleHandler extends DefaultStyleHandler {
 	 */
 	public void setFont(Font font) {
 		getTextPropertiesForWrite().setFont(font);
+		internStyleElement();
 	}
 
 	/**
@@ -369,6 +372,7 @@ public class CellStyleHandler extends DefaultStyleHandler {
 	 */
 	public void setFont(Font font, Locale language) {
 		getTextPropertiesForWrite().setFont(font, language);
+		internStyleElement();
 	}
 
 	/**
@@ -384,6 +388,7 @@ public class CellStyleHandler extends DefaultStyleHandler {
 	 */
 	public void setLanguage(String language, ScriptType type) {
 		getTextPropertiesForWrite().setLanguage(language, type);
+		internStyleElement();
 	}
 
 	/**
@@ -616,6 +621,7 @@ public class CellStyleHandler extends DefaultStyleHandler {
 	 */
 	public void setBackgroundColor(Color color) {
 		getTableCellPropertiesForWrite().setBackgroundColor(color);
+		internStyleElement();
 	}
 
 	/**
@@ -633,6 +639,7 @@ public class CellStyleHandler extends DefaultStyleHandler {
 	 */
 	public void setBorders(Border border, CellBordersType bordersType) {
 		getTableCellPropertiesForWrite().setBorders(bordersType, border);
+		internStyleElement();
 	}
 
 	/**
@@ -646,6 +653,7 @@ public class CellStyleHandler extends DefaultStyleHandler {
 	 */
 	public void setVerticalAlignment(VerticalAlignmentType alignType) {
 		getTableCellPropertiesForWrite().setVerticalAlignment(alignType);
+		internStyleElement();
 	}
 
 	/**
@@ -656,6 +664,7 @@ public class CellStyleHandler extends DefaultStyleHandler {
 	 */
 	public void setTextWrapped(boolean isWrapped) {
 		getTableCellPropertiesForWrite().setWrapped(isWrapped);
+		internStyleElement();
 	}
 
 	/**
@@ -669,6 +678,7 @@ public class CellStyleHandler extends DefaultStyleHandler {
 	 */
 	public void setHorizontalAlignment(HorizontalAlignmentType alignType) {
 		getParagraphPropertiesForWrite().setHorizontalAlignment(alignType);
+		internStyleElement();
 	}
 
 	/**
@@ -345,7 +345,7 @@ public class Column extends Component {
 	public Column getPreviousColumn() {
 		Table table = getTable();
 		// the column has repeated column number > 1
-		if (maColumnElement.getTableNumberColumnsRepeatedAttribute().intValue() > 1) {
+		if (maColumnElement.getTableNumberColumnsRepeatedAttributeIntValue() > 1) {
 			if (mnRepeatedIndex > 0) {
 				return table.getColumnInstance(maColumnElement, mnRepeatedIndex - 1);
 			}
@@ -374,8 +374,7 @@ public class Column extends Component {
 				try {
 					if (aPrevNode instanceof TableTableColumnElement) {
 						return table.getColumnInstance((TableTableColumnElement) aPrevNode,
-								((TableTableColumnElement) aPrevNode).getTableNumberColumnsRepeatedAttribute()
-										.intValue() - 1);
+								((TableTableColumnElement) aPrevNode).getTableNumberColumnsRepeatedAttributeIntValue() - 1);
 					} else if (aPrevNode instanceof TableTableColumnsElement
 							|| aPrevNode instanceof TableTableHeaderColumnsElement
 							|| aPrevNode instanceof TableTableColumnGroupElement) {
@@ -383,8 +382,7 @@ public class Column extends Component {
 						TableTableColumnElement lastCol = (TableTableColumnElement) xpath.evaluate(
 								"//table:table-column[last()]", aPrevNode, XPathConstants.NODE);
 						if (lastCol != null) {
-							return table.getColumnInstance(lastCol, lastCol.getTableNumberColumnsRepeatedAttribute()
-									.intValue() - 1);
+							return table.getColumnInstance(lastCol, lastCol.getTableNumberColumnsRepeatedAttributeIntValue() - 1);
 						}
 					} else {
 						aCurNode = aPrevNode;
@@ -472,11 +470,7 @@ public class Column extends Component {
 						if (columnEle == getOdfElement()) {
 							return result + mnRepeatedIndex;
 						}
-						if (columnEle.getTableNumberColumnsRepeatedAttribute() == null) {
-							result += 1;
-						} else {
-							result += columnEle.getTableNumberColumnsRepeatedAttribute();
-						}
+						result += columnEle.getTableNumberColumnsRepeatedAttributeIntValue();
 					}
 				}
 			}
@@ -485,11 +479,7 @@ public class Column extends Component {
 				if (columnEle == getOdfElement()) {
 					break;
 				}
-				if (columnEle.getTableNumberColumnsRepeatedAttribute() == null) {
-					result += 1;
-				} else {
-					result += columnEle.getTableNumberColumnsRepeatedAttribute();
-				}
+				result += columnEle.getTableNumberColumnsRepeatedAttributeIntValue();
 			}
 		}
 		return result + mnRepeatedIndex;
@@ -543,11 +533,6 @@ public class Column extends Component {
 	}
 
 	int getColumnsRepeatedNumber() {
-		Integer count = maColumnElement.getTableNumberColumnsRepeatedAttribute();
-		if (count == null) {
-			return 1;
-		} else {
-			return count.intValue();
-		}
+		return maColumnElement.getTableNumberColumnsRepeatedAttributeIntValue();
 	}
 }
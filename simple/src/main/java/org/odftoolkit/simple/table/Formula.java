@@ -0,0 +1,1048 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.table;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A parsed <code>table:formula</code> of a cell.
+ * <p>
+ * The parser accepts the OpenFormula syntax (<code>of:=SUM([.A1:.B3])</code>)
+ * as well as the plain syntax (<code>=SUM(A1:B3)</code>). It supports numbers,
+ * strings, booleans, cell references, cell range references, the arithmetic,
+ * comparison, concatenation and percent operators and a subset of the
+ * OpenFormula functions.
+ * <p>
+ * The value of a formula is a <code>Double</code>, a <code>String</code>, a
+ * <code>Boolean</code> or an {@link ErrorValue}.
+ */
+class Formula {
+
+	/**
+	 * An error value of a formula, like <code>#DIV/0!</code>.
+	 */
+	static final class ErrorValue {
+		private final String mText;
+
+		private ErrorValue(String text) {
+			mText = text;
+		}
+
+		@Override
+		public String toString() {
+			return mText;
+		}
+	}
+
+	static final ErrorValue DIV0 = new ErrorValue("#DIV/0!");
+	static final ErrorValue VALUE = new ErrorValue("#VALUE!");
+	static final ErrorValue REF = new ErrorValue("#REF!");
+	static final ErrorValue NAME = new ErrorValue("#NAME?");
+	static final ErrorValue NA = new ErrorValue("#N/A");
+	static final ErrorValue NUM = new ErrorValue("#NUM!");
+	static final ErrorValue SYNTAX = new ErrorValue("Err:501");
+	static final ErrorValue CIRCULAR = new ErrorValue("Err:522");
+
+	/**
+	 * The cell values a formula is evaluated against.
+	 */
+	interface Context {
+		/**
+		 * Return the value of a cell, or null if the cell is blank. A
+		 * <code>null</code> sheet name stands for the sheet of the formula.
+		 */
+		Object getValue(String sheet, int column, int row);
+
+		/**
+		 * Visit the values of the non-blank cells of a cell range. The order in
+		 * which the values are visited is not specified.
+		 */
+		void visitValues(String sheet, int startColumn, int startRow, int endColumn, int endRow,
+				ValueVisitor visitor);
+	}
+
+	interface ValueVisitor {
+		void visit(Object value);
+	}
+
+	/**
+	 * A cell or cell range reference of a formula.
+	 */
+	static final class Reference {
+		final String mSheet;
+		final int mStartColumn;
+		final int mStartRow;
+		final int mEndColumn;
+		final int mEndRow;
+
+		Reference(String sheet, int startColumn, int startRow, int endColumn, int endRow) {
+			mSheet = sheet;
+			mStartColumn = Math.min(startColumn, endColumn);
+			mStartRow = Math.min(startRow, endRow);
+			mEndColumn = Math.max(startColumn, endColumn);
+			mEndRow = Math.max(startRow, endRow);
+		}
+
+		boolean isRange() {
+			return mStartColumn != mEndColumn || mStartRow != mEndRow;
+		}
+	}
+
+	private final Node mRoot;
+	private final List<Reference> mReferences;
+
+	private Formula(Node root, List<Reference> references) {
+		mRoot = root;
+		mReferences = references;
+	}
+
+	/**
+	 * Parse a formula. A formula which can't be parsed evaluates to
+	 * {@link #SYNTAX}.
+	 */
+	static Formula parse(String formula) {
+		Parser parser = new Parser(formula);
+		try {
+			return new Formula(parser.parseFormula(), parser.mReferences);
+		} catch (EvaluationException e) {
+			return new Formula(new Constant(e.mError), Collections.<Reference> emptyList());
+		}
+	}
+
+	/**
+	 * Return the cell and cell range references of this formula.
+	 */
+	List<Reference> getReferences() {
+		return mReferences;
+	}
+
+	/**
+	 * Evaluate this formula. A blank result is returned as 0.
+	 */
+	Object evaluate(Context context) {
+		try {
+			Object value = mRoot.evaluate(context);
+			if (value == null) {
+				return 0.0;
+			}
+			return value;
+		} catch (EvaluationException e) {
+			return e.mError;
+		}
+	}
+
+	// thrown to stop the evaluation with an error value.
+	private static class EvaluationException extends RuntimeException {
+		private static final long serialVersionUID = 2357296014405727215L;
+		final ErrorValue mError;
+
+		EvaluationException(ErrorValue error) {
+			super(error.toString(), null, false, false);
+			mError = error;
+		}
+	}
+
+	private static abstract class Node {
+		abstract Object evaluate(Context context);
+	}
+
+	private static class Constant extends Node {
+		private final Object mValue;
+
+		Constant(Object value) {
+			mValue = value;
+		}
+
+		@Override
+		Object evaluate(Context context) {
+			if (mValue instanceof ErrorValue) {
+				throw new EvaluationException((ErrorValue) mValue);
+			}
+			return mValue;
+		}
+	}
+
+	private static class ReferenceNode extends Node {
+		private final Reference mReference;
+
+		ReferenceNode(Reference reference) {
+			mReference = reference;
+		}
+
+		@Override
+		Object evaluate(Context context) {
+			if (mReference.isRange()) {
+				throw new EvaluationException(VALUE);
+			}
+			return check(context.getValue(mReference.mSheet, mReference.mStartColumn, mReference.mStartRow));
+		}
+	}
+
+	private static class UnaryNode extends Node {
+		private final char mOperator;
+		private final Node mOperand;
+
+		UnaryNode(char operator, Node operand) {
+			mOperator = operator;
+			mOperand = operand;
+		}
+
+		@Override
+		Object evaluate(Context context) {
+			double value = toNumber(mOperand.evaluate(context));
+			switch (mOperator) {
+			case '-':
+				return -value;
+			case '%':
+				return value / 100;
+			default:
+				return value;
+			}
+		}
+	}
+
+	private static class BinaryNode extends Node {
+		private final String mOperator;
+		private final Node mLeft;
+		private final Node mRight;
+
+		BinaryNode(String operator, Node left, Node right) {
+			mOperator = operator;
+			mLeft = left;
+			mRight = right;
+		}
+
+		@Override
+		Object evaluate(Context context) {
+			Object left = mLeft.evaluate(context);
+			Object right = mRight.evaluate(context);
+			char op = mOperator.charAt(0);
+			if (op == '&') {
+				return toText(left) + toText(right);
+			}
+			if (op == '=' || op == '<' || op == '>') {
+				int result = compare(left, right);
+				if ("=".equals(mOperator)) {
+					return result == 0;
+				} else if ("<>".equals(mOperator)) {
+					return result != 0;
+				} else if ("<".equals(mOperator)) {
+					return result < 0;
+				} else if ("<=".equals(mOperator)) {
+					return result <= 0;
+				} else if (">".equals(mOperator)) {
+					return result > 0;
+				} else {
+					return result >= 0;
+				}
+			}
+			double x = toNumber(left);
+			double y = toNumber(right);
+			switch (op) {
+			case '+':
+				return x + y;
+			case '-':
+				return x - y;
+			case '*':
+				return x * y;
+			case '/':
+				if (y == 0) {
+					throw new EvaluationException(DIV0);
+				}
+				return x / y;
+			default:
+				return checkNumber(Math.pow(x, y));
+			}
+		}
+	}
+
+	private static class FunctionNode extends Node {
+		private final String mName;
+		private final List<Node> mArguments;
+
+		FunctionNode(String name, List<Node> arguments) {
+			mName = name;
+			mArguments = arguments;
+		}
+
+		@Override
+		Object evaluate(Context context) {
+			return Functions.evaluate(mName, mArguments, context);
+		}
+	}
+
+	// the implementation of the supported functions.
+	private static class Functions {
+
+		static Object evaluate(String name, List<Node> args, Context context) {
+			if ("SUM".equals(name)) {
+				return aggregate(args, context).mSum;
+			} else if ("AVERAGE".equals(name)) {
+				Aggregate aggregate = aggregate(args, context);
+				if (aggregate.mCount == 0) {
+					throw new EvaluationException(DIV0);
+				}
+				return aggregate.mSum / aggregate.mCount;
+			} else if ("MIN".equals(name)) {
+				Aggregate aggregate = aggregate(args, context);
+				return aggregate.mCount == 0 ? 0.0 : aggregate.mMin;
+			} else if ("MAX".equals(name)) {
+				Aggregate aggregate = aggregate(args, context);
+				return aggregate.mCount == 0 ? 0.0 : aggregate.mMax;
+			} else if ("PRODUCT".equals(name)) {
+				Aggregate aggregate = aggregate(args, context);
+				return aggregate.mCount == 0 ? 0.0 : aggregate.mProduct;
+			} else if ("COUNT".equals(name)) {
+				return (double) count(args, context, false);
+			} else if ("COUNTA".equals(name)) {
+				return (double) count(args, context, true);
+			} else if ("IF".equals(name)) {
+				checkArgumentCount(args, 1, 3);
+				boolean condition = toBoolean(args.get(0).evaluate(context));
+				if (condition) {
+					return args.size() > 1 ? args.get(1).evaluate(context) : Boolean.TRUE;
+				} else {
+					return args.size() > 2 ? args.get(2).evaluate(context) : Boolean.FALSE;
+				}
+			} else if ("IFERROR".equals(name)) {
+				checkArgumentCount(args, 2, 2);
+				try {
+					return args.get(0).evaluate(context);
+				} catch (EvaluationException e) {
+					return args.get(1).evaluate(context);
+				}
+			} else if ("AND".equals(name) || "OR".equals(name)) {
+				return logical(name, args, context);
+			} else if ("NOT".equals(name)) {
+				checkArgumentCount(args, 1, 1);
+				return !toBoolean(args.get(0).evaluate(context));
+			} else if ("TRUE".equals(name)) {
+				checkArgumentCount(args, 0, 0);
+				return Boolean.TRUE;
+			} else if ("FALSE".equals(name)) {
+				checkArgumentCount(args, 0, 0);
+				return Boolean.FALSE;
+			} else if ("ABS".equals(name)) {
+				return Math.abs(numberArgument(args, 0, context));
+			} else if ("INT".equals(name)) {
+				return Math.floor(numberArgument(args, 0, context));
+			} else if ("SQRT".equals(name)) {
+				return checkNumber(Math.sqrt(numberArgument(args, 0, context)));
+			} else if ("PI".equals(name)) {
+				checkArgumentCount(args, 0, 0);
+				return Math.PI;
+			} else if ("POWER".equals(name)) {
+				checkArgumentCount(args, 2, 2);
+				return checkNumber(Math.pow(toNumber(args.get(0).evaluate(context)),
+						toNumber(args.get(1).evaluate(context))));
+			} else if ("MOD".equals(name)) {
+				checkArgumentCount(args, 2, 2);
+				double x = toNumber(args.get(0).evaluate(context));
+				double y = toNumber(args.get(1).evaluate(context));
+				if (y == 0) {
+					throw new EvaluationException(DIV0);
+				}
+				return x - y * Math.floor(x / y);
+			} else if ("ROUND".equals(name) || "ROUNDUP".equals(name) || "ROUNDDOWN".equals(name)) {
+				checkArgumentCount(args, 1, 2);
+				double x = toNumber(args.get(0).evaluate(context));
+				int digits = args.size() > 1 ? (int) toNumber(args.get(1).evaluate(context)) : 0;
+				RoundingMode mode = RoundingMode.HALF_UP;
+				if ("ROUNDUP".equals(name)) {
+					mode = RoundingMode.UP;
+				} else if ("ROUNDDOWN".equals(name)) {
+					mode = RoundingMode.DOWN;
+				}
+				return new BigDecimal(Double.toString(x)).setScale(digits, mode).doubleValue();
+			} else if ("CONCATENATE".equals(name)) {
+				StringBuilder builder = new StringBuilder();
+				for (Node arg : args) {
+					builder.append(toText(arg.evaluate(context)));
+				}
+				return builder.toString();
+			} else if ("LEN".equals(name)) {
+				checkArgumentCount(args, 1, 1);
+				return (double) toText(args.get(0).evaluate(context)).length();
+			} else if ("UPPER".equals(name)) {
+				checkArgumentCount(args, 1, 1);
+				return toText(args.get(0).evaluate(context)).toUpperCase(Locale.ENGLISH);
+			} else if ("LOWER".equals(name)) {
+				checkArgumentCount(args, 1, 1);
+				return toText(args.get(0).evaluate(context)).toLowerCase(Locale.ENGLISH);
+			} else if ("LEFT".equals(name) || "RIGHT".equals(name)) {
+				checkArgumentCount(args, 1, 2);
+				String text = toText(args.get(0).evaluate(context));
+				int length = args.size() > 1 ? (int) toNumber(args.get(1).evaluate(context)) : 1;
+				if (length < 0) {
+					throw new EvaluationException(VALUE);
+				}
+				length = Math.min(length, text.length());
+				return "LEFT".equals(name) ? text.substring(0, length) : text.substring(text.length() - length);
+			} else if ("ISBLANK".equals(name)) {
+				checkArgumentCount(args, 1, 1);
+				return valueOrError(args.get(0), context) == null;
+			} else if ("ISERROR".equals(name)) {
+				checkArgumentCount(args, 1, 1);
+				return valueOrError(args.get(0), context) instanceof ErrorValue;
+			} else if ("ISNUMBER".equals(name)) {
+				checkArgumentCount(args, 1, 1);
+				return valueOrError(args.get(0), context) instanceof Double;
+			} else if ("ISTEXT".equals(name)) {
+				checkArgumentCount(args, 1, 1);
+				return valueOrError(args.get(0), context) instanceof String;
+			} else if ("VLOOKUP".equals(name) || "HLOOKUP".equals(name)) {
+				return lookup("VLOOKUP".equals(name), args, context);
+			}
+			throw new EvaluationException(NAME);
+		}
+
+		private static class Aggregate implements ValueVisitor {
+			double mSum = 0;
+			double mProduct = 1;
+			double mMin = Double.POSITIVE_INFINITY;
+			double mMax = Double.NEGATIVE_INFINITY;
+			int mCount = 0;
+
+			// the numbers of a cell range are aggregated, text and booleans
+			// are ignored.
+			public void visit(Object value) {
+				if (value instanceof ErrorValue) {
+					throw new EvaluationException((ErrorValue) value);
+				}
+				if (value instanceof Double) {
+					add((Double) value);
+				}
+			}
+
+			void add(double value) {
+				mSum += value;
+				mProduct *= value;
+				mMin = Math.min(mMin, value);
+				mMax = Math.max(mMax, value);
+				mCount++;
+			}
+		}
+
+		private static Aggregate aggregate(List<Node> args, Context context) {
+			Aggregate aggregate = new Aggregate();
+			for (Node arg : args) {
+				if (arg instanceof ReferenceNode) {
+					visitReference(((ReferenceNode) arg).mReference, context, aggregate);
+				} else {
+					Object value = arg.evaluate(context);
+					if (value != null) {
+						aggregate.add(toNumber(value));
+					}
+				}
+			}
+			return aggregate;
+		}
+
+		private static int count(List<Node> args, Context context, final boolean all) {
+			final int[] count = new int[1];
+			for (Node arg : args) {
+				if (arg instanceof ReferenceNode) {
+					visitReference(((ReferenceNode) arg).mReference, context, new ValueVisitor() {
+						public void visit(Object value) {
+							if (all || value instanceof Double) {
+								count[0]++;
+							}
+						}
+					});
+				} else {
+					Object value;
+					try {
+						value = arg.evaluate(context);
+					} catch (EvaluationException e) {
+						value = e.mError;
+					}
+					if (all ? value != null : value instanceof Double) {
+						count[0]++;
+					}
+				}
+			}
+			return count[0];
+		}
+
+		private static Boolean logical(final String name, List<Node> args, Context context) {
+			final boolean isAnd = "AND".equals(name);
+			final boolean[] result = new boolean[] { isAnd };
+			ValueVisitor visitor = new ValueVisitor() {
+				public void visit(Object value) {
+					if (value instanceof ErrorValue) {
+						throw new EvaluationException((ErrorValue) value);
+					}
+					if (value instanceof Double || value instanceof Boolean) {
+						boolean b = toBoolean(value);
+						result[0] = isAnd ? result[0] && b : result[0] || b;
+					}
+				}
+			};
+			if (args.isEmpty()) {
+				throw new EvaluationException(VALUE);
+			}
+			for (Node arg : args) {
+				if (arg instanceof ReferenceNode) {
+					visitReference(((ReferenceNode) arg).mReference, context, visitor);
+				} else {
+					Object value = arg.evaluate(context);
+					if (value != null) {
+						visitor.visit(toBoolean(value));
+					}
+				}
+			}
+			return result[0];
+		}
+
+		private static Object lookup(boolean vertical, List<Node> args, Context context) {
+			checkArgumentCount(args, 3, 4);
+			Object key = args.get(0).evaluate(context);
+			if (!(args.get(1) instanceof ReferenceNode)) {
+				throw new EvaluationException(VALUE);
+			}
+			Reference table = ((ReferenceNode) args.get(1)).mReference;
+			int index = (int) toNumber(args.get(2).evaluate(context));
+			boolean sorted = args.size() > 3 ? toBoolean(args.get(3).evaluate(context)) : true;
+			int width = vertical ? table.mEndColumn - table.mStartColumn + 1 : table.mEndRow - table.mStartRow + 1;
+			if (index < 1) {
+				throw new EvaluationException(VALUE);
+			}
+			if (index > width) {
+				throw new EvaluationException(REF);
+			}
+			int length = vertical ? table.mEndRow - table.mStartRow + 1 : table.mEndColumn - table.mStartColumn + 1;
+			int found = -1;
+			for (int i = 0; i < length; i++) {
+				Object candidate = vertical ? context.getValue(table.mSheet, table.mStartColumn, table.mStartRow + i)
+						: context.getValue(table.mSheet, table.mStartColumn + i, table.mStartRow);
+				if (candidate == null || candidate instanceof ErrorValue) {
+					continue;
+				}
+				if (sorted) {
+					if (sameType(candidate, key)) {
+						int result = compare(candidate, key);
+						if (result > 0) {
+							break;
+						}
+						found = i;
+						if (result == 0) {
+							break;
+						}
+					}
+				} else if (sameType(candidate, key) && compare(candidate, key) == 0) {
+					found = i;
+					break;
+				}
+			}
+			if (found < 0) {
+				throw new EvaluationException(NA);
+			}
+			return check(vertical ? context.getValue(table.mSheet, table.mStartColumn + index - 1, table.mStartRow
+					+ found) : context.getValue(table.mSheet, table.mStartColumn + found, table.mStartRow + index - 1));
+		}
+
+		private static boolean sameType(Object a, Object b) {
+			return a != null && b != null && a.getClass() == b.getClass();
+		}
+
+		private static void visitReference(Reference reference, Context context, ValueVisitor visitor) {
+			context.visitValues(reference.mSheet, reference.mStartColumn, reference.mStartRow, reference.mEndColumn,
+					reference.mEndRow, visitor);
+		}
+
+		// the value of a reference or an expression, an error is returned
+		// instead of thrown.
+		private static Object valueOrError(Node arg, Context context) {
+			try {
+				if (arg instanceof ReferenceNode && !((ReferenceNode) arg).mReference.isRange()) {
+					Reference reference = ((ReferenceNode) arg).mReference;
+					return context.getValue(reference.mSheet, reference.mStartColumn, reference.mStartRow);
+				}
+				return arg.evaluate(context);
+			} catch (EvaluationException e) {
+				return e.mError;
+			}
+		}
+
+		private static double numberArgument(List<Node> args, int index, Context context) {
+			checkArgumentCount(args, index + 1, index + 1);
+			return toNumber(args.get(index).evaluate(context));
+		}
+
+		private static void checkArgumentCount(List<Node> args, int min, int max) {
+			if (args.size() < min || args.size() > max) {
+				throw new EvaluationException(VALUE);
+			}
+		}
+	}
+
+	private static Object check(Object value) {
+		if (value instanceof ErrorValue) {
+			throw new EvaluationException((ErrorValue) value);
+		}
+		return value;
+	}
+
+	private static double checkNumber(double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			throw new EvaluationException(NUM);
+		}
+		return value;
+	}
+
+	static double toNumber(Object value) {
+		if (value == null) {
+			return 0;
+		} else if (value instanceof Double) {
+			return (Double) value;
+		} else if (value instanceof Boolean) {
+			return ((Boolean) value) ? 1 : 0;
+		} else if (value instanceof ErrorValue) {
+			throw new EvaluationException((ErrorValue) value);
+		}
+		String text = ((String) value).trim();
+		if (text.length() == 0) {
+			return 0;
+		}
+		try {
+			return Double.parseDouble(text);
+		} catch (NumberFormatException e) {
+			throw new EvaluationException(VALUE);
+		}
+	}
+
+	static boolean toBoolean(Object value) {
+		if (value instanceof Boolean) {
+			return (Boolean) value;
+		} else if (value instanceof String) {
+			String text = (String) value;
+			if ("TRUE".equalsIgnoreCase(text)) {
+				return true;
+			} else if ("FALSE".equalsIgnoreCase(text)) {
+				return false;
+			}
+			throw new EvaluationException(VALUE);
+		}
+		return toNumber(value) != 0;
+	}
+
+	static String toText(Object value) {
+		if (value == null) {
+			return "";
+		} else if (value instanceof Double) {
+			return formatNumber((Double) value);
+		} else if (value instanceof Boolean) {
+			return ((Boolean) value) ? "TRUE" : "FALSE";
+		} else if (value instanceof ErrorValue) {
+			throw new EvaluationException((ErrorValue) value);
+		}
+		return (String) value;
+	}
+
+	/**
+	 * Format a number the way it is shown by a formula, without a trailing
+	 * <code>.0</code> for integral values.
+	 */
+	static String formatNumber(double value) {
+		if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+			return Long.toString((long) value);
+		}
+		return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+	}
+
+	// compare two values: numbers are less than text, text is less than
+	// booleans, blank is equal to 0, "" and FALSE.
+	private static int compare(Object left, Object right) {
+		check(left);
+		check(right);
+		if (left == null) {
+			left = right instanceof String ? "" : right instanceof Boolean ? Boolean.FALSE : (Object) 0.0;
+		}
+		if (right == null) {
+			right = left instanceof String ? "" : left instanceof Boolean ? Boolean.FALSE : (Object) 0.0;
+		}
+		int leftRank = rank(left);
+		int rightRank = rank(right);
+		if (leftRank != rightRank) {
+			return leftRank < rightRank ? -1 : 1;
+		}
+		if (left instanceof Double) {
+			return Double.compare((Double) left, (Double) right);
+		} else if (left instanceof String) {
+			return ((String) left).compareToIgnoreCase((String) right);
+		}
+		return ((Boolean) left).compareTo((Boolean) right);
+	}
+
+	private static int rank(Object value) {
+		return value instanceof Double ? 0 : value instanceof String ? 1 : 2;
+	}
+
+	// a recursive descent parser for the formula syntax.
+	private static class Parser {
+		private final String mText;
+		private int mPos;
+		private final List<Reference> mReferences = new ArrayList<Reference>();
+
+		Parser(String text) {
+			mText = text;
+		}
+
+		Node parseFormula() {
+			// skip the namespace prefix, like "of:" or "oooc:".
+			int colon = mText.indexOf(':');
+			if (colon > 0 && colon + 1 < mText.length() && mText.charAt(colon + 1) == '=') {
+				boolean isPrefix = true;
+				for (int i = 0; i < colon; i++) {
+					isPrefix &= Character.isLetter(mText.charAt(i));
+				}
+				if (isPrefix) {
+					mPos = colon + 1;
+				}
+			}
+			skipWhitespace();
+			if (peek() == '=') {
+				mPos++;
+			}
+			Node node = parseComparison();
+			skipWhitespace();
+			if (mPos < mText.length()) {
+				throw new EvaluationException(SYNTAX);
+			}
+			return node;
+		}
+
+		private Node parseComparison() {
+			Node node = parseConcatenation();
+			while (true) {
+				skipWhitespace();
+				String operator = null;
+				if (mText.startsWith("<=", mPos) || mText.startsWith(">=", mPos) || mText.startsWith("<>", mPos)) {
+					operator = mText.substring(mPos, mPos + 2);
+				} else if (peek() == '=' || peek() == '<' || peek() == '>') {
+					operator = String.valueOf(peek());
+				}
+				if (operator == null) {
+					return node;
+				}
+				mPos += operator.length();
+				node = new BinaryNode(operator, node, parseConcatenation());
+			}
+		}
+
+		private Node parseConcatenation() {
+			Node node = parseAdditive();
+			while (skipWhitespace() == '&') {
+				mPos++;
+				node = new BinaryNode("&", node, parseAdditive());
+			}
+			return node;
+		}
+
+		private Node parseAdditive() {
+			Node node = parseMultiplicative();
+			char c;
+			while ((c = skipWhitespace()) == '+' || c == '-') {
+				mPos++;
+				node = new BinaryNode(String.valueOf(c), node, parseMultiplicative());
+			}
+			return node;
+		}
+
+		private Node parseMultiplicative() {
+			Node node = parsePower();
+			char c;
+			while ((c = skipWhitespace()) == '*' || c == '/') {
+				mPos++;
+				node = new BinaryNode(String.valueOf(c), node, parsePower());
+			}
+			return node;
+		}
+
+		private Node parsePower() {
+			Node node = parseUnary();
+			while (skipWhitespace() == '^') {
+				mPos++;
+				node = new BinaryNode("^", node, parseUnary());
+			}
+			return node;
+		}
+
+		private Node parseUnary() {
+			char c = skipWhitespace();
+			if (c == '-' || c == '+') {
+				mPos++;
+				return new UnaryNode(c, parseUnary());
+			}
+			Node node = parsePrimary();
+			while (skipWhitespace() == '%') {
+				mPos++;
+				node = new UnaryNode('%', node);
+			}
+			return node;
+		}
+
+		private Node parsePrimary() {
+			char c = skipWhitespace();
+			if (c == '(') {
+				mPos++;
+				Node node = parseComparison();
+				expect(')');
+				return node;
+			} else if (c == '"') {
+				return new Constant(parseString());
+			} else if (c == '[') {
+				int end = mText.indexOf(']', mPos);
+				if (end < 0) {
+					throw new EvaluationException(SYNTAX);
+				}
+				String reference = mText.substring(mPos + 1, end);
+				mPos = end + 1;
+				return newReference(reference);
+			} else if (Character.isDigit(c) || (c == '.' && mPos + 1 < mText.length()
+					&& Character.isDigit(mText.charAt(mPos + 1)))) {
+				return new Constant(parseNumber());
+			} else if (Character.isLetter(c) || c == '$' || c == '\'' || c == '_') {
+				String name = parseName();
+				if (skipWhitespace() == '(') {
+					mPos++;
+					return new FunctionNode(name.toUpperCase(Locale.ENGLISH), parseArguments());
+				}
+				if ("TRUE".equalsIgnoreCase(name)) {
+					return new Constant(Boolean.TRUE);
+				} else if ("FALSE".equalsIgnoreCase(name)) {
+					return new Constant(Boolean.FALSE);
+				}
+				if (peek() == ':') {
+					mPos++;
+					skipWhitespace();
+					name = name + ":" + parseName();
+				}
+				return newReference(name);
+			}
+			throw new EvaluationException(SYNTAX);
+		}
+
+		private List<Node> parseArguments() {
+			List<Node> arguments = new ArrayList<Node>();
+			if (skipWhitespace() == ')') {
+				mPos++;
+				return arguments;
+			}
+			while (true) {
+				char c = skipWhitespace();
+				if (c == ';' || c == ',' || c == ')') {
+					// an empty argument
+					arguments.add(new Constant(null));
+				} else {
+					arguments.add(parseComparison());
+				}
+				c = skipWhitespace();
+				mPos++;
+				if (c == ')') {
+					return arguments;
+				} else if (c != ';' && c != ',') {
+					throw new EvaluationException(SYNTAX);
+				}
+			}
+		}
+
+		private String parseString() {
+			StringBuilder builder = new StringBuilder();
+			mPos++;
+			while (mPos < mText.length()) {
+				char c = mText.charAt(mPos++);
+				if (c == '"') {
+					if (peek() != '"') {
+						return builder.toString();
+					}
+					mPos++;
+				}
+				builder.append(c);
+			}
+			throw new EvaluationException(SYNTAX);
+		}
+
+		private Double parseNumber() {
+			int start = mPos;
+			while (mPos < mText.length() && (Character.isDigit(peek()) || peek() == '.')) {
+				mPos++;
+			}
+			if (peek() == 'e' || peek() == 'E') {
+				int mark = mPos++;
+				if (peek() == '+' || peek() == '-') {
+					mPos++;
+				}
+				if (!Character.isDigit(peek())) {
+					mPos = mark;
+				}
+				while (Character.isDigit(peek())) {
+					mPos++;
+				}
+			}
+			try {
+				return Double.valueOf(mText.substring(start, mPos));
+			} catch (NumberFormatException e) {
+				throw new EvaluationException(SYNTAX);
+			}
+		}
+
+		// a function name, a sheet name or a cell address, e.g. SUM,
+		// 'Sheet 1'.$A$1 or B3.
+		private String parseName() {
+			int start = mPos;
+			while (mPos < mText.length()) {
+				char c = mText.charAt(mPos);
+				if (c == '\'') {
+					int end = mPos + 1;
+					while (true) {
+						end = mText.indexOf('\'', end);
+						if (end < 0) {
+							throw new EvaluationException(SYNTAX);
+						}
+						if (end + 1 < mText.length() && mText.charAt(end + 1) == '\'') {
+							end += 2;
+						} else {
+							break;
+						}
+					}
+					mPos = end + 1;
+				} else if (Character.isLetterOrDigit(c) || c == '$' || c == '.' || c == '_') {
+					mPos++;
+				} else {
+					break;
+				}
+			}
+			return mText.substring(start, mPos);
+		}
+
+		// a reference like .A1, $Sheet1.A1, 'Sheet 1'.A1:.B2 or A1:B2.
+		private Node newReference(String text) {
+			int colon = indexOutsideQuotes(text, ':', 0);
+			int[] start = new int[2];
+			int[] end = new int[2];
+			String[] sheet = new String[1];
+			String[] endSheet = new String[1];
+			if (!parseAddress(colon < 0 ? text : text.substring(0, colon), start, sheet)) {
+				return new Constant(NAME);
+			}
+			if (colon < 0) {
+				end = start;
+			} else if (!parseAddress(text.substring(colon + 1), end, endSheet)) {
+				return new Constant(NAME);
+			}
+			Reference reference = new Reference(sheet[0], start[0], start[1], end[0], end[1]);
+			mReferences.add(reference);
+			return new ReferenceNode(reference);
+		}
+
+		private char skipWhitespace() {
+			while (mPos < mText.length() && Character.isWhitespace(mText.charAt(mPos))) {
+				mPos++;
+			}
+			return peek();
+		}
+
+		private char peek() {
+			return mPos < mText.length() ? mText.charAt(mPos) : '\0';
+		}
+
+		private void expect(char c) {
+			if (skipWhitespace() != c) {
+				throw new EvaluationException(SYNTAX);
+			}
+			mPos++;
+		}
+	}
+
+	// parse a cell address like $Sheet1.$A$1 into position and the sheet name,
+	// which is null if there is none. Return false if the address is not
+	// valid.
+	private static boolean parseAddress(String text, int[] position, String[] sheet) {
+		int dot = lastIndexOutsideQuotes(text, '.');
+		if (dot >= 0) {
+			String name = text.substring(0, dot);
+			if (name.startsWith("$")) {
+				name = name.substring(1);
+			}
+			if (name.startsWith("'") && name.endsWith("'") && name.length() > 1) {
+				name = name.substring(1, name.length() - 1).replace("''", "'");
+			}
+			sheet[0] = name.length() == 0 ? null : name;
+			text = text.substring(dot + 1);
+		}
+		int i = 0;
+		int length = text.length();
+		if (i < length && text.charAt(i) == '$') {
+			i++;
+		}
+		int column = 0;
+		int letters = 0;
+		while (i < length && Character.isLetter(text.charAt(i))) {
+			column = column * 26 + (Character.toUpperCase(text.charAt(i)) - 'A' + 1);
+			i++;
+			letters++;
+		}
+		if (i < length && text.charAt(i) == '$') {
+			i++;
+		}
+		int row = 0;
+		int digits = 0;
+		while (i < length && Character.isDigit(text.charAt(i))) {
+			row = row * 10 + (text.charAt(i) - '0');
+			i++;
+			digits++;
+		}
+		if (letters == 0 || letters > 3 || digits == 0 || digits > 7 || row == 0 || i != length) {
+			return false;
+		}
+		position[0] = column - 1;
+		position[1] = row - 1;
+		return true;
+	}
+
+	private static int indexOutsideQuotes(String text, char c, int from) {
+		boolean quoted = false;
+		for (int i = from; i < text.length(); i++) {
+			char ch = text.charAt(i);
+			if (ch == '\'') {
+				quoted = !quoted;
+			} else if (ch == c && !quoted) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int lastIndexOutsideQuotes(String text, char c) {
+		int index = -1;
+		int i = indexOutsideQuotes(text, c, 0);
+		while (i >= 0) {
+			index = i;
+			i = indexOutsideQuotes(text, c, i + 1);
+		}
+		return index;
+	}
+}
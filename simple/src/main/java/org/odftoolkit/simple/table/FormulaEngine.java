@@ -0,0 +1,670 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.table;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.odftoolkit.odfdom.dom.OdfDocumentNamespace;
+import org.odftoolkit.odfdom.dom.element.table.TableTableCellElementBase;
+import org.odftoolkit.odfdom.dom.element.table.TableTableRowElement;
+import org.odftoolkit.simple.Document;
+import org.odftoolkit.simple.common.TextExtractor;
+
+/**
+ * FormulaEngine calculates the formulas of the cells of a document and
+ * writes the results back as the cell values.
+ * <p>
+ * The engine reads the values and formulas of all the tables of the document
+ * once, and keeps a dependency graph between the formula cells and the cells
+ * they reference. After a cell has been changed with the <code>Cell</code>
+ * API, call {@link #markDirty(Cell)}; the next {@link #recalculate()} only
+ * evaluates the formulas which depend on the changed cells. Structural
+ * changes, like inserting or removing rows, columns or tables, are not
+ * tracked; call {@link #recalculateAll()} after them.
+ * <p>
+ * The formula syntax and the supported functions are those of OpenFormula,
+ * for example <code>of:=SUM([.A1:.A10])</code> or <code>=IF(A1&gt;0;B1;C1)</code>.
+ * A formula which can not be evaluated gets an error text such as
+ * <code>#DIV/0!</code> or <code>#NAME?</code> as its value, circular
+ * references get <code>Err:522</code>.
+ *
+ * @since 0.9
+ */
+public class FormulaEngine {
+
+	// the waves of independent formulas are only split across threads when
+	// they are at least that large.
+	private static final int MIN_PARALLEL_WAVE_SIZE = 512;
+	// ranges wider than this are not indexed by column.
+	private static final int MAX_INDEXED_RANGE_WIDTH = 256;
+	// the serial number of 1970-01-01, day 0 being 1899-12-30.
+	private static final long EPOCH_SERIAL = -LocalDate.of(1899, 12, 30).toEpochDay();
+
+	private final Document mDocument;
+	private final Map<String, Sheet> mSheets = new LinkedHashMap<String, Sheet>();
+	private final List<FormulaCell> mDirtyCells = new ArrayList<FormulaCell>();
+	private boolean mIsLoaded = false;
+	private int mParallelism = 1;
+
+	/**
+	 * Create a formula engine for the tables of a document.
+	 *
+	 * @param document
+	 *            the document, usually a spreadsheet document.
+	 */
+	public FormulaEngine(Document document) {
+		if (document == null) {
+			throw new IllegalArgumentException("document shouldn't be null.");
+		}
+		mDocument = document;
+	}
+
+	/**
+	 * Set the number of threads used to evaluate independent formulas. The
+	 * default is 1. The document itself is only read and written by the
+	 * calling thread.
+	 *
+	 * @param parallelism
+	 *            the number of threads, at least 1.
+	 */
+	public void setParallelism(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism should be at least 1.");
+		}
+		mParallelism = parallelism;
+	}
+
+	/**
+	 * Return the number of threads used to evaluate independent formulas.
+	 *
+	 * @return the number of threads.
+	 */
+	public int getParallelism() {
+		return mParallelism;
+	}
+
+	/**
+	 * Read the values and formulas of all the tables of the document again,
+	 * evaluate all the formulas and write the results to the cells.
+	 *
+	 * @return the number of evaluated formulas.
+	 */
+	public int recalculateAll() {
+		load();
+		List<FormulaCell> cells = new ArrayList<FormulaCell>();
+		for (Sheet sheet : mSheets.values()) {
+			for (FormulaCell cell : sheet.mFormulas.values()) {
+				cell.mIsDirty = true;
+				cell.mIsChanged = true;
+				cells.add(cell);
+			}
+		}
+		mDirtyCells.clear();
+		return evaluate(cells);
+	}
+
+	/**
+	 * Evaluate the formulas which depend on the cells marked by
+	 * {@link #markDirty(Cell)} and write the changed results to the cells. The
+	 * first call evaluates all the formulas of the document.
+	 *
+	 * @return the number of evaluated formulas.
+	 */
+	public int recalculate() {
+		if (!mIsLoaded) {
+			return recalculateAll();
+		}
+		// the dirty cells and all the formulas which depend on them.
+		List<FormulaCell> cells = new ArrayList<FormulaCell>();
+		List<FormulaCell> dependents = new ArrayList<FormulaCell>();
+		for (FormulaCell cell : mDirtyCells) {
+			if (!cell.mIsDirty && cell.mSheet.mFormulas.get(cell.mKey) == cell) {
+				cell.mIsDirty = true;
+				cells.add(cell);
+			}
+		}
+		mDirtyCells.clear();
+		for (int i = 0; i < cells.size(); i++) {
+			FormulaCell cell = cells.get(i);
+			dependents.clear();
+			cell.mSheet.getDependents(cell.mColumn, cell.mRow, dependents);
+			for (FormulaCell dependent : dependents) {
+				if (!dependent.mIsDirty) {
+					dependent.mIsDirty = true;
+					cells.add(dependent);
+				}
+			}
+		}
+		return evaluate(cells);
+	}
+
+	/**
+	 * Tell the engine that the value or the formula of a cell has been
+	 * changed. The formulas which depend on the cell are evaluated by the next
+	 * {@link #recalculate()}.
+	 *
+	 * @param cell
+	 *            the changed cell.
+	 */
+	public void markDirty(Cell cell) {
+		if (!mIsLoaded) {
+			return;
+		}
+		Sheet sheet = getSheet(cell.getTable().getTableName());
+		if (sheet == null) {
+			return;
+		}
+		int column = cell.getColumnIndex();
+		int row = cell.getRowIndex();
+		long key = getKey(column, row);
+		TableTableCellElementBase cellElement = cell.getOdfElement();
+		String text = getFormulaText(cellElement);
+		FormulaCell formulaCell = sheet.mFormulas.get(key);
+		if (text != null) {
+			if (formulaCell == null) {
+				formulaCell = new FormulaCell(sheet, column, row, text, Formula.parse(text));
+				sheet.mFormulas.put(key, formulaCell);
+				sheet.mValues.remove(key);
+				sheet.addDependencies(formulaCell);
+			} else if (!text.equals(formulaCell.mText)) {
+				sheet.removeDependencies(formulaCell);
+				formulaCell.mText = text;
+				formulaCell.mFormula = Formula.parse(text);
+				sheet.addDependencies(formulaCell);
+			}
+			formulaCell.mElement = cellElement;
+			formulaCell.mIsChanged = true;
+			mDirtyCells.add(formulaCell);
+		} else {
+			if (formulaCell != null) {
+				sheet.removeDependencies(formulaCell);
+				sheet.mFormulas.remove(key);
+			}
+			Object value = readValue(cellElement);
+			if (value == null) {
+				sheet.mValues.remove(key);
+			} else {
+				sheet.mValues.put(key, value);
+			}
+			sheet.getDependents(column, row, mDirtyCells);
+		}
+	}
+
+	// read the values and formulas of all the tables.
+	private void load() {
+		mSheets.clear();
+		for (Table table : mDocument.getTableList()) {
+			final Sheet sheet = new Sheet(table);
+			mSheets.put(getSheetKey(table.getTableName()), sheet);
+			// the formulas of repeated cells are parsed once.
+			final Map<TableTableCellElementBase, Formula> parsed = new HashMap<TableTableCellElementBase, Formula>();
+			table.visitCellElements(0, 0, table.getColumnCount() - 1, table.getRowCount() - 1,
+					new Table.CellElementVisitor() {
+						public void visit(TableTableCellElementBase cellElement, int colIndex, int colCount,
+								int rowIndex, int rowCount) {
+							String text = getFormulaText(cellElement);
+							Object value = text == null ? readValue(cellElement) : null;
+							if (text == null && value == null) {
+								return;
+							}
+							for (int row = rowIndex; row < rowIndex + rowCount; row++) {
+								for (int column = colIndex; column < colIndex + colCount; column++) {
+									if (text == null) {
+										sheet.mValues.put(getKey(column, row), value);
+									} else {
+										Formula formula = parsed.get(cellElement);
+										if (formula == null) {
+											formula = Formula.parse(text);
+											parsed.put(cellElement, formula);
+										}
+										FormulaCell formulaCell = new FormulaCell(sheet, column, row, text, formula);
+										formulaCell.mElement = cellElement;
+										sheet.mFormulas.put(formulaCell.mKey, formulaCell);
+									}
+								}
+							}
+						}
+					});
+		}
+		for (Sheet sheet : mSheets.values()) {
+			for (FormulaCell cell : sheet.mFormulas.values()) {
+				sheet.addDependencies(cell);
+			}
+		}
+		mIsLoaded = true;
+	}
+
+	// evaluate the dirty cells in waves of cells whose precedents have all
+	// been evaluated, then write the changed results.
+	private int evaluate(List<FormulaCell> cells) {
+		List<FormulaCell> dependents = new ArrayList<FormulaCell>();
+		for (FormulaCell cell : cells) {
+			cell.mPendingCount = 0;
+		}
+		for (FormulaCell cell : cells) {
+			dependents.clear();
+			cell.mSheet.getDependents(cell.mColumn, cell.mRow, dependents);
+			for (FormulaCell dependent : dependents) {
+				if (dependent.mIsDirty) {
+					dependent.mPendingCount++;
+				}
+			}
+		}
+		List<FormulaCell> wave = new ArrayList<FormulaCell>();
+		for (FormulaCell cell : cells) {
+			if (cell.mPendingCount == 0) {
+				wave.add(cell);
+			}
+		}
+		ExecutorService executor = null;
+		try {
+			while (!wave.isEmpty()) {
+				if (mParallelism > 1 && wave.size() >= MIN_PARALLEL_WAVE_SIZE) {
+					if (executor == null) {
+						executor = Executors.newFixedThreadPool(mParallelism);
+					}
+					evaluateInParallel(wave, executor);
+				} else {
+					evaluate(wave, 0, wave.size());
+				}
+				List<FormulaCell> nextWave = new ArrayList<FormulaCell>();
+				for (FormulaCell cell : wave) {
+					dependents.clear();
+					cell.mSheet.getDependents(cell.mColumn, cell.mRow, dependents);
+					for (FormulaCell dependent : dependents) {
+						if (dependent.mIsDirty && --dependent.mPendingCount == 0) {
+							nextWave.add(dependent);
+						}
+					}
+				}
+				wave = nextWave;
+			}
+		} finally {
+			if (executor != null) {
+				executor.shutdown();
+			}
+		}
+		// the cells left are part of, or depend on, a circular reference.
+		for (FormulaCell cell : cells) {
+			if (cell.mIsDirty) {
+				cell.setValue(Formula.CIRCULAR);
+				cell.mIsDirty = false;
+			}
+		}
+		for (FormulaCell cell : cells) {
+			if (cell.mIsChanged) {
+				write(cell);
+				cell.mIsChanged = false;
+			}
+		}
+		return cells.size();
+	}
+
+	private void evaluate(List<FormulaCell> cells, int start, int end) {
+		for (int i = start; i < end; i++) {
+			FormulaCell cell = cells.get(i);
+			cell.setValue(cell.mFormula.evaluate(cell.mSheet));
+			cell.mIsDirty = false;
+		}
+	}
+
+	private void evaluateInParallel(final List<FormulaCell> wave, ExecutorService executor) {
+		List<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+		int chunkSize = (wave.size() + mParallelism - 1) / mParallelism;
+		for (int i = 0; i < wave.size(); i += chunkSize) {
+			final int start = i;
+			final int end = Math.min(i + chunkSize, wave.size());
+			tasks.add(new Callable<Object>() {
+				public Object call() {
+					evaluate(wave, start, end);
+					return null;
+				}
+			});
+		}
+		try {
+			for (Future<Object> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			Logger.getLogger(FormulaEngine.class.getName()).log(Level.SEVERE, null, e);
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	// write the value of a formula cell, the formula itself is kept.
+	private void write(FormulaCell formulaCell) {
+		Table table = formulaCell.mSheet.mTable;
+		TableTableCellElementBase cellElement = formulaCell.mElement;
+		Cell cell;
+		if (cellElement != null && cellElement.getParentNode() instanceof TableTableRowElement
+				&& cellElement.getTableNumberColumnsRepeatedAttributeIntValue() == 1
+				&& ((TableTableRowElement) cellElement.getParentNode()).getTableNumberRowsRepeatedAttributeIntValue() == 1) {
+			cell = table.getCellInstance(cellElement, 0, 0);
+		} else {
+			cell = table.getCellByPosition(formulaCell.mColumn, formulaCell.mRow);
+		}
+		Object value = formulaCell.mValue;
+		if (value instanceof Double) {
+			cell.setDoubleValue((Double) value);
+		} else if (value instanceof Boolean) {
+			cell.setBooleanValue((Boolean) value);
+		} else {
+			cell.setStringValue(value.toString());
+		}
+		formulaCell.mElement = cell.getOdfElement();
+	}
+
+	private Sheet getSheet(String name) {
+		return name == null ? null : mSheets.get(getSheetKey(name));
+	}
+
+	private static String getSheetKey(String name) {
+		return name == null ? "" : name.toUpperCase(Locale.ENGLISH);
+	}
+
+	private static long getKey(int column, int row) {
+		return ((long) row << 32) | column;
+	}
+
+	private static String getFormulaText(TableTableCellElementBase cellElement) {
+		String text = cellElement.getAttributeNS(OdfDocumentNamespace.TABLE.getUri(), "formula");
+		return text == null || text.length() == 0 ? null : text;
+	}
+
+	// the value of a cell without formula as a Double, String or Boolean,
+	// dates and times are converted to serial numbers. Return null for a
+	// blank cell.
+	static Object readValue(TableTableCellElementBase cellElement) {
+		String officeUri = OdfDocumentNamespace.OFFICE.getUri();
+		String type = cellElement.getAttributeNS(officeUri, "value-type");
+		if (type == null || type.length() == 0) {
+			if (!cellElement.hasChildNodes()) {
+				return null;
+			}
+			String text = TextExtractor.getText(cellElement);
+			return text.length() == 0 ? null : text;
+		}
+		if ("float".equals(type) || "percentage".equals(type) || "currency".equals(type)) {
+			double value = Table.getOfficeValue(cellElement);
+			return Double.isNaN(value) ? null : (Object) value;
+		} else if ("boolean".equals(type)) {
+			return Boolean.valueOf(cellElement.getAttributeNS(officeUri, "boolean-value"));
+		} else if ("date".equals(type)) {
+			return parseDate(cellElement.getAttributeNS(officeUri, "date-value"));
+		} else if ("time".equals(type)) {
+			return parseTime(cellElement.getAttributeNS(officeUri, "time-value"));
+		}
+		return Table.getOfficeStringValue(cellElement);
+	}
+
+	// the serial number of an ISO 8601 date or date time, null if it is not
+	// valid.
+	static Double parseDate(String value) {
+		try {
+			int timeIndex = value.indexOf('T');
+			String date = timeIndex < 0 ? value : value.substring(0, timeIndex);
+			double serial = LocalDate.parse(date).toEpochDay() + EPOCH_SERIAL;
+			if (timeIndex >= 0) {
+				serial += LocalTime.parse(value.substring(timeIndex + 1)).toNanoOfDay() / 86400e9;
+			}
+			return serial;
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	private static Double parseTime(String value) {
+		try {
+			return Duration.parse(value).toNanos() / 86400e9;
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	// a formula cell, which is a node of the dependency graph.
+	private static class FormulaCell {
+		final Sheet mSheet;
+		final int mColumn;
+		final int mRow;
+		final long mKey;
+		String mText;
+		Formula mFormula;
+		TableTableCellElementBase mElement;
+		Object mValue;
+		boolean mIsDirty;
+		boolean mIsChanged;
+		int mPendingCount;
+
+		FormulaCell(Sheet sheet, int column, int row, String text, Formula formula) {
+			mSheet = sheet;
+			mColumn = column;
+			mRow = row;
+			mKey = getKey(column, row);
+			mText = text;
+			mFormula = formula;
+		}
+
+		void setValue(Object value) {
+			if (mValue == null ? value != null : !mValue.equals(value)) {
+				mIsChanged = true;
+			}
+			mValue = value;
+		}
+	}
+
+	// a formula which references a cell range.
+	private static class RangeDependency {
+		final Formula.Reference mReference;
+		final FormulaCell mCell;
+
+		RangeDependency(Formula.Reference reference, FormulaCell cell) {
+			mReference = reference;
+			mCell = cell;
+		}
+
+		boolean contains(int column, int row) {
+			return column >= mReference.mStartColumn && column <= mReference.mEndColumn
+					&& row >= mReference.mStartRow && row <= mReference.mEndRow;
+		}
+	}
+
+	// the cells of a table, and the formulas which reference them. It is the
+	// evaluation context of the formulas of the table.
+	private class Sheet implements Formula.Context {
+		final Table mTable;
+		final Map<Long, Object> mValues = new HashMap<Long, Object>();
+		final Map<Long, FormulaCell> mFormulas = new HashMap<Long, FormulaCell>();
+		final Map<Long, List<FormulaCell>> mCellDependents = new HashMap<Long, List<FormulaCell>>();
+		final Map<Integer, List<RangeDependency>> mColumnRangeDependents = new HashMap<Integer, List<RangeDependency>>();
+		final List<RangeDependency> mWideRangeDependents = new ArrayList<RangeDependency>();
+
+		Sheet(Table table) {
+			mTable = table;
+		}
+
+		public Object getValue(String sheetName, int column, int row) {
+			Sheet sheet = sheetName == null ? this : getSheet(sheetName);
+			if (sheet == null) {
+				return Formula.REF;
+			}
+			return sheet.getValue(getKey(column, row));
+		}
+
+		private Object getValue(long key) {
+			FormulaCell cell = mFormulas.get(key);
+			if (cell == null) {
+				return mValues.get(key);
+			}
+			// only a formula of a circular reference can see a dirty cell.
+			return cell.mIsDirty ? Formula.CIRCULAR : cell.mValue;
+		}
+
+		public void visitValues(String sheetName, int startColumn, int startRow, int endColumn, int endRow,
+				Formula.ValueVisitor visitor) {
+			Sheet sheet = sheetName == null ? this : getSheet(sheetName);
+			if (sheet == null) {
+				visitor.visit(Formula.REF);
+				return;
+			}
+			long area = (long) (endColumn - startColumn + 1) * (endRow - startRow + 1);
+			if (area <= sheet.mValues.size() + sheet.mFormulas.size()) {
+				for (int row = startRow; row <= endRow; row++) {
+					for (int column = startColumn; column <= endColumn; column++) {
+						Object value = sheet.getValue(getKey(column, row));
+						if (value != null) {
+							visitor.visit(value);
+						}
+					}
+				}
+			} else {
+				for (Map.Entry<Long, Object> entry : sheet.mValues.entrySet()) {
+					if (isInRange(entry.getKey(), startColumn, startRow, endColumn, endRow)) {
+						visitor.visit(entry.getValue());
+					}
+				}
+				for (FormulaCell cell : sheet.mFormulas.values()) {
+					if (isInRange(cell.mKey, startColumn, startRow, endColumn, endRow)) {
+						visitor.visit(sheet.getValue(cell.mKey));
+					}
+				}
+			}
+		}
+
+		private boolean isInRange(long key, int startColumn, int startRow, int endColumn, int endRow) {
+			int row = (int) (key >>> 32);
+			int column = (int) key;
+			return column >= startColumn && column <= endColumn && row >= startRow && row <= endRow;
+		}
+
+		// add the formula cells which reference the given cell to the list.
+		void getDependents(int column, int row, List<FormulaCell> dependents) {
+			List<FormulaCell> cells = mCellDependents.get(getKey(column, row));
+			if (cells != null) {
+				dependents.addAll(cells);
+			}
+			List<RangeDependency> ranges = mColumnRangeDependents.get(column);
+			if (ranges != null) {
+				for (RangeDependency range : ranges) {
+					if (range.contains(column, row)) {
+						dependents.add(range.mCell);
+					}
+				}
+			}
+			for (RangeDependency range : mWideRangeDependents) {
+				if (range.contains(column, row)) {
+					dependents.add(range.mCell);
+				}
+			}
+		}
+
+		void addDependencies(FormulaCell cell) {
+			for (Formula.Reference reference : cell.mFormula.getReferences()) {
+				Sheet sheet = reference.mSheet == null ? this : getSheet(reference.mSheet);
+				if (sheet != null) {
+					sheet.addDependency(reference, cell);
+				}
+			}
+		}
+
+		void removeDependencies(FormulaCell cell) {
+			for (Formula.Reference reference : cell.mFormula.getReferences()) {
+				Sheet sheet = reference.mSheet == null ? this : getSheet(reference.mSheet);
+				if (sheet != null) {
+					sheet.removeDependency(reference, cell);
+				}
+			}
+		}
+
+		private void addDependency(Formula.Reference reference, FormulaCell cell) {
+			if (!reference.isRange()) {
+				long key = getKey(reference.mStartColumn, reference.mStartRow);
+				List<FormulaCell> cells = mCellDependents.get(key);
+				if (cells == null) {
+					cells = new ArrayList<FormulaCell>(2);
+					mCellDependents.put(key, cells);
+				}
+				cells.add(cell);
+			} else if (reference.mEndColumn - reference.mStartColumn < MAX_INDEXED_RANGE_WIDTH) {
+				RangeDependency range = new RangeDependency(reference, cell);
+				for (int column = reference.mStartColumn; column <= reference.mEndColumn; column++) {
+					List<RangeDependency> ranges = mColumnRangeDependents.get(column);
+					if (ranges == null) {
+						ranges = new ArrayList<RangeDependency>();
+						mColumnRangeDependents.put(column, ranges);
+					}
+					ranges.add(range);
+				}
+			} else {
+				mWideRangeDependents.add(new RangeDependency(reference, cell));
+			}
+		}
+
+		private void removeDependency(Formula.Reference reference, FormulaCell cell) {
+			if (!reference.isRange()) {
+				long key = getKey(reference.mStartColumn, reference.mStartRow);
+				List<FormulaCell> cells = mCellDependents.get(key);
+				if (cells != null) {
+					cells.remove(cell);
+					if (cells.isEmpty()) {
+						mCellDependents.remove(key);
+					}
+				}
+			} else if (reference.mEndColumn - reference.mStartColumn < MAX_INDEXED_RANGE_WIDTH) {
+				for (int column = reference.mStartColumn; column <= reference.mEndColumn; column++) {
+					List<RangeDependency> ranges = mColumnRangeDependents.get(column);
+					if (ranges != null) {
+						removeRangeDependency(ranges, reference, cell);
+					}
+				}
+			} else {
+				removeRangeDependency(mWideRangeDependents, reference, cell);
+			}
+		}
+
+		private void removeRangeDependency(List<RangeDependency> ranges, Formula.Reference reference,
+				FormulaCell cell) {
+			for (int i = 0; i < ranges.size(); i++) {
+				if (ranges.get(i).mReference == reference && ranges.get(i).mCell == cell) {
+					ranges.remove(i);
+					return;
+				}
+			}
+		}
+	}
+}
@@ -154,12 +154,9 @@ public class RepeatedNumberUtils {
             if (node instanceof TableTableCellElement) {
                 TableTableCellElement cell = (TableTableCellElement) node;
 
-                Integer repCnt = cell.getTableNumberColumnsRepeatedAttribute();
-                if (repCnt == null) {
-                    repCnt = 1;
-                }
-                Integer spanned = cell.getTableNumberColumnsSpannedAttribute();
-                if (spanned == null || spanned == 0) {
+                int repCnt = cell.getTableNumberColumnsRepeatedAttributeIntValue();
+                int spanned = cell.getTableNumberColumnsSpannedAttributeIntValue();
+                if (spanned == 0) {
                     spanned = 1;
                 }
 
@@ -175,12 +172,7 @@ public class RepeatedNumberUtils {
         int numberRowsRepeated = 0;
 
         if (rowElement != null) {
-            Integer repCnt = rowElement.getTableNumberRowsRepeatedAttribute();
-            if (repCnt == null) {
-                numberRowsRepeated = 1;
-            } else {
-                numberRowsRepeated = repCnt;
-            }
+            numberRowsRepeated = rowElement.getTableNumberRowsRepeatedAttributeIntValue();
         }
 
         return numberRowsRepeated;
@@ -190,12 +182,7 @@ public class RepeatedNumberUtils {
         int numberColumnsRepeated = 0;
 
         if (columnElement != null) {
-            Integer repCnt = columnElement.getTableNumberColumnsRepeatedAttribute();
-            if (repCnt == null) {
-                numberColumnsRepeated = 1;
-            } else {
-                numberColumnsRepeated = repCnt;
-            }
+            numberColumnsRepeated = columnElement.getTableNumberColumnsRepeatedAttributeIntValue();
         }
 
         return numberColumnsRepeated;
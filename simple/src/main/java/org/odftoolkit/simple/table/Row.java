@@ -24,7 +24,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Vector;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -205,10 +204,10 @@ public class Row extends Component {
 			// single row and repeated row after.
 			Node rowOwnerElement = maRowElement.getParentNode();
 			Table table = getTable();
-			Map<TableTableRowElement, Vector<Row>> rowRepository = table.mRowRepository;
-			Map<TableTableCellElementBase, Vector<Cell>> cellRepository = table.mCellRepository;
+			Map<TableTableRowElement, WeakInstanceList<Row>> rowRepository = table.mRowRepository;
+			Map<TableTableCellElementBase, WeakInstanceList<Cell>> cellRepository = table.mCellRepository;
 			String tableNameSpaceURI = OdfDocumentNamespace.TABLE.getUri();
-			Vector<Row> oldList = null;
+			WeakInstanceList<Row> oldList = null;
 			if (rowRepository.containsKey(maRowElement)) {
 				oldList = rowRepository.remove(maRowElement);
 			}
@@ -230,23 +229,23 @@ public class Row extends Component {
 				rowOwnerElement.insertBefore(newBeforeRowElement, maRowElement);
 				// update row cache
 				if (oldList != null) {
-					Vector<Row> newBeforeList = new Vector<Row>(mnRepeatedIndex);
+					WeakInstanceList<Row> newBeforeList = new WeakInstanceList<Row>(mnRepeatedIndex);
+					newBeforeList.setSize(Math.min(mnRepeatedIndex, oldList.size()));
 					for (int i = 0; i < mnRepeatedIndex && i < oldList.size(); i++) {
 						Row beforeRow = oldList.get(i);
 						if (beforeRow != null) {
 							beforeRow.maRowElement = newBeforeRowElement;
 							beforeRow.mRowsRepeatedNumber = -1;
-							newBeforeList.add(i, beforeRow);
+							newBeforeList.set(i, beforeRow);
 						}
 					}
 					rowRepository.put(newBeforeRowElement, newBeforeList);
-					// create new cell element map.
-					for (Node n : new DomNodeList(newBeforeRowElement.getChildNodes())) {
-						int columnsRepeatedNumber = ((TableTableCellElementBase) n)
-								.getTableNumberColumnsRepeatedAttribute();
-						for (int i = 0; i < columnsRepeatedNumber; i++) {
-							newBeforeCellElements.add((TableTableCellElementBase) n);
-						}
+				}
+				// create new cell element map.
+				for (Node n : new DomNodeList(newBeforeRowElement.getChildNodes())) {
+					int columnsRepeatedNumber = ((TableTableCellElementBase) n).getTableNumberColumnsRepeatedAttributeIntValue();
+					for (int i = 0; i < columnsRepeatedNumber; i++) {
+						newBeforeCellElements.add((TableTableCellElementBase) n);
 					}
 				}
 			}
@@ -255,7 +254,7 @@ public class Row extends Component {
 			rowOwnerElement.insertBefore(currentRowElement, maRowElement);
 			// create new cell element map.
 			for (Node n : new DomNodeList(currentRowElement.getChildNodes())) {
-				int columnsRepeatedNumber = ((TableTableCellElementBase) n).getTableNumberColumnsRepeatedAttribute();
+				int columnsRepeatedNumber = ((TableTableCellElementBase) n).getTableNumberColumnsRepeatedAttributeIntValue();
 				for (int i = 0; i < columnsRepeatedNumber; i++) {
 					newCurrentCellElements.add((TableTableCellElementBase) n);
 				}
@@ -270,24 +269,26 @@ public class Row extends Component {
 				rowOwnerElement.insertBefore(newAfterRowElement, maRowElement);
 				// update row cache
 				if (oldList != null) {
-					Vector<Row> newAfterList = new Vector<Row>(offetAfterCurrentRow);
+					WeakInstanceList<Row> newAfterList = new WeakInstanceList<Row>(offetAfterCurrentRow);
 					for (int i = mnRepeatedIndex + 1; i < repeateNum && i < oldList.size(); i++) {
 						Row afterRow = oldList.get(i);
 						if (afterRow != null) {
 							afterRow.maRowElement = newAfterRowElement;
 							afterRow.mnRepeatedIndex = i - mnRepeatedIndex - 1;
 							afterRow.mRowsRepeatedNumber = -1;
-							newAfterList.add(afterRow.mnRepeatedIndex, afterRow);
+							if (newAfterList.size() <= afterRow.mnRepeatedIndex) {
+								newAfterList.setSize(afterRow.mnRepeatedIndex + 1);
+							}
+							newAfterList.set(afterRow.mnRepeatedIndex, afterRow);
 						}
 					}
 					rowRepository.put(newAfterRowElement, newAfterList);
-					// create new cell element map.
-					for (Node n : new DomNodeList(newAfterRowElement.getChildNodes())) {
-						int columnsRepeatedNumber = ((TableTableCellElementBase) n)
-								.getTableNumberColumnsRepeatedAttribute();
-						for (int i = 0; i < columnsRepeatedNumber; i++) {
-							newAfterCellElements.add((TableTableCellElementBase) n);
-						}
+				}
+				// create new cell element map.
+				for (Node n : new DomNodeList(newAfterRowElement.getChildNodes())) {
+					int columnsRepeatedNumber = ((TableTableCellElementBase) n).getTableNumberColumnsRepeatedAttributeIntValue();
+					for (int i = 0; i < columnsRepeatedNumber; i++) {
+						newAfterCellElements.add((TableTableCellElementBase) n);
 					}
 				}
 			}
@@ -296,7 +297,7 @@ public class Row extends Component {
 			// update cache cell list
 			for (Node n : new DomNodeList(maRowElement.getChildNodes())) {
 				if (cellRepository.containsKey(n)) {
-					Vector<Cell> cellList = cellRepository.get(n);
+					WeakInstanceList<Cell> cellList = cellRepository.remove(n);
 					for (Cell cell : cellList) {
 						if (cell != null) {
 							int oldColumnIndex = cellColumnIndexBase + cell.mnRepeatedColIndex;
@@ -309,15 +310,22 @@ public class Row extends Component {
 							} else {
 								cell.mCellElement = newBeforeCellElements.get(oldColumnIndex);
 							}
+							// the cloned cell elements are the new keys of the
+							// cell cache.
+							WeakInstanceList<Cell> newCellList = cellRepository.get(cell.mCellElement);
+							if (newCellList == null) {
+								newCellList = new WeakInstanceList<Cell>();
+								cellRepository.put(cell.mCellElement, newCellList);
+							}
+							newCellList.add(cell);
 						}
 					}
 				}
-				cellColumnIndexBase += ((TableTableCellElementBase) n).getTableNumberColumnsRepeatedAttribute()
-						.intValue();
+				cellColumnIndexBase += ((TableTableCellElementBase) n).getTableNumberColumnsRepeatedAttributeIntValue();
 			}
 			// update row cache
-			Vector<Row> currentList = new Vector<Row>(1);
-			currentList.add(0, this);
+			WeakInstanceList<Row> currentList = new WeakInstanceList<Row>(1);
+			currentList.add(this);
 			rowRepository.put(currentRowElement, currentList);
 			mRowsRepeatedNumber = -1;
 			mnRepeatedIndex = 0;
@@ -381,7 +389,7 @@ public class Row extends Component {
 					return table.getCellInstance((TableTableCellElementBase) n, 0, mnRepeatedIndex);
 				} else {
 					int nextIndex = index
-							- ((TableTableCellElementBase) n).getTableNumberColumnsRepeatedAttribute().intValue();
+							- ((TableTableCellElementBase) n).getTableNumberColumnsRepeatedAttributeIntValue();
 					if (nextIndex < 0) {
 						Cell cell = table.getCellInstance((TableTableCellElementBase) n, index, mnRepeatedIndex);
 						return cell;
@@ -455,7 +463,7 @@ public class Row extends Component {
 					if (aPrevNode instanceof TableTableRowElement) {
 						return table
 								.getRowInstance((TableTableRowElement) aPrevNode, ((TableTableRowElement) aPrevNode)
-										.getTableNumberRowsRepeatedAttribute().intValue() - 1);
+										.getTableNumberRowsRepeatedAttributeIntValue() - 1);
 					} else if (aPrevNode instanceof TableTableRowsElement
 							|| aPrevNode instanceof TableTableHeaderRowsElement
 							|| aPrevNode instanceof TableTableRowGroupElement) {
@@ -465,8 +473,7 @@ public class Row extends Component {
 									XPathConstants.NODE);
 						}
 						if (lastRow != null) {
-							return table.getRowInstance(lastRow, lastRow.getTableNumberRowsRepeatedAttribute()
-									.intValue() - 1);
+							return table.getRowInstance(lastRow, lastRow.getTableNumberRowsRepeatedAttributeIntValue() - 1);
 						}
 					} else {
 						aCurNode = aPrevNode;
@@ -591,7 +598,7 @@ public class Row extends Component {
 						if (rowEle == getOdfElement()) {
 							return result + mnRepeatedIndex;
 						}
-						result += rowEle.getTableNumberRowsRepeatedAttribute();
+						result += rowEle.getTableNumberRowsRepeatedAttributeIntValue();
 					}
 				}
 			}
@@ -600,7 +607,7 @@ public class Row extends Component {
 				if (rowEle == getOdfElement()) {
 					break;
 				}
-				result += ((TableTableRowElement) n).getTableNumberRowsRepeatedAttribute();
+				result += ((TableTableRowElement) n).getTableNumberRowsRepeatedAttributeIntValue();
 			}
 		}
 		return result + mnRepeatedIndex;
@@ -655,12 +662,7 @@ public class Row extends Component {
 
 	int getRowsRepeatedNumber() {
 		if (mRowsRepeatedNumber < 0) {
-			Integer count = maRowElement.getTableNumberRowsRepeatedAttribute();
-			if (count == null) {
-				mRowsRepeatedNumber = 1;
-			} else {
-				mRowsRepeatedNumber = count.intValue();
-			}
+			mRowsRepeatedNumber = maRowElement.getTableNumberRowsRepeatedAttributeIntValue();
 		}
 		return mRowsRepeatedNumber;
 	}
@@ -986,10 +988,10 @@ public class Row extends Component {
 					newCellEle.setTableNumberRowsSpannedAttribute(cell.getRowSpannedNumber() - getRowsRepeatedNumber());
 					// update repository
 					int startRow = coveredCell.getRowIndex();
-					int endRow = coveredCell.getRowIndex() + newCellEle.getTableNumberRowsSpannedAttribute();
+					int endRow = coveredCell.getRowIndex() + newCellEle.getTableNumberRowsSpannedAttributeIntValue();
 					int startClm = coveredCell.getColumnIndex();
-					int endClm = coveredCell.getColumnIndex() + newCellEle.getTableNumberColumnsSpannedAttribute()
-							* newCellEle.getTableNumberColumnsRepeatedAttribute();
+					int endClm = coveredCell.getColumnIndex() + newCellEle.getTableNumberColumnsSpannedAttributeIntValue()
+							* newCellEle.getTableNumberColumnsRepeatedAttributeIntValue();
 					coveredCell.getOdfElement().getParentNode().replaceChild(newCellEle, coveredCell.getOdfElement());
 					table.updateRepositoryWhenCellElementChanged(startRow, endRow, startClm, endClm, newCellEle);
 				}
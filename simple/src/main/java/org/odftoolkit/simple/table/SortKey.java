@@ -0,0 +1,145 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.table;
+
+import java.util.Locale;
+
+/**
+ * SortKey describes one of the keys used by {@link CellRange#sort(SortKey...)}:
+ * the column to compare, the sort order and how the cell values are compared.
+ *
+ * @since 0.9
+ */
+public class SortKey {
+
+	/**
+	 * The way cell values are compared.
+	 */
+	public enum Type {
+		/**
+		 * Numbers, dates and times are compared by their value and are sorted
+		 * before text, which is compared by the collation of the locale.
+		 */
+		AUTOMATIC,
+		/**
+		 * Like <code>AUTOMATIC</code>, but text cells which contain a number
+		 * are compared as numbers.
+		 */
+		NUMBER,
+		/**
+		 * Like <code>AUTOMATIC</code>, but text cells which contain an ISO
+		 * 8601 date, like <code>2011-05-31</code>, are compared as dates.
+		 */
+		DATE,
+		/**
+		 * All the cells are compared by their text, using the collation of the
+		 * locale.
+		 */
+		TEXT
+	}
+
+	private final int mnColumnIndex;
+	private final boolean mbAscending;
+	private final Type mType;
+	private final Locale mLocale;
+
+	/**
+	 * Create an ascending sort key with automatic comparison.
+	 *
+	 * @param columnIndex
+	 *            the index of the column in the cell range.
+	 */
+	public SortKey(int columnIndex) {
+		this(columnIndex, true, Type.AUTOMATIC, Locale.getDefault());
+	}
+
+	/**
+	 * Create a sort key with automatic comparison.
+	 *
+	 * @param columnIndex
+	 *            the index of the column in the cell range.
+	 * @param ascending
+	 *            true for ascending order, false for descending order.
+	 */
+	public SortKey(int columnIndex, boolean ascending) {
+		this(columnIndex, ascending, Type.AUTOMATIC, Locale.getDefault());
+	}
+
+	/**
+	 * Create a sort key.
+	 *
+	 * @param columnIndex
+	 *            the index of the column in the cell range.
+	 * @param ascending
+	 *            true for ascending order, false for descending order.
+	 * @param type
+	 *            the way the cell values are compared.
+	 * @param locale
+	 *            the locale whose collation is used to compare text.
+	 */
+	public SortKey(int columnIndex, boolean ascending, Type type, Locale locale) {
+		if (columnIndex < 0) {
+			throw new IllegalArgumentException("columnIndex shouldn't be negative.");
+		}
+		if (type == null || locale == null) {
+			throw new IllegalArgumentException("type and locale shouldn't be null.");
+		}
+		mnColumnIndex = columnIndex;
+		mbAscending = ascending;
+		mType = type;
+		mLocale = locale;
+	}
+
+	/**
+	 * Return the index of the column in the cell range.
+	 *
+	 * @return the column index.
+	 */
+	public int getColumnIndex() {
+		return mnColumnIndex;
+	}
+
+	/**
+	 * Return whether the order is ascending.
+	 *
+	 * @return true for ascending order, false for descending order.
+	 */
+	public boolean isAscending() {
+		return mbAscending;
+	}
+
+	/**
+	 * Return the way the cell values are compared.
+	 *
+	 * @return the comparison type.
+	 */
+	public Type getType() {
+		return mType;
+	}
+
+	/**
+	 * Return the locale whose collation is used to compare text.
+	 *
+	 * @return the locale.
+	 */
+	public Locale getLocale() {
+		return mLocale;
+	}
+}
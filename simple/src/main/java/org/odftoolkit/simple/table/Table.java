@@ -21,13 +21,16 @@ package org.odftoolkit.simple.table;
 
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.StringTokenizer;
-import java.util.Vector;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -66,6 +69,7 @@ import org.odftoolkit.odfdom.pkg.OdfElement;
 import org.odftoolkit.odfdom.pkg.OdfFileDom;
 import org.odftoolkit.odfdom.pkg.OdfName;
 import org.odftoolkit.odfdom.pkg.OdfXMLFactory;
+import org.odftoolkit.odfdom.type.DateTime;
 import org.odftoolkit.odfdom.type.Length;
 import org.odftoolkit.odfdom.type.PositiveLength;
 import org.odftoolkit.odfdom.type.Length.Unit;
@@ -73,9 +77,12 @@ import org.odftoolkit.simple.Component;
 import org.odftoolkit.simple.Document;
 import org.odftoolkit.simple.SpreadsheetDocument;
 import org.odftoolkit.simple.TextDocument;
+import org.odftoolkit.simple.common.TextExtractor;
 import org.odftoolkit.simple.style.DefaultStyleHandler;
 import org.odftoolkit.simple.text.Paragraph;
 import org.w3c.dom.DOMException;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
@@ -99,9 +106,13 @@ public class Table extends Component {
 	private static final String DEFAULT_TABLE_ALIGN = "margins";
 	private static final DecimalFormat IN_FORMAT = new DecimalFormat("##0.0000");
 	// TODO: should save seperately for different dom tree
-	IdentityHashMap<TableTableCellElementBase, Vector<Cell>> mCellRepository = new IdentityHashMap<TableTableCellElementBase, Vector<Cell>>();
-	IdentityHashMap<TableTableRowElement, Vector<Row>> mRowRepository = new IdentityHashMap<TableTableRowElement, Vector<Row>>();
-	IdentityHashMap<TableTableColumnElement, Vector<Column>> mColumnRepository = new IdentityHashMap<TableTableColumnElement, Vector<Column>>();
+	IdentityHashMap<TableTableCellElementBase, WeakInstanceList<Cell>> mCellRepository = new IdentityHashMap<TableTableCellElementBase, WeakInstanceList<Cell>>();
+	IdentityHashMap<TableTableRowElement, WeakInstanceList<Row>> mRowRepository = new IdentityHashMap<TableTableRowElement, WeakInstanceList<Row>>();
+	IdentityHashMap<TableTableColumnElement, WeakInstanceList<Column>> mColumnRepository = new IdentityHashMap<TableTableColumnElement, WeakInstanceList<Column>>();
+	private static final int MIN_REPOSITORY_SWEEP_THRESHOLD = 1024;
+	private int mCellSweepThreshold = MIN_REPOSITORY_SWEEP_THRESHOLD;
+	private int mRowSweepThreshold = MIN_REPOSITORY_SWEEP_THRESHOLD;
+	private int mColumnSweepThreshold = MIN_REPOSITORY_SWEEP_THRESHOLD;
 	private DefaultStyleHandler mStyleHandler;
 	static {
 		IN_FORMAT.setDecimalFormatSymbols(new DecimalFormatSymbols(Locale.US));
@@ -635,33 +646,33 @@ public class Table extends Component {
 	}
 
 	Cell getCellInstance(TableTableCellElementBase cell, int repeatedColIndex, int repeatedRowIndex) {
-		if (mCellRepository.containsKey(cell)) {
-			Vector<Cell> list = mCellRepository.get(cell);
-			Cell fCell = null;
+		WeakInstanceList<Cell> list = mCellRepository.get(cell);
+		if (list != null) {
 			for (int i = 0; i < list.size(); i++) {
-				if (list.get(i).getOdfElement() == cell && list.get(i).mnRepeatedColIndex == repeatedColIndex
-						&& list.get(i).mnRepeatedRowIndex == repeatedRowIndex) {
-					fCell = list.get(i);
-					break;
+				Cell fCell = list.get(i);
+				if (fCell == null) {
+					// the instance has been garbage collected.
+					list.remove(i--);
+				} else if (fCell.getOdfElement() == cell && fCell.mnRepeatedColIndex == repeatedColIndex
+						&& fCell.mnRepeatedRowIndex == repeatedRowIndex) {
+					return fCell;
 				}
 			}
-			if (fCell == null) {
-				fCell = new Cell(cell, repeatedColIndex, repeatedRowIndex);
-				list.add(fCell);
-			}
-			return fCell;
+			Cell newCell = new Cell(cell, repeatedColIndex, repeatedRowIndex);
+			list.add(newCell);
+			return newCell;
 		} else {
 			Cell newCell = new Cell(cell, repeatedColIndex, repeatedRowIndex);
-			Vector<Cell> list = new Vector<Cell>();
+			list = new WeakInstanceList<Cell>();
 			list.add(newCell);
-			mCellRepository.put(cell, list);
+			mCellSweepThreshold = putRepositoryEntry(mCellRepository, cell, list, mCellSweepThreshold);
 			return newCell;
 		}
 	}
 
 	Row getRowInstance(TableTableRowElement row, int repeatedRowIndex) {
 		if (mRowRepository.containsKey(row)) {
-			Vector<Row> list = mRowRepository.get(row);
+			WeakInstanceList<Row> list = mRowRepository.get(row);
 			if (list.size() <= repeatedRowIndex) {
 				list.setSize(repeatedRowIndex + 1);
 			}
@@ -674,17 +685,17 @@ public class Table extends Component {
 		} else {
 			Row newRow = new Row(row, repeatedRowIndex);
 			int size = (repeatedRowIndex > 7) ? (repeatedRowIndex + 1) : 8;
-			Vector<Row> list = new Vector<Row>(size);
+			WeakInstanceList<Row> list = new WeakInstanceList<Row>(size);
 			list.setSize(repeatedRowIndex + 1);
 			list.set(repeatedRowIndex, newRow);
-			mRowRepository.put(row, list);
+			mRowSweepThreshold = putRepositoryEntry(mRowRepository, row, list, mRowSweepThreshold);
 			return newRow;
 		}
 	}
 
 	Column getColumnInstance(TableTableColumnElement col, int repeatedColIndex) {
 		if (mColumnRepository.containsKey(col)) {
-			Vector<Column> list = mColumnRepository.get(col);
+			WeakInstanceList<Column> list = mColumnRepository.get(col);
 			if (list.size() <= repeatedColIndex) {
 				list.setSize(repeatedColIndex + 1);
 			}
@@ -697,14 +708,34 @@ public class Table extends Component {
 		} else {
 			Column newColumn = new Column(col, repeatedColIndex);
 			int size = (repeatedColIndex > 7) ? (repeatedColIndex + 1) : 8;
-			Vector<Column> list = new Vector<Column>(size);
+			WeakInstanceList<Column> list = new WeakInstanceList<Column>(size);
 			list.setSize(repeatedColIndex + 1);
 			list.set(repeatedColIndex, newColumn);
-			mColumnRepository.put(col, list);
+			mColumnSweepThreshold = putRepositoryEntry(mColumnRepository, col, list, mColumnSweepThreshold);
 			return newColumn;
 		}
 	}
 
+	// the repositories only hold weak references to the instances, so the
+	// entries whose instances have all been collected are removed when a
+	// repository has doubled in size since it was last swept. This keeps the
+	// repositories bounded at an amortized constant cost per new entry. Each
+	// repository has its own threshold, which is returned.
+	private static <K, V> int putRepositoryEntry(IdentityHashMap<K, WeakInstanceList<V>> repository, K key,
+			WeakInstanceList<V> list, int sweepThreshold) {
+		if (repository.size() >= sweepThreshold) {
+			Iterator<WeakInstanceList<V>> iterator = repository.values().iterator();
+			while (iterator.hasNext()) {
+				if (iterator.next().isStale()) {
+					iterator.remove();
+				}
+			}
+			sweepThreshold = Math.max(MIN_REPOSITORY_SWEEP_THRESHOLD, repository.size() * 2);
+		}
+		repository.put(key, list);
+		return sweepThreshold;
+	}
+
 	TableTableColumnElement getColumnElementByIndex(int colIndex) {
 		int result = 0;
 		TableTableColumnElement columnEle = null;
@@ -714,11 +745,7 @@ public class Table extends Component {
 				for (Node m : new DomNodeList(headers.getChildNodes())) {
 					if (m instanceof TableTableColumnElement) {
 						columnEle = (TableTableColumnElement) m;
-						if (columnEle.getTableNumberColumnsRepeatedAttribute() == null) {
-							result += 1;
-						} else {
-							result += columnEle.getTableNumberColumnsRepeatedAttribute();
-						}
+						result += columnEle.getTableNumberColumnsRepeatedAttributeIntValue();
 					}
 					if (result > colIndex) {
 						break;
@@ -727,11 +754,7 @@ public class Table extends Component {
 			}
 			if (n instanceof TableTableColumnElement) {
 				columnEle = (TableTableColumnElement) n;
-				if (columnEle.getTableNumberColumnsRepeatedAttribute() == null) {
-					result += 1;
-				} else {
-					result += columnEle.getTableNumberColumnsRepeatedAttribute();
-				}
+				result += columnEle.getTableNumberColumnsRepeatedAttributeIntValue();
 			}
 			if (result > colIndex) {
 				break;
@@ -749,7 +772,7 @@ public class Table extends Component {
 				for (Node m : new DomNodeList(headers.getChildNodes())) {
 					if (m instanceof TableTableRowElement) {
 						rowEle = (TableTableRowElement) m;
-						result += rowEle.getTableNumberRowsRepeatedAttribute();
+						result += rowEle.getTableNumberRowsRepeatedAttributeIntValue();
 					}
 					if (result > rowIndex) {
 						break;
@@ -758,7 +781,7 @@ public class Table extends Component {
 			}
 			if (n instanceof TableTableRowElement) {
 				rowEle = (TableTableRowElement) n;
-				result += ((TableTableRowElement) n).getTableNumberRowsRepeatedAttribute();
+				result += ((TableTableRowElement) n).getTableNumberRowsRepeatedAttributeIntValue();
 			}
 			if (result > rowIndex) {
 				break;
@@ -767,6 +790,85 @@ public class Table extends Component {
 		return rowEle;
 	}
 
+	/**
+	 * Callback used by the bulk read methods to visit the cell elements inside
+	 * a rectangle of this table, without creating <code>Cell</code> instances.
+	 * <p>
+	 * Repeated cells and rows are reported once, with the number of columns
+	 * and rows of the rectangle they cover.
+	 */
+	interface CellElementVisitor {
+		void visit(TableTableCellElementBase cellElement, int colIndex, int colCount, int rowIndex, int rowCount);
+	}
+
+	// visit the cell elements between (startCol, startRow) and (endCol, endRow)
+	// in one pass over the row elements of this table.
+	void visitCellElements(int startCol, int startRow, int endCol, int endRow, CellElementVisitor visitor) {
+		int rowIndex = 0;
+		for (Node n = mTableElement.getFirstChild(); n != null && rowIndex <= endRow; n = n.getNextSibling()) {
+			if (n instanceof TableTableHeaderRowsElement || n instanceof TableTableRowsElement) {
+				for (Node m = n.getFirstChild(); m != null && rowIndex <= endRow; m = m.getNextSibling()) {
+					if (m instanceof TableTableRowElement) {
+						rowIndex = visitRowCellElements((TableTableRowElement) m, rowIndex, startCol, startRow, endCol,
+								endRow, visitor);
+					}
+				}
+			}
+			if (n instanceof TableTableRowElement) {
+				rowIndex = visitRowCellElements((TableTableRowElement) n, rowIndex, startCol, startRow, endCol, endRow,
+						visitor);
+			}
+		}
+	}
+
+	// return the row index following the given row element.
+	private int visitRowCellElements(TableTableRowElement rowEle, int rowIndex, int startCol, int startRow,
+			int endCol, int endRow, CellElementVisitor visitor) {
+		int rowsRepeated = rowEle.getTableNumberRowsRepeatedAttributeIntValue();
+		int firstRow = Math.max(rowIndex, startRow);
+		int lastRow = Math.min(rowIndex + rowsRepeated - 1, endRow);
+		if (firstRow <= lastRow) {
+			int colIndex = 0;
+			for (Node n = rowEle.getFirstChild(); n != null && colIndex <= endCol; n = n.getNextSibling()) {
+				if (n instanceof TableTableCellElementBase) {
+					TableTableCellElementBase cellEle = (TableTableCellElementBase) n;
+					int colsRepeated = cellEle.getTableNumberColumnsRepeatedAttributeIntValue();
+					int firstCol = Math.max(colIndex, startCol);
+					int lastCol = Math.min(colIndex + colsRepeated - 1, endCol);
+					if (firstCol <= lastCol) {
+						visitor.visit(cellEle, firstCol, lastCol - firstCol + 1, firstRow, lastRow - firstRow + 1);
+					}
+					colIndex += colsRepeated;
+				}
+			}
+		}
+		return rowIndex + rowsRepeated;
+	}
+
+	// the office:value of a cell as a primitive, NaN if the cell has no
+	// numeric value.
+	static double getOfficeValue(TableTableCellElementBase cellEle) {
+		String value = cellEle.getAttributeNS(OdfDocumentNamespace.OFFICE.getUri(), "value");
+		if (value == null || value.length() == 0) {
+			return Double.NaN;
+		}
+		try {
+			return Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+
+	// the string value of a cell, which is office:string-value if present,
+	// otherwise the displayed text.
+	static String getOfficeStringValue(TableTableCellElementBase cellEle) {
+		String value = cellEle.getAttributeNS(OdfDocumentNamespace.OFFICE.getUri(), "string-value");
+		if (value != null && value.length() > 0) {
+			return value;
+		}
+		return TextExtractor.getText(cellEle);
+	}
+
 	/**
 	 * Get the width of the table (in Millimeter).
 	 * <p>
@@ -1251,12 +1353,12 @@ public class Table extends Component {
 				result += getHeaderRowCount((TableTableHeaderRowsElement) n);
 			}
 			if (n instanceof TableTableRowElement) {
-				result += ((TableTableRowElement) n).getTableNumberRowsRepeatedAttribute();
+				result += ((TableTableRowElement) n).getTableNumberRowsRepeatedAttributeIntValue();
 			}
 			if (n instanceof TableTableRowsElement) {
 				for (Node nn : new DomNodeList(n.getChildNodes())) {
 					if (nn instanceof TableTableRowElement) {
-						result += ((TableTableRowElement) nn).getTableNumberRowsRepeatedAttribute();
+						result += ((TableTableRowElement) nn).getTableNumberRowsRepeatedAttributeIntValue();
 					}
 				}
 			}
@@ -1283,7 +1385,7 @@ public class Table extends Component {
 			}
 
 			if (n instanceof TableTableColumnElement) {
-				result += ((TableTableColumnElement) n).getTableNumberColumnsRepeatedAttribute();
+				result += ((TableTableColumnElement) n).getTableNumberColumnsRepeatedAttributeIntValue();
 			}
 			// as different type of elements appear in order, so if n is one of
 			// the the following elements, computing will stop. It's helpful
@@ -1397,14 +1499,14 @@ public class Table extends Component {
 						// the cover cell and the first covered cell must have
 						// the same column index.
 						TableTableCellElementBase coverCellEle = (TableTableCellElementBase) (aRowEle.getFirstChild());
-						int j = coverCellEle.getTableNumberColumnsRepeatedAttribute();
+						int j = coverCellEle.getTableNumberColumnsRepeatedAttributeIntValue();
 						while (j < i) {
 							coverCellEle = (TableTableCellElementBase) (coverCellEle.getNextSibling());
 							if (coverCellEle instanceof TableTableCellElement) {
-								j += (coverCellEle.getTableNumberColumnsRepeatedAttribute() * (((TableTableCellElement) coverCellEle)
-										.getTableNumberColumnsSpannedAttribute()));
+								j += (coverCellEle.getTableNumberColumnsRepeatedAttributeIntValue() * (((TableTableCellElement) coverCellEle)
+										.getTableNumberColumnsSpannedAttributeIntValue()));
 							} else {
-								j += coverCellEle.getTableNumberColumnsRepeatedAttribute();
+								j += coverCellEle.getTableNumberColumnsRepeatedAttributeIntValue();
 							}
 						}
 						// find the cover cell, now start cell clone.
@@ -1417,9 +1519,9 @@ public class Table extends Component {
 							// sheet need change these covered cell to cell.
 							if (mIsSpreadsheet) {
 								// update column repeated number.
-								int columnsSpannedNumber = newCellEle.getTableNumberColumnsSpannedAttribute();
+								int columnsSpannedNumber = newCellEle.getTableNumberColumnsSpannedAttributeIntValue();
 								newCellEle.removeAttributeNS(tableNameSpace, "number-columns-spanned");
-								int newColumnRepeatedNumber = newCellEle.getTableNumberColumnsRepeatedAttribute()
+								int newColumnRepeatedNumber = newCellEle.getTableNumberColumnsRepeatedAttributeIntValue()
 										* columnsSpannedNumber;
 								if (newColumnRepeatedNumber > 1) {
 									newCellEle.setTableNumberColumnsRepeatedAttribute(newColumnRepeatedNumber);
@@ -1435,7 +1537,7 @@ public class Table extends Component {
 								// newColumnRepeatedNumber covered cell.
 								int tempi = newColumnRepeatedNumber;
 								while (tempi > 0) {
-									int iColumnRepeatedNumber = cellElement.getTableNumberColumnsRepeatedAttribute();
+									int iColumnRepeatedNumber = cellElement.getTableNumberColumnsRepeatedAttributeIntValue();
 									if (iColumnRepeatedNumber > tempi) {
 										// split covered cell
 										if (cellElement instanceof TableCoveredTableCellElement) {
@@ -1454,8 +1556,8 @@ public class Table extends Component {
 											cellElement = newCoveredCellEle;
 										}
 									}
-									tempi = tempi - cellElement.getTableNumberColumnsRepeatedAttribute();
-									i = i + cellElement.getTableNumberColumnsRepeatedAttribute();
+									tempi = tempi - cellElement.getTableNumberColumnsRepeatedAttributeIntValue();
+									i = i + cellElement.getTableNumberColumnsRepeatedAttributeIntValue();
 									if (!(cellElement instanceof TableCoveredTableCellElement) && (tempi > 0)){
 										Logger.getLogger(Table.class.getName()).log(Level.FINE,	"Not covered cell was ignored");
 									}
@@ -1473,15 +1575,15 @@ public class Table extends Component {
 								// row.
 								// added by Daisy because of a bug in demo4
 								cellElement = (TableTableCellElementBase) cellElement.getNextSibling();
-								i += cellElement.getTableNumberColumnsRepeatedAttribute();
-								int newColumnSpanNumber = newCellEle.getTableNumberColumnsSpannedAttribute();
+								i += cellElement.getTableNumberColumnsRepeatedAttributeIntValue();
+								int newColumnSpanNumber = newCellEle.getTableNumberColumnsSpannedAttributeIntValue();
 								while ((cellElement != null) && (cellElement instanceof TableCoveredTableCellElement)
 										&& (newColumnSpanNumber > 1)) {
 									TableCoveredTableCellElement newCoveredCellElement = (TableCoveredTableCellElement) cellElement
 											.cloneNode(true);
 									cleanCell(newCoveredCellElement);
 									newRow.appendChild(newCoveredCellElement);
-									i += cellElement.getTableNumberColumnsRepeatedAttribute();
+									i += cellElement.getTableNumberColumnsRepeatedAttributeIntValue();
 									cellElement = (TableTableCellElementBase) cellElement.getNextSibling();
 									newColumnSpanNumber--;
 								}
@@ -1501,8 +1603,8 @@ public class Table extends Component {
 					TableTableCellElement newCellEle = (TableTableCellElement) cellElement.cloneNode(true);
 					cleanCell(newCellEle);
 					newRow.appendChild(newCellEle);
-					Integer tableNumberColumnsRepeated = newCellEle.getTableNumberColumnsRepeatedAttribute();
-					Integer tableNumberColumnsSpanned = newCellEle.getTableNumberColumnsSpannedAttribute();
+					int tableNumberColumnsRepeated = newCellEle.getTableNumberColumnsRepeatedAttributeIntValue();
+					int tableNumberColumnsSpanned = newCellEle.getTableNumberColumnsSpannedAttributeIntValue();
 					i += tableNumberColumnsRepeated * tableNumberColumnsSpanned;
 					cellElement = (TableTableCellElementBase) cellElement.getNextSibling();
 					if (tableNumberColumnsSpanned > 1) {
@@ -1520,7 +1622,7 @@ public class Table extends Component {
 							// (newColumnRepeatedNumber-1) covered cell.
 							int tempi = newColumnRepeatedNumber;
 							while (tempi > 1) {
-								int iColumnRepeatedNumber = cellElement.getTableNumberColumnsRepeatedAttribute();
+								int iColumnRepeatedNumber = cellElement.getTableNumberColumnsRepeatedAttributeIntValue();
 								if (iColumnRepeatedNumber > tempi + 1) {
 									// split covered cell
 									if (cellElement instanceof TableCoveredTableCellElement) {
@@ -1534,7 +1636,7 @@ public class Table extends Component {
 										cellElement = newCoveredCellEle;
 									}
 								}
-								tempi = tempi - cellElement.getTableNumberColumnsRepeatedAttribute();
+								tempi = tempi - cellElement.getTableNumberColumnsRepeatedAttributeIntValue();
 								if (!(cellElement instanceof TableCoveredTableCellElement) && (tempi > 1)){
 									Logger.getLogger(Table.class.getName()).log(Level.FINE,	"Not covered cell was ignored");
 								}
@@ -1542,7 +1644,7 @@ public class Table extends Component {
 							}
 						} else {
 							while ((j < tableNumberColumnsSpanned) && (cellElement != null)) {
-								int iColumnRepeatedNumber = cellElement.getTableNumberColumnsRepeatedAttribute();
+								int iColumnRepeatedNumber = cellElement.getTableNumberColumnsRepeatedAttributeIntValue();
 								if (iColumnRepeatedNumber > tableNumberColumnsSpanned - j) {
 									// split covered cell
 									if (cellElement instanceof TableCoveredTableCellElement) {
@@ -1561,7 +1663,7 @@ public class Table extends Component {
 										.cloneNode(true);
 								cleanCell(newCoveredCellEle);
 								newRow.appendChild(newCoveredCellEle);
-								j += newCoveredCellEle.getTableNumberColumnsRepeatedAttribute();
+								j += newCoveredCellEle.getTableNumberColumnsRepeatedAttributeIntValue();
 								cellElement = (TableTableCellElementBase) cellElement.getNextSibling();
 							}
 						}
@@ -1796,7 +1898,7 @@ public class Table extends Component {
 			if (!refCell.isCoveredElement()) // not cover element
 			{
 				TableTableCellElement aCellEle = (TableTableCellElement) refCell.getOdfElement();
-				coveredHeigth = aCellEle.getTableNumberRowsSpannedAttribute();
+				coveredHeigth = aCellEle.getTableNumberRowsSpannedAttributeIntValue();
 				if (coveredHeigth == 1) {
 					TableTableCellElement newCellEle = (TableTableCellElement) aCellEle.cloneNode(true);
 					cleanCell(newCellEle);
@@ -1814,21 +1916,21 @@ public class Table extends Component {
 					aRow.appendChild(newCellEle);
 				}
 
-				coveredLength = aCellEle.getTableNumberColumnsSpannedAttribute() - columnsRepeatedNumber;
+				coveredLength = aCellEle.getTableNumberColumnsSpannedAttributeIntValue() - columnsRepeatedNumber;
 				i = i + columnsRepeatedNumber;
 			} else {
 				TableCoveredTableCellElement aCellEle = (TableCoveredTableCellElement) refCell.getOdfElement();
 				if (coveredLength >= 1) {
 					TableCoveredTableCellElement newCellEle = (TableCoveredTableCellElement) aCellEle.cloneNode(true);
 					aRow.appendChild(newCellEle);
-					coveredLength -= newCellEle.getTableNumberColumnsRepeatedAttribute();
+					coveredLength -= newCellEle.getTableNumberColumnsRepeatedAttributeIntValue();
 				} else {
 					TableTableCellElement coveredCell = (TableTableCellElement) refCell.getCoverCell().getOdfElement();
 					TableTableCellElement newCellEle = (TableTableCellElement) coveredCell.cloneNode(true);
 					cleanCell(newCellEle);
 					newCellEle.removeAttributeNS(OdfDocumentNamespace.TABLE.getUri(), "number-rows-spanned");
 					aRow.appendChild(newCellEle);
-					coveredLength = coveredCell.getTableNumberColumnsSpannedAttribute() - columnsRepeatedNumber;
+					coveredLength = coveredCell.getTableNumberColumnsSpannedAttributeIntValue() - columnsRepeatedNumber;
 				}
 				i = i + columnsRepeatedNumber;
 			}
@@ -1945,7 +2047,7 @@ public class Table extends Component {
 		// 2. insert a <table:table-column>
 		if (refColumn.getOdfElement() == positionCol.getOdfElement()) {
 			TableTableColumnElement column = refColumn.getOdfElement();
-			int repeatedCount = column.getTableNumberColumnsRepeatedAttribute();
+			int repeatedCount = column.getTableNumberColumnsRepeatedAttributeIntValue();
 			TableTableColumnElement columnEle = positionCol.getOdfElement();
 			// add a single column element to describe columns.
 			if (isUseRepeat()) {
@@ -2229,7 +2331,7 @@ public class Table extends Component {
 				for (Node m : new DomNodeList(headers.getChildNodes())) {
 					if (m instanceof TableTableColumnElement) {
 						colEle = (TableTableColumnElement) m;
-						int columnsRepeatedNumber = colEle.getTableNumberColumnsRepeatedAttribute();
+						int columnsRepeatedNumber = colEle.getTableNumberColumnsRepeatedAttributeIntValue();
 						for (int i = 0; i < columnsRepeatedNumber; i++) {
 							list.add(getColumnInstance(colEle, i));
 						}
@@ -2238,7 +2340,7 @@ public class Table extends Component {
 			}
 			if (n instanceof TableTableColumnElement) {
 				colEle = (TableTableColumnElement) n;
-				int columnsRepeatedNumber = colEle.getTableNumberColumnsRepeatedAttribute();
+				int columnsRepeatedNumber = colEle.getTableNumberColumnsRepeatedAttributeIntValue();
 				for (int i = 0; i < columnsRepeatedNumber; i++) {
 					list.add(getColumnInstance(colEle, i));
 				}
@@ -2273,7 +2375,7 @@ public class Table extends Component {
 				for (Node m : new DomNodeList(headers.getChildNodes())) {
 					if (m instanceof TableTableRowElement) {
 						rowEle = (TableTableRowElement) m;
-						for (int i = 0; i < rowEle.getTableNumberRowsRepeatedAttribute(); i++) {
+						for (int i = 0; i < rowEle.getTableNumberRowsRepeatedAttributeIntValue(); i++) {
 							list.add(getRowInstance(rowEle, i));
 						}
 					}
@@ -2281,7 +2383,7 @@ public class Table extends Component {
 			}
 			if (n instanceof TableTableRowElement) {
 				rowEle = (TableTableRowElement) n;
-				for (int i = 0; i < rowEle.getTableNumberRowsRepeatedAttribute(); i++) {
+				for (int i = 0; i < rowEle.getTableNumberRowsRepeatedAttributeIntValue(); i++) {
 					list.add(getRowInstance(rowEle, i));
 				}
 			}
@@ -2487,7 +2589,7 @@ public class Table extends Component {
 		if (headers != null) {
 			for (Node n : new DomNodeList(headers.getChildNodes())) {
 				if (n instanceof TableTableRowElement) {
-					result += ((TableTableRowElement) n).getTableNumberRowsRepeatedAttribute();
+					result += ((TableTableRowElement) n).getTableNumberRowsRepeatedAttributeIntValue();
 				}
 			}
 		}
@@ -2510,7 +2612,7 @@ public class Table extends Component {
 		int result = 0;
 		if (headers != null) {
 			for (Node n : new DomNodeList(headers.getChildNodes())) {
-				result += ((TableTableColumnElement) n).getTableNumberColumnsRepeatedAttribute();
+				result += ((TableTableColumnElement) n).getTableNumberColumnsRepeatedAttributeIntValue();
 			}
 		}
 		return result;
@@ -2520,7 +2622,7 @@ public class Table extends Component {
 		int result = 0;
 		if (columns != null) {
 			for (Node n : new DomNodeList(columns.getChildNodes())) {
-				result += ((TableTableColumnElement) n).getTableNumberColumnsRepeatedAttribute();
+				result += ((TableTableColumnElement) n).getTableNumberColumnsRepeatedAttributeIntValue();
 			}
 		}
 		return result;
@@ -2557,15 +2659,10 @@ public class Table extends Component {
 	 */
 	public void setTableName(String tableName) {
 		// check if the table name is already exist
-		List<Table> tableList = mDocument.getTableList();
-		for (int i = 0; i < tableList.size(); i++) {
-			Table table = tableList.get(i);
-			if (tableName.equals(table.getTableName())) {
-				if (table != this) {
-					throw new IllegalArgumentException(
-							"The table name is duplicate with one of tables in the current document.");
-				}
-			}
+		Table table = mDocument.getTableByName(tableName);
+		if (table != null && table.getOdfElement() != mTableElement) {
+			throw new IllegalArgumentException(
+					"The table name is duplicate with one of tables in the current document.");
 		}
 		mTableElement.setTableNameAttribute(tableName);
 	}
@@ -2761,6 +2858,261 @@ public class Table extends Component {
 		mIsDescribedBySingleElement = isSingle;
 	}
 
+	/**
+	 * Merge adjacent columns, rows and cells which have identical content,
+	 * style and attributes back into runs described by a single element with
+	 * <code>table:number-columns-repeated</code> or
+	 * <code>table:number-rows-repeated</code>.
+	 * <p>
+	 * Editing a table through this API splits repeated rows and cells into
+	 * single elements. Calling this method before saving makes the document
+	 * as small as the original one. Cells which span several columns or rows
+	 * are never merged.
+	 * <p>
+	 * The <code>Row</code>, <code>Column</code> and <code>Cell</code> instances
+	 * which have been returned before remain valid.
+	 * 
+	 * @since 0.9
+	 */
+	public void compact() {
+		compactColumns(mTableElement);
+		compactRows(mTableElement);
+		for (Node n = mTableElement.getFirstChild(); n != null; n = n.getNextSibling()) {
+			if (n instanceof TableTableHeaderColumnsElement || n instanceof TableTableColumnsElement) {
+				compactColumns(n);
+			} else if (n instanceof TableTableHeaderRowsElement || n instanceof TableTableRowsElement) {
+				compactRows(n);
+			}
+		}
+	}
+
+	private void compactColumns(Node parent) {
+		TableTableColumnElement previous = null;
+		Node n = parent.getFirstChild();
+		while (n != null) {
+			Node next = n.getNextSibling();
+			if (n instanceof TableTableColumnElement) {
+				TableTableColumnElement column = (TableTableColumnElement) n;
+				if (previous != null && isSameExceptRepeat(previous, column, "number-columns-repeated")) {
+					int offset = previous.getTableNumberColumnsRepeatedAttributeIntValue();
+					previous.setTableNumberColumnsRepeatedAttribute(offset
+							+ column.getTableNumberColumnsRepeatedAttributeIntValue());
+					WeakInstanceList<Column> list = mColumnRepository.remove(column);
+					if (list != null) {
+						for (int i = 0; i < list.size(); i++) {
+							if (list.get(i) != null) {
+								list.get(i).maColumnElement = previous;
+								list.get(i).mnRepeatedIndex = offset + i;
+								getColumnInstanceList(previous, offset + i).set(offset + i, list.get(i));
+							}
+						}
+					}
+					parent.removeChild(column);
+				} else {
+					previous = column;
+				}
+			} else if (!isWhitespace(n)) {
+				previous = null;
+			}
+			n = next;
+		}
+	}
+
+	private void compactRows(Node parent) {
+		TableTableRowElement previous = null;
+		Node n = parent.getFirstChild();
+		while (n != null) {
+			Node next = n.getNextSibling();
+			if (n instanceof TableTableRowElement) {
+				TableTableRowElement row = (TableTableRowElement) n;
+				compactCells(row);
+				if (previous != null && !hasRowSpannedCell(row)
+						&& isSameExceptRepeat(previous, row, "number-rows-repeated")) {
+					int offset = previous.getTableNumberRowsRepeatedAttributeIntValue();
+					previous.setTableNumberRowsRepeatedAttribute(offset + row.getTableNumberRowsRepeatedAttributeIntValue());
+					moveRowInstances(row, previous, offset);
+					parent.removeChild(row);
+				} else {
+					previous = hasRowSpannedCell(row) ? null : row;
+				}
+			} else if (!isWhitespace(n)) {
+				previous = null;
+			}
+			n = next;
+		}
+	}
+
+	private void compactCells(TableTableRowElement row) {
+		TableTableCellElementBase previous = null;
+		Node n = row.getFirstChild();
+		while (n != null) {
+			Node next = n.getNextSibling();
+			if (n instanceof TableTableCellElementBase) {
+				TableTableCellElementBase cell = (TableTableCellElementBase) n;
+				if (previous != null && !isSpanned(cell)
+						&& isSameExceptRepeat(previous, cell, "number-columns-repeated")) {
+					int offset = previous.getTableNumberColumnsRepeatedAttributeIntValue();
+					previous.setTableNumberColumnsRepeatedAttribute(offset
+							+ cell.getTableNumberColumnsRepeatedAttributeIntValue());
+					moveCellInstances(cell, previous, offset, 0);
+					row.removeChild(cell);
+				} else {
+					previous = isSpanned(cell) ? null : cell;
+				}
+			} else if (!isWhitespace(n)) {
+				previous = null;
+			}
+			n = next;
+		}
+	}
+
+	// the row instances of the removed row element and the instances of its
+	// cells are moved to the row element which absorbs it.
+	private void moveRowInstances(TableTableRowElement from, TableTableRowElement to, int rowOffset) {
+		WeakInstanceList<Row> list = mRowRepository.remove(from);
+		if (list != null) {
+			for (int i = 0; i < list.size(); i++) {
+				if (list.get(i) != null) {
+					list.get(i).maRowElement = to;
+					list.get(i).mnRepeatedIndex = rowOffset + i;
+					getRowInstanceList(to, rowOffset + i).set(rowOffset + i, list.get(i));
+				}
+			}
+		}
+		WeakInstanceList<Row> toList = mRowRepository.get(to);
+		if (toList != null) {
+			for (Row row : toList) {
+				if (row != null) {
+					row.mRowsRepeatedNumber = -1;
+				}
+			}
+		}
+		// the cells of both rows have the same structure.
+		Node fromCell = from.getFirstChild();
+		Node toCell = to.getFirstChild();
+		while (fromCell != null && toCell != null) {
+			if (fromCell instanceof TableTableCellElementBase) {
+				moveCellInstances((TableTableCellElementBase) fromCell, (TableTableCellElementBase) toCell, 0,
+						rowOffset);
+			}
+			fromCell = fromCell.getNextSibling();
+			toCell = toCell.getNextSibling();
+		}
+	}
+
+	private void moveCellInstances(TableTableCellElementBase from, TableTableCellElementBase to, int colOffset,
+			int rowOffset) {
+		WeakInstanceList<Cell> list = mCellRepository.remove(from);
+		if (list != null) {
+			WeakInstanceList<Cell> toList = mCellRepository.get(to);
+			if (toList == null) {
+				toList = new WeakInstanceList<Cell>();
+				mCellRepository.put(to, toList);
+			}
+			for (Cell cell : list) {
+				if (cell != null) {
+					cell.mCellElement = to;
+					cell.mnRepeatedColIndex += colOffset;
+					cell.mnRepeatedRowIndex += rowOffset;
+					toList.add(cell);
+				}
+			}
+		}
+	}
+
+	private WeakInstanceList<Row> getRowInstanceList(TableTableRowElement row, int repeatedIndex) {
+		WeakInstanceList<Row> list = mRowRepository.get(row);
+		if (list == null) {
+			list = new WeakInstanceList<Row>(repeatedIndex + 1);
+			mRowRepository.put(row, list);
+		}
+		if (list.size() <= repeatedIndex) {
+			list.setSize(repeatedIndex + 1);
+		}
+		return list;
+	}
+
+	private WeakInstanceList<Column> getColumnInstanceList(TableTableColumnElement column, int repeatedIndex) {
+		WeakInstanceList<Column> list = mColumnRepository.get(column);
+		if (list == null) {
+			list = new WeakInstanceList<Column>(repeatedIndex + 1);
+			mColumnRepository.put(column, list);
+		}
+		if (list.size() <= repeatedIndex) {
+			list.setSize(repeatedIndex + 1);
+		}
+		return list;
+	}
+
+	private static boolean isSpanned(TableTableCellElementBase cell) {
+		if (cell instanceof TableTableCellElement) {
+			TableTableCellElement cellEle = (TableTableCellElement) cell;
+			return cellEle.getTableNumberColumnsSpannedAttributeIntValue() > 1
+					|| cellEle.getTableNumberRowsSpannedAttributeIntValue() > 1;
+		}
+		return false;
+	}
+
+	private static boolean hasRowSpannedCell(TableTableRowElement row) {
+		for (Node n = row.getFirstChild(); n != null; n = n.getNextSibling()) {
+			if (n instanceof TableTableCellElement
+					&& ((TableTableCellElement) n).getTableNumberRowsSpannedAttributeIntValue() > 1) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isWhitespace(Node node) {
+		return node.getNodeType() == Node.TEXT_NODE && node.getNodeValue().trim().length() == 0;
+	}
+
+	// compare two elements, ignoring the given table repeat attribute.
+	private static boolean isSameExceptRepeat(Element first, Element second, String repeatAttribute) {
+		if (!first.getLocalName().equals(second.getLocalName())
+				|| !first.getNamespaceURI().equals(second.getNamespaceURI())) {
+			return false;
+		}
+		String tableNamespace = OdfDocumentNamespace.TABLE.getUri();
+		NamedNodeMap firstAttributes = first.getAttributes();
+		int firstCount = firstAttributes.getLength();
+		if (first.hasAttributeNS(tableNamespace, repeatAttribute)) {
+			firstCount--;
+		}
+		int secondCount = second.getAttributes().getLength();
+		if (second.hasAttributeNS(tableNamespace, repeatAttribute)) {
+			secondCount--;
+		}
+		if (firstCount != secondCount) {
+			return false;
+		}
+		for (int i = 0; i < firstAttributes.getLength(); i++) {
+			Node attribute = firstAttributes.item(i);
+			String localName = attribute.getLocalName();
+			String namespace = attribute.getNamespaceURI();
+			if (localName == null) {
+				if (!attribute.getNodeValue().equals(second.getAttribute(attribute.getNodeName()))) {
+					return false;
+				}
+			} else if (!(tableNamespace.equals(namespace) && repeatAttribute.equals(localName))) {
+				if (!second.hasAttributeNS(namespace, localName)
+						|| !attribute.getNodeValue().equals(second.getAttributeNS(namespace, localName))) {
+					return false;
+				}
+			}
+		}
+		Node firstChild = first.getFirstChild();
+		Node secondChild = second.getFirstChild();
+		while (firstChild != null && secondChild != null) {
+			if (!firstChild.isEqualNode(secondChild)) {
+				return false;
+			}
+			firstChild = firstChild.getNextSibling();
+			secondChild = secondChild.getNextSibling();
+		}
+		return firstChild == null && secondChild == null;
+	}
+
 	// //////////////////////////////////////////////////////////////////////////////////////////
 	/**
 	 * Return a range of cells within the specified range. The table will be
@@ -2922,6 +3274,159 @@ public class Table extends Component {
 	public Cell getCellByPosition(String address) {
 		return getCellByPosition(getColIndexFromCellAddress(address), getRowIndexFromCellAddress(address));
 	}
+
+	/**
+	 * Read the numeric values of a column in a single pass over the table,
+	 * without creating <code>Cell</code> instances or boxed values.
+	 * <p>
+	 * The consumer is called once for each row of the table, in row order,
+	 * with the <code>office:value</code> of the cell. Cells which have no
+	 * numeric value (e.g. string cells, empty cells or covered cells) are
+	 * reported as <code>Double.NaN</code>.
+	 * 
+	 * @param colIndex
+	 *            the zero-based index of the column.
+	 * @param consumer
+	 *            receives the value of each row.
+	 * @since 0.9
+	 */
+	public void readColumn(int colIndex, final DoubleConsumer consumer) {
+		if (colIndex < 0) {
+			throw new IllegalArgumentException("colIndex should be nonnegative integer.");
+		}
+		final int rowCount = getRowCount();
+		final int[] nextRow = new int[1];
+		visitCellElements(colIndex, 0, colIndex, rowCount - 1, new CellElementVisitor() {
+			public void visit(TableTableCellElementBase cellEle, int colIndex, int colCount, int rowIndex, int rowCount) {
+				for (; nextRow[0] < rowIndex; nextRow[0]++) {
+					consumer.accept(Double.NaN);
+				}
+				double value = getOfficeValue(cellEle);
+				for (int i = 0; i < rowCount; i++) {
+					consumer.accept(value);
+				}
+				nextRow[0] += rowCount;
+			}
+		});
+		for (; nextRow[0] < rowCount; nextRow[0]++) {
+			consumer.accept(Double.NaN);
+		}
+	}
+
+	/**
+	 * Read the string values of a column in a single pass over the table,
+	 * without creating <code>Cell</code> instances.
+	 * <p>
+	 * The consumer is called once for each row of the table, in row order,
+	 * with the same value as {@link Cell#getStringValue()} would return. Rows
+	 * which have no cell in this column are reported as an empty string.
+	 * 
+	 * @param colIndex
+	 *            the zero-based index of the column.
+	 * @param consumer
+	 *            receives the value of each row.
+	 * @since 0.9
+	 */
+	public void readStringColumn(int colIndex, final Consumer<String> consumer) {
+		readColumnValues(colIndex, consumer, "", new CellValueDecoder<String>() {
+			public String decode(TableTableCellElementBase cellEle) {
+				return getOfficeStringValue(cellEle);
+			}
+		});
+	}
+
+	/**
+	 * Read the date values of a column in a single pass over the table,
+	 * without creating <code>Cell</code> instances.
+	 * <p>
+	 * The consumer is called once for each row of the table, in row order,
+	 * with the date part of the <code>office:date-value</code> of the cell.
+	 * Cells which have no valid date value are reported as <code>null</code>.
+	 * 
+	 * @param colIndex
+	 *            the zero-based index of the column.
+	 * @param consumer
+	 *            receives the value of each row.
+	 * @since 0.9
+	 */
+	public void readDateColumn(int colIndex, final Consumer<Calendar> consumer) {
+		// the values are parsed strictly, like by Cell.getDateValue(), and
+		// each row gets a copy of one cleared calendar.
+		final Calendar prototype = Calendar.getInstance();
+		prototype.clear();
+		readColumnValues(colIndex, consumer, null, new CellValueDecoder<Calendar>() {
+			public Calendar decode(TableTableCellElementBase cellEle) {
+				String value = cellEle.getAttributeNS(OdfDocumentNamespace.OFFICE.getUri(), "date-value");
+				if (value == null || value.length() == 0) {
+					return null;
+				}
+				try {
+					LocalDateTime dateTime = DateTime.parseLocalDateTime(value);
+					Calendar calendar = (Calendar) prototype.clone();
+					calendar.set(dateTime.getYear(), dateTime.getMonthValue() - 1, dateTime.getDayOfMonth());
+					return calendar;
+				} catch (IllegalArgumentException e) {
+					Logger.getLogger(Table.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+					return null;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Read the boolean values of a column in a single pass over the table,
+	 * without creating <code>Cell</code> instances.
+	 * <p>
+	 * The consumer is called once for each row of the table, in row order,
+	 * with the <code>office:boolean-value</code> of the cell. Cells which have
+	 * no boolean value are reported as <code>null</code>.
+	 * 
+	 * @param colIndex
+	 *            the zero-based index of the column.
+	 * @param consumer
+	 *            receives the value of each row.
+	 * @since 0.9
+	 */
+	public void readBooleanColumn(int colIndex, final Consumer<Boolean> consumer) {
+		readColumnValues(colIndex, consumer, null, new CellValueDecoder<Boolean>() {
+			public Boolean decode(TableTableCellElementBase cellEle) {
+				String value = cellEle.getAttributeNS(OdfDocumentNamespace.OFFICE.getUri(), "boolean-value");
+				if (value == null || value.length() == 0) {
+					return null;
+				}
+				return Boolean.valueOf(value);
+			}
+		});
+	}
+
+	// decode the value of a cell element, used by the typed column readers.
+	private interface CellValueDecoder<T> {
+		T decode(TableTableCellElementBase cellEle);
+	}
+
+	private <T> void readColumnValues(int colIndex, final Consumer<T> consumer, final T missingValue,
+			final CellValueDecoder<T> decoder) {
+		if (colIndex < 0) {
+			throw new IllegalArgumentException("colIndex should be nonnegative integer.");
+		}
+		final int rowCount = getRowCount();
+		final int[] nextRow = new int[1];
+		visitCellElements(colIndex, 0, colIndex, rowCount - 1, new CellElementVisitor() {
+			public void visit(TableTableCellElementBase cellEle, int colIndex, int colCount, int rowIndex, int rowCount) {
+				for (; nextRow[0] < rowIndex; nextRow[0]++) {
+					consumer.accept(missingValue);
+				}
+				T value = decoder.decode(cellEle);
+				for (int i = 0; i < rowCount; i++) {
+					consumer.accept(value);
+				}
+				nextRow[0] += rowCount;
+			}
+		});
+		for (; nextRow[0] < rowCount; nextRow[0]++) {
+			consumer.accept(missingValue);
+		}
+	}
 	
 	/**
 	 * Modifies the margin above and below the table.
@@ -3047,7 +3552,7 @@ public class Table extends Component {
 	void updateColumnRepository(TableTableColumnElement oldElement, int oldRepeatIndex,
 			TableTableColumnElement newElement, int newRepeatIndex) {
 		if (mColumnRepository.containsKey(oldElement)) {
-			Vector<Column> oldList = mColumnRepository.get(oldElement);
+			WeakInstanceList<Column> oldList = mColumnRepository.get(oldElement);
 			if (oldRepeatIndex < oldList.size()) {
 				if (oldElement != newElement) {
 					// the new column replace the old column
@@ -3067,7 +3572,7 @@ public class Table extends Component {
 							oldColumn.maColumnElement = newElement;
 							oldColumn.mnRepeatedIndex = newRepeatIndex;
 							int size = (newRepeatIndex > 7) ? (newRepeatIndex + 1) : 8;
-							Vector<Column> list = new Vector<Column>(size);
+							WeakInstanceList<Column> list = new WeakInstanceList<Column>(size);
 							list.setSize(newRepeatIndex + 1);
 							list.set(newRepeatIndex, oldColumn);
 							mColumnRepository.put(newElement, list);
@@ -3100,62 +3605,33 @@ public class Table extends Component {
 	void updateRowRepository(TableTableRowElement oldElement, int oldRepeatIndex, TableTableRowElement newElement,
 			int newRepeatIndex) {
 		if (mRowRepository.containsKey(oldElement)) {
-			Vector<Row> oldList = mRowRepository.get(oldElement);
+			WeakInstanceList<Row> oldList = mRowRepository.get(oldElement);
 			if (oldRepeatIndex < oldList.size()) {
 				if (oldElement != newElement) {
 					// the new row replace the old row
 					Row oldRow = oldList.get(oldRepeatIndex);
-					Vector<Cell> updateCellList = new Vector<Cell>();
 					if (oldRow != null) {
 						// update the mnRepeateIndex of the row which locate
 						// after the removed row
 						for (int i = oldRepeatIndex + 1; i < oldList.size(); i++) {
 							Row row = oldList.get(i);
 							if (row != null) {
-								// update the cell in this row,
-								int colNum = getColumnCount();
-								for (int j = 0; j < colNum; j++) {
-									Cell cell = row.getCellByIndex(j);
-									updateCellList.add(cell);
-								}
 								row.mnRepeatedIndex = i - 1;
 							}
 						}
-						oldList.remove(oldRow);
+						oldList.remove(oldRepeatIndex);
 						if (newElement != null) {
-							// update the cell in this row
-							int colNum = getColumnCount();
-							Cell[] oldCells = new Cell[colNum];
-							for (int j = 0; j < colNum; j++) {
-								oldCells[j] = oldRow.getCellByIndex(j);
-							}
-							// /
 							oldRow.maRowElement = newElement;
 							oldRow.mnRepeatedIndex = newRepeatIndex;
 							int size = (newRepeatIndex > 7) ? (newRepeatIndex + 1) : 8;
-							Vector<Row> list = new Vector<Row>(size);
+							WeakInstanceList<Row> list = new WeakInstanceList<Row>(size);
 							list.setSize(newRepeatIndex + 1);
 							list.set(newRepeatIndex, oldRow);
 							mRowRepository.put(newElement, list);
-							// update the cell in this row
-							Cell[] newCells = new Cell[colNum];
-							for (int j = 0; j < colNum; j++) {
-								newCells[j] = oldRow.getCellByIndex(j);
-							}
-							for (int j = 0; j < colNum; j++) {
-								this.updateCellRepository(oldCells[j].getOdfElement(), oldCells[j].mnRepeatedColIndex,
-										oldCells[j].mnRepeatedRowIndex, newCells[j].getOdfElement(),
-										newCells[j].mnRepeatedColIndex, newCells[j].mnRepeatedRowIndex);
-							}
-
-							// update the mnRepeatedRowIndex of the cell which
-							// locate after the removed row
-							for (int j = 0; j < updateCellList.size(); j++) {
-								Cell cell = updateCellList.get(j);
-								if (cell.mnRepeatedRowIndex > oldRepeatIndex) {
-									cell.mnRepeatedRowIndex--;
-								}
-							}
+							// update the cells of this row and the
+							// mnRepeatedRowIndex of the cells which locate after
+							// the removed row
+							updateRowCellRepository(oldElement, oldRepeatIndex, newElement, newRepeatIndex);
 						} else {
 							oldRow.maRowElement = null;
 						}
@@ -3180,18 +3656,88 @@ public class Table extends Component {
 		}
 	}
 
+	// move the cached cells of the repeated row oldRepeatIndex of oldElement to
+	// the cell elements of newElement which cover the same columns. Only the
+	// cells which have been instantiated are touched.
+	private void updateRowCellRepository(TableTableRowElement oldElement, int oldRepeatIndex,
+			TableTableRowElement newElement, int newRepeatIndex) {
+		List<TableTableCellElementBase> newCellElements = new ArrayList<TableTableCellElementBase>();
+		List<Integer> newColumnIndexes = new ArrayList<Integer>();
+		int columnIndex = 0;
+		for (Node n : new DomNodeList(newElement.getChildNodes())) {
+			if (n instanceof TableTableCellElementBase) {
+				newCellElements.add((TableTableCellElementBase) n);
+				newColumnIndexes.add(columnIndex);
+				columnIndex += ((TableTableCellElementBase) n).getTableNumberColumnsRepeatedAttributeIntValue();
+			}
+		}
+		columnIndex = 0;
+		for (Node n : new DomNodeList(oldElement.getChildNodes())) {
+			if (!(n instanceof TableTableCellElementBase)) {
+				continue;
+			}
+			TableTableCellElementBase cellElement = (TableTableCellElementBase) n;
+			WeakInstanceList<Cell> list = mCellRepository.get(cellElement);
+			if (list != null) {
+				for (int i = 0; i < list.size(); i++) {
+					Cell cell = list.get(i);
+					if (cell == null) {
+						list.remove(i--);
+					} else if (cell.mnRepeatedRowIndex > oldRepeatIndex) {
+						cell.mnRepeatedRowIndex--;
+					} else if (cell.mnRepeatedRowIndex == oldRepeatIndex) {
+						list.remove(i--);
+						int cellColumnIndex = columnIndex + cell.mnRepeatedColIndex;
+						int j = newColumnIndexes.size() - 1;
+						while (j >= 0 && newColumnIndexes.get(j) > cellColumnIndex) {
+							j--;
+						}
+						if (j < 0) {
+							cell.mCellElement = null;
+							continue;
+						}
+						cell.mCellElement = newCellElements.get(j);
+						cell.mnRepeatedColIndex = cellColumnIndex - newColumnIndexes.get(j);
+						cell.mnRepeatedRowIndex = newRepeatIndex;
+						WeakInstanceList<Cell> newList = mCellRepository.get(cell.mCellElement);
+						if (newList == null) {
+							newList = new WeakInstanceList<Cell>();
+							mCellRepository.put(cell.mCellElement, newList);
+						}
+						int k = 0;
+						for (; k < newList.size(); k++) {
+							Cell newCell = newList.get(k);
+							if (newCell != null && newCell.mnRepeatedColIndex == cell.mnRepeatedColIndex
+									&& newCell.mnRepeatedRowIndex == newRepeatIndex) {
+								newList.set(k, cell);
+								break;
+							}
+						}
+						if (k == newList.size()) {
+							newList.add(cell);
+						}
+					}
+				}
+				if (list.isEmpty()) {
+					mCellRepository.remove(cellElement);
+				}
+			}
+			columnIndex += cellElement.getTableNumberColumnsRepeatedAttributeIntValue();
+		}
+	}
+
 	// the odfelement of the FTableCell changed, so we should update the
 	// repository here
 	void updateCellRepository(TableTableCellElementBase oldElement, int oldRepeatColIndex, int oldRepeatRowIndex,
 			TableTableCellElementBase newElement, int newRepeatColIndex, int newRepeatRowIndex) {
 		if (mCellRepository.containsKey(oldElement)) {
 			Cell oldCell = null;
-			Vector<Cell> oldList = mCellRepository.get(oldElement);
+			WeakInstanceList<Cell> oldList = mCellRepository.get(oldElement);
 			for (int i = 0; i < oldList.size(); i++) {
-				if (oldList.get(i).getOdfElement() == oldElement
-						&& oldList.get(i).mnRepeatedColIndex == oldRepeatColIndex
-						&& oldList.get(i).mnRepeatedRowIndex == oldRepeatRowIndex) {
-					oldCell = oldList.get(i);
+				Cell cell = oldList.get(i);
+				if (cell != null && cell.getOdfElement() == oldElement && cell.mnRepeatedColIndex == oldRepeatColIndex
+						&& cell.mnRepeatedRowIndex == oldRepeatRowIndex) {
+					oldCell = cell;
 					break;
 				}
 			}
@@ -3217,7 +3763,7 @@ public class Table extends Component {
 						oldCell.mCellElement = newElement;
 						oldCell.mnRepeatedColIndex = newRepeatColIndex;
 						oldCell.mnRepeatedRowIndex = newRepeatRowIndex;
-						Vector<Cell> list;
+						WeakInstanceList<Cell> list;
 						if (mCellRepository.containsKey(newElement)) {
 							list = mCellRepository.get(newElement);
 							boolean bReplaced = false;
@@ -3237,7 +3783,7 @@ public class Table extends Component {
 								list.add(oldCell);
 							}
 						} else {
-							list = new Vector<Cell>();
+							list = new WeakInstanceList<Cell>();
 							list.add(oldCell);
 							mCellRepository.put(newElement, list);
 						}
@@ -3363,7 +3909,7 @@ public class Table extends Component {
 					}
 				}
 				if (tempColumnElement != null) {
-					columnsRepeatedNumber = tempColumnElement.getTableNumberColumnsRepeatedAttribute();
+					columnsRepeatedNumber = tempColumnElement.getTableNumberColumnsRepeatedAttributeIntValue();
 					columnsRepeatedIndex = 0;
 				}
 			}
@@ -3461,7 +4007,7 @@ public class Table extends Component {
 					}
 				}
 				if (tempRowElement != null) {
-					rowsRepeatedNumber = tempRowElement.getTableNumberRowsRepeatedAttribute();
+					rowsRepeatedNumber = tempRowElement.getTableNumberRowsRepeatedAttributeIntValue();
 					rowsRepeatedIndex = 0;
 				}
 			}
@@ -0,0 +1,106 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.table;
+
+import java.lang.ref.WeakReference;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+
+/**
+ * A list of <code>Cell</code>, <code>Row</code> or <code>Column</code>
+ * instances which only holds weak references to them.
+ * <p>
+ * The instance repositories of <code>Table</code> use it, so that the
+ * instances which are no longer referenced by the user can be garbage
+ * collected. A position whose instance has been collected reads as
+ * <code>null</code>. Unlike <code>java.util.Vector</code>, this list is not
+ * synchronized.
+ */
+class WeakInstanceList<T> extends AbstractList<T> implements RandomAccess {
+
+	private final ArrayList<WeakReference<T>> mReferences;
+
+	WeakInstanceList() {
+		mReferences = new ArrayList<WeakReference<T>>(1);
+	}
+
+	WeakInstanceList(int initialCapacity) {
+		mReferences = new ArrayList<WeakReference<T>>(initialCapacity);
+	}
+
+	@Override
+	public T get(int index) {
+		WeakReference<T> reference = mReferences.get(index);
+		return reference == null ? null : reference.get();
+	}
+
+	@Override
+	public T set(int index, T element) {
+		WeakReference<T> old = mReferences.set(index, newReference(element));
+		return old == null ? null : old.get();
+	}
+
+	@Override
+	public void add(int index, T element) {
+		mReferences.add(index, newReference(element));
+	}
+
+	@Override
+	public T remove(int index) {
+		WeakReference<T> old = mReferences.remove(index);
+		return old == null ? null : old.get();
+	}
+
+	@Override
+	public int size() {
+		return mReferences.size();
+	}
+
+	/**
+	 * Set the size of this list. New positions are filled with
+	 * <code>null</code>, positions beyond the new size are discarded.
+	 */
+	void setSize(int newSize) {
+		while (mReferences.size() > newSize) {
+			mReferences.remove(mReferences.size() - 1);
+		}
+		mReferences.ensureCapacity(newSize);
+		while (mReferences.size() < newSize) {
+			mReferences.add(null);
+		}
+	}
+
+	/**
+	 * Return true if none of the instances in this list is still reachable.
+	 */
+	boolean isStale() {
+		for (WeakReference<T> reference : mReferences) {
+			if (reference != null && reference.get() != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private WeakReference<T> newReference(T element) {
+		return element == null ? null : new WeakReference<T>(element);
+	}
+}
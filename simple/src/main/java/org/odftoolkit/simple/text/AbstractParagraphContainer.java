@@ -19,23 +19,38 @@ under the License.
 
 package org.odftoolkit.simple.text;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.odftoolkit.odfdom.dom.element.text.TextParagraphElementBase;
 import org.odftoolkit.odfdom.pkg.OdfElement;
+import org.odftoolkit.odfdom.pkg.OdfFileDom;
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 
 /**
  * AbstractParagraphContainer is an abstract class to present paragraph
  * container. It contains the default implementation to add/get/remove
  * paragraph. Each subclass needs to implement getParagraphContainerElement().
+ * <p>
+ * The paragraphs which are got by index are kept in an index of the container,
+ * so that the access to a paragraph by its index does not iterate over the
+ * siblings of the paragraphs. The index is kept as long as the tree of the
+ * document is not changed, and it is updated by <code>addParagraph</code> and
+ * <code>removeParagraph</code>. The paragraphs which are not empty are kept
+ * too, when they are first got with empty paragraphs skipped. A change of the
+ * text of a paragraph is a change of the document, which drops the index.
+ * The changes of a document which is not an <code>OdfFileDom</code> can't be
+ * counted, so its paragraphs are found again on every call.
  * 
  * @since 0.5
  */
 public abstract class AbstractParagraphContainer implements ParagraphContainer {
 
+	private ParagraphIndex mParagraphIndex;
+
 	abstract public OdfElement getParagraphContainerElement();
 
 	/**
@@ -46,8 +61,14 @@ public abstract class AbstractParagraphContainer implements ParagraphContainer {
 	 * @return an instance of paragraph
 	 */
 	public Paragraph addParagraph(String textContent) {
+		ParagraphIndex index = getValidParagraphIndex();
 		Paragraph para = Paragraph.newParagraph(this);
 		para.setTextContent(textContent);
+		if (index != null) {
+			// the new paragraph is appended to the container
+			index.add(para.getOdfElement());
+			index.mModificationCount = getModificationCount(index.mContainer);
+		}
 		return para;
 	}
 
@@ -60,12 +81,19 @@ public abstract class AbstractParagraphContainer implements ParagraphContainer {
 	 *         happen.
 	 */
 	public boolean removeParagraph(Paragraph para) {
+		ParagraphIndex index = getValidParagraphIndex();
+		OdfElement element = para.getOdfElement();
 		try {
 			para.remove();
 		} catch (Exception exception) {
 			Logger.getLogger(AbstractParagraphContainer.class.getName()).log(Level.WARNING, exception.getMessage());
+			mParagraphIndex = null;
 			return false;
 		}
+		if (index != null) {
+			index.remove(element);
+			index.mModificationCount = getModificationCount(index.mContainer);
+		}
 		return true;
 	}
 
@@ -92,21 +120,13 @@ public abstract class AbstractParagraphContainer implements ParagraphContainer {
 	 * @return the paragraph with a given index
 	 */
 	public Paragraph getParagraphByIndex(int index, boolean isEmptyParagraphSkipped) {
-		Iterator<Paragraph> iterator = getParagraphIterator();
-		while (iterator.hasNext() && (index >= 0)) {
-			Paragraph current = iterator.next();
-			if (isEmptyParagraphSkipped) {
-				String content = current.getTextContent();
-				if ((content == null) || (content.length() == 0)) {
-					continue;
-				}
-			}
-			if (index == 0) {
-				return current;
-			}
-			index--;
+		ParagraphIndex paragraphIndex = getParagraphIndex();
+		ArrayList<TextParagraphElementBase> paragraphs = isEmptyParagraphSkipped ? paragraphIndex
+				.getNonEmptyParagraphs() : paragraphIndex.mParagraphs;
+		if (index < 0 || index >= paragraphs.size()) {
+			return null;
 		}
-		return null;
+		return Paragraph.getInstanceof(paragraphs.get(index));
 	}
 
 	/**
@@ -123,29 +143,47 @@ public abstract class AbstractParagraphContainer implements ParagraphContainer {
 	 * @return the paragraph with a given index.
 	 */
 	public Paragraph getParagraphByReverseIndex(int reverseIndex, boolean isEmptyParagraphSkipped) {
-		OdfElement containerElement = getParagraphContainerElement();
-		Node node = containerElement.getLastChild();
-		while (node != null && (reverseIndex >= 0)) {
-			if (node.getNodeType() != Node.ELEMENT_NODE) {
-				node = node.getPreviousSibling();
-				continue;
+		ParagraphIndex paragraphIndex = getParagraphIndex();
+		ArrayList<TextParagraphElementBase> paragraphs = isEmptyParagraphSkipped ? paragraphIndex
+				.getNonEmptyNodes() : paragraphIndex.mParagraphs;
+		if (reverseIndex < 0 || reverseIndex >= paragraphs.size()) {
+			return null;
+		}
+		return Paragraph.getInstanceof(paragraphs.get(paragraphs.size() - 1 - reverseIndex));
+	}
+
+	// return the index of the paragraphs, which is built again if the tree of
+	// the document has been changed since it was built.
+	private ParagraphIndex getParagraphIndex() {
+		ParagraphIndex index = getValidParagraphIndex();
+		if (index == null) {
+			OdfElement containerElement = getParagraphContainerElement();
+			index = new ParagraphIndex(containerElement, getModificationCount(containerElement));
+			if (index.mModificationCount != null) {
+				mParagraphIndex = index;
 			}
-			if (node instanceof TextParagraphElementBase) {
-				if (isEmptyParagraphSkipped) {
-					if (node.hasChildNodes() == false || node.getTextContent() == null
-							|| node.getTextContent().length() == 0) {
-						node = node.getPreviousSibling();
-						continue;
-					}
-				}
-				if (reverseIndex == 0) {
-					return Paragraph.getInstanceof((TextParagraphElementBase) node);
-				}
-				reverseIndex--;
+		}
+		return index;
+	}
+
+	private ParagraphIndex getValidParagraphIndex() {
+		ParagraphIndex index = mParagraphIndex;
+		if (index != null) {
+			OdfElement containerElement = getParagraphContainerElement();
+			if (index.mContainer != containerElement
+					|| !index.mModificationCount.equals(getModificationCount(containerElement))) {
+				index = null;
+				mParagraphIndex = null;
 			}
-			node = node.getPreviousSibling();
 		}
-		return null;
+		return index;
+	}
+
+	// the changes of a DOM which is not an OdfFileDom can't be counted, so
+	// null is returned, and its index is not kept after it is built.
+	private static Integer getModificationCount(OdfElement containerElement) {
+		Document dom = containerElement.getOwnerDocument();
+		return dom instanceof OdfFileDom ? Integer.valueOf(((OdfFileDom) dom).getModificationCount()) : null;
 	}
 
 	private class SimpleParagraphIterator implements Iterator<Paragraph> {
@@ -198,4 +236,95 @@ public abstract class AbstractParagraphContainer implements ParagraphContainer {
 			return null;
 		}
 	}
+
+	private static boolean isEmptyParagraph(TextParagraphElementBase element) {
+		String content = Paragraph.getTextContent(element);
+		return (content == null) || (content.length() == 0);
+	}
+
+	private static boolean isEmptyNode(TextParagraphElementBase element) {
+		return element.hasChildNodes() == false || element.getTextContent() == null
+				|| element.getTextContent().length() == 0;
+	}
+
+	/**
+	 * The paragraph elements of a container in document order, and the ones
+	 * which are not empty, as <code>getParagraphByIndex</code> and
+	 * <code>getParagraphByReverseIndex</code> tell them.
+	 */
+	private static class ParagraphIndex {
+		final OdfElement mContainer;
+		final ArrayList<TextParagraphElementBase> mParagraphs = new ArrayList<TextParagraphElementBase>();
+		// built when they are first used
+		private ArrayList<TextParagraphElementBase> mNonEmptyParagraphs;
+		private ArrayList<TextParagraphElementBase> mNonEmptyNodes;
+		Integer mModificationCount;
+
+		ParagraphIndex(OdfElement container, Integer modificationCount) {
+			mContainer = container;
+			mModificationCount = modificationCount;
+			Node node = container.getFirstChild();
+			while (node != null) {
+				if (node instanceof TextParagraphElementBase) {
+					mParagraphs.add((TextParagraphElementBase) node);
+				}
+				node = node.getNextSibling();
+			}
+		}
+
+		ArrayList<TextParagraphElementBase> getNonEmptyParagraphs() {
+			if (mNonEmptyParagraphs == null) {
+				mNonEmptyParagraphs = new ArrayList<TextParagraphElementBase>();
+				for (TextParagraphElementBase element : mParagraphs) {
+					if (!isEmptyParagraph(element)) {
+						mNonEmptyParagraphs.add(element);
+					}
+				}
+			}
+			return mNonEmptyParagraphs;
+		}
+
+		ArrayList<TextParagraphElementBase> getNonEmptyNodes() {
+			if (mNonEmptyNodes == null) {
+				mNonEmptyNodes = new ArrayList<TextParagraphElementBase>();
+				for (TextParagraphElementBase element : mParagraphs) {
+					if (!isEmptyNode(element)) {
+						mNonEmptyNodes.add(element);
+					}
+				}
+			}
+			return mNonEmptyNodes;
+		}
+
+		void add(TextParagraphElementBase element) {
+			mParagraphs.add(element);
+			if (mNonEmptyParagraphs != null && !isEmptyParagraph(element)) {
+				mNonEmptyParagraphs.add(element);
+			}
+			if (mNonEmptyNodes != null && !isEmptyNode(element)) {
+				mNonEmptyNodes.add(element);
+			}
+		}
+
+		void remove(OdfElement element) {
+			remove(mParagraphs, element);
+			if (mNonEmptyParagraphs != null) {
+				remove(mNonEmptyParagraphs, element);
+			}
+			if (mNonEmptyNodes != null) {
+				remove(mNonEmptyNodes, element);
+			}
+		}
+
+		// OdfElement.equals compares the content of the elements, so the
+		// element is found by identity.
+		private static void remove(ArrayList<TextParagraphElementBase> paragraphs, OdfElement element) {
+			for (int i = paragraphs.size() - 1; i >= 0; i--) {
+				if (paragraphs.get(i) == element) {
+					paragraphs.remove(i);
+					return;
+				}
+			}
+		}
+	}
 }
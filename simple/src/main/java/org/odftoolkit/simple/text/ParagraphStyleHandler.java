@@ -248,6 +248,7 @@ public class ParagraphStyleHandler extends DefaultStyleHandler {
 	 */
 	public void setCountry(String country, ScriptType type) {
 		getTextPropertiesForWrite().setCountry(country, type);
+		internStyleElement();
 	}
 
 	/**
@@ -261,6 +262,7 @@ public class ParagraphStyleHandler extends DefaultStyleHandler {
 	 */
 	public void setFont(Font font) {
 		getTextPropertiesForWrite().setFont(font);
+		internStyleElement();
 	}
 
 	/**
@@ -274,6 +276,7 @@ public class ParagraphStyleHandler extends DefaultStyleHandler {
 	 */
 	public void setFont(Font font, Locale language) {
 		getTextPropertiesForWrite().setFont(font, language);
+		internStyleElement();
 	}
 
 	/**
@@ -289,6 +292,7 @@ public class ParagraphStyleHandler extends DefaultStyleHandler {
 	 */
 	public void setLanguage(String language, ScriptType type) {
 		getTextPropertiesForWrite().setLanguage(language, type);
+		internStyleElement();
 	}
 
 	/**
@@ -302,6 +306,7 @@ public class ParagraphStyleHandler extends DefaultStyleHandler {
 	 */
 	public void setHorizontalAlignment(HorizontalAlignmentType alignType) {
 		getParagraphPropertiesForWrite().setHorizontalAlignment(alignType);
+		internStyleElement();
 	}
 
 	/**
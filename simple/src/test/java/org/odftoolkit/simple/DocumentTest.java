@@ -34,10 +34,13 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.MatchResult;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
@@ -62,6 +65,8 @@ import org.odftoolkit.odfdom.pkg.OdfFileDom;
 import org.odftoolkit.odfdom.pkg.OdfName;
 import org.odftoolkit.odfdom.pkg.OdfPackage;
 import org.odftoolkit.odfdom.pkg.OdfValidationException;
+import org.odftoolkit.simple.common.navigation.TextNavigation;
+import org.odftoolkit.simple.common.navigation.TextSearch;
 import org.odftoolkit.simple.table.Cell;
 import org.odftoolkit.simple.table.Table;
 import org.odftoolkit.simple.utils.NodeAction;
@@ -611,4 +616,52 @@ public class DocumentTest {
             LOG.log(Level.SEVERE, e.getMessage(), e);
         }
     }
+
+	@Test
+	public void testReplaceAll() {
+		try {
+			Document doc = Document.loadDocument(ResourceUtilities.getAbsolutePath("TestTextSelection.odt"));
+			int deleteCount = countMatches(doc, "delete");
+			int simpleCount = countMatches(doc, "SIMPLE");
+			Assert.assertTrue(deleteCount > 0 && simpleCount > 0);
+
+			Map<String, String> replacements = new HashMap<String, String>();
+			replacements.put("delete", "remove");
+			replacements.put("SIMPLE", "ODF Toolkit");
+			Assert.assertEquals(deleteCount + simpleCount, doc.replaceAll(replacements));
+			Assert.assertEquals(0, countMatches(doc, "delete"));
+			Assert.assertEquals(0, countMatches(doc, "SIMPLE"));
+			Assert.assertEquals(simpleCount, countMatches(doc, "ODF Toolkit"));
+			// "d" of "delete" has its own span, which now contains "remove"
+			Assert.assertEquals(1, countMatches(doc, "Task2\\.remove next paragraph"));
+
+			int taskCount = countMatches(doc, "Task\\d\\.") - countMatches(doc, "Task3\\.");
+			int replaced = doc.replaceAll("Task(\\d)\\.", new TextSearch.Replacer() {
+				public String getReplacement(String pattern, MatchResult match) {
+					return match.group(1).equals("3") ? null : "Step  " + match.group(1) + "\t";
+				}
+			});
+			Assert.assertEquals(taskCount, replaced);
+			Assert.assertEquals(1, countMatches(doc, "Step  2\tremove next paragraph"));
+			Assert.assertEquals(1, countMatches(doc, "Task3\\."));
+
+			File output = ResourceUtilities.newTestOutputFile("ReplaceAllOutput.odt");
+			doc.save(output);
+			doc = Document.loadDocument(output);
+			Assert.assertEquals(1, countMatches(doc, "Step  2\tremove next paragraph"));
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	private int countMatches(Document doc, String pattern) {
+		int count = 0;
+		TextNavigation navigation = new TextNavigation(pattern, doc);
+		while (navigation.hasNext()) {
+			navigation.nextSelection();
+			count++;
+		}
+		return count;
+	}
 }
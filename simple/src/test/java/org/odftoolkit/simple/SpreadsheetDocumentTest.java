@@ -20,6 +20,8 @@ under the License.
 package org.odftoolkit.simple;
 
 import java.awt.Rectangle;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -27,6 +29,7 @@ import java.util.logging.Logger;
 import junit.framework.Assert;
 
 import org.junit.Test;
+import org.odftoolkit.odfdom.dom.OdfDocumentNamespace;
 import org.odftoolkit.simple.Document.OdfMediaType;
 import org.odftoolkit.simple.chart.Chart;
 import org.odftoolkit.simple.chart.ChartType;
@@ -281,4 +284,26 @@ public class SpreadsheetDocumentTest {
 		
 	}
 	
+	@Test
+	public void testCompactOnSave() throws Exception {
+		SpreadsheetDocument spDocument = SpreadsheetDocument.newSpreadsheetDocument();
+		Table table = spDocument.getSheetByIndex(0);
+		for (int i = 0; i < 20; i++) {
+			table.getCellByPosition(0, i).setStringValue("same");
+		}
+		Assert.assertFalse(spDocument.isCompactOnSave());
+		spDocument.setCompactOnSave(true);
+		Assert.assertTrue(spDocument.isCompactOnSave());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		spDocument.save(out);
+		// the first row of the template has its own row style.
+		Assert.assertEquals(2, table.getOdfElement().getElementsByTagNameNS(
+				OdfDocumentNamespace.TABLE.getUri(), "table-row").getLength());
+
+		SpreadsheetDocument savedDocument = SpreadsheetDocument.loadDocument(new ByteArrayInputStream(out.toByteArray()));
+		Table savedTable = savedDocument.getSheetByIndex(0);
+		Assert.assertEquals(20, savedTable.getRowCount());
+		Assert.assertEquals("same", savedTable.getCellByPosition(0, 19).getStringValue());
+	}
+
 }
@@ -0,0 +1,224 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.odftoolkit.odfdom.dom.element.style.StyleTextPropertiesElement;
+import org.odftoolkit.odfdom.dom.element.table.TableTableCellElement;
+import org.odftoolkit.odfdom.dom.element.table.TableTableElement;
+import org.odftoolkit.odfdom.dom.element.table.TableTableRowElement;
+import org.odftoolkit.odfdom.dom.element.text.TextPElement;
+import org.odftoolkit.odfdom.incubator.doc.office.OdfOfficeAutomaticStyles;
+import org.odftoolkit.odfdom.incubator.doc.style.OdfStyle;
+import org.odftoolkit.odfdom.pkg.OdfElement;
+import org.odftoolkit.simple.Document;
+import org.odftoolkit.simple.SpreadsheetDocument;
+import org.odftoolkit.simple.TextDocument;
+import org.odftoolkit.simple.common.DocumentDiff.Change;
+import org.odftoolkit.simple.common.DocumentDiff.ChangeType;
+import org.odftoolkit.simple.style.Font;
+import org.odftoolkit.simple.style.StyleTypeDefinitions.FontStyle;
+import org.odftoolkit.simple.table.Table;
+import org.odftoolkit.simple.text.Paragraph;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+public class DocumentDiffTest {
+
+	private static final Logger LOG = Logger.getLogger(DocumentDiffTest.class.getName());
+
+	@Test
+	public void testCompareText() {
+		try {
+			TextDocument doc = TextDocument.newTextDocument();
+			for (int i = 0; i < 10; i++) {
+				doc.addParagraph("Clause " + i);
+			}
+			byte[] content = save(doc);
+			TextDocument oldDoc = TextDocument.loadDocument(new ByteArrayInputStream(content));
+			TextDocument newDoc = TextDocument.loadDocument(new ByteArrayInputStream(content));
+			Assert.assertFalse(DocumentDiff.compare(oldDoc, newDoc).hasChanges());
+
+			TextPElement clause1 = findParagraph(newDoc, "Clause 1");
+			clause1.getParentNode().removeChild(clause1);
+			findParagraph(newDoc, "Clause 3").setTextContent("Clause 3 amended");
+			Paragraph.getInstanceof(findParagraph(newDoc, "Clause 5")).setFont(
+					new Font("Arial", FontStyle.BOLD, 12));
+			TextPElement clause7 = findParagraph(newDoc, "Clause 7");
+			TextPElement inserted = (TextPElement) clause7.cloneNode(true);
+			inserted.setTextContent("Clause 7a");
+			clause7.getParentNode().insertBefore(inserted, clause7.getNextSibling());
+			TextPElement clause9 = findParagraph(newDoc, "Clause 9");
+			clause9.getParentNode().insertBefore(clause9, findParagraph(newDoc, "Clause 0"));
+
+			List<Change> changes = DocumentDiff.compare(oldDoc, newDoc).getChanges();
+			LOG.info(changes.toString());
+			Assert.assertEquals(5, changes.size());
+			assertChange(changes.get(0), ChangeType.MOVED, "Clause 9", "Clause 9");
+			assertChange(changes.get(1), ChangeType.DELETED, "Clause 1", null);
+			assertChange(changes.get(2), ChangeType.MODIFIED, "Clause 3", "Clause 3 amended");
+			assertChange(changes.get(3), ChangeType.STYLE_CHANGED, "Clause 5", "Clause 5");
+			assertChange(changes.get(4), ChangeType.INSERTED, null, "Clause 7a");
+			Assert.assertEquals(changes.get(0).getOldIndex() - 9, changes.get(0).getNewIndex());
+			Assert.assertEquals(-1, changes.get(1).getNewIndex());
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	@Test
+	public void testCompareSpreadsheet() {
+		try {
+			SpreadsheetDocument doc = SpreadsheetDocument.newSpreadsheetDocument();
+			Table sheet = doc.getSheetByIndex(0);
+			for (int row = 0; row < 5; row++) {
+				for (int column = 0; column < 5; column++) {
+					sheet.getCellByPosition(column, row).setDoubleValue(Double.valueOf(row * 10 + column));
+				}
+			}
+			byte[] content = save(doc);
+			SpreadsheetDocument oldDoc = SpreadsheetDocument.loadDocument(new ByteArrayInputStream(content));
+			SpreadsheetDocument newDoc = SpreadsheetDocument.loadDocument(new ByteArrayInputStream(content));
+			Assert.assertFalse(DocumentDiff.compare(oldDoc, newDoc).hasChanges());
+
+			newDoc.getSheetByIndex(0).getCellByPosition(3, 2).setDoubleValue(Double.valueOf(99));
+			newDoc.appendSheet("Added");
+
+			List<Change> changes = DocumentDiff.compare(oldDoc, newDoc).getChanges();
+			LOG.info(changes.toString());
+			Change cellChange = null;
+			Change sheetChange = null;
+			for (Change change : changes) {
+				if (change.getNewElement() instanceof TableTableCellElement) {
+					Assert.assertNull(cellChange);
+					cellChange = change;
+				} else if (change.getType() == ChangeType.INSERTED) {
+					sheetChange = change;
+				}
+			}
+			Assert.assertNotNull(cellChange);
+			Assert.assertEquals(ChangeType.MODIFIED, cellChange.getType());
+			Assert.assertEquals(3, cellChange.getOldIndex());
+			Assert.assertEquals(3, cellChange.getNewIndex());
+			Change rowChange = cellChange.getParent();
+			Assert.assertTrue(rowChange.getNewElement() instanceof TableTableRowElement);
+			Assert.assertEquals(ChangeType.MODIFIED, rowChange.getType());
+			Assert.assertEquals(2, rowChange.getNewIndex());
+			Change tableChange = rowChange.getParent();
+			Assert.assertTrue(tableChange.getNewElement() instanceof TableTableElement);
+			Assert.assertEquals(ChangeType.MODIFIED, tableChange.getType());
+			Assert.assertNull(tableChange.getParent());
+			Assert.assertNotNull(sheetChange);
+			Assert.assertEquals("Added", ((TableTableElement) sheetChange.getNewElement()).getTableNameAttribute());
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	@Test
+	public void testCompareAutomaticStyles() {
+		try {
+			TextDocument doc = TextDocument.newTextDocument();
+			for (int i = 0; i < 5; i++) {
+				Paragraph paragraph = doc.addParagraph("Clause " + i);
+				paragraph.setFont(new Font("Arial", FontStyle.BOLD, 10 + i));
+			}
+			byte[] content = save(doc);
+			TextDocument oldDoc = TextDocument.loadDocument(new ByteArrayInputStream(content));
+			TextDocument newDoc = TextDocument.loadDocument(new ByteArrayInputStream(content));
+
+			// the automatic styles of a copy are named differently
+			OdfOfficeAutomaticStyles styles = newDoc.getContentDom().getAutomaticStyles();
+			List<OdfStyle> automaticStyles = new ArrayList<OdfStyle>();
+			for (OdfStyle style : styles.getAllStyles()) {
+				automaticStyles.add(style);
+			}
+			for (OdfStyle style : automaticStyles) {
+				String name = style.getStyleNameAttribute();
+				NodeList paragraphs = newDoc.getContentRoot().getElementsByTagNameNS(
+						TextPElement.ELEMENT_NAME.getUri(), TextPElement.ELEMENT_NAME.getLocalName());
+				for (int i = 0; i < paragraphs.getLength(); i++) {
+					TextPElement paragraph = (TextPElement) paragraphs.item(i);
+					if (name.equals(paragraph.getTextStyleNameAttribute())) {
+						paragraph.setTextStyleNameAttribute("Renamed" + name);
+					}
+				}
+				style.setStyleNameAttribute("Renamed" + name);
+			}
+			Assert.assertFalse(DocumentDiff.compare(oldDoc, newDoc).hasChanges());
+
+			// the same style name with other properties
+			String clause2Style = findParagraph(newDoc, "Clause 2").getTextStyleNameAttribute();
+			for (OdfStyle style : automaticStyles) {
+				if (clause2Style.equals(style.getStyleNameAttribute())) {
+					style.setProperty(StyleTextPropertiesElement.FontStyle, "italic");
+				}
+			}
+			List<Change> changes = DocumentDiff.compare(oldDoc, newDoc).getChanges();
+			Assert.assertEquals(1, changes.size());
+			assertChange(changes.get(0), ChangeType.STYLE_CHANGED, "Clause 2", "Clause 2");
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	private static byte[] save(Document doc) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		doc.save(out);
+		return out.toByteArray();
+	}
+
+	private static TextPElement findParagraph(TextDocument doc, String text) throws Exception {
+		NodeList paragraphs = doc.getContentRoot().getElementsByTagNameNS(TextPElement.ELEMENT_NAME.getUri(),
+				TextPElement.ELEMENT_NAME.getLocalName());
+		for (int i = 0; i < paragraphs.getLength(); i++) {
+			Node paragraph = paragraphs.item(i);
+			if (text.equals(paragraph.getTextContent())) {
+				return (TextPElement) paragraph;
+			}
+		}
+		return null;
+	}
+
+	private static void assertChange(Change change, ChangeType type, String oldText, String newText) {
+		Assert.assertEquals(type, change.getType());
+		assertText(oldText, change.getOldElement());
+		assertText(newText, change.getNewElement());
+	}
+
+	private static void assertText(String text, OdfElement element) {
+		if (text == null) {
+			Assert.assertNull(element);
+		} else {
+			Assert.assertEquals(text, element.getTextContent());
+		}
+	}
+}
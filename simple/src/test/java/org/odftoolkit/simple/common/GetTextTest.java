@@ -19,17 +19,28 @@ under the License.
 
 package org.odftoolkit.simple.common;
 
+import java.io.StringWriter;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.odftoolkit.odfdom.dom.element.text.TextSElement;
 import org.odftoolkit.odfdom.incubator.doc.text.OdfTextParagraph;
 import org.odftoolkit.odfdom.pkg.OdfAlienElement;
+import org.odftoolkit.odfdom.pkg.OdfElement;
+import org.odftoolkit.odfdom.pkg.OdfFileDom;
 import org.odftoolkit.odfdom.pkg.OdfName;
+import org.odftoolkit.odfdom.pkg.OdfPackage;
 import org.odftoolkit.simple.Document;
 import org.odftoolkit.simple.TextDocument;
 import org.odftoolkit.simple.utils.ResourceUtilities;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
 
 public class GetTextTest {
 
@@ -95,6 +106,49 @@ public class GetTextTest {
 		}
 	}
         
+	@Test
+	public void testWriteText() {
+		try {
+			Document doc = Document.loadDocument(ResourceUtilities.getTestResourceAsStream("text-extract.odt"));
+			final String expected = TextExtractor.newOdfTextExtractor(doc.getContentRoot()).getText();
+			Assert.assertEquals(expected, TextExtractor.getText(doc.getContentRoot()));
+			Assert.assertEquals(expected, TextExtractor.getText(doc.getContentRoot()));
+			StringWriter writer = new StringWriter();
+			TextExtractor.writeText(doc.getContentRoot(), writer);
+			Assert.assertEquals(expected, writer.toString());
+
+			// the text of different documents is extracted in parallel.
+			final List<String> texts = Collections.synchronizedList(new ArrayList<String>());
+			Thread[] threads = new Thread[4];
+			for (int i = 0; i < threads.length; i++) {
+				threads[i] = new Thread() {
+					public void run() {
+						try {
+							Document threadDoc = Document.loadDocument(ResourceUtilities
+									.getTestResourceAsStream("text-extract.odt"));
+							for (int j = 0; j < 10; j++) {
+								texts.add(TextExtractor.getText(threadDoc.getContentRoot()));
+							}
+						} catch (Exception e) {
+							LOG.log(Level.SEVERE, e.getMessage(), e);
+						}
+					}
+				};
+				threads[i].start();
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+			Assert.assertEquals(40, texts.size());
+			for (String text : texts) {
+				Assert.assertEquals(expected, text);
+			}
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
         @Test
         public void testExtractFromDocumentWithAlienElement() throws Exception {
             TextDocument document = TextDocument.newTextDocument();
@@ -104,4 +158,110 @@ public class GetTextTest {
             String text = extractor.getText();
             Assert.assertEquals("\nSome text", text);
         }
+
+	@Test
+	public void testTextIndex() {
+		try {
+			TextDocument doc = TextDocument.newTextDocument();
+			OdfElement paragraph = doc.addParagraph("Hello world").getOdfElement();
+			OdfElement root = doc.getContentRoot();
+			TextIndex.enable(doc);
+			TextIndex index = TextIndex.getInstance(paragraph);
+			Assert.assertNotNull(index);
+			Assert.assertEquals("Hello world", TextExtractor.getText(paragraph));
+			// the text is cached
+			Assert.assertSame(TextExtractor.getText(paragraph), TextExtractor.getText(paragraph));
+			Assert.assertTrue(TextExtractor.getText(root).endsWith("Hello world"));
+
+			// the cached text of the node and its ancestors is dropped
+			((Text) paragraph.getFirstChild()).setData("Hello there");
+			Assert.assertEquals("Hello there", TextExtractor.getText(paragraph));
+			Assert.assertTrue(TextExtractor.getText(root).endsWith("Hello there"));
+			TextSElement space = new TextSElement((OdfFileDom) paragraph.getOwnerDocument());
+			paragraph.appendChild(space);
+			Text end = paragraph.getOwnerDocument().createTextNode("end");
+			paragraph.appendChild(end);
+			Assert.assertEquals("Hello there end", TextExtractor.getText(paragraph));
+			space.setTextCAttribute(3);
+			Assert.assertEquals("Hello there   end", TextExtractor.getText(paragraph));
+			Assert.assertTrue(TextExtractor.getText(root).endsWith("Hello there   end"));
+
+			TextIndex.Position position = index.getPosition(paragraph, 12);
+			Assert.assertSame(space, position.getNode());
+			Assert.assertEquals(1, position.getOffset());
+			position = index.getPosition(paragraph, 15);
+			Assert.assertSame(end, position.getNode());
+			Assert.assertEquals(1, position.getOffset());
+			Assert.assertNull(index.getPosition(paragraph, 17));
+
+			paragraph.removeChild(space);
+			Assert.assertEquals("Hello thereend", TextExtractor.getText(paragraph));
+			Assert.assertTrue(TextExtractor.getText(root).endsWith("Hello thereend"));
+
+			TextIndex.disable(doc);
+			Assert.assertNull(TextIndex.getInstance(paragraph));
+
+			// the index is kept by the DOM, which is released with it
+			WeakReference<OdfFileDom> dom = newIndexedDom();
+			for (int i = 0; i < 20 && dom.get() != null; i++) {
+				System.gc();
+				Thread.sleep(10);
+			}
+			Assert.assertNull(dom.get());
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	private static WeakReference<OdfFileDom> newIndexedDom() throws Exception {
+		TextDocument doc = TextDocument.newTextDocument();
+		doc.addParagraph("Hello world");
+		TextIndex.enable(doc);
+		Assert.assertTrue(TextExtractor.getText(doc.getContentRoot()).endsWith("Hello world"));
+		return new WeakReference<OdfFileDom>(doc.getContentDom());
+	}
+
+	@Test
+	public void testStreamExtractor() {
+		try {
+			String[] names = { "text-extract.odt", "TestTextSelection.odt", "Bell.odt", "TestSpreadsheetTable.ods",
+					"Presentation1.odp" };
+			for (String name : names) {
+				Document doc = Document.loadDocument(ResourceUtilities.getTestResourceAsStream(name));
+				OdfPackage pkg = OdfPackage.loadPackage(ResourceUtilities.getTestResourceAsStream(name));
+				Assert.assertEquals(name, TextExtractor.getText(doc.getContentRoot()),
+						OdfTextStreamExtractor.getText(pkg));
+
+				// the headers and footers follow the content
+				StringBuilder expected = new StringBuilder(TextExtractor.getText(doc.getContentRoot()));
+				appendHeaderFooterText(doc.getStylesDom().getRootElement(), expected);
+				StringWriter writer = new StringWriter();
+				OdfTextStreamExtractor extractor = new OdfTextStreamExtractor(writer);
+				extractor.setHeaderFooterIncluded(true);
+				extractor.extract(pkg);
+				Assert.assertEquals(name, expected.toString(), writer.toString());
+			}
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	private void appendHeaderFooterText(OdfElement element, StringBuilder builder) {
+		for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+			if (node instanceof OdfElement) {
+				String name = node.getNodeName();
+				if (name.startsWith("style:header") && !name.endsWith("-style") || name.startsWith("style:footer")
+						&& !name.endsWith("-style")) {
+					String text = TextExtractor.getText((OdfElement) node);
+					if (text.length() > 0) {
+						builder.append(builder.length() > 0 ? "\n" : "").append(text);
+					}
+				} else {
+					appendHeaderFooterText((OdfElement) node, builder);
+				}
+			}
+		}
+	}
 }
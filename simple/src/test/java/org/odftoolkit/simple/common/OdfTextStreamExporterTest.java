@@ -0,0 +1,159 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.net.URI;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.xml.parsers.SAXParserFactory;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.odftoolkit.odfdom.pkg.OdfPackage;
+import org.odftoolkit.simple.TextDocument;
+import org.odftoolkit.simple.common.OdfTextStreamExporter.Format;
+import org.odftoolkit.simple.style.Font;
+import org.odftoolkit.simple.style.StyleTypeDefinitions.FontStyle;
+import org.odftoolkit.simple.table.Table;
+import org.odftoolkit.simple.text.Paragraph;
+import org.odftoolkit.simple.text.list.List;
+import org.odftoolkit.simple.text.list.NumberDecorator;
+import org.odftoolkit.simple.utils.ResourceUtilities;
+import org.xml.sax.InputSource;
+
+public class OdfTextStreamExporterTest {
+
+	private static final Logger LOG = Logger.getLogger(OdfTextStreamExporterTest.class.getName());
+
+	@Test
+	public void testExport() {
+		try {
+			TextDocument doc = TextDocument.newTextDocument();
+			Paragraph heading = doc.addParagraph("Report <1>");
+			heading.applyHeading(true, 2);
+			Paragraph bold = doc.addParagraph("Bold * text");
+			bold.setFont(new Font("Arial", FontStyle.BOLD, 12));
+			Paragraph link = doc.addParagraph("Toolkit");
+			link.applyHyperlink(new URI("http://odftoolkit.org/a(b)"));
+			List numbers = doc.addList(new NumberDecorator(doc));
+			numbers.addItem("one");
+			numbers.addItem("two");
+			List bullets = doc.addList();
+			bullets.addItem("point");
+			Table table = Table.newTable(doc, 2, 2);
+			table.getCellByPosition(0, 0).setStringValue("a");
+			table.getCellByPosition(1, 0).setStringValue("b|c");
+			table.getCellByPosition(0, 1).setStringValue("d");
+			table.getCellByPosition(1, 1).setImage(ResourceUtilities.getURI("testA.jpg"));
+			doc.addParagraph("End");
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			doc.save(out);
+			OdfPackage pkg = OdfPackage.loadPackage(new ByteArrayInputStream(out.toByteArray()));
+
+			String html = OdfTextStreamExporter.export(pkg, Format.HTML);
+			LOG.info(html);
+			Assert.assertTrue(html.contains("<h2>Report &lt;1&gt;</h2>\n"));
+			Assert.assertTrue(html.contains("<p><strong>Bold * text</strong></p>\n"));
+			Assert.assertTrue(html.contains("<a href=\"http://odftoolkit.org/a(b)\">Toolkit</a>"));
+			Assert.assertTrue(html.contains("<ol>\n<li><p>one</p></li>\n<li><p>two</p></li>\n</ol>\n"));
+			Assert.assertTrue(html.contains("<ul>\n<li><p>point</p></li>\n</ul>\n"));
+			Assert.assertTrue(html.contains("<tr><td><p>a</p></td><td><p>b|c</p></td></tr>\n"));
+			Assert.assertTrue(html.matches("(?s).*<td><p>d</p></td><td>.*<img src=\"Pictures/[^\"]+\" alt=\"[^\"]*\"/>.*"));
+			Assert.assertTrue(html.endsWith("<p>End</p>\n"));
+
+			String markdown = OdfTextStreamExporter.export(pkg, Format.MARKDOWN);
+			LOG.info(markdown);
+			Assert.assertTrue(markdown.contains("## Report \\<1\\>\n\n**Bold \\* text**\n\n"));
+			Assert.assertTrue(markdown.contains("[Toolkit](http://odftoolkit.org/a%28b%29)"));
+			Assert.assertTrue(markdown.contains("\n\n1. one\n2. two\n\n- point\n\n"));
+			Assert.assertTrue(markdown.contains("| a | b\\|c |\n| --- | --- |\n| d | ![") );
+			Assert.assertTrue(markdown.endsWith("\n\nEnd"));
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	@Test
+	public void testExportFlatXml() {
+		try {
+			String xml = "<office:document xmlns:office=\"urn:oasis:names:tc:opendocument:xmlns:office:1.0\""
+					+ " xmlns:text=\"urn:oasis:names:tc:opendocument:xmlns:text:1.0\""
+					+ " xmlns:table=\"urn:oasis:names:tc:opendocument:xmlns:table:1.0\""
+					+ " xmlns:draw=\"urn:oasis:names:tc:opendocument:xmlns:drawing:1.0\""
+					+ " xmlns:xlink=\"http://www.w3.org/1999/xlink\"><office:body><office:text>"
+					+ "<text:p><text:a xlink:href=\"javascript:alert(1)\">script</text:a>"
+					+ " <text:a xlink:href=\" JavaScript :alert(1)\">spaced</text:a>"
+					+ " <text:a xlink:href=\"MAILTO:a@b.org\">mail</text:a>"
+					+ " <text:a xlink:href=\"#Table1\">anchor</text:a></text:p>"
+					+ "<text:p><draw:frame draw:name=\"bad\"><draw:image xlink:href=\"data:text/html,x\"/>"
+					+ "<draw:image xlink:href=\"Pictures/a.png\"/></draw:frame></text:p>"
+					+ "<table:table><table:table-row>"
+					+ "<table:table-cell table:number-columns-repeated=\"2\"><text:p>x</text:p></table:table-cell>"
+					+ "<table:table-cell table:number-columns-repeated=\"2\"/><table:table-cell><text:p>y</text:p>"
+					+ "</table:table-cell><table:table-cell table:number-columns-repeated=\"16000\"/></table:table-row>"
+					+ "<table:table-row table:number-rows-repeated=\"2\"><table:table-cell><text:p>z</text:p>"
+					+ "</table:table-cell></table:table-row><table:table-row table:number-rows-repeated=\"1048000\">"
+					+ "<table:table-cell table:number-columns-repeated=\"16000\"/></table:table-row></table:table>"
+					+ "</office:text></office:body></office:document>";
+			StringBuilder html = new StringBuilder();
+			SAXParserFactory factory = SAXParserFactory.newInstance();
+			factory.setNamespaceAware(true);
+			factory.newSAXParser().parse(new InputSource(new StringReader(xml)),
+					new OdfTextStreamExporter(html, Format.HTML));
+			LOG.info(html.toString());
+			Assert.assertTrue(html.toString().startsWith(
+					"<p>script spaced <a href=\"MAILTO:a@b.org\">mail</a> <a href=\"#Table1\">anchor</a></p>\n"
+							+ "<p><img src=\"Pictures/a.png\" alt=\"bad\"/></p>\n"));
+			Assert.assertTrue(html.toString().endsWith("<table>\n"
+					+ "<tr><td><p>x</p></td><td><p>x</p></td><td></td><td></td><td><p>y</p></td></tr>\n"
+					+ "<tr><td><p>z</p></td></tr>\n<tr><td><p>z</p></td></tr>\n</table>\n"));
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	@Test
+	public void testExportDocuments() {
+		try {
+			String[] names = { "text-extract.odt", "TestTextTable.odt", "testList.odt", "Bell.odt" };
+			for (String name : names) {
+				OdfPackage pkg = OdfPackage.loadPackage(ResourceUtilities.getTestResourceAsStream(name));
+				TextDocument doc = TextDocument.loadDocument(ResourceUtilities.getTestResourceAsStream(name));
+				String word = TextExtractor.getText(doc.getParagraphByIndex(0, true).getOdfElement()).trim()
+						.split(" ")[0];
+				String html = OdfTextStreamExporter.export(pkg, Format.HTML);
+				Assert.assertTrue(name, html.contains(word));
+				Assert.assertTrue(name, html.endsWith("\n"));
+				String markdown = OdfTextStreamExporter.export(pkg, Format.MARKDOWN);
+				Assert.assertTrue(name, markdown.contains(word));
+			}
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+}
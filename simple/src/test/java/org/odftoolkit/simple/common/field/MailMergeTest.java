@@ -0,0 +1,165 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.common.field;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+import org.odftoolkit.odfdom.dom.element.text.TextPElement;
+import org.odftoolkit.odfdom.dom.element.text.TextPlaceholderElement;
+import org.odftoolkit.odfdom.dom.element.text.TextUserFieldDeclElement;
+import org.odftoolkit.simple.TextDocument;
+import org.odftoolkit.simple.common.TextExtractor;
+import org.odftoolkit.simple.text.Paragraph;
+import org.w3c.dom.Node;
+
+public class MailMergeTest {
+	private static final Logger LOG = Logger.getLogger(MailMergeTest.class.getName());
+
+	@Test
+	public void testMerge() {
+		try {
+			TextDocument template = createTemplate();
+			MailMerge mailMerge = new MailMerge(template, "<<(\\w+)>>");
+			Assert.assertTrue(mailMerge.getFieldNames().contains("NAME"));
+			Assert.assertTrue(mailMerge.getFieldNames().contains("AMOUNT"));
+			Assert.assertTrue(mailMerge.getFieldNames().contains("city"));
+			Assert.assertTrue(mailMerge.getFieldNames().contains("date"));
+			// the template is not changed
+			Assert.assertEquals("Dear <<NAME>>, you owe <<AMOUNT>>.", template.getParagraphByIndex(1, false)
+					.getTextContent());
+
+			Map<String, String> record = new HashMap<String, String>();
+			record.put("NAME", "Smith & <Sons>");
+			record.put("AMOUNT", "10  EUR\tnow");
+			record.put("city", "Lyon \"center\"");
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			mailMerge.merge(record, out);
+			TextDocument doc = (TextDocument) TextDocument.loadDocument(new ByteArrayInputStream(out.toByteArray()));
+			Assert.assertEquals("Dear Smith & <Sons>, you owe 10  EUR\tnow.", TextExtractor.getText(doc
+					.getParagraphByIndex(1, false).getOdfElement()));
+			TextUserFieldDeclElement decl = (TextUserFieldDeclElement) doc.getContentRoot().getElementsByTagName(
+					"text:user-field-decl").item(0);
+			Assert.assertEquals("Lyon \"center\"", decl.getOfficeStringValueAttribute());
+			Assert.assertEquals("Lyon \"center\"", TextExtractor.getText(doc.getParagraphByIndex(2, false)
+					.getOdfElement()));
+			// a field which is not in the record keeps the text of the template
+			Assert.assertEquals("<date>", doc.getParagraphByIndex(3, false).getTextContent());
+			Assert.assertEquals(0, doc.getContentRoot().getElementsByTagName("text:placeholder").getLength());
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	@Test
+	public void testMergeFieldText() {
+		try {
+			MailMerge mailMerge = new MailMerge(createTemplate(), "<<(\\w+)>>");
+			Map<String, String> record = new HashMap<String, String>();
+			record.put("NAME", "Smith\nSons");
+			record.put("city", "Lyon\ncenter\tnorth");
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			mailMerge.merge(record, out);
+
+			// the files of the template are copied, the mimetype stays first and
+			// stored
+			ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()));
+			ZipEntry entry = zis.getNextEntry();
+			Assert.assertEquals("mimetype", entry.getName());
+			Assert.assertEquals(ZipEntry.STORED, entry.getMethod());
+			int count = 1;
+			while (zis.getNextEntry() != null) {
+				count++;
+			}
+			zis.close();
+			Assert.assertTrue(count > 3);
+
+			TextDocument doc = (TextDocument) TextDocument.loadDocument(new ByteArrayInputStream(out.toByteArray()));
+			// the text of a paragraph may contain line breaks
+			Assert.assertEquals(1, doc.getParagraphByIndex(1, false).getOdfElement().getElementsByTagName(
+					"text:line-break").getLength());
+			// a field contains only text
+			Node field = doc.getContentRoot().getElementsByTagName("text:user-field-get").item(0);
+			Assert.assertEquals(1, field.getChildNodes().getLength());
+			Assert.assertEquals("Lyon center north", field.getTextContent());
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	@Test
+	public void testMergeAll() {
+		try {
+			MailMerge mailMerge = new MailMerge(createTemplate(), "<<(\\w+)>>");
+			List<Map<String, String>> records = new ArrayList<Map<String, String>>();
+			for (int i = 0; i < 40; i++) {
+				Map<String, String> record = new HashMap<String, String>();
+				record.put("NAME", "name" + i);
+				record.put("AMOUNT", Integer.toString(i));
+				records.add(record);
+			}
+			final ByteArrayOutputStream[] outputs = new ByteArrayOutputStream[records.size()];
+			int count = mailMerge.mergeAll(records, new MailMerge.OutputProvider() {
+				public OutputStream getOutputStream(int index, Map<String, String> record) throws IOException {
+					outputs[index] = new ByteArrayOutputStream();
+					return outputs[index];
+				}
+			}, 4);
+			Assert.assertEquals(records.size(), count);
+			for (int i = 0; i < outputs.length; i += 13) {
+				TextDocument doc = (TextDocument) TextDocument.loadDocument(new ByteArrayInputStream(outputs[i]
+						.toByteArray()));
+				Assert.assertEquals("Dear name" + i + ", you owe " + i + ".", doc.getParagraphByIndex(1, false)
+						.getTextContent());
+			}
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	private TextDocument createTemplate() throws Exception {
+		// the first paragraph of a new document is empty
+		TextDocument template = TextDocument.newTextDocument();
+		template.addParagraph("Dear <<NAME>>, you owe <<AMOUNT>>.");
+		VariableField city = Fields.createUserVariableField(template, "city", "Paris");
+		Paragraph paragraph = template.addParagraph(null);
+		city.displayField(paragraph.getOdfElement());
+		TextPElement placeholderParagraph = (TextPElement) template.addParagraph(null).getOdfElement();
+		TextPlaceholderElement placeholder = placeholderParagraph.newTextPlaceholderElement("text");
+		placeholder.setTextContent("<date>");
+		return template;
+	}
+}
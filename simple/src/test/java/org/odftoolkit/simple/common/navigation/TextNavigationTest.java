@@ -19,6 +19,7 @@ under the License.
 
 package org.odftoolkit.simple.common.navigation;
 
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.logging.Level;
@@ -208,6 +209,54 @@ public class TextNavigationTest {
 	}
 	
 
+	/**
+	 * Test findAll method of org.odftoolkit.simple.common.navigation.TextSearch
+	 */
+	@Test
+	public void testTextSearch() {
+		try {
+			TextSearch search = new TextSearch(doc);
+			search.addLiteral("delete");
+			search.addLiteral("SIMPLE");
+			search.addLiteral("no such text");
+			search.addPattern("de[a-z]+te");
+			Map<String, List<TextSelection>> result = search.findAll();
+			Assert.assertEquals(4, result.size());
+			Assert.assertTrue(result.get("no such text").isEmpty());
+			assertSameSelections(new TextNavigation("delete", doc), result.get("delete"));
+			assertSameSelections(new TextNavigation("SIMPLE", doc), result.get("SIMPLE"));
+			assertSameSelections(new TextNavigation("de[a-z]+te", doc), result.get("de[a-z]+te"));
+			Assert.assertFalse(result.get("delete").isEmpty());
+
+			search = new TextSearch(doc.getContentRoot());
+			search.addLiteral("delete");
+			assertSameSelections(new TextNavigation("delete", doc.getContentRoot()), search.findAll().get("delete"));
+
+			try {
+				search.addLiteral("delete");
+				Assert.fail("a pattern should only be added once.");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		} catch (Exception e) {
+			Logger.getLogger(TextNavigationTest.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail("Failed with " + e.getClass().getName() + ": '" + e.getMessage() + "'");
+		}
+	}
+
+	private void assertSameSelections(TextNavigation navigation, List<TextSelection> selections) {
+		int i = 0;
+		while (navigation.hasNext()) {
+			TextSelection expected = (TextSelection) navigation.nextSelection();
+			Assert.assertTrue(i < selections.size());
+			TextSelection selection = selections.get(i++);
+			Assert.assertSame(expected.getContainerElement(), selection.getContainerElement());
+			Assert.assertEquals(expected.getIndex(), selection.getIndex());
+			Assert.assertEquals(expected.getText(), selection.getText());
+		}
+		Assert.assertEquals(i, selections.size());
+	}
+
 	private void replace(ReplacementAction replacementAction) throws Exception {
 		TextDocument docToReplaceIn = TextDocument.newTextDocument();
 		Table newTable = docToReplaceIn.getTableBuilder().newTable(2, 2);
@@ -25,7 +25,15 @@ import java.util.logging.Logger;
 import junit.framework.Assert;
 
 import org.junit.Test;
+import org.odftoolkit.odfdom.dom.style.OdfStyleFamily;
+import org.odftoolkit.odfdom.incubator.doc.office.OdfOfficeAutomaticStyles;
+import org.odftoolkit.odfdom.incubator.doc.style.OdfStyle;
+import org.odftoolkit.odfdom.type.Color;
 import org.odftoolkit.simple.Document;
+import org.odftoolkit.simple.SpreadsheetDocument;
+import org.odftoolkit.simple.style.Font;
+import org.odftoolkit.simple.style.StyleTypeDefinitions.FontStyle;
+import org.odftoolkit.simple.style.StyleTypeDefinitions.HorizontalAlignmentType;
 import org.odftoolkit.simple.utils.ResourceUtilities;
 
 public class CellStyleHandlerTest {
@@ -65,4 +73,48 @@ public class CellStyleHandlerTest {
 			Assert.fail(e.getMessage());
 		}
 	}
+
+	@Test
+	public void testSharedStyle() {
+		try {
+			SpreadsheetDocument doc = SpreadsheetDocument.newSpreadsheetDocument();
+			Table table = doc.getSheetByIndex(0);
+			OdfOfficeAutomaticStyles styles = doc.getContentDom().getAutomaticStyles();
+			int count = countCellStyles(styles);
+			Font font = new Font("Arial", FontStyle.BOLD, 10, Color.BLUE);
+			for (int i = 0; i < 100; i++) {
+				Cell cell = table.getCellByPosition(i % 10, i / 10);
+				cell.setFont(font);
+				cell.setCellBackgroundColor(Color.YELLOW);
+				cell.setHorizontalAlignment(HorizontalAlignmentType.CENTER);
+			}
+			// the cells formatted the same way share one automatic style.
+			Assert.assertEquals(count + 1, countCellStyles(styles));
+			Cell first = table.getCellByPosition(0, 0);
+			Cell last = table.getCellByPosition(9, 9);
+			Assert.assertEquals(first.getStyleName(), last.getStyleName());
+
+			// changing a cell doesn't change the others.
+			last.setCellBackgroundColor(Color.RED);
+			Assert.assertFalse(first.getStyleName().equals(last.getStyleName()));
+			Assert.assertEquals(Color.YELLOW, first.getCellBackgroundColor());
+			Assert.assertEquals(Color.RED, last.getCellBackgroundColor());
+			Assert.assertEquals(HorizontalAlignmentType.CENTER, last.getHorizontalAlignmentType());
+			Assert.assertEquals(count + 2, countCellStyles(styles));
+			last.setCellBackgroundColor(Color.YELLOW);
+			Assert.assertEquals(first.getStyleName(), last.getStyleName());
+			Assert.assertEquals(count + 1, countCellStyles(styles));
+		} catch (Exception e) {
+			Logger.getLogger(CellStyleHandlerTest.class.getName()).log(Level.SEVERE, null, e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	private int countCellStyles(OdfOfficeAutomaticStyles styles) {
+		int count = 0;
+		for (OdfStyle style : styles.getStylesForFamily(OdfStyleFamily.TableCell)) {
+			count++;
+		}
+		return count;
+	}
 }
@@ -0,0 +1,140 @@
+/*
+Licensed to the Apache Software Foundation (ASF) under one
+or more contributor license agreements.  See the NOTICE file
+distributed with this work for additional information
+regarding copyright ownership.  The ASF licenses this file
+to you under the Apache License, Version 2.0 (the
+"License"); you may not use this file except in compliance
+with the License.  You may obtain a copy of the License at
+
+ http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing,
+software distributed under the License is distributed on an
+"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+KIND, either express or implied.  See the License for the
+specific language governing permissions and limitations
+under the License.
+*/
+
+package org.odftoolkit.simple.table;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.odftoolkit.simple.SpreadsheetDocument;
+
+public class FormulaEngineTest {
+
+	SpreadsheetDocument odsdoc;
+	Table sheet;
+
+	@Before
+	public void setUp() {
+		try {
+			odsdoc = SpreadsheetDocument.newSpreadsheetDocument();
+			sheet = odsdoc.getSheetByIndex(0);
+			sheet.setTableName("Data");
+			for (int i = 0; i < 5; i++) {
+				sheet.getCellByPosition(0, i).setDoubleValue((double) (i + 1));
+			}
+			sheet.getCellByPosition(1, 0).setStringValue("apple");
+			sheet.getCellByPosition(1, 1).setStringValue("pear");
+			sheet.getCellByPosition(1, 2).setStringValue("plum");
+		} catch (Exception e) {
+			Logger.getLogger(FormulaEngineTest.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail("Failed with " + e.getClass().getName() + ": '" + e.getMessage() + "'");
+		}
+	}
+
+	@Test
+	public void testRecalculate() {
+		sheet.getCellByPosition(2, 0).setFormula("of:=SUM([.A1:.A5])");
+		sheet.getCellByPosition(2, 1).setFormula("=AVERAGE(A1:A5)*2+1");
+		sheet.getCellByPosition(2, 2).setFormula("of:=IF([.C1]>10;\"big\";\"small\")");
+		sheet.getCellByPosition(2, 3).setFormula("=VLOOKUP(2;A1:B3;2;0)");
+		sheet.getCellByPosition(2, 4).setFormula("=-2^2+MOD(7;3)&\"x\"");
+		sheet.getCellByPosition(2, 5).setFormula("=[$Data.A2]/0");
+		sheet.getCellByPosition(2, 6).setFormula("=AND(A1>0;NOT(ISBLANK(B1)))");
+		sheet.getCellByPosition(2, 7).setFormula("=UNKNOWN(1)");
+		sheet.getCellByPosition(2, 8).setFormula("=ROUND(10/3;2)+MAX(A1:A5)-COUNT(A1:B5)");
+		FormulaEngine engine = new FormulaEngine(odsdoc);
+		Assert.assertEquals(9, engine.recalculate());
+
+		Assert.assertEquals(15.0, sheet.getCellByPosition(2, 0).getDoubleValue());
+		Assert.assertEquals("of:=SUM([.A1:.A5])", sheet.getCellByPosition(2, 0).getFormula());
+		Assert.assertEquals(7.0, sheet.getCellByPosition(2, 1).getDoubleValue());
+		Assert.assertEquals("big", sheet.getCellByPosition(2, 2).getStringValue());
+		Assert.assertEquals("pear", sheet.getCellByPosition(2, 3).getStringValue());
+		Assert.assertEquals("5x", sheet.getCellByPosition(2, 4).getStringValue());
+		Assert.assertEquals("#DIV/0!", sheet.getCellByPosition(2, 5).getStringValue());
+		Assert.assertEquals(Boolean.TRUE, sheet.getCellByPosition(2, 6).getBooleanValue());
+		Assert.assertEquals("#NAME?", sheet.getCellByPosition(2, 7).getStringValue());
+		Assert.assertEquals(3.33, sheet.getCellByPosition(2, 8).getDoubleValue(), 1e-9);
+	}
+
+	@Test
+	public void testIncrementalRecalculate() {
+		sheet.getCellByPosition(3, 0).setFormula("=A1*10");
+		sheet.getCellByPosition(3, 1).setFormula("=D1+1");
+		sheet.getCellByPosition(3, 2).setFormula("=SUM(A1:A5)");
+		sheet.getCellByPosition(3, 3).setFormula("=A5");
+		FormulaEngine engine = new FormulaEngine(odsdoc);
+		Assert.assertEquals(4, engine.recalculate());
+		Assert.assertEquals(11.0, sheet.getCellByPosition(3, 1).getDoubleValue());
+
+		// only the formulas depending on A1 are evaluated again.
+		Cell cell = sheet.getCellByPosition(0, 0);
+		cell.setDoubleValue(2.0);
+		engine.markDirty(cell);
+		Assert.assertEquals(3, engine.recalculate());
+		Assert.assertEquals(20.0, sheet.getCellByPosition(3, 0).getDoubleValue());
+		Assert.assertEquals(21.0, sheet.getCellByPosition(3, 1).getDoubleValue());
+		Assert.assertEquals(16.0, sheet.getCellByPosition(3, 2).getDoubleValue());
+		Assert.assertEquals(0, engine.recalculate());
+
+		// a changed formula updates the dependency graph.
+		cell = sheet.getCellByPosition(3, 0);
+		cell.setFormula("=A2*100");
+		engine.markDirty(cell);
+		Assert.assertEquals(2, engine.recalculate());
+		Assert.assertEquals(201.0, sheet.getCellByPosition(3, 1).getDoubleValue());
+		cell = sheet.getCellByPosition(0, 0);
+		cell.setDoubleValue(3.0);
+		engine.markDirty(cell);
+		Assert.assertEquals(1, engine.recalculate());
+		Assert.assertEquals(17.0, sheet.getCellByPosition(3, 2).getDoubleValue());
+	}
+
+	@Test
+	public void testCircularReference() {
+		sheet.getCellByPosition(4, 0).setFormula("=E2+1");
+		sheet.getCellByPosition(4, 1).setFormula("=E1+1");
+		sheet.getCellByPosition(4, 2).setFormula("=A1+1");
+		FormulaEngine engine = new FormulaEngine(odsdoc);
+		engine.recalculate();
+		Assert.assertEquals("Err:522", sheet.getCellByPosition(4, 0).getStringValue());
+		Assert.assertEquals("Err:522", sheet.getCellByPosition(4, 1).getStringValue());
+		Assert.assertEquals(2.0, sheet.getCellByPosition(4, 2).getDoubleValue());
+	}
+
+	@Test
+	public void testParallelRecalculate() {
+		Table table = Table.newTable(odsdoc, 1000, 3);
+		table.setTableName("Model");
+		for (int i = 0; i < 1000; i++) {
+			table.getCellByPosition(0, i).setDoubleValue((double) i);
+			table.getCellByPosition(1, i).setFormula("=A" + (i + 1) + "*2");
+			table.getCellByPosition(2, i).setFormula("=B" + (i + 1) + "+Data.A1");
+		}
+		FormulaEngine engine = new FormulaEngine(odsdoc);
+		engine.setParallelism(4);
+		Assert.assertEquals(2000, engine.recalculate());
+		Assert.assertEquals(1999.0, table.getCellByPosition(2, 999).getDoubleValue());
+		Assert.assertEquals(1.0, table.getCellByPosition(2, 0).getDoubleValue());
+	}
+}
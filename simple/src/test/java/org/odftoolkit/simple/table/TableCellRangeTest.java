@@ -19,6 +19,7 @@ under the License.
 
 package org.odftoolkit.simple.table;
 
+import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,9 +29,16 @@ import org.junit.Before;
 import org.junit.Test;
 import org.odftoolkit.odfdom.dom.element.table.TableCoveredTableCellElement;
 import org.odftoolkit.odfdom.incubator.doc.text.OdfTextParagraph;
+import org.odftoolkit.odfdom.type.Color;
 import org.odftoolkit.simple.SpreadsheetDocument;
 import org.odftoolkit.simple.TextDocument;
 import org.odftoolkit.simple.common.TextExtractor;
+import org.odftoolkit.simple.style.Border;
+import org.odftoolkit.simple.style.Font;
+import org.odftoolkit.simple.style.StyleTypeDefinitions;
+import org.odftoolkit.simple.style.StyleTypeDefinitions.CellBordersType;
+import org.odftoolkit.simple.style.StyleTypeDefinitions.FontStyle;
+import org.odftoolkit.simple.style.StyleTypeDefinitions.HorizontalAlignmentType;
 import org.odftoolkit.simple.utils.ResourceUtilities;
 import org.w3c.dom.NodeList;
 
@@ -224,6 +232,153 @@ public class TableCellRangeTest {
 
 	}
 
+	@Test
+	public void testReadDoublesAndStrings() {
+		try {
+			SpreadsheetDocument doc = SpreadsheetDocument.newSpreadsheetDocument();
+			Table table = Table.newTable(doc, 5, 5);
+			for (int i = 1; i < 4; i++) {
+				for (int j = 1; j < 3; j++) {
+					table.getCellByPosition(j, i).setDoubleValue(Double.valueOf(i * 10 + j));
+				}
+			}
+			table.getCellByPosition(3, 2).setStringValue("label");
+			CellRange range = table.getCellRangeByPosition(1, 1, 3, 3);
+			double[][] values = new double[3][3];
+			range.readDoubles(values);
+			for (int i = 0; i < 3; i++) {
+				for (int j = 0; j < 2; j++) {
+					Assert.assertEquals(range.getCellByPosition(j, i).getDoubleValue(), values[i][j]);
+				}
+				Assert.assertTrue(Double.isNaN(values[i][2]));
+			}
+			String[][] strings = new String[3][3];
+			range.readStrings(strings);
+			Assert.assertEquals("label", strings[1][2]);
+			Assert.assertEquals(range.getCellByPosition(0, 0).getStringValue(), strings[0][0]);
+			try {
+				range.readDoubles(new double[2][3]);
+				Assert.fail("IllegalArgumentException expected");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		} catch (Exception e) {
+			Logger.getLogger(TableCellRangeTest.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail("Failed with " + e.getClass().getName() + ": '" + e.getMessage() + "'");
+		}
+	}
+
+	@Test
+	public void testSort() {
+		try {
+			SpreadsheetDocument doc = SpreadsheetDocument.newSpreadsheetDocument();
+			Table table = Table.newTable(doc, 6, 3);
+			String[] names = new String[] { "pear", "apple", "plum", "fig", "kiwi" };
+			double[] prices = new double[] { 3, 2, 3, 1, 2 };
+			for (int i = 0; i < names.length; i++) {
+				table.getCellByPosition(0, i).setStringValue(names[i]);
+				table.getCellByPosition(1, i).setDoubleValue(prices[i]);
+			}
+			table.getCellByPosition(2, 0).setFormula("=B1*2");
+			table.getCellByPosition(0, 0).setCellStyleName("ce1");
+			Cell pear = table.getCellByPosition(0, 0);
+
+			// the whole rows are sorted by price descending, then by name.
+			CellRange range = table.getCellRangeByPosition(0, 0, 2, 5);
+			range.sort(new SortKey(1, false), new SortKey(0));
+			String[] expected = new String[] { "pear", "plum", "apple", "kiwi", "fig", "" };
+			for (int i = 0; i < expected.length; i++) {
+				Assert.assertEquals(expected[i], table.getCellByPosition(0, i).getStringValue());
+			}
+			Assert.assertEquals("=B1*2", table.getCellByPosition(2, 0).getFormula());
+			Assert.assertEquals("ce1", table.getCellByPosition(0, 0).getCellStyleName());
+			Assert.assertEquals(6, table.getRowCount());
+
+			// only the first column is sorted, the blank cell stays last.
+			range = table.getCellRangeByPosition(0, 0, 0, 5);
+			range.sort(new SortKey(0, true, SortKey.Type.TEXT, Locale.ENGLISH));
+			expected = new String[] { "apple", "fig", "kiwi", "pear", "plum", "" };
+			for (int i = 0; i < expected.length; i++) {
+				Assert.assertEquals(expected[i], table.getCellByPosition(0, i).getStringValue());
+			}
+			Assert.assertEquals(3.0, table.getCellByPosition(1, 0).getDoubleValue());
+			Assert.assertEquals("pear", pear.getStringValue());
+			Assert.assertEquals(3, pear.getRowIndex());
+			Assert.assertEquals("ce1", pear.getCellStyleName());
+
+			try {
+				range.sort(new SortKey(1));
+				Assert.fail("IllegalArgumentException expected");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		} catch (Exception e) {
+			Logger.getLogger(TableCellRangeTest.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail("Failed with " + e.getClass().getName() + ": '" + e.getMessage() + "'");
+		}
+	}
+
+	@Test
+	public void testSetRangeStyles() {
+		try {
+			SpreadsheetDocument doc = SpreadsheetDocument.newSpreadsheetDocument();
+			Table table = Table.newTable(doc, 200, 6);
+			table.getCellByPosition(1, 1).setCellBackgroundColor(Color.YELLOW);
+			Border border = new Border(Color.RED, 1, StyleTypeDefinitions.SupportedLinearMeasure.PT);
+			Font font = new Font("Arial", FontStyle.BOLD, 10, Color.BLUE);
+			CellRange range = table.getCellRangeByPosition(1, 1, 3, 150);
+			range.setFont(font);
+			range.setBorders(CellBordersType.ALL_FOUR, border);
+			range.setHorizontalAlignment(HorizontalAlignmentType.CENTER);
+
+			// the cells of the range share one style, except for the cell
+			// which had a style of its own before.
+			String styleName = table.getCellByPosition(2, 1).getCellStyleName();
+			Assert.assertTrue(styleName.length() > 0);
+			Assert.assertFalse(styleName.equals(table.getCellByPosition(1, 1).getCellStyleName()));
+			for (int i = 1; i <= 3; i++) {
+				for (int j = 1; j <= 150; j++) {
+					Cell cell = table.getCellByPosition(i, j);
+					if (i != 1 || j != 1) {
+						Assert.assertEquals(styleName, cell.getCellStyleName());
+					}
+					Assert.assertEquals(HorizontalAlignmentType.CENTER, cell.getHorizontalAlignmentType());
+					Assert.assertEquals(border, cell.getBorder(CellBordersType.TOP));
+					Assert.assertEquals(font, cell.getFont());
+				}
+			}
+			Assert.assertEquals(Color.YELLOW.toString(), table.getCellByPosition(1, 1).getCellBackgroundColor()
+					.toString());
+			Assert.assertEquals("", table.getCellByPosition(0, 1).getCellStyleName());
+			Assert.assertEquals("", table.getCellByPosition(4, 1).getCellStyleName());
+			Assert.assertEquals("", table.getCellByPosition(1, 0).getCellStyleName());
+			Assert.assertEquals("", table.getCellByPosition(1, 151).getCellStyleName());
+
+			// a cell formatted the same way by the cell setters shares the style.
+			Cell cell = table.getCellByPosition(5, 160);
+			cell.setFont(font);
+			cell.setBorders(CellBordersType.ALL_FOUR, border);
+			cell.setHorizontalAlignment(HorizontalAlignmentType.CENTER);
+			Assert.assertEquals(styleName, cell.getCellStyleName());
+
+			// the repeated cells of a sheet are split at the borders of the range only.
+			Table sheet = doc.getSheetByIndex(0);
+			sheet.getCellRangeByPosition(2, 2, 4, 6).setCellBackgroundColor(Color.GREEN);
+			Assert.assertEquals(Color.GREEN.toString(), sheet.getCellByPosition(4, 6).getCellBackgroundColor()
+					.toString());
+			Assert.assertFalse(Color.GREEN.toString().equals(
+					sheet.getCellByPosition(5, 6).getCellBackgroundColor().toString()));
+			Assert.assertFalse(Color.GREEN.toString().equals(
+					sheet.getCellByPosition(4, 7).getCellBackgroundColor().toString()));
+			sheet.getCellRangeByPosition(0, 0, 1, 1).setCellStyleName(styleName);
+			Assert.assertEquals(styleName, sheet.getCellByPosition(1, 1).getCellStyleName());
+			Assert.assertEquals("", sheet.getCellByPosition(2, 1).getCellStyleName());
+		} catch (Exception e) {
+			Logger.getLogger(TableCellRangeTest.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail("Failed with " + e.getClass().getName() + ": '" + e.getMessage() + "'");
+		}
+	}
+
 	private void saveods(String name) {
 		try {
 			odsdoc.save(ResourceUtilities.newTestOutputFile(filename + name + ".ods"));
@@ -22,6 +22,7 @@ package org.odftoolkit.simple.table;
 import java.awt.GraphicsEnvironment;
 import java.text.DecimalFormatSymbols;
 import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -619,6 +620,28 @@ public class TableCellTest {
             Assert.assertNull(cell.getTimeValue());
         }
 
+	@Test
+	public void testLocalDateTimeValue() {
+		Table table = odsdoc.getTableByName("Sheet1");
+		Cell cell = table.appendRow().getCellByIndex(1);
+		LocalDateTime expected = LocalDateTime.of(2011, 5, 31, 8, 15, 30, 250000000);
+		cell.setLocalDateTimeValue(expected);
+		Assert.assertEquals("2011-05-31T08:15:30.25", cell.getDisplayText());
+		Assert.assertEquals(expected, cell.getLocalDateTimeValue());
+		Assert.assertEquals(new GregorianCalendar(2011, 4, 31, 8, 15, 30), cell.getDateTimeValue());
+		Assert.assertEquals(new GregorianCalendar(2011, 4, 31), cell.getDateValue());
+
+		cell.setDateValue(new GregorianCalendar(2011, 4, 31, 8, 15, 30));
+		Assert.assertEquals(LocalDateTime.of(2011, 5, 31, 0, 0), cell.getLocalDateTimeValue());
+
+		cell.setTimeValue(new GregorianCalendar(2011, 4, 31, 8, 15, 30));
+		Assert.assertEquals("PT08H15M30S", cell.getDisplayText());
+		Calendar time = cell.getTimeValue();
+		Assert.assertEquals(8, time.get(Calendar.HOUR_OF_DAY));
+		Assert.assertEquals(15, time.get(Calendar.MINUTE));
+		Assert.assertEquals(30, time.get(Calendar.SECOND));
+	}
+
 	@Test
 	public void testGetSetStringValue() {
 		int rowindex = 6, columnindex = 0;
@@ -1014,6 +1037,37 @@ public class TableCellTest {
 		Assert.assertEquals(expected, fcell.getFormatString());
 	}
 
+	@Test
+	public void testSharedFormatString() {
+		try {
+			SpreadsheetDocument doc = SpreadsheetDocument.newSpreadsheetDocument();
+			Table table = doc.getSheetByIndex(0);
+			for (int i = 0; i < 50; i++) {
+				Cell cell = table.getCellByPosition(0, i);
+				cell.setDoubleValue(i + 0.5);
+				cell.setFormatString("#0.0");
+			}
+			Cell first = table.getCellByPosition(0, 0);
+			for (int i = 0; i < 50; i++) {
+				Cell cell = table.getCellByPosition(0, i);
+				Assert.assertEquals(i + ".5", cell.getDisplayText());
+				Assert.assertEquals("#0.0", cell.getFormatString());
+				Assert.assertEquals(first.getStyleName(), cell.getStyleName());
+			}
+			int numberStyles = 0;
+			OdfOfficeAutomaticStyles styles = doc.getContentDom().getAutomaticStyles();
+			for (Node node = styles.getFirstChild(); node != null; node = node.getNextSibling()) {
+				if (node instanceof OdfNumberStyle) {
+					numberStyles++;
+				}
+			}
+			Assert.assertEquals(1, numberStyles);
+		} catch (Exception e) {
+			Logger.getLogger(TableCellTest.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
 	@Test
 	public void testGetCurrencySymbol() {
 		Table table = odsdoc.getTableByName("Sheet1");
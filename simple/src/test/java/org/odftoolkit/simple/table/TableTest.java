@@ -20,9 +20,12 @@ under the License.
 package org.odftoolkit.simple.table;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -31,6 +34,7 @@ import junit.framework.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.odftoolkit.odfdom.dom.OdfDocumentNamespace;
+import org.odftoolkit.odfdom.dom.element.table.TableTableCellElementBase;
 import org.odftoolkit.odfdom.dom.element.table.TableTableColumnElement;
 import org.odftoolkit.odfdom.dom.element.table.TableTableElement;
 import org.odftoolkit.odfdom.dom.element.table.TableTableHeaderColumnsElement;
@@ -1195,6 +1199,202 @@ public class TableTest {
 		Assert.assertEquals(count + 1, newcount);
 	}
 
+	@Test
+	public void testReadColumn() {
+		try {
+			SpreadsheetDocument odsDoc = SpreadsheetDocument.newSpreadsheetDocument();
+			Table table = Table.newTable(odsDoc, 4, 3);
+			table.getCellByPosition(0, 0).setDoubleValue(1.5);
+			table.getCellByPosition(0, 1).setStringValue("text");
+			table.getCellByPosition(0, 3).setDoubleValue(-2.0);
+			table.getCellByPosition(1, 2).setBooleanValue(true);
+			Calendar calendar = Calendar.getInstance();
+			calendar.set(2010, Calendar.MARCH, 4);
+			table.getCellByPosition(2, 1).setDateValue(calendar);
+
+			final List<Double> values = new ArrayList<Double>();
+			table.readColumn(0, new DoubleConsumer() {
+				public void accept(double value) {
+					values.add(value);
+				}
+			});
+			Assert.assertEquals(4, values.size());
+			Assert.assertEquals(1.5, values.get(0));
+			Assert.assertTrue(Double.isNaN(values.get(1)));
+			Assert.assertTrue(Double.isNaN(values.get(2)));
+			Assert.assertEquals(-2.0, values.get(3));
+
+			final List<String> strings = new ArrayList<String>();
+			table.readStringColumn(0, new Consumer<String>() {
+				public void accept(String value) {
+					strings.add(value);
+				}
+			});
+			Assert.assertEquals("text", strings.get(1));
+			Assert.assertEquals(table.getCellByPosition(0, 3).getStringValue(), strings.get(3));
+
+			final List<Boolean> booleans = new ArrayList<Boolean>();
+			table.readBooleanColumn(1, new Consumer<Boolean>() {
+				public void accept(Boolean value) {
+					booleans.add(value);
+				}
+			});
+			Assert.assertEquals(4, booleans.size());
+			Assert.assertNull(booleans.get(0));
+			Assert.assertEquals(Boolean.TRUE, booleans.get(2));
+
+			// an invalid date is not rolled over to the next month.
+			table.getCellByPosition(2, 3).setDateValue(calendar);
+			table.getCellByPosition(2, 3).getOdfElement().setOfficeDateValueAttribute("2010-02-30");
+			final List<Calendar> dates = new ArrayList<Calendar>();
+			table.readDateColumn(2, new Consumer<Calendar>() {
+				public void accept(Calendar value) {
+					dates.add(value);
+				}
+			});
+			Assert.assertEquals(4, dates.size());
+			Assert.assertNull(dates.get(0));
+			Assert.assertEquals(2010, dates.get(1).get(Calendar.YEAR));
+			Assert.assertEquals(Calendar.MARCH, dates.get(1).get(Calendar.MONTH));
+			Assert.assertEquals(4, dates.get(1).get(Calendar.DAY_OF_MONTH));
+			Assert.assertEquals(0, dates.get(1).get(Calendar.HOUR_OF_DAY));
+			Assert.assertNull(dates.get(3));
+		} catch (Exception e) {
+			Logger.getLogger(TableTest.class.getName()).log(Level.SEVERE, null, e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	@Test
+	public void testCompact() {
+		try {
+			SpreadsheetDocument odsDoc = SpreadsheetDocument.newSpreadsheetDocument();
+			Table table = Table.newTable(odsDoc, 6, 4);
+			for (int i = 1; i < 5; i++) {
+				for (int j = 0; j < 4; j++) {
+					table.getCellByPosition(j, i).setDoubleValue(7.0);
+				}
+			}
+			Cell keptCell = table.getCellByPosition(2, 3);
+			Row keptRow = table.getRowByIndex(4);
+			int rowCount = table.getRowCount();
+			int columnCount = table.getColumnCount();
+			table.compact();
+
+			Assert.assertEquals(rowCount, table.getRowCount());
+			Assert.assertEquals(columnCount, table.getColumnCount());
+			NodeList rows = table.getOdfElement().getElementsByTagNameNS(OdfDocumentNamespace.TABLE.getUri(),
+					"table-row");
+			Assert.assertEquals(3, rows.getLength());
+			Node repeatedRow = rows.item(1);
+			Assert.assertEquals(1, repeatedRow.getChildNodes().getLength());
+			Assert.assertEquals("4", ((OdfElement) repeatedRow).getAttributeNS(OdfDocumentNamespace.TABLE.getUri(),
+					"number-rows-repeated"));
+
+			Assert.assertEquals(3, keptCell.getRowIndex());
+			Assert.assertEquals(2, keptCell.getColumnIndex());
+			Assert.assertSame(keptCell, table.getCellByPosition(2, 3));
+			Assert.assertEquals(4, keptRow.getRowIndex());
+			Assert.assertEquals(7.0, table.getCellByPosition(3, 4).getDoubleValue());
+
+			keptCell.setDoubleValue(8.0);
+			Assert.assertEquals(8.0, table.getCellByPosition(2, 3).getDoubleValue());
+			Assert.assertEquals(7.0, table.getCellByPosition(2, 2).getDoubleValue());
+			Assert.assertEquals(7.0, table.getCellByPosition(2, 4).getDoubleValue());
+		} catch (Exception e) {
+			Logger.getLogger(TableTest.class.getName()).log(Level.SEVERE, null, e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	@Test
+	public void testGetTableByNameIndex() {
+		try {
+			SpreadsheetDocument odsDoc = SpreadsheetDocument.newSpreadsheetDocument();
+			Table first = odsDoc.getSheetByIndex(0);
+			Table second = odsDoc.appendSheet("Second");
+			Assert.assertSame(second, odsDoc.getSheetByName("Second"));
+			Assert.assertSame(first, odsDoc.getSheetByName(first.getTableName()));
+
+			// renamed, inserted and removed sheets are found by the index.
+			second.setTableName("Renamed");
+			Assert.assertNull(odsDoc.getSheetByName("Second"));
+			Assert.assertSame(second, odsDoc.getSheetByName("Renamed"));
+			Table inserted = odsDoc.insertSheet(0);
+			inserted.setTableName("Inserted");
+			Assert.assertSame(inserted, odsDoc.getSheetByName("Inserted"));
+			odsDoc.removeSheet(0);
+			Assert.assertNull(odsDoc.getSheetByName("Inserted"));
+			second.remove();
+			Assert.assertNull(odsDoc.getSheetByName("Renamed"));
+
+			// a miss is kept until the document is changed, by any call.
+			Assert.assertNull(odsDoc.getSheetByName("Missing"));
+			Assert.assertNull(odsDoc.getSheetByName("Missing"));
+			first.getOdfElement().setTableNameAttribute("Missing");
+			Assert.assertSame(first, odsDoc.getSheetByName("Missing"));
+			Assert.assertSame(first, odsDoc.getSheetByName("Missing"));
+			first.setTableName("First");
+			try {
+				odsDoc.appendSheet(first.getTableName());
+				Assert.fail("IllegalArgumentException expected");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		} catch (Exception e) {
+			Logger.getLogger(TableTest.class.getName()).log(Level.SEVERE, null, e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
+	@Test
+	public void testInstanceRepository() {
+		try {
+			SpreadsheetDocument odsDoc = SpreadsheetDocument.newSpreadsheetDocument();
+			Table table = Table.newTable(odsDoc, 3, 3);
+			Cell keptCell = table.getCellByPosition(1, 200);
+			Row keptRow = keptCell.getTableRow();
+			keptCell.setStringValue("kept");
+			// touch many cells without holding them, so that the repositories
+			// have to be swept.
+			for (int i = 0; i < 1200; i++) {
+				table.getCellByPosition(i % 5, i).setDoubleValue((double) i);
+			}
+			Assert.assertSame(keptCell, table.getCellByPosition(1, 200));
+			Assert.assertSame(keptRow, table.getRowByIndex(200));
+			Assert.assertTrue(table.mCellRepository.containsKey(keptCell.getOdfElement()));
+
+			// the entries whose instances have all been collected are removed
+			// by the next sweep. The collection is simulated by an entry which
+			// holds a cleared reference only.
+			TableTableCellElementBase releasedElement = table.getCellByPosition(0, 1500).getOdfElement();
+			WeakInstanceList<Cell> released = new WeakInstanceList<Cell>();
+			released.setSize(1);
+			table.mCellRepository.put(releasedElement, released);
+			int size = table.mCellRepository.size();
+			boolean swept = false;
+			for (int i = 1; i <= 3000 && !swept; i++) {
+				table.getCellByPosition(i % 5, 1600 + i);
+				swept = table.mCellRepository.size() < size + i;
+			}
+			Assert.assertTrue(swept);
+			Assert.assertFalse(table.mCellRepository.containsKey(releasedElement));
+			Assert.assertTrue(table.mCellRepository.containsKey(keptCell.getOdfElement()));
+
+			table.insertRowsBefore(100, 2);
+			Assert.assertEquals(202, keptCell.getRowIndex());
+			Assert.assertEquals(202, keptRow.getRowIndex());
+			Assert.assertSame(keptCell, table.getCellByPosition(1, 202));
+			table.removeRowsByIndex(0, 10);
+			Assert.assertSame(keptCell, table.getCellByPosition(1, 192));
+			Assert.assertEquals("kept", table.getCellByPosition(1, 192).getStringValue());
+			Assert.assertEquals(1000.0, table.getCellByPosition(0, 992).getDoubleValue());
+		} catch (Exception e) {
+			Logger.getLogger(TableTest.class.getName()).log(Level.SEVERE, null, e);
+			Assert.fail(e.getMessage());
+		}
+	}
+
 	private void saveods() {
 		try {
 			mOdsDoc.save(ResourceUtilities.newTestOutputFile(mOdsTestFileName + "Output.ods"));
@@ -20,17 +20,25 @@ package org.odftoolkit.simple.text;
 
 import java.io.FileNotFoundException;
 import java.net.URI;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import org.apache.xerces.dom.DocumentImpl;
 import org.junit.Assert;
 import org.junit.Test;
+import org.odftoolkit.odfdom.dom.OdfContentDom;
+import org.odftoolkit.odfdom.dom.element.office.OfficeTextElement;
+import org.odftoolkit.odfdom.dom.element.text.TextPElement;
+import org.odftoolkit.odfdom.pkg.OdfElement;
 import org.odftoolkit.odfdom.type.Color;
 import org.odftoolkit.simple.TextDocument;
 import org.odftoolkit.simple.style.Font;
 import org.odftoolkit.simple.style.StyleTypeDefinitions;
 import org.odftoolkit.simple.style.StyleTypeDefinitions.HorizontalAlignmentType;
 import org.odftoolkit.simple.utils.ResourceUtilities;
+import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 
@@ -161,6 +169,128 @@ public class ParagraphTest {
         }
     }
 
+    @Test
+    public void testGetParagraphByIndexAfterChanges() {
+        try {
+            TextDocument doc = TextDocument.newTextDocument();
+            for (int i = 0; i < 100; i++) {
+                doc.addParagraph(i % 2 == 0 ? "p" + i : null);
+            }
+            // the paragraphs are indexed by the first call
+            Assert.assertEquals("p0", doc.getParagraphByIndex(1, false).getTextContent());
+            Assert.assertEquals("p98", doc.getParagraphByIndex(49, true).getTextContent());
+            Assert.assertEquals("p98", doc.getParagraphByReverseIndex(0, true).getTextContent());
+            Assert.assertNull(doc.getParagraphByIndex(50, true));
+            Assert.assertNull(doc.getParagraphByIndex(-1, false));
+
+            // the index is updated by addParagraph and removeParagraph
+            Paragraph added = doc.addParagraph("added");
+            Assert.assertEquals(added, doc.getParagraphByIndex(101, false));
+            Assert.assertEquals(added, doc.getParagraphByIndex(50, true));
+            Assert.assertEquals(added, doc.getParagraphByReverseIndex(0, true));
+            Assert.assertTrue(doc.removeParagraph(doc.getParagraphByIndex(1, true)));
+            Assert.assertEquals("p4", doc.getParagraphByIndex(1, true).getTextContent());
+            Assert.assertEquals("p0", doc.getParagraphByReverseIndex(49, true).getTextContent());
+            Assert.assertEquals(101, countParagraphs(doc));
+
+            // the index is built again after other changes
+            Paragraph empty = doc.getParagraphByIndex(2, false);
+            Assert.assertEquals("", empty.getTextContent());
+            empty.setTextContent("filled");
+            Assert.assertEquals(empty, doc.getParagraphByIndex(1, true));
+            Assert.assertEquals(empty, doc.getParagraphByReverseIndex(49, true));
+            Paragraph first = doc.getParagraphByIndex(1, false);
+            Node inserted = first.getOdfElement().cloneNode(true);
+            doc.getContentRoot().insertBefore(inserted, first.getOdfElement());
+            Assert.assertEquals(inserted, doc.getParagraphByIndex(1, false).getOdfElement());
+            Assert.assertEquals(first, doc.getParagraphByIndex(2, false));
+            first.applyHeading();
+            Assert.assertTrue(doc.getParagraphByIndex(2, false).isHeading());
+            Assert.assertEquals(102, countParagraphs(doc));
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, e.getMessage(), e);
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetParagraphByIndexAfterTextChanges() {
+        try {
+            TextDocument doc = TextDocument.newTextDocument();
+            doc.addParagraph("A");
+            doc.addParagraph("<<X>>");
+            doc.addParagraph("B");
+            Assert.assertEquals("<<X>>", doc.getParagraphByIndex(1, true).getTextContent());
+            Assert.assertEquals("<<X>>", doc.getParagraphByReverseIndex(1, true).getTextContent());
+
+            // the text node is changed in place, which is not a change of the tree
+            Map<String, String> replacements = new HashMap<String, String>();
+            replacements.put("<<X>>", "");
+            Assert.assertEquals(1, doc.replaceAll(replacements));
+            Assert.assertEquals("", doc.getParagraphByIndex(2, false).getTextContent());
+            Assert.assertEquals("B", doc.getParagraphByIndex(1, true).getTextContent());
+            Assert.assertEquals("A", doc.getParagraphByReverseIndex(1, true).getTextContent());
+            Assert.assertNull(doc.getParagraphByIndex(2, true));
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, e.getMessage(), e);
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetParagraphByIndexWithoutOdfFileDom() {
+        try {
+            final OdfContentDom dom = TextDocument.newTextDocument().getContentDom();
+            // the changes of a DOM which is not an OdfFileDom are not counted
+            final DocumentImpl otherDom = new DocumentImpl();
+            final OfficeTextElement container = new OfficeTextElement(dom) {
+                @Override
+                public Document getOwnerDocument() {
+                    return otherDom;
+                }
+            };
+            container.appendChild(newParagraphElement(dom, "A"));
+            container.appendChild(newParagraphElement(dom, ""));
+            AbstractParagraphContainer paragraphs = new AbstractParagraphContainer() {
+                public OdfElement getParagraphContainerElement() {
+                    return container;
+                }
+            };
+            Assert.assertEquals("A", paragraphs.getParagraphByIndex(0, true).getTextContent());
+            Assert.assertNull(paragraphs.getParagraphByIndex(2, false));
+            Assert.assertNull(paragraphs.getParagraphByIndex(1, true));
+
+            container.appendChild(newParagraphElement(dom, "B"));
+            Assert.assertEquals("B", paragraphs.getParagraphByIndex(2, false).getTextContent());
+            Assert.assertEquals("B", paragraphs.getParagraphByIndex(1, true).getTextContent());
+            Assert.assertEquals("B", paragraphs.getParagraphByReverseIndex(0, true).getTextContent());
+            container.removeChild(container.getFirstChild());
+            Assert.assertEquals("B", paragraphs.getParagraphByIndex(0, true).getTextContent());
+            Assert.assertNull(paragraphs.getParagraphByIndex(1, true));
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, e.getMessage(), e);
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    private TextPElement newParagraphElement(OdfContentDom dom, String text) {
+        TextPElement element = new TextPElement(dom);
+        if (text.length() > 0) {
+            element.appendChild(dom.createTextNode(text));
+        }
+        return element;
+    }
+
+    private int countParagraphs(TextDocument doc) {
+        int count = 0;
+        Iterator<Paragraph> iterator = doc.getParagraphIterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        return count;
+    }
+
     @Test
     public void testSetGetFont() {
         try {